@@ -109,6 +109,8 @@ CREATE TABLE notifications (
 );
 
 -- Index pour optimiser les performances
+-- Ce script correspond à la version 1 du schéma ; les index et colonnes ajoutés ensuite sont des migrations Flyway
+-- (pmt-backend/src/main/resources/db/migration) appliquées au démarrage du backend.
 CREATE INDEX idx_tasks_project ON tasks(project_id);
 CREATE INDEX idx_tasks_assigned ON tasks(assigned_to);
 CREATE INDEX idx_project_members_project ON project_members(project_id);
@@ -0,0 +1,40 @@
+package com.codesolutions.pmt.config;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Vérification du schéma au démarrage (migrations dans src/main/resources/db/migration).
+ * Par défaut les migrations en attente sont appliquées ; avec pmt.schema.migrate-on-startup=false elles sont
+ * appliquées en amont (flyway migrate) et le démarrage échoue si la base n'est pas à jour ou si un script
+ * déjà appliqué a été modifié. Hibernate valide ensuite les entités contre le schéma obtenu (ddl-auto=validate).
+ */
+@Configuration
+public class FlywayConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlywayConfig.class);
+
+    @Value("${pmt.schema.migrate-on-startup:true}")
+    private boolean migrateOnStartup = true;
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy() {
+        return this::verify;
+    }
+
+    void verify(Flyway flyway) {
+        if (migrateOnStartup) {
+            flyway.migrate();
+        } else {
+            flyway.validate();
+        }
+        MigrationInfo current = flyway.info().current();
+        logger.info("Schéma de la base en version {}", current != null ? current.getVersion() : "inconnue");
+    }
+}
@@ -0,0 +1,102 @@
+package com.codesolutions.pmt.config;
+
+import com.codesolutions.pmt.service.NotificationStreamService;
+import com.codesolutions.pmt.service.ReferenceDataCache;
+import com.codesolutions.pmt.service.TaskHistoryWriter;
+import com.codesolutions.pmt.service.UnreadCountCache;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Métriques applicatives exposées par Actuator (/actuator/prometheus) :
+ * durée des méthodes des services annotés @Timed (pmt.service), lignes renvoyées par les repositories,
+ * requêtes SQL par requête HTTP et état des caches et files internes.
+ * Les durées des repositories, des requêtes HTTP et le pool Hikari sont mesurés par Spring Boot.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public RepositoryMetricsAspect repositoryMetricsAspect(MeterRegistry meterRegistry) {
+        return new RepositoryMetricsAspect(meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+
+    @Bean
+    public MeterBinder unreadCountCacheMetrics(UnreadCountCache cache) {
+        return registry -> {
+            FunctionCounter.builder("cache.gets", cache, UnreadCountCache::getHitCount)
+                    .tags("cache", "unreadCount", "result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("cache.gets", cache, UnreadCountCache::getMissCount)
+                    .tags("cache", "unreadCount", "result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("cache.evictions", cache, UnreadCountCache::getEvictionCount)
+                    .tag("cache", "unreadCount")
+                    .register(registry);
+            Gauge.builder("cache.size", cache, UnreadCountCache::size)
+                    .tag("cache", "unreadCount")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder referenceDataCacheMetrics(ReferenceDataCache cache) {
+        return registry -> FunctionCounter.builder("pmt.reference_data.loads", cache, ReferenceDataCache::getLoadCount)
+                .description("Chargements des tables de référence")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder taskHistoryWriterMetrics(TaskHistoryWriter writer) {
+        return registry -> {
+            Gauge.builder("pmt.task_history.queue.size", writer, TaskHistoryWriter::getQueueSize)
+                    .description("Événements d'historique en attente d'écriture")
+                    .register(registry);
+            Gauge.builder("pmt.task_history.queue.lag", writer, TaskHistoryWriter::getLagMillis)
+                    .description("Âge du plus ancien événement en attente")
+                    .baseUnit("milliseconds")
+                    .register(registry);
+            Gauge.builder("pmt.task_history.write.lag", writer, TaskHistoryWriter::getLastWriteLagMillis)
+                    .description("Délai entre le dépôt et l'écriture du dernier lot")
+                    .baseUnit("milliseconds")
+                    .register(registry);
+            FunctionCounter.builder("pmt.task_history.events", writer, TaskHistoryWriter::getEnqueuedCount)
+                    .tag("state", "enqueued")
+                    .register(registry);
+            FunctionCounter.builder("pmt.task_history.events", writer, TaskHistoryWriter::getWrittenCount)
+                    .tag("state", "written")
+                    .register(registry);
+            FunctionCounter.builder("pmt.task_history.events", writer, TaskHistoryWriter::getFailedCount)
+                    .tag("state", "failed")
+                    .register(registry);
+            FunctionCounter.builder("pmt.task_history.events", writer, TaskHistoryWriter::getCallerRunsCount)
+                    .tag("state", "caller_runs")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder notificationStreamMetrics(NotificationStreamService streamService) {
+        return registry -> Gauge.builder("pmt.notifications.stream.connections", streamService,
+                        NotificationStreamService::getConnectionCount)
+                .description("Flux SSE de notifications ouverts")
+                .register(registry);
+    }
+}
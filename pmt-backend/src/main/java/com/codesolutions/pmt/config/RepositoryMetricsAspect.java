@@ -0,0 +1,84 @@
+package com.codesolutions.pmt.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.Repository;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Nombre de lignes renvoyées par chaque méthode de repository (pmt.repository.rows).
+ * La durée des appels est mesurée par Spring Boot (spring.data.repository.invocations).
+ * Les flux (Stream) sont lus après le retour de la méthode et les résultats numériques (comptages) sont ignorés.
+ */
+@Aspect
+public class RepositoryMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    public RepositoryMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @AfterReturning(pointcut = "execution(public * org.springframework.data.repository.Repository+.*(..))"
+            + " && target(repository)", returning = "result", argNames = "joinPoint,repository,result")
+    public void recordRows(JoinPoint joinPoint, Repository<?, ?> repository, Object result) {
+        long rows = rowCount(result);
+        if (rows < 0) {
+            return;
+        }
+        DistributionSummary.builder("pmt.repository.rows")
+                .description("Lignes renvoyées par une méthode de repository")
+                .baseUnit("rows")
+                .tag("repository", repositoryName(repository))
+                .tag("method", joinPoint.getSignature().getName())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(rows);
+    }
+
+    /**
+     * Nombre de lignes d'un résultat, -1 si le type ne s'y prête pas
+     */
+    static long rowCount(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Number || result instanceof Boolean || result instanceof Iterable<?>
+                || result instanceof java.util.stream.BaseStream<?, ?>) {
+            return -1;
+        }
+        return 1;
+    }
+
+    private String repositoryName(Object repository) {
+        // Chaque repository Spring Data est un proxy distinct implémentant son interface
+        return repositoryNames.computeIfAbsent(repository.getClass(), proxyClass -> {
+            for (Class<?> candidate : proxyClass.getInterfaces()) {
+                if (Repository.class.isAssignableFrom(candidate) && candidate.getPackageName().startsWith("com.codesolutions")) {
+                    return candidate.getSimpleName();
+                }
+            }
+            return AopUtils.getTargetClass(repository).getSimpleName();
+        });
+    }
+}
@@ -1,21 +1,49 @@
 package com.codesolutions.pmt.config;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class SecurityConfig {
     
+    /**
+     * BCrypt exécuté sur un pool dédié : threads de plateforme (calcul CPU) en nombre limité et file bornée,
+     * le reste des cœurs restant disponible pour les autres requêtes pendant une rafale de connexions.
+     * Un hachage d'un coût inférieur à bcrypt-strength est recalculé à la connexion suivante (UserService.authenticate).
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public OffloadingPasswordEncoder passwordEncoder(
+            @Value("${pmt.security.password.bcrypt-strength:10}") int strength,
+            @Value("${pmt.security.password.hashing-threads:0}") int threads,
+            @Value("${pmt.security.password.hashing-queue-capacity:64}") int queueCapacity,
+            @Value("${pmt.security.password.hashing-timeout:PT5S}") Duration timeout) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        // Pas un bean Executor : Spring Boot ne créerait plus son exécuteur de tâches par défaut
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("pmt-password-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        return new OffloadingPasswordEncoder(new BCryptPasswordEncoder(strength), executor, timeout);
+    }
+
+    @Bean
+    public MeterBinder passwordHashingExecutorMetrics(OffloadingPasswordEncoder passwordEncoder) {
+        return new ExecutorServiceMetrics(passwordEncoder.getExecutor(), "pmt.password.hashing", List.of());
     }
     
     @Bean
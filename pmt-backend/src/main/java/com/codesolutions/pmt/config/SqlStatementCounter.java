@@ -0,0 +1,64 @@
+package com.codesolutions.pmt.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compte les requêtes SQL préparées par Hibernate sur le thread courant, entre start() et stop().
+ * Les requêtes JdbcTemplate (création en masse, écriture de l'historique) ne passent pas par Hibernate et ne sont pas comptées.
+ * Une requête HTTP dont une partie s'exécute sur d'autres threads leur rattache son compteur (current() puis attach()).
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<AtomicInteger> COUNT = new ThreadLocal<>();
+
+    /**
+     * Commencer le comptage sur le thread courant
+     */
+    public static void start() {
+        COUNT.set(new AtomicInteger());
+    }
+
+    /**
+     * Arrêter le comptage et retourner le nombre de requêtes, -1 si aucun comptage n'était en cours
+     */
+    public static int stop() {
+        AtomicInteger count = COUNT.get();
+        COUNT.remove();
+        return count != null ? count.get() : -1;
+    }
+
+    /**
+     * Compteur en cours sur le thread courant, null si aucun comptage n'est en cours
+     */
+    public static AtomicInteger current() {
+        return COUNT.get();
+    }
+
+    /**
+     * Compter les requêtes du thread courant avec celles d'un autre thread (compteur obtenu par current()) ;
+     * detach() à la fin du traitement
+     */
+    public static void attach(AtomicInteger count) {
+        if (count != null) {
+            COUNT.set(count);
+        }
+    }
+
+    /**
+     * Ne plus compter les requêtes du thread courant, sans lire le compteur
+     */
+    public static void detach() {
+        COUNT.remove();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        AtomicInteger count = COUNT.get();
+        if (count != null) {
+            count.incrementAndGet();
+        }
+        return sql;
+    }
+}
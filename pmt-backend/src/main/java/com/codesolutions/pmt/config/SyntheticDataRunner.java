@@ -0,0 +1,37 @@
+package com.codesolutions.pmt.config;
+
+import com.codesolutions.pmt.service.SyntheticDataGenerator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Profil datagen : génère les données de charge (pmt.datagen.*) au démarrage puis arrête l'application.
+ * ./mvnw spring-boot:run -Dspring-boot.run.profiles=datagen -Dspring-boot.run.arguments=--pmt.datagen.tasks=5000000
+ */
+@Component
+@Profile("datagen")
+public class SyntheticDataRunner implements ApplicationRunner {
+
+    @Autowired
+    private SyntheticDataGenerator syntheticDataGenerator;
+
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+
+    @Value("${pmt.datagen.exit-on-completion:true}")
+    private boolean exitOnCompletion;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        syntheticDataGenerator.generate();
+        if (exitOnCompletion) {
+            System.exit(SpringApplication.exit(applicationContext));
+        }
+    }
+}
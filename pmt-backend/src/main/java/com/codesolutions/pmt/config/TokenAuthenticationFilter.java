@@ -0,0 +1,94 @@
+package com.codesolutions.pmt.config;
+
+import com.codesolutions.pmt.service.TokenService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Authentification par jeton : en-tête « Authorization: Bearer <jeton d'accès> », vérifié localement
+ * (signature et expiration). Sans en-tête, la requête continue anonyme et les règles de WebSecurityConfig
+ * décident ; un jeton invalide ou expiré est refusé (401) pour que le client le rafraîchisse.
+ * Le jeton de collecte des métriques, s'il est configuré, authentifie le collecteur (ROLE_METRICS).
+ * Connexion, rafraîchissement et déconnexion ne vérifient pas le jeton d'accès : celui que le client envoie
+ * est souvent déjà expiré, et la déconnexion doit tout de même révoquer le jeton de rafraîchissement.
+ */
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER = "Bearer ";
+
+    public static final String METRICS_PRINCIPAL = "metrics";
+
+    static final Set<String> UNFILTERED_PATHS = Set.of("/api/users/login", "/api/users/refresh", "/api/users/logout");
+
+    private final TokenService tokenService;
+    private final byte[] metricsToken;
+
+    public TokenAuthenticationFilter(TokenService tokenService) {
+        this(tokenService, null);
+    }
+
+    public TokenAuthenticationFilter(TokenService tokenService, String metricsToken) {
+        this.tokenService = tokenService;
+        this.metricsToken = metricsToken != null && !metricsToken.isBlank()
+                ? metricsToken.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return UNFILTERED_PATHS.contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.regionMatches(true, 0, BEARER, 0, BEARER.length())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String token = header.substring(BEARER.length()).trim();
+        UsernamePasswordAuthenticationToken authentication;
+        if (isMetricsToken(token)) {
+            authentication = new UsernamePasswordAuthenticationToken(
+                    METRICS_PRINCIPAL, null, AuthorityUtils.createAuthorityList("ROLE_METRICS"));
+        } else {
+            Optional<TokenService.TokenClaims> claims = tokenService.verifyAccessToken(token);
+            if (claims.isEmpty()) {
+                response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\"");
+                response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Jeton invalide ou expiré");
+                return;
+            }
+            authentication = new UsernamePasswordAuthenticationToken(
+                    claims.get(), null, AuthorityUtils.createAuthorityList("ROLE_USER"));
+        }
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private boolean isMetricsToken(String token) {
+        // Comparaison en temps constant
+        return metricsToken != null && MessageDigest.isEqual(metricsToken, token.getBytes(StandardCharsets.UTF_8));
+    }
+}
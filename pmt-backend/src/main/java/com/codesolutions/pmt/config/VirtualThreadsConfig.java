@@ -0,0 +1,60 @@
+package com.codesolutions.pmt.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Mode threads virtuels (spring.threads.virtual.enabled=true) : Spring Boot exécute alors les requêtes Tomcat,
+ * les traitements asynchrones (@Async, StreamingResponseBody) et les tâches @Scheduled sur des threads virtuels.
+ * Le nombre de requêtes simultanées n'étant plus borné par les threads, l'accès à la base l'est ici.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadsConfig.class);
+
+    /**
+     * Enveloppe la DataSource : autant de jetons que de connexions du pool (par défaut)
+     */
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConnectionLimitingDataSource) {
+                    return bean;
+                }
+                int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+                int permits = environment.getProperty("pmt.datasource.max-concurrent-connections", Integer.class, poolSize);
+                long timeout = environment.getProperty("pmt.datasource.acquire-timeout-ms", Long.class, 5000L);
+                logger.info("Threads virtuels activés : accès à la base limité à {} connexions simultanées", permits);
+                return new ConnectionLimitingDataSource(dataSource, permits, timeout);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder connectionLimitMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof ConnectionLimitingDataSource limited) {
+                Gauge.builder("pmt.datasource.connections.waiting", limited, ConnectionLimitingDataSource::getWaitingCount)
+                        .description("Requêtes en attente d'une connexion")
+                        .register(registry);
+                Gauge.builder("pmt.datasource.connections.available", limited, ConnectionLimitingDataSource::getAvailablePermits)
+                        .description("Connexions encore autorisées")
+                        .register(registry);
+            }
+        };
+    }
+}
@@ -0,0 +1,22 @@
+package com.codesolutions.pmt.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Absent des tests de contrôleurs (@WebMvcTest) : pas de métriques
+        meterRegistry.ifAvailable(meters -> registry.addInterceptor(new SqlStatementMetricsInterceptor(meters))
+                .addPathPatterns("/api/**"));
+    }
+}
@@ -1,25 +1,97 @@
 package com.codesolutions.pmt.config;
 
+import com.codesolutions.pmt.service.TokenService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity
 public class WebSecurityConfig {
     
+    /**
+     * false : jetons vérifiés quand ils sont présents, mais l'API reste ouverte (migration des clients)
+     */
+    @Value("${pmt.security.require-authentication:false}")
+    private boolean requireAuthentication;
+    
+    @Value("${pmt.security.metrics-token:}")
+    private String metricsToken;
+    
+    /**
+     * Données propres à un utilisateur : accessibles à cet utilisateur seulement (variable {userId} du chemin)
+     */
+    static final String[] USER_SCOPED_PATHS = {
+        "/api/dashboard/{userId}",
+        "/api/notifications/user/{userId}",
+        "/api/notifications/user/{userId}/**",
+        "/api/tasks/assigned/{userId}",
+        "/api/tasks/assignee/{userId}",
+        "/api/projects/user/{userId}",
+        "/api/projects/user/{userId}/**",
+        "/api/project-members/user/{userId}",
+        "/api/task-history/user/{userId}"
+    };
+    
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, TokenService tokenService) throws Exception {
         http
             .csrf(csrf -> csrf.disable())
-            .authorizeHttpRequests(authz -> authz
-                .anyRequest().permitAll()
-            )
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .addFilterBefore(new TokenAuthenticationFilter(tokenService, metricsToken), UsernamePasswordAuthenticationFilter.class)
+            .exceptionHandling(exceptions -> exceptions
+                .authenticationEntryPoint((request, response, e) -> response.sendError(HttpServletResponse.SC_UNAUTHORIZED)))
             .httpBasic(basic -> basic.disable())
             .formLogin(form -> form.disable());
         
+        if (requireAuthentication) {
+            http.authorizeHttpRequests(authz -> authz
+                .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                .requestMatchers(HttpMethod.POST, "/api/users", "/api/users/login", "/api/users/refresh", "/api/users/logout").permitAll()
+                .requestMatchers("/actuator/health", "/actuator/health/**", "/actuator/info").permitAll()
+                .requestMatchers("/actuator/**").hasRole("METRICS")
+                .requestMatchers(USER_SCOPED_PATHS).access(sameUser("userId", false))
+                .requestMatchers(HttpMethod.PUT, "/api/users/{id}").access(sameUser("id", false))
+                .requestMatchers(HttpMethod.DELETE, "/api/users/{id}").access(sameUser("id", false))
+                .requestMatchers("/api/**").hasRole("USER")
+                .anyRequest().permitAll()
+            );
+        } else {
+            // API ouverte, mais un jeton présenté ne donne pas accès aux données d'un autre utilisateur
+            http.authorizeHttpRequests(authz -> authz
+                .requestMatchers(USER_SCOPED_PATHS).access(sameUser("userId", true))
+                .requestMatchers(HttpMethod.PUT, "/api/users/{id}").access(sameUser("id", true))
+                .requestMatchers(HttpMethod.DELETE, "/api/users/{id}").access(sameUser("id", true))
+                .anyRequest().permitAll()
+            );
+        }
+        
         return http.build();
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Accès réservé à l'utilisateur du jeton dont l'identifiant figure dans la variable de chemin indiquée ;
+     * allowAnonymous : une requête sans jeton passe (authentification non exigée)
+     */
+    private static AuthorizationManager<RequestAuthorizationContext> sameUser(String variable, boolean allowAnonymous) {
+        return (authentication, context) -> {
+            Authentication current = authentication.get();
+            if (current != null && current.getPrincipal() instanceof TokenService.TokenClaims claims) {
+                return new AuthorizationDecision(String.valueOf(claims.userId()).equals(context.getVariables().get(variable)));
+            }
+            return new AuthorizationDecision(allowAnonymous && (current == null || current instanceof AnonymousAuthenticationToken));
+        };
+    }
+}
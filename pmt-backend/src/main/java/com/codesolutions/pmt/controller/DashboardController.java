@@ -0,0 +1,26 @@
+package com.codesolutions.pmt.controller;
+
+import com.codesolutions.pmt.dto.DashboardDTO;
+import com.codesolutions.pmt.service.DashboardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@CrossOrigin(origins = "http://localhost:4200")
+public class DashboardController {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    /**
+     * GET /dashboard/{userId} - Écran d'accueil d'un utilisateur (projets, tâches, notifications non lues) en une seule requête
+     */
+    @GetMapping("/{userId}")
+    public ResponseEntity<DashboardDTO> getDashboard(@PathVariable Long userId) {
+        return dashboardService.getDashboard(userId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
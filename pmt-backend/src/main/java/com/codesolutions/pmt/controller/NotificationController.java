@@ -3,17 +3,22 @@ package com.codesolutions.pmt.controller;
 import com.codesolutions.pmt.dto.NotificationDTO;
 import com.codesolutions.pmt.dto.NotificationCreateDTO;
 import com.codesolutions.pmt.entity.Notification;
-import com.codesolutions.pmt.entity.Project;
-import com.codesolutions.pmt.entity.Task;
 import com.codesolutions.pmt.service.NotificationService;
+import com.codesolutions.pmt.service.NotificationStreamService;
 import com.codesolutions.pmt.repository.ProjectRepository;
 import com.codesolutions.pmt.repository.TaskRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/notifications")
@@ -23,6 +28,9 @@ public class NotificationController {
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private NotificationStreamService notificationStreamService;
+
     @Autowired
     private ProjectRepository projectRepository;
 
@@ -35,10 +43,7 @@ public class NotificationController {
     @GetMapping
     public ResponseEntity<List<NotificationDTO>> getAllNotifications() {
         List<Notification> notifications = notificationService.getAllNotifications();
-        List<NotificationDTO> notificationDTOs = notifications.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(notificationDTOs);
+        return ResponseEntity.ok(convertToDTOs(notifications));
     }
 
     /**
@@ -56,10 +61,7 @@ public class NotificationController {
     @GetMapping("/user/{userId}")
     public ResponseEntity<List<NotificationDTO>> getNotificationsByUser(@PathVariable Long userId) {
         List<Notification> notifications = notificationService.getNotificationsByUser(userId);
-        List<NotificationDTO> notificationDTOs = notifications.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(notificationDTOs);
+        return ResponseEntity.ok(convertToDTOs(notifications));
     }
 
     /**
@@ -68,10 +70,16 @@ public class NotificationController {
     @GetMapping("/user/{userId}/unread")
     public ResponseEntity<List<NotificationDTO>> getUnreadNotificationsByUser(@PathVariable Long userId) {
         List<Notification> notifications = notificationService.getUnreadNotificationsByUser(userId);
-        List<NotificationDTO> notificationDTOs = notifications.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(notificationDTOs);
+        return ResponseEntity.ok(convertToDTOs(notifications));
+    }
+
+    /**
+     * Flux SSE des nouvelles notifications d'un utilisateur (reprise via l'en-tête Last-Event-ID)
+     */
+    @GetMapping(value = "/user/{userId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotifications(@PathVariable Long userId,
+                                          @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return notificationStreamService.subscribe(userId, lastEventId);
     }
 
     /**
@@ -80,10 +88,7 @@ public class NotificationController {
     @GetMapping("/project/{projectId}")
     public ResponseEntity<List<NotificationDTO>> getNotificationsByProject(@PathVariable Long projectId) {
         List<Notification> notifications = notificationService.getNotificationsByProject(projectId);
-        List<NotificationDTO> notificationDTOs = notifications.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(notificationDTOs);
+        return ResponseEntity.ok(convertToDTOs(notifications));
     }
 
     /**
@@ -108,9 +113,18 @@ public class NotificationController {
      * Marquer toutes les notifications d'un utilisateur comme lues
      */
     @PutMapping("/user/{userId}/read-all")
-    public ResponseEntity<Void> markAllAsRead(@PathVariable Long userId) {
-        notificationService.markAllAsRead(userId);
-        return ResponseEntity.ok().build();
+    public ResponseEntity<Integer> markAllAsRead(@PathVariable Long userId) {
+        int updated = notificationService.markAllAsRead(userId);
+        return ResponseEntity.ok(updated);
+    }
+
+    /**
+     * Marquer une sélection de notifications d'un utilisateur comme lues
+     */
+    @PutMapping("/user/{userId}/read")
+    public ResponseEntity<Integer> markAsRead(@PathVariable Long userId, @RequestBody List<Long> ids) {
+        int updated = notificationService.markAsRead(userId, ids);
+        return ResponseEntity.ok(updated);
     }
 
     /**
@@ -144,6 +158,51 @@ public class NotificationController {
      * Conversion Notification vers NotificationDTO
      */
     private NotificationDTO convertToDTO(Notification notification) {
+        return convertToDTOs(List.of(notification)).get(0);
+    }
+
+    /**
+     * Conversion d'une liste de notifications : les projets et tâches liés sont
+     * résolus en une requête IN par type, quel que soit le nombre de notifications
+     */
+    private List<NotificationDTO> convertToDTOs(List<Notification> notifications) {
+        Set<Long> projectIds = new HashSet<>();
+        Set<Long> taskIds = new HashSet<>();
+        for (Notification notification : notifications) {
+            if (notification.getRelatedEntityId() == null) {
+                continue;
+            }
+            if ("PROJECT".equals(notification.getRelatedEntityType())) {
+                projectIds.add(notification.getRelatedEntityId());
+            } else if ("TASK".equals(notification.getRelatedEntityType())) {
+                taskIds.add(notification.getRelatedEntityId());
+            }
+        }
+
+        // id -> {id, nom}
+        Map<Long, Object[]> projects = new HashMap<>();
+        if (!projectIds.isEmpty()) {
+            for (Object[] row : projectRepository.findIdAndNameByIdIn(projectIds)) {
+                projects.put((Long) row[0], row);
+            }
+        }
+
+        // id -> {id, titre, id projet, nom projet}
+        Map<Long, Object[]> tasks = new HashMap<>();
+        if (!taskIds.isEmpty()) {
+            for (Object[] row : taskRepository.findSummariesByIdIn(taskIds)) {
+                tasks.put((Long) row[0], row);
+            }
+        }
+
+        List<NotificationDTO> notificationDTOs = new ArrayList<>(notifications.size());
+        for (Notification notification : notifications) {
+            notificationDTOs.add(convertToDTO(notification, projects, tasks));
+        }
+        return notificationDTOs;
+    }
+
+    private NotificationDTO convertToDTO(Notification notification, Map<Long, Object[]> projects, Map<Long, Object[]> tasks) {
         NotificationDTO dto = new NotificationDTO();
         dto.setId(notification.getId());
         dto.setTitle(notification.getTitle());
@@ -157,35 +216,23 @@ public class NotificationController {
             dto.setUsername(notification.getUser().getUsername());
         }
         
-        // Récupérer les informations du projet ou de la tâche via relatedEntityType et relatedEntityId
-        if ("PROJECT".equals(notification.getRelatedEntityType()) && notification.getRelatedEntityId() != null) {
-            try {
-                Project project = projectRepository.findById(notification.getRelatedEntityId()).orElse(null);
-                if (project != null) {
-                    dto.setProjectId(project.getId());
-                    dto.setProjectName(project.getName());
-                }
-            } catch (Exception e) {
-                // Ignorer si le projet n'existe plus
+        // Les projets ou tâches supprimés entre-temps sont simplement absents des maps
+        if ("PROJECT".equals(notification.getRelatedEntityType())) {
+            Object[] project = projects.get(notification.getRelatedEntityId());
+            if (project != null) {
+                dto.setProjectId((Long) project[0]);
+                dto.setProjectName((String) project[1]);
             }
-        } else if ("TASK".equals(notification.getRelatedEntityType()) && notification.getRelatedEntityId() != null) {
-            try {
-                Task task = taskRepository.findById(notification.getRelatedEntityId()).orElse(null);
-                if (task != null) {
-                    dto.setTaskId(task.getId());
-                    dto.setTaskTitle(task.getTitle());
-                    
-                    // Récupérer aussi le projet via la tâche
-                    if (task.getProject() != null) {
-                        dto.setProjectId(task.getProject().getId());
-                        dto.setProjectName(task.getProject().getName());
-                    }
-                }
-            } catch (Exception e) {
-                // Ignorer si la tâche n'existe plus
+        } else if ("TASK".equals(notification.getRelatedEntityType())) {
+            Object[] task = tasks.get(notification.getRelatedEntityId());
+            if (task != null) {
+                dto.setTaskId((Long) task[0]);
+                dto.setTaskTitle((String) task[1]);
+                dto.setProjectId((Long) task[2]);
+                dto.setProjectName((String) task[3]);
             }
         }
         
         return dto;
     }
-} 
\ No newline at end of file
+}
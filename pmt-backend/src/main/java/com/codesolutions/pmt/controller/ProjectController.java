@@ -36,20 +36,21 @@ public class ProjectController {
     }
     
     /**
-     * GET /projects - Récupérer tous les projets
+     * GET /projects?includeMembers={bool} - Récupérer tous les projets
      */
     @GetMapping
-    public ResponseEntity<List<ProjectDTO>> getAllProjects() {
-        List<ProjectDTO> projects = projectService.findAll();
+    public ResponseEntity<List<ProjectDTO>> getAllProjects(@RequestParam(defaultValue = "false") boolean includeMembers) {
+        List<ProjectDTO> projects = projectService.findAll(includeMembers);
         return ResponseEntity.ok(projects);
     }
     
     /**
-     * GET /projects/paged - Récupérer tous les projets avec pagination
+     * GET /projects/paged?includeMembers={bool} - Récupérer tous les projets avec pagination
      */
     @GetMapping("/paged")
-    public ResponseEntity<Page<ProjectDTO>> getAllProjectsPaged(Pageable pageable) {
-        Page<ProjectDTO> projects = projectService.findAll(pageable);
+    public ResponseEntity<Page<ProjectDTO>> getAllProjectsPaged(Pageable pageable,
+                                                                @RequestParam(defaultValue = "false") boolean includeMembers) {
+        Page<ProjectDTO> projects = projectService.findAll(pageable, includeMembers);
         return ResponseEntity.ok(projects);
     }
     
@@ -67,11 +68,12 @@ public class ProjectController {
     }
     
     /**
-     * GET /projects/search?name={name} - Rechercher des projets par nom
+     * GET /projects/search?name={name}&includeMembers={bool} - Rechercher des projets par nom
      */
     @GetMapping("/search")
-    public ResponseEntity<List<ProjectDTO>> searchProjectsByName(@RequestParam String name) {
-        List<ProjectDTO> projects = projectService.findByNameContaining(name);
+    public ResponseEntity<List<ProjectDTO>> searchProjectsByName(@RequestParam String name,
+                                                                 @RequestParam(defaultValue = "false") boolean includeMembers) {
+        List<ProjectDTO> projects = projectService.findByNameContaining(name, includeMembers);
         return ResponseEntity.ok(projects);
     }
     
@@ -79,8 +81,9 @@ public class ProjectController {
      * GET /projects/created-by/{userId} - Récupérer les projets créés par un utilisateur
      */
     @GetMapping("/created-by/{userId}")
-    public ResponseEntity<List<ProjectDTO>> getProjectsByCreatedBy(@PathVariable Long userId) {
-        List<ProjectDTO> projects = projectService.findByCreatedBy(userId);
+    public ResponseEntity<List<ProjectDTO>> getProjectsByCreatedBy(@PathVariable Long userId,
+                                                                   @RequestParam(defaultValue = "false") boolean includeMembers) {
+        List<ProjectDTO> projects = projectService.findByCreatedBy(userId, includeMembers);
         return ResponseEntity.ok(projects);
     }
     
@@ -88,8 +91,9 @@ public class ProjectController {
      * GET /projects/user/{userId} - Récupérer les projets où un utilisateur est membre
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<ProjectDTO>> getProjectsByUserId(@PathVariable Long userId) {
-        List<ProjectDTO> projects = projectService.findProjectsByUserId(userId);
+    public ResponseEntity<List<ProjectDTO>> getProjectsByUserId(@PathVariable Long userId,
+                                                                @RequestParam(defaultValue = "false") boolean includeMembers) {
+        List<ProjectDTO> projects = projectService.findProjectsByUserId(userId, includeMembers);
         return ResponseEntity.ok(projects);
     }
     
@@ -99,8 +103,9 @@ public class ProjectController {
     @GetMapping("/user/{userId}/role/{roleName}")
     public ResponseEntity<List<ProjectDTO>> getProjectsByUserIdAndRole(
             @PathVariable Long userId, 
-            @PathVariable String roleName) {
-        List<ProjectDTO> projects = projectService.findProjectsByUserIdAndRole(userId, roleName);
+            @PathVariable String roleName,
+            @RequestParam(defaultValue = "false") boolean includeMembers) {
+        List<ProjectDTO> projects = projectService.findProjectsByUserIdAndRole(userId, roleName, includeMembers);
         return ResponseEntity.ok(projects);
     }
     
@@ -108,8 +113,8 @@ public class ProjectController {
      * GET /projects/recent - Récupérer les projets récents
      */
     @GetMapping("/recent")
-    public ResponseEntity<List<ProjectDTO>> getRecentProjects() {
-        List<ProjectDTO> projects = projectService.findRecentProjects();
+    public ResponseEntity<List<ProjectDTO>> getRecentProjects(@RequestParam(defaultValue = "false") boolean includeMembers) {
+        List<ProjectDTO> projects = projectService.findRecentProjects(includeMembers);
         return ResponseEntity.ok(projects);
     }
     
@@ -1,38 +1,80 @@
 package com.codesolutions.pmt.controller;
 
+import com.codesolutions.pmt.dto.TaskBulkResultDTO;
 import com.codesolutions.pmt.dto.TaskDTO;
 import com.codesolutions.pmt.dto.TaskCreateDTO;
+import com.codesolutions.pmt.dto.TaskPageDTO;
+import com.codesolutions.pmt.dto.TaskSearchCriteria;
+import com.codesolutions.pmt.dto.TaskSearchPageDTO;
 import com.codesolutions.pmt.dto.TaskUpdateDTO;
 import com.codesolutions.pmt.entity.Task;
 import com.codesolutions.pmt.entity.TaskStatus;
-import com.codesolutions.pmt.entity.TaskStatusEnum;
-import com.codesolutions.pmt.entity.TaskPriority;
+import com.codesolutions.pmt.repository.TaskSpecifications;
+import com.codesolutions.pmt.service.TaskBulkService;
+import com.codesolutions.pmt.service.TaskExportService;
 import com.codesolutions.pmt.service.TaskService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/tasks")
 @CrossOrigin(origins = "http://localhost:4200")
 public class TaskController {
 
+    private static final Logger logger = LoggerFactory.getLogger(TaskController.class);
+
     @Autowired
     private TaskService taskService;
 
+    @Autowired
+    private TaskBulkService taskBulkService;
+
+    @Autowired
+    private TaskExportService taskExportService;
+
     /**
      * Récupérer toutes les tâches
      */
     @GetMapping
     public ResponseEntity<List<TaskDTO>> getAllTasks() {
-        List<Task> tasks = taskService.getAllTasks();
-        List<TaskDTO> taskDTOs = tasks.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(taskDTOs);
+        return ResponseEntity.ok(taskService.getAllTaskDTOs());
+    }
+
+    /**
+     * Récupérer les tâches page par page (pagination par curseur, taille bornée par le serveur)
+     */
+    @GetMapping("/page")
+    public ResponseEntity<TaskPageDTO> getTasksPage(@RequestParam(required = false) String cursor,
+                                                    @RequestParam(required = false) Integer size) {
+        Long afterId;
+        try {
+            afterId = TaskService.decodeCursor(cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        int pageSize = TaskService.normalizePageSize(size);
+
+        List<TaskDTO> taskDTOs = taskService.getTasksPage(afterId, pageSize);
+        boolean hasMore = taskDTOs.size() > pageSize;
+        if (hasMore) {
+            taskDTOs = taskDTOs.subList(0, pageSize);
+        }
+
+        String nextCursor = hasMore ? TaskService.encodeCursor(taskDTOs.get(taskDTOs.size() - 1).getId()) : null;
+        return ResponseEntity.ok(new TaskPageDTO(taskDTOs, nextCursor, hasMore, pageSize));
     }
 
     /**
@@ -56,11 +98,28 @@ public class TaskController {
      */
     @GetMapping("/project/{projectId}")
     public ResponseEntity<List<TaskDTO>> getTasksByProject(@PathVariable Long projectId) {
-        List<Task> tasks = taskService.getTasksByProject(projectId);
-        List<TaskDTO> taskDTOs = tasks.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(taskDTOs);
+        return ResponseEntity.ok(taskService.getTaskDTOsByProject(projectId));
+    }
+
+    /**
+     * Exporter les tâches d'un projet en flux (format=ndjson ou csv), sans charger l'ensemble en mémoire
+     */
+    @GetMapping("/project/{projectId}/export")
+    public ResponseEntity<StreamingResponseBody> exportTasksByProject(@PathVariable Long projectId,
+                                                                      @RequestParam(defaultValue = "ndjson") String format) {
+        TaskExportService.Format exportFormat = TaskExportService.Format.fromParameter(format);
+        if (exportFormat == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (!taskExportService.projectExists(projectId)) {
+            return ResponseEntity.notFound().build();
+        }
+        String fileName = "project-" + projectId + "-tasks." + exportFormat.name().toLowerCase();
+        StreamingResponseBody body = out -> taskExportService.exportProjectTasks(projectId, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
     }
 
     /**
@@ -68,13 +127,27 @@ public class TaskController {
      */
     @GetMapping("/status/{statusId}")
     public ResponseEntity<List<TaskDTO>> getTasksByStatus(@PathVariable Integer statusId) {
-        // Pour l'instant, on récupère toutes les tâches
-        // TODO: Implémenter la logique de filtrage par statut
-        List<Task> tasks = taskService.getAllTasks();
-        List<TaskDTO> taskDTOs = tasks.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(taskDTOs);
+        return ResponseEntity.ok(taskService.getTaskDTOsByStatus(statusId));
+    }
+
+    /**
+     * Rechercher des tâches (filtres combinables, tri et pagination côté base)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<TaskSearchPageDTO> searchTasks(TaskSearchCriteria criteria,
+                                                         @RequestParam(defaultValue = "0") int page,
+                                                         @RequestParam(required = false) Integer size,
+                                                         @RequestParam(defaultValue = "id") String sort,
+                                                         @RequestParam(defaultValue = "asc") String direction) {
+        Optional<Sort.Direction> sortDirection = Sort.Direction.fromOptionalString(direction);
+        if (page < 0 || !TaskSpecifications.SORT_KEYS.contains(sort) || sortDirection.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        int pageSize = TaskService.normalizePageSize(size);
+
+        Page<TaskDTO> result = taskService.searchTasks(criteria, sort, sortDirection.get(), page, pageSize);
+        return ResponseEntity.ok(new TaskSearchPageDTO(result.getContent(), result.getNumber(), result.getSize(),
+                result.getTotalElements(), result.getTotalPages()));
     }
 
     /**
@@ -82,11 +155,7 @@ public class TaskController {
      */
     @GetMapping("/assigned/{userId}")
     public ResponseEntity<List<TaskDTO>> getTasksAssignedToUser(@PathVariable Long userId) {
-        List<Task> tasks = taskService.getTasksAssignedToUser(userId);
-        List<TaskDTO> taskDTOs = tasks.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(taskDTOs);
+        return ResponseEntity.ok(taskService.getTaskDTOsAssignedToUser(userId));
     }
 
     /**
@@ -94,11 +163,7 @@ public class TaskController {
      */
     @GetMapping("/assignee/{userId}")
     public ResponseEntity<List<TaskDTO>> getTasksByAssignee(@PathVariable Long userId) {
-        List<Task> tasks = taskService.getTasksAssignedToUser(userId);
-        List<TaskDTO> taskDTOs = tasks.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(taskDTOs);
+        return ResponseEntity.ok(taskService.getTaskDTOsAssignedToUser(userId));
     }
 
     /**
@@ -110,26 +175,32 @@ public class TaskController {
         return ResponseEntity.ok(convertToDTO(createdTask));
     }
 
+    /**
+     * Créer des tâches en masse ; les éléments invalides sont signalés par leur index
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TaskBulkResultDTO> createTasksBulk(@RequestBody List<TaskCreateDTO> tasks) {
+        return ResponseEntity.ok(taskBulkService.createTasks(tasks));
+    }
+
+    /**
+     * Créer des tâches en masse à partir d'un flux NDJSON (une tâche par ligne)
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<TaskBulkResultDTO> createTasksBulkNdjson(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(taskBulkService.createTasksFromNdjson(request.getReader()));
+    }
+
     /**
      * Mettre à jour une tâche
      */
     @PutMapping("/{id}")
     public ResponseEntity<TaskDTO> updateTask(@PathVariable Long id, @RequestBody TaskUpdateDTO taskUpdateDTO) {
         try {
-            System.out.println("=== MISE À JOUR TÂCHE " + id + " ===");
-            System.out.println("Titre: " + taskUpdateDTO.getTitle());
-            System.out.println("Description: " + taskUpdateDTO.getDescription());
-            System.out.println("Priorité: " + taskUpdateDTO.getPriority());
-            System.out.println("Statut: " + taskUpdateDTO.getStatus());
-            System.out.println("Assigné à: " + taskUpdateDTO.getAssignedToId());
-            System.out.println("Date d'échéance: " + taskUpdateDTO.getDueDate());
-            System.out.println("=====================================");
-            
             Task updatedTask = taskService.updateTask(id, taskUpdateDTO);
             return ResponseEntity.ok(convertToDTO(updatedTask));
         } catch (Exception e) {
-            System.err.println("Erreur lors de la mise à jour de la tâche " + id + ": " + e.getMessage());
-            e.printStackTrace();
+            logger.warn("Erreur lors de la mise à jour de la tâche {} : {}", id, e.getMessage());
             throw e;
         }
     }
@@ -165,86 +236,6 @@ public class TaskController {
      * Conversion Task vers TaskDTO
      */
     private TaskDTO convertToDTO(Task task) {
-        TaskDTO dto = new TaskDTO();
-        dto.setId(task.getId());
-        dto.setTitle(task.getTitle());
-        dto.setDescription(task.getDescription());
-        
-        // Conversion du statut
-        if (task.getStatus() != null) {
-            // Convertir TaskStatus -> TaskStatusEnum
-            TaskStatusEnum statusEnum = convertTaskStatusToEnum(task.getStatus().getName());
-            dto.setStatus(statusEnum);
-            dto.setStatusName(task.getStatus().getName());
-        }
-        
-        // Conversion de la priorité
-        if (task.getPriority() != null) {
-            switch (task.getPriority()) {
-                case LOW:
-                    dto.setPriority(TaskPriority.LOW);
-                    break;
-                case MEDIUM:
-                    dto.setPriority(TaskPriority.MEDIUM);
-                    break;
-                case HIGH:
-                    dto.setPriority(TaskPriority.HIGH);
-                    break;
-                case URGENT:
-                    dto.setPriority(TaskPriority.URGENT);
-                    break;
-                default:
-                    dto.setPriority(TaskPriority.MEDIUM);
-            }
-        }
-        
-        // Conversion de la date d'échéance
-        if (task.getDueDate() != null) {
-            dto.setDueDate(task.getDueDate().atStartOfDay());
-        }
-        
-        dto.setCreatedAt(task.getCreatedAt());
-        dto.setUpdatedAt(task.getUpdatedAt());
-        
-        if (task.getProject() != null) {
-            dto.setProjectId(task.getProject().getId());
-            dto.setProjectName(task.getProject().getName());
-        }
-        
-        if (task.getAssignedTo() != null) {
-            dto.setAssignedToId(task.getAssignedTo().getId());
-            dto.setAssignedToName(task.getAssignedTo().getUsername());
-        }
-        
-        if (task.getCreatedBy() != null) {
-            dto.setCreatedById(task.getCreatedBy().getId());
-            dto.setCreatedByName(task.getCreatedBy().getUsername());
-        }
-        
-        return dto;
-    }
-
-    /**
-     * Convertir le nom du statut en TaskStatusEnum
-     */
-    private TaskStatusEnum convertTaskStatusToEnum(String statusName) {
-        if (statusName == null) {
-            return TaskStatusEnum.TODO;
-        }
-        
-        switch (statusName) {
-            case "TODO":
-                return TaskStatusEnum.TODO;
-            case "IN_PROGRESS":
-                return TaskStatusEnum.IN_PROGRESS;
-            case "REVIEW":
-                return TaskStatusEnum.REVIEW;
-            case "DONE":
-                return TaskStatusEnum.DONE;
-            case "CANCELLED":
-                return TaskStatusEnum.CANCELLED;
-            default:
-                return TaskStatusEnum.TODO;
-        }
+        return TaskService.toDTO(task);
     }
-} 
\ No newline at end of file
+}
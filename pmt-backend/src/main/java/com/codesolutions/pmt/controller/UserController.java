@@ -1,14 +1,22 @@
 package com.codesolutions.pmt.controller;
 
+import com.codesolutions.pmt.config.OffloadingPasswordEncoder;
+import com.codesolutions.pmt.dto.AuthResponseDTO;
 import com.codesolutions.pmt.dto.UserDTO;
+import com.codesolutions.pmt.service.LoginRateLimiter;
+import com.codesolutions.pmt.service.TokenService;
 import com.codesolutions.pmt.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/users")
@@ -18,6 +26,12 @@ public class UserController {
     @Autowired
     private UserService userService;
     
+    @Autowired
+    private TokenService tokenService;
+    
+    @Autowired
+    private LoginRateLimiter loginRateLimiter;
+    
     /**
      * POST /users - Créer un nouvel utilisateur
      */
@@ -26,24 +40,78 @@ public class UserController {
         try {
             UserDTO createdUser = userService.createUser(userDto);
             return new ResponseEntity<>(createdUser, HttpStatus.CREATED);
+        } catch (OffloadingPasswordEncoder.PasswordHashingUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build();
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
     
     /**
-     * POST /users/login - Authentification
+     * POST /users/login - Authentification : utilisateur, jeton d'accès et jeton de rafraîchissement.
+     * Derrière nginx, getRemoteAddr renvoie l'adresse du client transmise par le proxy de confiance
+     * (server.forward-headers-strategy)
      */
     @PostMapping("/login")
-    public ResponseEntity<UserDTO> login(@RequestBody LoginRequest loginRequest) {
+    public ResponseEntity<AuthResponseDTO> login(@RequestBody LoginRequest loginRequest, HttpServletRequest request) {
+        Optional<Duration> retryAfter = loginRateLimiter.tryAcquire(loginRequest.getEmail(), request.getRemoteAddr());
+        if (retryAfter.isPresent()) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfter.get().toSeconds())))
+                    .build();
+        }
         try {
             UserDTO user = userService.authenticate(loginRequest.getEmail(), loginRequest.getPassword());
-            return ResponseEntity.ok(user);
+            loginRateLimiter.onSuccess(loginRequest.getEmail());
+            TokenService.TokenPair tokens = tokenService.issue(user.getId(), user.getUsername());
+            return ResponseEntity.ok(new AuthResponseDTO(user, tokens.accessToken(), tokens.refreshToken(), tokens.expiresIn()));
+        } catch (OffloadingPasswordEncoder.PasswordHashingUnavailableException e) {
+            // Pool de hachage saturé : réessayer plus tard, les identifiants n'ont pas été vérifiés
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build();
         } catch (RuntimeException e) {
             return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
         }
     }
     
+    /**
+     * POST /users/refresh - Nouvelle paire de jetons contre un jeton de rafraîchissement (usage unique)
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponseDTO> refresh(@RequestBody RefreshRequest refreshRequest) {
+        return tokenService.verifyRefreshToken(refreshRequest.getRefreshToken())
+                .flatMap(claims -> {
+                    try {
+                        // L'utilisateur doit toujours exister ; son nom a pu changer depuis la connexion
+                        UserDTO user = userService.findById(claims.userId());
+                        return tokenService.refresh(refreshRequest.getRefreshToken(), user.getUsername())
+                                .map(tokens -> new AuthResponseDTO(user, tokens.accessToken(), tokens.refreshToken(), tokens.expiresIn()));
+                    } catch (RuntimeException e) {
+                        return Optional.<AuthResponseDTO>empty();
+                    }
+                })
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.UNAUTHORIZED));
+    }
+    
+    /**
+     * POST /users/logout - Révocation du jeton d'accès (en-tête Authorization) et du jeton de rafraîchissement
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                                       @RequestBody(required = false) RefreshRequest refreshRequest) {
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            tokenService.verifyAccessToken(authorization.substring("Bearer ".length())).ifPresent(tokenService::revoke);
+        }
+        if (refreshRequest != null) {
+            tokenService.verifyRefreshToken(refreshRequest.getRefreshToken()).ifPresent(tokenService::revoke);
+        }
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+    
     /**
      * GET /users - Récupérer tous les utilisateurs
      */
@@ -197,4 +265,27 @@ public class UserController {
             this.password = password;
         }
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Classe interne pour la requête de rafraîchissement et de déconnexion
+     */
+    public static class RefreshRequest {
+        private String refreshToken;
+        
+        // Constructeurs
+        public RefreshRequest() {}
+        
+        public RefreshRequest(String refreshToken) {
+            this.refreshToken = refreshToken;
+        }
+        
+        // Getters et Setters
+        public String getRefreshToken() {
+            return refreshToken;
+        }
+        
+        public void setRefreshToken(String refreshToken) {
+            this.refreshToken = refreshToken;
+        }
+    }
+}
\ No newline at end of file
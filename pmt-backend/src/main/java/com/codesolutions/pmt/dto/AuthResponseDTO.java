@@ -0,0 +1,73 @@
+package com.codesolutions.pmt.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+/**
+ * Réponse de connexion et de rafraîchissement : champs de l'utilisateur (au même niveau qu'un UserDTO)
+ * et jetons à renvoyer dans l'en-tête « Authorization: Bearer ... »
+ */
+public class AuthResponseDTO {
+    
+    @JsonUnwrapped
+    private UserDTO user;
+    
+    private String accessToken;
+    private String refreshToken;
+    private String tokenType = "Bearer";
+    
+    /**
+     * Durée de vie du jeton d'accès en secondes
+     */
+    private long expiresIn;
+    
+    // Constructeurs
+    public AuthResponseDTO() {}
+    
+    public AuthResponseDTO(UserDTO user, String accessToken, String refreshToken, long expiresIn) {
+        this.user = user;
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+        this.expiresIn = expiresIn;
+    }
+    
+    // Getters et Setters
+    public UserDTO getUser() {
+        return user;
+    }
+    
+    public void setUser(UserDTO user) {
+        this.user = user;
+    }
+    
+    public String getAccessToken() {
+        return accessToken;
+    }
+    
+    public void setAccessToken(String accessToken) {
+        this.accessToken = accessToken;
+    }
+    
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+    
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+    
+    public String getTokenType() {
+        return tokenType;
+    }
+    
+    public void setTokenType(String tokenType) {
+        this.tokenType = tokenType;
+    }
+    
+    public long getExpiresIn() {
+        return expiresIn;
+    }
+    
+    public void setExpiresIn(long expiresIn) {
+        this.expiresIn = expiresIn;
+    }
+}
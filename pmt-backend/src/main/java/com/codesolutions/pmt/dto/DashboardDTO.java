@@ -0,0 +1,132 @@
+package com.codesolutions.pmt.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Écran d'accueil d'un utilisateur : chaque liste est limitée, le compteur associé donne le total
+ */
+public class DashboardDTO {
+    private Long userId;
+    private String username;
+
+    // Projets dont l'utilisateur est membre (avec leurs compteurs de tâches et de membres)
+    private List<ProjectDTO> projects = new ArrayList<>();
+    private long projectCount;
+
+    // Tâches ouvertes assignées à l'utilisateur
+    private List<TaskDTO> assignedTasks = new ArrayList<>();
+    private long assignedTaskCount;
+    private List<TaskDTO> overdueTasks = new ArrayList<>();
+    private long overdueTaskCount;
+    private List<TaskDTO> dueSoonTasks = new ArrayList<>();
+    private long dueSoonTaskCount;
+
+    private List<NotificationDTO> unreadNotifications = new ArrayList<>();
+    private long unreadNotificationCount;
+
+    // Constructeurs
+    public DashboardDTO() {}
+
+    public DashboardDTO(Long userId, String username) {
+        this.userId = userId;
+        this.username = username;
+    }
+
+    // Getters et Setters
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public List<ProjectDTO> getProjects() {
+        return projects;
+    }
+
+    public void setProjects(List<ProjectDTO> projects) {
+        this.projects = projects;
+    }
+
+    public long getProjectCount() {
+        return projectCount;
+    }
+
+    public void setProjectCount(long projectCount) {
+        this.projectCount = projectCount;
+    }
+
+    public List<TaskDTO> getAssignedTasks() {
+        return assignedTasks;
+    }
+
+    public void setAssignedTasks(List<TaskDTO> assignedTasks) {
+        this.assignedTasks = assignedTasks;
+    }
+
+    public long getAssignedTaskCount() {
+        return assignedTaskCount;
+    }
+
+    public void setAssignedTaskCount(long assignedTaskCount) {
+        this.assignedTaskCount = assignedTaskCount;
+    }
+
+    public List<TaskDTO> getOverdueTasks() {
+        return overdueTasks;
+    }
+
+    public void setOverdueTasks(List<TaskDTO> overdueTasks) {
+        this.overdueTasks = overdueTasks;
+    }
+
+    public long getOverdueTaskCount() {
+        return overdueTaskCount;
+    }
+
+    public void setOverdueTaskCount(long overdueTaskCount) {
+        this.overdueTaskCount = overdueTaskCount;
+    }
+
+    public List<TaskDTO> getDueSoonTasks() {
+        return dueSoonTasks;
+    }
+
+    public void setDueSoonTasks(List<TaskDTO> dueSoonTasks) {
+        this.dueSoonTasks = dueSoonTasks;
+    }
+
+    public long getDueSoonTaskCount() {
+        return dueSoonTaskCount;
+    }
+
+    public void setDueSoonTaskCount(long dueSoonTaskCount) {
+        this.dueSoonTaskCount = dueSoonTaskCount;
+    }
+
+    public List<NotificationDTO> getUnreadNotifications() {
+        return unreadNotifications;
+    }
+
+    public void setUnreadNotifications(List<NotificationDTO> unreadNotifications) {
+        this.unreadNotifications = unreadNotifications;
+    }
+
+    public long getUnreadNotificationCount() {
+        return unreadNotificationCount;
+    }
+
+    public void setUnreadNotificationCount(long unreadNotificationCount) {
+        this.unreadNotificationCount = unreadNotificationCount;
+    }
+}
@@ -21,6 +21,25 @@ public class NotificationDTO {
     // Constructeurs
     public NotificationDTO() {}
 
+    /**
+     * Constructeur de projection JPQL (NotificationRepository.findUnreadByUserIdAsDto)
+     */
+    public NotificationDTO(Long id, String title, String message, String type, Boolean read, LocalDateTime createdAt,
+                           Long userId, String username, Long projectId, String projectName, Long taskId, String taskTitle) {
+        this.id = id;
+        this.title = title;
+        this.message = message;
+        this.type = type;
+        this.read = Boolean.TRUE.equals(read);
+        this.createdAt = createdAt;
+        this.userId = userId;
+        this.username = username;
+        this.projectId = projectId;
+        this.projectName = projectName;
+        this.taskId = taskId;
+        this.taskTitle = taskTitle;
+    }
+
     // Getters et Setters
     public Long getId() {
         return id;
@@ -0,0 +1,31 @@
+package com.codesolutions.pmt.dto;
+
+public class TaskBulkErrorDTO {
+    private int index;
+    private String message;
+
+    // Constructeurs
+    public TaskBulkErrorDTO() {}
+
+    public TaskBulkErrorDTO(int index, String message) {
+        this.index = index;
+        this.message = message;
+    }
+
+    // Getters et Setters
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,56 @@
+package com.codesolutions.pmt.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TaskBulkResultDTO {
+    private int received;
+    private int created;
+    private int failed;
+    private List<Long> createdIds = new ArrayList<>();
+    private List<TaskBulkErrorDTO> errors = new ArrayList<>();
+
+    // Constructeurs
+    public TaskBulkResultDTO() {}
+
+    // Getters et Setters
+    public int getReceived() {
+        return received;
+    }
+
+    public void setReceived(int received) {
+        this.received = received;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<Long> getCreatedIds() {
+        return createdIds;
+    }
+
+    public void setCreatedIds(List<Long> createdIds) {
+        this.createdIds = createdIds;
+    }
+
+    public List<TaskBulkErrorDTO> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<TaskBulkErrorDTO> errors) {
+        this.errors = errors;
+    }
+}
@@ -1,8 +1,10 @@
 package com.codesolutions.pmt.dto;
 
+import com.codesolutions.pmt.entity.Task;
 import com.codesolutions.pmt.entity.TaskPriority;
 import com.codesolutions.pmt.entity.TaskStatusEnum;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 public class TaskDTO {
@@ -35,6 +37,48 @@ public class TaskDTO {
         this.priority = priority;
     }
 
+    /**
+     * Constructeur de projection, utilisé par les requêtes JPQL "SELECT new ..." de TaskRepository
+     * et par la conversion depuis l'entité Task : une seule règle de correspondance pour les deux chemins
+     */
+    public TaskDTO(Long id, String title, String description, String statusName, Task.Priority priority,
+                   LocalDate dueDate, LocalDateTime createdAt, LocalDateTime updatedAt,
+                   Long projectId, String projectName, Long assignedToId, String assignedToName,
+                   Long createdById, String createdByName) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        if (statusName != null) {
+            this.status = toStatusEnum(statusName);
+            this.statusName = statusName;
+        }
+        if (priority != null) {
+            this.priority = TaskPriority.valueOf(priority.name());
+        }
+        if (dueDate != null) {
+            this.dueDate = dueDate.atStartOfDay();
+        }
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.projectId = projectId;
+        this.projectName = projectName;
+        this.assignedToId = assignedToId;
+        this.assignedToName = assignedToName;
+        this.createdById = createdById;
+        this.createdByName = createdByName;
+    }
+
+    /**
+     * Convertir le nom du statut en TaskStatusEnum (TODO si le nom n'est pas reconnu)
+     */
+    private static TaskStatusEnum toStatusEnum(String statusName) {
+        try {
+            return TaskStatusEnum.valueOf(statusName);
+        } catch (IllegalArgumentException e) {
+            return TaskStatusEnum.TODO;
+        }
+    }
+
     // Getters et Setters
     public Long getId() {
         return id;
@@ -0,0 +1,54 @@
+package com.codesolutions.pmt.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TaskPageDTO {
+    private List<TaskDTO> items = new ArrayList<>();
+    private String nextCursor;
+    private boolean hasMore;
+    private int size;
+
+    // Constructeurs
+    public TaskPageDTO() {}
+
+    public TaskPageDTO(List<TaskDTO> items, String nextCursor, boolean hasMore, int size) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+        this.size = size;
+    }
+
+    // Getters et Setters
+    public List<TaskDTO> getItems() {
+        return items;
+    }
+
+    public void setItems(List<TaskDTO> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+}
@@ -0,0 +1,92 @@
+package com.codesolutions.pmt.dto;
+
+import com.codesolutions.pmt.entity.TaskPriority;
+import com.codesolutions.pmt.entity.TaskStatusEnum;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Filtres de recherche des tâches ; un filtre null est ignoré, les filtres renseignés se cumulent
+ */
+public class TaskSearchCriteria {
+    private Long projectId;
+    private List<TaskStatusEnum> status;
+    private List<TaskPriority> priority;
+    private Long assignedToId;
+    private Long createdById;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueTo;
+    private Boolean overdue;
+
+    // Constructeurs
+    public TaskSearchCriteria() {}
+
+    // Getters et Setters
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public List<TaskStatusEnum> getStatus() {
+        return status;
+    }
+
+    public void setStatus(List<TaskStatusEnum> status) {
+        this.status = status;
+    }
+
+    public List<TaskPriority> getPriority() {
+        return priority;
+    }
+
+    public void setPriority(List<TaskPriority> priority) {
+        this.priority = priority;
+    }
+
+    public Long getAssignedToId() {
+        return assignedToId;
+    }
+
+    public void setAssignedToId(Long assignedToId) {
+        this.assignedToId = assignedToId;
+    }
+
+    public Long getCreatedById() {
+        return createdById;
+    }
+
+    public void setCreatedById(Long createdById) {
+        this.createdById = createdById;
+    }
+
+    public LocalDate getDueFrom() {
+        return dueFrom;
+    }
+
+    public void setDueFrom(LocalDate dueFrom) {
+        this.dueFrom = dueFrom;
+    }
+
+    public LocalDate getDueTo() {
+        return dueTo;
+    }
+
+    public void setDueTo(LocalDate dueTo) {
+        this.dueTo = dueTo;
+    }
+
+    public Boolean getOverdue() {
+        return overdue;
+    }
+
+    public void setOverdue(Boolean overdue) {
+        this.overdue = overdue;
+    }
+}
@@ -12,6 +12,8 @@ public class TaskUpdateDTO {
     private TaskPriority priority;
     private LocalDate dueDate;
     private Long assignedToId;
+    // Pris en compte sans jeton seulement : avec un jeton, l'auteur est l'utilisateur authentifié (valeur différente refusée)
+    private Long updatedById;
 
     // Constructeurs
     public TaskUpdateDTO() {}
@@ -77,4 +79,12 @@ public class TaskUpdateDTO {
     public void setAssignedToId(Long assignedToId) {
         this.assignedToId = assignedToId;
     }
-} 
\ No newline at end of file
+
+    public Long getUpdatedById() {
+        return updatedById;
+    }
+
+    public void setUpdatedById(Long updatedById) {
+        this.updatedById = updatedById;
+    }
+}
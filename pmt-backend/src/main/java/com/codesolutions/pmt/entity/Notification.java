@@ -9,7 +9,11 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_user_read", columnList = "user_id, is_read"),
+        @Index(name = "idx_notifications_user_created", columnList = "user_id, created_at"),
+        @Index(name = "idx_notifications_related", columnList = "related_entity_type, related_entity_id")
+})
 public class Notification {
     
     @Id
@@ -17,7 +21,7 @@ public class Notification {
     private Long id;
     
     @NotNull(message = "L'utilisateur est obligatoire")
-    @ManyToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
     
@@ -13,7 +13,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_project_status", columnList = "project_id, status_id"),
+        @Index(name = "idx_tasks_assigned_due_status", columnList = "assigned_to, due_date, status_id"),
+        @Index(name = "idx_tasks_due_status", columnList = "due_date, status_id")
+})
 public class Task {
     
     @Id
@@ -29,7 +33,7 @@ public class Task {
     private String description;
     
     @NotNull(message = "Le statut est obligatoire")
-    @ManyToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "status_id", nullable = false)
     private TaskStatus status;
     
@@ -38,7 +42,7 @@ public class Task {
     private Priority priority = Priority.MEDIUM;
     
     @NotNull(message = "Le projet est obligatoire")
-    @ManyToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "project_id", nullable = false)
     private Project project;
     
@@ -47,7 +51,7 @@ public class Task {
     private User assignedTo;
     
     @NotNull(message = "Le créateur est obligatoire")
-    @ManyToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "created_by", nullable = false)
     private User createdBy;
     
@@ -8,7 +8,9 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "task_history")
+@Table(name = "task_history", indexes = {
+        @Index(name = "idx_task_history_task_created", columnList = "task_id, created_at")
+})
 public class TaskHistory {
     
     @Id
@@ -16,12 +18,12 @@ public class TaskHistory {
     private Long id;
     
     @NotNull(message = "La tâche est obligatoire")
-    @ManyToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "task_id", nullable = false)
     private Task task;
     
     @NotNull(message = "L'utilisateur est obligatoire")
-    @ManyToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
     
@@ -1,29 +1,52 @@
 package com.codesolutions.pmt.repository;
 
+import com.codesolutions.pmt.dto.NotificationDTO;
 import com.codesolutions.pmt.entity.Notification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
+    /**
+     * Récupérer toutes les notifications avec leur utilisateur
+     */
+    @Override
+    @EntityGraph(attributePaths = "user")
+    List<Notification> findAll();
+
+    /**
+     * Récupérer une notification avec son utilisateur
+     */
+    @Override
+    @EntityGraph(attributePaths = "user")
+    Optional<Notification> findById(Long id);
+
     /**
      * Récupérer les notifications d'un utilisateur
      */
+    @EntityGraph(attributePaths = "user")
     List<Notification> findByUserId(Long userId);
 
     /**
      * Récupérer les notifications non lues d'un utilisateur
      */
+    @EntityGraph(attributePaths = "user")
     List<Notification> findByUserIdAndIsReadFalse(Long userId);
 
     /**
      * Récupérer les notifications d'un projet
      */
+    @EntityGraph(attributePaths = "user")
     List<Notification> findByRelatedEntityTypeAndRelatedEntityId(String relatedEntityType, Long relatedEntityId);
 
     /**
@@ -47,4 +70,48 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
      */
     @Query("SELECT n FROM Notification n WHERE n.user.id = :userId ORDER BY n.createdAt DESC")
     List<Notification> findRecentByUserId(@Param("userId") Long userId);
-} 
\ No newline at end of file
+
+    /**
+     * Notifications non lues d'un utilisateur sous forme de DTO, les plus récentes d'abord (limitées par la page).
+     * Le projet ou la tâche liés sont joints dans la même requête ; supprimés entre-temps, ils restent vides.
+     * La lecture part de l'utilisateur pour atteindre ses notifications par l'index (user_id, ...).
+     */
+    @Query("SELECT new com.codesolutions.pmt.dto.NotificationDTO(" +
+           "n.id, n.title, n.message, n.type, n.isRead, n.createdAt, u.id, u.username, " +
+           "COALESCE(rp.id, tp.id), COALESCE(rp.name, tp.name), rt.id, rt.title) " +
+           "FROM User u " +
+           "JOIN Notification n ON n.user = u " +
+           "LEFT JOIN Project rp ON n.relatedEntityType = 'PROJECT' AND rp.id = n.relatedEntityId " +
+           "LEFT JOIN Task rt ON n.relatedEntityType = 'TASK' AND rt.id = n.relatedEntityId " +
+           "LEFT JOIN rt.project tp " +
+           "WHERE u.id = :userId AND n.isRead = false " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationDTO> findUnreadByUserIdAsDto(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Récupérer les notifications d'un utilisateur postérieures à un ID (reprise d'un flux SSE)
+     */
+    List<Notification> findByUserIdAndIdGreaterThanOrderByIdAsc(Long userId, Long afterId, Pageable pageable);
+
+    /**
+     * Marquer toutes les notifications non lues d'un utilisateur comme lues (une seule requête UPDATE)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.id = :userId AND n.isRead = false")
+    int markAllAsReadByUserId(@Param("userId") Long userId);
+
+    /**
+     * Marquer un lot de notifications d'un utilisateur comme lues (une seule requête UPDATE)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true " +
+           "WHERE n.user.id = :userId AND n.id IN :ids AND n.isRead = false")
+    int markAsReadByUserIdAndIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * Supprimer toutes les notifications d'un utilisateur (une seule requête DELETE)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Notification n WHERE n.user.id = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+}
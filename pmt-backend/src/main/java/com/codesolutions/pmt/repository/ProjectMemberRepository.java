@@ -1,17 +1,33 @@
 package com.codesolutions.pmt.repository;
 
 import com.codesolutions.pmt.entity.ProjectMember;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Long> {
 
+    /**
+     * Récupérer tous les membres avec les relations chargées
+     */
+    @Override
+    @EntityGraph(attributePaths = {"project", "user", "role"})
+    List<ProjectMember> findAll();
+
+    /**
+     * Récupérer un membre avec les relations chargées
+     */
+    @Override
+    @EntityGraph(attributePaths = {"project", "user", "role"})
+    Optional<ProjectMember> findById(Long id);
+
     /**
      * Récupérer tous les membres d'un projet avec les relations chargées
      */
@@ -22,6 +38,16 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
            "WHERE pm.project.id = :projectId")
     List<ProjectMember> findByProjectIdWithRelations(@Param("projectId") Long projectId);
 
+    /**
+     * Récupérer les membres d'un lot de projets avec les relations chargées
+     */
+    @Query("SELECT pm FROM ProjectMember pm " +
+           "LEFT JOIN FETCH pm.user " +
+           "LEFT JOIN FETCH pm.role " +
+           "LEFT JOIN FETCH pm.project " +
+           "WHERE pm.project.id IN :projectIds")
+    List<ProjectMember> findByProjectIdInWithRelations(@Param("projectIds") Collection<Long> projectIds);
+
     /**
      * Récupérer tous les membres d'un projet
      */
@@ -60,6 +86,7 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
     /**
      * Vérifier si un utilisateur est membre d'un projet
      */
+    @EntityGraph(attributePaths = {"project", "user", "role"})
     Optional<ProjectMember> findByProjectIdAndUserId(Long projectId, Long userId);
 
     /**
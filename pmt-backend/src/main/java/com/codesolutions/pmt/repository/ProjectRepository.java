@@ -4,20 +4,37 @@ import com.codesolutions.pmt.entity.Project;
 import com.codesolutions.pmt.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
     
+    /**
+     * Trouve tous les projets avec leur créateur
+     */
+    @Override
+    @EntityGraph(attributePaths = "createdBy")
+    List<Project> findAll();
+    
+    /**
+     * Trouve tous les projets avec leur créateur, avec pagination
+     */
+    @Override
+    @EntityGraph(attributePaths = "createdBy")
+    Page<Project> findAll(Pageable pageable);
+    
     /**
      * Trouve les projets par nom (recherche partielle)
      */
+    @EntityGraph(attributePaths = "createdBy")
     List<Project> findByNameContainingIgnoreCase(String name);
     
     /**
@@ -51,14 +68,32 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     @Query("SELECT DISTINCT p FROM Project p " +
            "JOIN p.members pm " +
            "WHERE pm.user.id = :userId")
+    @EntityGraph(attributePaths = "createdBy")
     List<Project> findProjectsByUserId(@Param("userId") Long userId);
     
+    /**
+     * Projets où un utilisateur est membre, les plus récents d'abord (limités par la page)
+     */
+    @Query("SELECT DISTINCT p FROM Project p " +
+           "JOIN p.members pm " +
+           "WHERE pm.user.id = :userId " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    @EntityGraph(attributePaths = "createdBy")
+    List<Project> findRecentProjectsByUserId(@Param("userId") Long userId, Pageable pageable);
+    
+    /**
+     * Compte les projets où un utilisateur est membre
+     */
+    @Query("SELECT COUNT(DISTINCT pm.project.id) FROM ProjectMember pm WHERE pm.user.id = :userId")
+    long countProjectsByUserId(@Param("userId") Long userId);
+    
     /**
      * Trouve les projets où un utilisateur a un rôle spécifique
      */
     @Query("SELECT DISTINCT p FROM Project p " +
            "JOIN p.members pm " +
            "WHERE pm.user.id = :userId AND pm.role.name = :roleName")
+    @EntityGraph(attributePaths = "createdBy")
     List<Project> findProjectsByUserIdAndRole(@Param("userId") Long userId, @Param("roleName") String roleName);
     
     /**
@@ -79,16 +114,45 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
            "ORDER BY memberCount DESC")
     List<Object[]> findProjectsWithMemberCount();
     
+    /**
+     * Compte les tâches d'un lot de projets (une ligne [projectId, count] par projet ayant des tâches)
+     */
+    @Query("SELECT t.project.id, COUNT(t) FROM Task t " +
+           "WHERE t.project.id IN :projectIds " +
+           "GROUP BY t.project.id")
+    List<Object[]> countTasksByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+    
+    /**
+     * Compte les membres d'un lot de projets (une ligne [projectId, count] par projet ayant des membres)
+     */
+    @Query("SELECT pm.project.id, COUNT(pm) FROM ProjectMember pm " +
+           "WHERE pm.project.id IN :projectIds " +
+           "GROUP BY pm.project.id")
+    List<Object[]> countMembersByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+    
     /**
      * Trouve les projets récents (créés dans les 30 derniers jours)
      */
     @Query("SELECT p FROM Project p " +
            "WHERE p.createdAt >= :thirtyDaysAgo " +
            "ORDER BY p.createdAt DESC")
+    @EntityGraph(attributePaths = "createdBy")
     List<Project> findRecentProjects(@Param("thirtyDaysAgo") LocalDate thirtyDaysAgo);
     
     /**
      * Trouve les projets par nom avec pagination
      */
     Page<Project> findByNameContainingIgnoreCase(String name, Pageable pageable);
-} 
\ No newline at end of file
+    
+    /**
+     * Récupère l'ID et le nom d'un lot de projets en une seule requête
+     */
+    @Query("SELECT p.id, p.name FROM Project p WHERE p.id IN :ids")
+    List<Object[]> findIdAndNameByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Parmi les IDs donnés, ceux qui correspondent à un projet existant
+     */
+    @Query("SELECT p.id FROM Project p WHERE p.id IN :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+}
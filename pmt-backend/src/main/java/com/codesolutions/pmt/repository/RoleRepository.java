@@ -1,7 +1,10 @@
 package com.codesolutions.pmt.repository;
 
 import com.codesolutions.pmt.entity.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -10,8 +13,12 @@ import java.util.Optional;
 public interface RoleRepository extends JpaRepository<Role, Integer> {
     
     /**
-     * Trouver un rôle par son nom
+     * Trouver un rôle par son nom (cache de requêtes, région pmt-reference-queries)
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "pmt-reference-queries")
+    })
     Optional<Role> findByName(String name);
     
     /**
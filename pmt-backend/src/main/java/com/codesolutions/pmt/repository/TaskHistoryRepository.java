@@ -1,52 +1,75 @@
 package com.codesolutions.pmt.repository;
 
 import com.codesolutions.pmt.entity.TaskHistory;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TaskHistoryRepository extends JpaRepository<TaskHistory, Long> {
 
+    /**
+     * Récupérer tout l'historique avec la tâche, son projet et l'utilisateur
+     */
+    @Override
+    @EntityGraph(attributePaths = {"task", "task.project", "user"})
+    List<TaskHistory> findAll();
+
+    /**
+     * Récupérer une entrée d'historique avec la tâche, son projet et l'utilisateur
+     */
+    @Override
+    @EntityGraph(attributePaths = {"task", "task.project", "user"})
+    Optional<TaskHistory> findById(Long id);
+
     /**
      * Récupérer l'historique d'une tâche
      */
+    @EntityGraph(attributePaths = {"task", "task.project", "user"})
     List<TaskHistory> findByTaskId(Long taskId);
 
     /**
      * Récupérer l'historique d'un projet via la tâche
      */
     @Query("SELECT th FROM TaskHistory th WHERE th.task.project.id = :projectId")
+    @EntityGraph(attributePaths = {"task", "task.project", "user"})
     List<TaskHistory> findByProjectId(@Param("projectId") Long projectId);
 
     /**
      * Récupérer l'historique d'un utilisateur
      */
+    @EntityGraph(attributePaths = {"task", "task.project", "user"})
     List<TaskHistory> findByUserId(Long userId);
 
     /**
      * Récupérer l'historique par type d'action
      */
+    @EntityGraph(attributePaths = {"task", "task.project", "user"})
     List<TaskHistory> findByAction(String action);
 
     /**
      * Récupérer l'historique récent d'une tâche (limité)
      */
     @Query("SELECT th FROM TaskHistory th WHERE th.task.id = :taskId ORDER BY th.createdAt DESC")
+    @EntityGraph(attributePaths = {"task", "task.project", "user"})
     List<TaskHistory> findRecentByTaskId(@Param("taskId") Long taskId);
 
     /**
      * Récupérer l'historique par tâche et action
      */
     @Query("SELECT th FROM TaskHistory th WHERE th.task.id = :taskId AND th.action = :action")
+    @EntityGraph(attributePaths = {"task", "task.project", "user"})
     List<TaskHistory> findByTaskIdAndAction(@Param("taskId") Long taskId, @Param("action") String action);
 
     /**
      * Récupérer l'historique par projet et action
      */
     @Query("SELECT th FROM TaskHistory th WHERE th.task.project.id = :projectId AND th.action = :action")
+    @EntityGraph(attributePaths = {"task", "task.project", "user"})
     List<TaskHistory> findByProjectIdAndAction(@Param("projectId") Long projectId, @Param("action") String action);
 } 
\ No newline at end of file
@@ -1,21 +1,51 @@
 package com.codesolutions.pmt.repository;
 
+import com.codesolutions.pmt.dto.TaskDTO;
 import com.codesolutions.pmt.entity.Task;
 import com.codesolutions.pmt.entity.TaskStatus;
 import com.codesolutions.pmt.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
-    
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+
+    /**
+     * Projection TaskDTO : sélectionne uniquement les colonnes utiles, sans charger d'entités gérées
+     */
+    String TASK_DTO_SELECT = "SELECT new com.codesolutions.pmt.dto.TaskDTO(" +
+            "t.id, t.title, t.description, s.name, t.priority, t.dueDate, t.createdAt, t.updatedAt, " +
+            "p.id, p.name, a.id, a.username, c.id, c.username) " +
+            "FROM Task t " +
+            "LEFT JOIN t.status s " +
+            "LEFT JOIN t.project p " +
+            "LEFT JOIN t.assignedTo a " +
+            "LEFT JOIN t.createdBy c ";
+
+    /**
+     * Projection TaskDTO des tâches d'un assigné (a.id = :userId) : la lecture part de l'utilisateur,
+     * les tâches sont atteintes par l'index sur assigned_to plutôt qu'en parcourant la table
+     */
+    String ASSIGNED_TASK_DTO_SELECT = "SELECT new com.codesolutions.pmt.dto.TaskDTO(" +
+            "t.id, t.title, t.description, s.name, t.priority, t.dueDate, t.createdAt, t.updatedAt, " +
+            "p.id, p.name, a.id, a.username, c.id, c.username) " +
+            "FROM User a " +
+            "JOIN Task t ON t.assignedTo = a " +
+            "LEFT JOIN t.status s " +
+            "LEFT JOIN t.project p " +
+            "LEFT JOIN t.createdBy c ";
+
     /**
      * Trouve les tâches par projet
      */
@@ -178,12 +208,90 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
 
     /**
      * Récupérer les tâches d'un projet avec leurs relations
+     * (jointure interne sur le projet, obligatoire : le filtre passe par l'index de tasks.project_id)
      */
     @Query("SELECT DISTINCT t FROM Task t " +
-           "LEFT JOIN FETCH t.project " +
+           "JOIN FETCH t.project " +
            "LEFT JOIN FETCH t.assignedTo " +
            "LEFT JOIN FETCH t.createdBy " +
            "LEFT JOIN FETCH t.status " +
            "WHERE t.project.id = :projectId")
     List<Task> findByProjectIdWithRelations(@Param("projectId") Long projectId);
-} 
\ No newline at end of file
+
+    /**
+     * Récupérer toutes les tâches sous forme de DTO
+     */
+    @Query(TASK_DTO_SELECT + "ORDER BY t.id ASC")
+    List<TaskDTO> findAllAsDto();
+
+    /**
+     * Récupérer une page de tâches sous forme de DTO (pagination par clé sur l'ID)
+     */
+    @Query(TASK_DTO_SELECT + "WHERE t.id > :afterId ORDER BY t.id ASC")
+    List<TaskDTO> findPageAfterIdAsDto(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Récupérer les tâches d'un projet sous forme de DTO
+     */
+    @Query(TASK_DTO_SELECT + "WHERE p.id = :projectId ORDER BY t.id ASC")
+    List<TaskDTO> findByProjectIdAsDto(@Param("projectId") Long projectId);
+
+    /**
+     * Récupérer les tâches d'un statut sous forme de DTO
+     */
+    @Query(TASK_DTO_SELECT + "WHERE s.id = :statusId ORDER BY t.id ASC")
+    List<TaskDTO> findByStatusIdAsDto(@Param("statusId") Integer statusId);
+
+    /**
+     * Recherche paginée (voir TaskSpecifications) ; les relations affichées sont chargées dans la même requête
+     */
+    @Override
+    @EntityGraph(attributePaths = {"status", "project", "assignedTo", "createdBy"})
+    Page<Task> findAll(Specification<Task> spec, Pageable pageable);
+
+    /**
+     * Récupérer les tâches assignées à un utilisateur sous forme de DTO
+     */
+    @Query(TASK_DTO_SELECT + "WHERE a.id = :userId ORDER BY t.id ASC")
+    List<TaskDTO> findByAssignedToIdAsDto(@Param("userId") Long userId);
+
+    /**
+     * Tâches ouvertes (ni terminées ni annulées) assignées à un utilisateur, les plus récemment modifiées d'abord
+     */
+    @Query(ASSIGNED_TASK_DTO_SELECT + "WHERE a.id = :userId AND s.name NOT IN ('DONE', 'CANCELLED') " +
+            "ORDER BY t.updatedAt DESC, t.id DESC")
+    List<TaskDTO> findOpenByAssignedToIdAsDto(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Tâches ouvertes assignées à un utilisateur dont l'échéance est dépassée, les plus anciennes d'abord
+     */
+    @Query(ASSIGNED_TASK_DTO_SELECT + "WHERE a.id = :userId AND s.name NOT IN ('DONE', 'CANCELLED') AND t.dueDate < :today " +
+            "ORDER BY t.dueDate ASC, t.id ASC")
+    List<TaskDTO> findOverdueByAssignedToIdAsDto(@Param("userId") Long userId, @Param("today") LocalDate today,
+                                                 Pageable pageable);
+
+    /**
+     * Tâches ouvertes assignées à un utilisateur à échéance entre aujourd'hui et until, les plus proches d'abord
+     */
+    @Query(ASSIGNED_TASK_DTO_SELECT + "WHERE a.id = :userId AND s.name NOT IN ('DONE', 'CANCELLED') " +
+            "AND t.dueDate BETWEEN :today AND :until ORDER BY t.dueDate ASC, t.id ASC")
+    List<TaskDTO> findDueSoonByAssignedToIdAsDto(@Param("userId") Long userId, @Param("today") LocalDate today,
+                                                 @Param("until") LocalDate until, Pageable pageable);
+
+    /**
+     * Compteurs des tâches ouvertes assignées à un utilisateur en une seule requête : une ligne [ouvertes, en retard, à échéance proche]
+     */
+    @Query("SELECT COUNT(t), " +
+            "COALESCE(SUM(CASE WHEN t.dueDate < :today THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN t.dueDate BETWEEN :today AND :until THEN 1 ELSE 0 END), 0) " +
+            "FROM Task t JOIN t.status s " +
+            "WHERE t.assignedTo.id = :userId AND s.name NOT IN ('DONE', 'CANCELLED')")
+    List<Object[]> countOpenTasksByAssignedToId(@Param("userId") Long userId, @Param("today") LocalDate today,
+                                                @Param("until") LocalDate until);
+
+    /**
+     * Récupérer l'ID, le titre et le projet d'un lot de tâches en une seule requête
+     */
+    @Query("SELECT t.id, t.title, p.id, p.name FROM Task t LEFT JOIN t.project p WHERE t.id IN :ids")
+    List<Object[]> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+}
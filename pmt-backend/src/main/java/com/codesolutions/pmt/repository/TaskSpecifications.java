@@ -0,0 +1,124 @@
+package com.codesolutions.pmt.repository;
+
+import com.codesolutions.pmt.dto.TaskSearchCriteria;
+import com.codesolutions.pmt.entity.Task;
+import com.codesolutions.pmt.entity.TaskPriority;
+import com.codesolutions.pmt.entity.TaskStatusEnum;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Critères de recherche des tâches (API Criteria), combinables entre eux
+ */
+public final class TaskSpecifications {
+
+    /**
+     * Clés de tri acceptées par la recherche
+     */
+    public static final Set<String> SORT_KEYS = Set.of(
+            "id", "title", "priority", "status", "dueDate", "createdAt", "updatedAt", "project", "assignee");
+
+    /**
+     * Statuts pour lesquels une tâche n'est plus considérée en retard
+     */
+    private static final List<String> CLOSED_STATUSES = List.of(TaskStatusEnum.DONE.name(), TaskStatusEnum.CANCELLED.name());
+
+    private TaskSpecifications() {}
+
+    /**
+     * Tâches correspondant à tous les filtres renseignés ; today sert de référence pour le filtre « en retard »
+     */
+    public static Specification<Task> matching(TaskSearchCriteria criteria, LocalDate today) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (criteria.getProjectId() != null) {
+                predicates.add(cb.equal(root.get("project").get("id"), criteria.getProjectId()));
+            }
+            if (criteria.getStatus() != null && !criteria.getStatus().isEmpty()) {
+                predicates.add(root.get("status").get("name").in(criteria.getStatus().stream().map(Enum::name).toList()));
+            }
+            if (criteria.getPriority() != null && !criteria.getPriority().isEmpty()) {
+                predicates.add(root.get("priority").in(criteria.getPriority().stream().map(TaskSpecifications::toEntityPriority).toList()));
+            }
+            if (criteria.getAssignedToId() != null) {
+                predicates.add(cb.equal(root.get("assignedTo").get("id"), criteria.getAssignedToId()));
+            }
+            if (criteria.getCreatedById() != null) {
+                predicates.add(cb.equal(root.get("createdBy").get("id"), criteria.getCreatedById()));
+            }
+            if (criteria.getDueFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.<LocalDate>get("dueDate"), criteria.getDueFrom()));
+            }
+            if (criteria.getDueTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.<LocalDate>get("dueDate"), criteria.getDueTo()));
+            }
+            if (Boolean.TRUE.equals(criteria.getOverdue())) {
+                predicates.add(cb.lessThan(root.<LocalDate>get("dueDate"), today));
+                predicates.add(cb.not(root.get("status").get("name").in(CLOSED_STATUSES)));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Tri sur une clé de SORT_KEYS, l'ID servant de départage pour une pagination stable.
+     * Priorité et statut sont triés dans leur ordre métier, pas alphabétiquement.
+     */
+    public static Specification<Task> orderedBy(String sortKey, Sort.Direction direction) {
+        if (!SORT_KEYS.contains(sortKey)) {
+            throw new IllegalArgumentException("Clé de tri inconnue: " + sortKey);
+        }
+        return (root, query, cb) -> {
+            // La requête de comptage de la pagination n'a pas besoin de tri
+            if (!isCountQuery(query)) {
+                Expression<?> expression = sortExpression(sortKey, root, cb);
+                query.orderBy(
+                        direction.isAscending() ? cb.asc(expression) : cb.desc(expression),
+                        direction.isAscending() ? cb.asc(root.get("id")) : cb.desc(root.get("id")));
+            }
+            return null;
+        };
+    }
+
+    private static Expression<?> sortExpression(String sortKey, Root<Task> root, CriteriaBuilder cb) {
+        switch (sortKey) {
+            case "priority":
+                CriteriaBuilder.SimpleCase<Task.Priority, Integer> priorityOrder = cb.selectCase(root.<Task.Priority>get("priority"));
+                for (Task.Priority priority : Task.Priority.values()) {
+                    priorityOrder.when(priority, priority.ordinal());
+                }
+                return priorityOrder.otherwise(Task.Priority.MEDIUM.ordinal());
+            case "status":
+                CriteriaBuilder.SimpleCase<String, Integer> statusOrder = cb.selectCase(root.get("status").<String>get("name"));
+                for (TaskStatusEnum status : TaskStatusEnum.values()) {
+                    statusOrder.when(status.name(), status.ordinal());
+                }
+                return statusOrder.otherwise(TaskStatusEnum.values().length);
+            case "project":
+                return root.get("project").get("name");
+            case "assignee":
+                return root.join("assignedTo", JoinType.LEFT).get("username");
+            default:
+                return root.get(sortKey);
+        }
+    }
+
+    private static boolean isCountQuery(CriteriaQuery<?> query) {
+        return Long.class.equals(query.getResultType()) || long.class.equals(query.getResultType());
+    }
+
+    private static Task.Priority toEntityPriority(TaskPriority priority) {
+        return Task.Priority.valueOf(priority.name());
+    }
+}
@@ -2,10 +2,13 @@ package com.codesolutions.pmt.repository;
 
 import com.codesolutions.pmt.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -72,4 +75,21 @@ public interface UserRepository extends JpaRepository<User, Long> {
            "JOIN u.assignedTasks t " +
            "WHERE t.project.id = :projectId")
     List<User> findUsersWithAssignedTasksInProject(@Param("projectId") Long projectId);
-} 
\ No newline at end of file
+
+    /**
+     * Parmi les IDs donnés, ceux qui correspondent à un utilisateur existant
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Remplacer le hachage du mot de passe seulement s'il est encore celui qui a été vérifié
+     * (transaction courte, propre à la requête) ; 0 si le mot de passe a changé entre-temps
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.password = :newHash, u.updatedAt = LOCAL DATETIME " +
+           "WHERE u.id = :id AND u.password = :verifiedHash")
+    int updatePasswordIfUnchanged(@Param("id") Long id, @Param("verifiedHash") String verifiedHash,
+                                  @Param("newHash") String newHash);
+}
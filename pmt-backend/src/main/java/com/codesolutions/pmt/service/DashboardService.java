@@ -0,0 +1,216 @@
+package com.codesolutions.pmt.service;
+
+import com.codesolutions.pmt.config.SqlStatementCounter;
+import com.codesolutions.pmt.dto.DashboardDTO;
+import com.codesolutions.pmt.entity.User;
+import com.codesolutions.pmt.repository.NotificationRepository;
+import com.codesolutions.pmt.repository.TaskRepository;
+import com.codesolutions.pmt.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Écran d'accueil d'un utilisateur en un seul appel : projets avec compteurs, tâches ouvertes assignées,
+ * en retard et à échéance proche, notifications non lues.
+ * Les sections sont chargées en parallèle sur des threads virtuels, chacune dans sa propre transaction
+ * en lecture seule (l'utilisateur est lu par la section des projets) : le thread de la requête ne tient
+ * aucune connexion pendant l'attente. Chaque liste est limitée et accompagnée de son total :
+ * le nombre de requêtes SQL ne dépend pas des volumes.
+ * Une section en échec annule les autres, comme StructuredTaskScope.ShutdownOnFailure (API en preview en Java 21).
+ * Au-delà de max-parallel-requests tableaux de bord simultanés, les sections sont chargées l'une après l'autre
+ * (une connexion à la fois) pour ne pas épuiser le pool.
+ */
+@Service
+@Timed(value = "pmt.service", histogram = true)
+public class DashboardService {
+
+    private static final ThreadFactory SECTION_THREADS = Thread.ofVirtual().name("pmt-dashboard-", 0).factory();
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${pmt.dashboard.projects-limit:10}")
+    private int projectsLimit = 10;
+
+    @Value("${pmt.dashboard.tasks-limit:10}")
+    private int tasksLimit = 10;
+
+    @Value("${pmt.dashboard.notifications-limit:10}")
+    private int notificationsLimit = 10;
+
+    @Value("${pmt.dashboard.due-soon-days:7}")
+    private int dueSoonDays = 7;
+
+    /**
+     * false : sections chargées l'une après l'autre sur le thread de la requête (une seule connexion à la fois)
+     */
+    @Value("${pmt.dashboard.parallel:true}")
+    private boolean parallel = true;
+
+    @Value("${pmt.dashboard.timeout:PT5S}")
+    private Duration timeout = Duration.ofSeconds(5);
+
+    private Semaphore parallelPermits = new Semaphore(4);
+
+    private Clock clock = Clock.systemDefaultZone();
+
+    /**
+     * Tableau de bord d'un utilisateur, vide si l'utilisateur n'existe pas
+     */
+    public Optional<DashboardDTO> getDashboard(Long userId) {
+        LocalDate today = LocalDate.now(clock);
+        LocalDate dueSoonUntil = today.plusDays(dueSoonDays);
+        DashboardDTO dashboard = new DashboardDTO();
+        dashboard.setUserId(userId);
+        AtomicBoolean userFound = new AtomicBoolean();
+
+        // Chaque section renseigne ses propres champs du DTO
+        List<Runnable> sections = List.of(
+                () -> {
+                    Optional<User> user = userRepository.findById(userId);
+                    if (user.isEmpty()) {
+                        return;
+                    }
+                    userFound.set(true);
+                    dashboard.setUsername(user.get().getUsername());
+                    dashboard.setProjects(projectService.findRecentProjectsByUserId(userId, projectsLimit));
+                    dashboard.setProjectCount(projectService.countProjectsByUserId(userId));
+                },
+                () -> {
+                    dashboard.setAssignedTasks(taskRepository.findOpenByAssignedToIdAsDto(userId, PageRequest.of(0, tasksLimit)));
+                    Object[] counts = taskRepository.countOpenTasksByAssignedToId(userId, today, dueSoonUntil).get(0);
+                    dashboard.setAssignedTaskCount(((Number) counts[0]).longValue());
+                    dashboard.setOverdueTaskCount(((Number) counts[1]).longValue());
+                    dashboard.setDueSoonTaskCount(((Number) counts[2]).longValue());
+                },
+                () -> {
+                    dashboard.setOverdueTasks(taskRepository.findOverdueByAssignedToIdAsDto(userId, today, PageRequest.of(0, tasksLimit)));
+                    dashboard.setDueSoonTasks(taskRepository.findDueSoonByAssignedToIdAsDto(userId, today, dueSoonUntil,
+                            PageRequest.of(0, tasksLimit)));
+                },
+                () -> {
+                    dashboard.setUnreadNotifications(notificationRepository.findUnreadByUserIdAsDto(userId,
+                            PageRequest.of(0, notificationsLimit)));
+                    dashboard.setUnreadNotificationCount(notificationService.getUnreadCount(userId));
+                });
+
+        if (parallel && parallelPermits.tryAcquire()) {
+            try {
+                runInParallel(sections);
+            } finally {
+                parallelPermits.release();
+            }
+        } else {
+            sections.forEach(this::runReadOnly);
+        }
+        return userFound.get() ? Optional.of(dashboard) : Optional.empty();
+    }
+
+    /**
+     * Tableaux de bord chargés en parallèle simultanément (4 connexions chacun), à garder sous la taille du pool / 4
+     */
+    @Value("${pmt.dashboard.max-parallel-requests:4}")
+    void setMaxParallelRequests(int maxParallelRequests) {
+        this.parallelPermits = new Semaphore(maxParallelRequests);
+    }
+
+    void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Un thread virtuel par section ; la première en échec (ou le délai dépassé) interrompt les autres.
+     * Le contexte de log (requestId) et le comptage des requêtes SQL de la requête HTTP suivent les sections.
+     */
+    private void runInParallel(List<Runnable> sections) {
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        AtomicInteger statements = SqlStatementCounter.current();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        // close() attend la fin de toutes les sections, y compris celles qui viennent d'être annulées
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(SECTION_THREADS)) {
+            CompletionService<Void> completion = new ExecutorCompletionService<>(executor);
+            List<Future<Void>> futures = new ArrayList<>(sections.size());
+            for (Runnable section : sections) {
+                futures.add(completion.submit(() -> {
+                    if (mdc != null) {
+                        MDC.setContextMap(mdc);
+                    }
+                    SqlStatementCounter.attach(statements);
+                    try {
+                        runReadOnly(section);
+                    } finally {
+                        SqlStatementCounter.detach();
+                        MDC.clear();
+                    }
+                    return null;
+                }));
+            }
+            try {
+                for (int i = 0; i < sections.size(); i++) {
+                    Future<Void> done = completion.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (done == null) {
+                        throw new RuntimeException("Délai de chargement du tableau de bord dépassé (" + timeout + ")");
+                    }
+                    done.get();
+                }
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new RuntimeException("Erreur lors du chargement du tableau de bord", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Chargement du tableau de bord interrompu", e);
+            } finally {
+                // Sans effet sur les sections terminées
+                futures.forEach(future -> future.cancel(true));
+            }
+        }
+    }
+
+    private void runReadOnly(Runnable section) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.executeWithoutResult(status -> section.run());
+    }
+}
@@ -0,0 +1,106 @@
+package com.codesolutions.pmt.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Limitation des tentatives de connexion sur une fenêtre glissante, par email et par adresse IP,
+ * avant toute vérification de mot de passe. Les compteurs sont en mémoire, propres à chaque instance.
+ */
+@Service
+public class LoginRateLimiter {
+
+    @Value("${pmt.security.login.max-attempts-per-email:5}")
+    private int maxAttemptsPerEmail = 5;
+
+    @Value("${pmt.security.login.max-attempts-per-ip:20}")
+    private int maxAttemptsPerIp = 20;
+
+    @Value("${pmt.security.login.window:PT5M}")
+    private Duration window = Duration.ofMinutes(5);
+
+    /**
+     * Clé (email ou IP) -> dates des tentatives dans la fenêtre, de la plus ancienne à la plus récente
+     */
+    private final Map<String, Deque<Instant>> attempts = new ConcurrentHashMap<>();
+
+    private Clock clock = Clock.systemUTC();
+
+    /**
+     * Enregistrer une tentative de connexion ; si la limite est atteinte pour l'email ou l'adresse IP,
+     * la tentative n'est pas comptée et le délai avant la prochaine tentative possible est renvoyé
+     */
+    public Optional<Duration> tryAcquire(String email, String remoteAddress) {
+        Instant now = clock.instant();
+        Deque<Instant> emailAttempts = attempts.computeIfAbsent(emailKey(email), key -> new ArrayDeque<>());
+        Deque<Instant> ipAttempts = attempts.computeIfAbsent("ip:" + remoteAddress, key -> new ArrayDeque<>());
+        // Toujours l'email puis l'IP : pas d'interblocage entre deux tentatives concurrentes
+        synchronized (emailAttempts) {
+            synchronized (ipAttempts) {
+                Optional<Duration> retryAfter = retryAfter(emailAttempts, maxAttemptsPerEmail, now)
+                        .or(() -> retryAfter(ipAttempts, maxAttemptsPerIp, now));
+                if (retryAfter.isEmpty()) {
+                    emailAttempts.addLast(now);
+                    ipAttempts.addLast(now);
+                }
+                return retryAfter;
+            }
+        }
+    }
+
+    /**
+     * Connexion réussie : les échecs précédents ne comptent plus pour cet email
+     */
+    public void onSuccess(String email) {
+        attempts.remove(emailKey(email));
+    }
+
+    /**
+     * Retirer les compteurs sans tentative dans la fenêtre
+     */
+    @Scheduled(fixedDelayString = "${pmt.security.login.purge-interval-ms:60000}")
+    public void purgeExpiredAttempts() {
+        Instant threshold = clock.instant().minus(window);
+        attempts.entrySet().removeIf(entry -> {
+            Deque<Instant> deque = entry.getValue();
+            synchronized (deque) {
+                return deque.isEmpty() || !deque.peekLast().isAfter(threshold);
+            }
+        });
+    }
+
+    public int getTrackedKeyCount() {
+        return attempts.size();
+    }
+
+    void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    private Optional<Duration> retryAfter(Deque<Instant> deque, int maxAttempts, Instant now) {
+        Instant threshold = now.minus(window);
+        while (!deque.isEmpty() && !deque.peekFirst().isAfter(threshold)) {
+            deque.pollFirst();
+        }
+        if (deque.size() < maxAttempts) {
+            return Optional.empty();
+        }
+        // Une place se libère quand la plus ancienne tentative sort de la fenêtre
+        return Optional.of(Duration.between(threshold, deque.peekFirst()));
+    }
+
+    private static String emailKey(String email) {
+        return "email:" + (email == null ? "" : email.trim().toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,19 @@
+package com.codesolutions.pmt.service;
+
+import com.codesolutions.pmt.entity.Notification;
+
+/**
+ * Événement publié à la création d'une notification, diffusé aux flux SSE après le commit
+ */
+public class NotificationCreatedEvent {
+
+    private final Notification notification;
+
+    public NotificationCreatedEvent(Notification notification) {
+        this.notification = notification;
+    }
+
+    public Notification getNotification() {
+        return notification;
+    }
+}
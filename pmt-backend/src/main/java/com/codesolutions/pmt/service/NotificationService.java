@@ -9,15 +9,19 @@ import com.codesolutions.pmt.repository.NotificationRepository;
 import com.codesolutions.pmt.repository.UserRepository;
 import com.codesolutions.pmt.repository.ProjectRepository;
 import com.codesolutions.pmt.repository.TaskRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Service
 @Transactional
+@Timed(value = "pmt.service", histogram = true)
 public class NotificationService {
 
     @Autowired
@@ -32,6 +36,12 @@ public class NotificationService {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private UnreadCountCache unreadCountCache;
+
     /**
      * Récupérer toutes les notifications
      */
@@ -103,7 +113,13 @@ public class NotificationService {
                                                    notificationCreateDTO.getMessage(), notificationCreateDTO.getType(),
                                                    relatedEntityType, relatedEntityId);
 
-        return notificationRepository.save(notification);
+        Notification savedNotification = notificationRepository.save(notification);
+        if (user != null) {
+            unreadCountCache.adjust(user.getId(), 1);
+        }
+        // Diffusé aux flux SSE après le commit (voir NotificationStreamService)
+        eventPublisher.publishEvent(new NotificationCreatedEvent(savedNotification));
+        return savedNotification;
     }
 
     /**
@@ -111,19 +127,38 @@ public class NotificationService {
      */
     public Notification markAsRead(Long id) {
         Notification notification = getNotificationById(id);
+        boolean wasUnread = !Boolean.TRUE.equals(notification.getIsRead());
         notification.setIsRead(true);
-        return notificationRepository.save(notification);
+        Notification savedNotification = notificationRepository.save(notification);
+        if (wasUnread && notification.getUser() != null) {
+            unreadCountCache.adjust(notification.getUser().getId(), -1);
+        }
+        return savedNotification;
     }
 
     /**
      * Marquer toutes les notifications d'un utilisateur comme lues
+     * @return le nombre de notifications modifiées
      */
-    public void markAllAsRead(Long userId) {
-        List<Notification> unreadNotifications = getUnreadNotificationsByUser(userId);
-        for (Notification notification : unreadNotifications) {
-            notification.setIsRead(true);
+    public int markAllAsRead(Long userId) {
+        int updated = notificationRepository.markAllAsReadByUserId(userId);
+        unreadCountCache.set(userId, 0);
+        return updated;
+    }
+
+    /**
+     * Marquer un lot de notifications d'un utilisateur comme lues
+     * @return le nombre de notifications modifiées (celles déjà lues ou d'un autre utilisateur sont ignorées)
+     */
+    public int markAsRead(Long userId, Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        int updated = notificationRepository.markAsReadByUserIdAndIds(userId, ids);
+        if (updated > 0) {
+            unreadCountCache.adjust(userId, -updated);
         }
-        notificationRepository.saveAll(unreadNotifications);
+        return updated;
     }
 
     /**
@@ -132,21 +167,26 @@ public class NotificationService {
     public void deleteNotification(Long id) {
         Notification notification = getNotificationById(id);
         notificationRepository.delete(notification);
+        if (!Boolean.TRUE.equals(notification.getIsRead()) && notification.getUser() != null) {
+            unreadCountCache.adjust(notification.getUser().getId(), -1);
+        }
     }
 
     /**
      * Supprimer toutes les notifications d'un utilisateur
+     * @return le nombre de notifications supprimées
      */
-    public void deleteAllNotificationsByUser(Long userId) {
-        List<Notification> notifications = getNotificationsByUser(userId);
-        notificationRepository.deleteAll(notifications);
+    public int deleteAllNotificationsByUser(Long userId) {
+        int deleted = notificationRepository.deleteAllByUserId(userId);
+        unreadCountCache.set(userId, 0);
+        return deleted;
     }
 
     /**
-     * Compter les notifications non lues d'un utilisateur
+     * Compter les notifications non lues d'un utilisateur (servi par le cache, base en cas d'absence)
      */
     public long getUnreadCount(Long userId) {
-        return notificationRepository.countByUserIdAndIsReadFalse(userId);
+        return unreadCountCache.get(userId, () -> notificationRepository.countByUserIdAndIsReadFalse(userId));
     }
 
     /**
@@ -0,0 +1,254 @@
+package com.codesolutions.pmt.service;
+
+import com.codesolutions.pmt.dto.NotificationDTO;
+import com.codesolutions.pmt.entity.Notification;
+import com.codesolutions.pmt.repository.NotificationRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Diffusion des notifications en Server-Sent Events.
+ * Les émetteurs sont asynchrones (Servlet async) : une connexion inactive n'occupe aucun thread.
+ * Les écritures (notifications, battements de cœur) passent par une file par connexion, vidée sur un thread virtuel :
+ * un client lent ne retarde que ses propres événements, ni les autres connexions, ni la requête qui a créé
+ * la notification, ni le planificateur.
+ */
+@Service
+public class NotificationStreamService {
+
+    public static final String EVENT_NAME = "notification";
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Value("${pmt.notifications.stream.timeout-ms:1800000}")
+    private long timeoutMillis;
+
+    @Value("${pmt.notifications.stream.max-replay:100}")
+    private int maxReplay;
+
+    private final Map<Long, Set<Connection>> connectionsByUser = new ConcurrentHashMap<>();
+
+    private Executor sender = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("pmt-sse-", 0).factory());
+
+    /**
+     * Ouvrir un flux pour un utilisateur, en rejouant les notifications postérieures à lastEventId
+     */
+    @Transactional(readOnly = true)
+    public SseEmitter subscribe(Long userId, String lastEventId) {
+        SseEmitter emitter = newEmitter();
+        Connection connection = register(userId, emitter);
+
+        // Enregistré avant le rejeu : une notification créée entre-temps peut arriver en double, jamais se perdre
+        Long afterId = parseEventId(lastEventId);
+        if (afterId != null) {
+            List<Notification> missed = notificationRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(
+                    userId, afterId, PageRequest.of(0, maxReplay));
+            for (Notification notification : missed) {
+                connection.enqueue(event(notification));
+            }
+        }
+        return emitter;
+    }
+
+    /**
+     * Diffuser une notification après le commit de la transaction qui l'a créée
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationCreated(NotificationCreatedEvent event) {
+        Notification notification = event.getNotification();
+        if (notification.getUser() == null) {
+            return;
+        }
+        Set<Connection> connections = connectionsByUser.get(notification.getUser().getId());
+        if (connections == null) {
+            return;
+        }
+        // Un événement par connexion : le contenu d'un SseEventBuilder est consommé à l'envoi
+        for (Connection connection : connections) {
+            connection.enqueue(event(notification));
+        }
+    }
+
+    /**
+     * Envoyer un commentaire périodique pour garder les connexions ouvertes à travers les proxies
+     */
+    @Scheduled(fixedRateString = "${pmt.notifications.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        connectionsByUser.values().forEach(connections -> connections.forEach(Connection::heartbeat));
+    }
+
+    /**
+     * Nombre de flux ouverts
+     */
+    public int getConnectionCount() {
+        return connectionsByUser.values().stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * Nombre de flux ouverts pour un utilisateur
+     */
+    public int getConnectionCount(Long userId) {
+        Set<Connection> connections = connectionsByUser.get(userId);
+        return connections != null ? connections.size() : 0;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (sender instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    void setSender(Executor sender) {
+        this.sender = sender;
+    }
+
+    private Connection register(Long userId, SseEmitter emitter) {
+        Connection connection = new Connection(userId, emitter);
+        connectionsByUser.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(connection);
+        emitter.onCompletion(connection::close);
+        emitter.onTimeout(connection::close);
+        emitter.onError(e -> connection.close());
+        return connection;
+    }
+
+    private void remove(Connection connection) {
+        connectionsByUser.computeIfPresent(connection.userId, (id, connections) -> {
+            connections.remove(connection);
+            return connections.isEmpty() ? null : connections;
+        });
+    }
+
+    private static SseEmitter.SseEventBuilder event(Notification notification) {
+        return SseEmitter.event()
+                .id(String.valueOf(notification.getId()))
+                .name(EVENT_NAME)
+                .data(toDTO(notification));
+    }
+
+    /**
+     * Flux d'un client : événements envoyés dans l'ordre, par un seul thread à la fois
+     */
+    private final class Connection {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Connection(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            pending.add(event);
+            drainLater();
+        }
+
+        /**
+         * Inutile si une écriture est en cours ou en attente : la connexion est active, ou bloquée par un client lent
+         * auquel il ne sert à rien d'empiler des battements de cœur
+         */
+        void heartbeat() {
+            if (!draining.get() && pending.isEmpty()) {
+                enqueue(SseEmitter.event().comment("heartbeat"));
+            }
+        }
+
+        void close() {
+            closed = true;
+            pending.clear();
+            remove(this);
+        }
+
+        private void drainLater() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // Arrêt de l'application
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            SseEmitter.SseEventBuilder event;
+            while (!closed && (event = pending.poll()) != null) {
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    // Client déconnecté : il reprendra via Last-Event-ID
+                    close();
+                }
+            }
+            draining.set(false);
+            // Événement ajouté après la dernière lecture de la file, avant la libération
+            if (!closed && !pending.isEmpty()) {
+                drainLater();
+            }
+        }
+    }
+
+    private static Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Conversion légère : les noms de projet/tâche restent disponibles via l'API REST
+     */
+    private static NotificationDTO toDTO(Notification notification) {
+        NotificationDTO dto = new NotificationDTO();
+        dto.setId(notification.getId());
+        dto.setTitle(notification.getTitle());
+        dto.setMessage(notification.getMessage());
+        dto.setType(notification.getType());
+        dto.setRead(Boolean.TRUE.equals(notification.getIsRead()));
+        dto.setCreatedAt(notification.getCreatedAt());
+        dto.setUserId(notification.getUser().getId());
+        if ("PROJECT".equals(notification.getRelatedEntityType())) {
+            dto.setProjectId(notification.getRelatedEntityId());
+        } else if ("TASK".equals(notification.getRelatedEntityType())) {
+            dto.setTaskId(notification.getRelatedEntityId());
+        }
+        return dto;
+    }
+}
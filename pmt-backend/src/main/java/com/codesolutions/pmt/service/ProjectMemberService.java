@@ -8,7 +8,8 @@ import com.codesolutions.pmt.entity.Role;
 import com.codesolutions.pmt.repository.ProjectMemberRepository;
 import com.codesolutions.pmt.repository.ProjectRepository;
 import com.codesolutions.pmt.repository.UserRepository;
-import com.codesolutions.pmt.repository.RoleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +22,8 @@ import java.util.Optional;
 @Transactional
 public class ProjectMemberService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ProjectMemberService.class);
+
     @Autowired
     private ProjectMemberRepository projectMemberRepository;
 
@@ -31,7 +34,7 @@ public class ProjectMemberService {
     private UserRepository userRepository;
 
     @Autowired
-    private RoleRepository roleRepository;
+    private ReferenceDataCache referenceDataCache;
 
     /**
      * Récupérer tous les membres de projet
@@ -53,12 +56,11 @@ public class ProjectMemberService {
      */
     public List<ProjectMember> getMembersByProject(Long projectId) {
         List<ProjectMember> members = projectMemberRepository.findByProjectIdWithRelations(projectId);
-        System.out.println("ProjectMemberService.getMembersByProject(" + projectId + ") - Nombre de membres trouvés: " + members.size());
-        members.forEach(member -> {
-            System.out.println("  - Membre: " + member.getUser().getUsername() + 
-                             " (Rôle: " + (member.getRole() != null ? member.getRole().getName() : "NULL") + 
-                             ", RoleId: " + (member.getRole() != null ? member.getRole().getId() : "NULL") + ")");
-        });
+        logger.debug("Projet {} : {} membre(s)", projectId, members.size());
+        if (logger.isTraceEnabled()) {
+            members.forEach(member -> logger.trace("Membre {} (rôle: {})", member.getUser().getUsername(),
+                    member.getRole() != null ? member.getRole().getName() : null));
+        }
         return members;
     }
 
@@ -103,12 +105,12 @@ public class ProjectMemberService {
 
         // Associer le rôle
         if (memberCreateDTO.getRoleId() != null) {
-            Role role = roleRepository.findById(memberCreateDTO.getRoleId())
+            Role role = referenceDataCache.findRoleById(memberCreateDTO.getRoleId())
                     .orElseThrow(() -> new RuntimeException("Rôle non trouvé avec l'ID: " + memberCreateDTO.getRoleId()));
             member.setRole(role);
         } else {
             // Rôle par défaut (membre)
-            Role defaultRole = roleRepository.findByName("MEMBER")
+            Role defaultRole = referenceDataCache.findRoleByName("MEMBER")
                     .orElseThrow(() -> new RuntimeException("Rôle par défaut 'MEMBER' non trouvé"));
             member.setRole(defaultRole);
         }
@@ -122,7 +124,7 @@ public class ProjectMemberService {
     public ProjectMember updateMemberRole(Long memberId, Integer roleId) {
         ProjectMember member = getProjectMemberById(memberId);
         
-        Role role = roleRepository.findById(roleId)
+        Role role = referenceDataCache.findRoleById(roleId)
                 .orElseThrow(() -> new RuntimeException("Rôle non trouvé avec l'ID: " + roleId));
         
         member.setRole(role);
@@ -6,20 +6,28 @@ import com.codesolutions.pmt.entity.Project;
 import com.codesolutions.pmt.entity.ProjectMember;
 import com.codesolutions.pmt.entity.Role;
 import com.codesolutions.pmt.entity.User;
+import com.codesolutions.pmt.repository.ProjectMemberRepository;
 import com.codesolutions.pmt.repository.ProjectRepository;
-import com.codesolutions.pmt.repository.RoleRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
+@Timed(value = "pmt.service", histogram = true)
 public class ProjectService {
     
     @Autowired
@@ -29,7 +37,10 @@ public class ProjectService {
     private UserService userService;
     
     @Autowired
-    private RoleRepository roleRepository;
+    private ReferenceDataCache referenceDataCache;
+    
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
     
     /**
      * Crée un nouveau projet
@@ -64,64 +75,116 @@ public class ProjectService {
      * Trouve tous les projets
      */
     public List<ProjectDTO> findAll() {
-        return projectRepository.findAll().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return findAll(false);
+    }
+    
+    /**
+     * Trouve tous les projets, avec ou sans la liste des membres
+     */
+    public List<ProjectDTO> findAll(boolean includeMembers) {
+        return convertToDtos(projectRepository.findAll(), includeMembers);
     }
     
     /**
      * Trouve les projets avec pagination
      */
     public Page<ProjectDTO> findAll(Pageable pageable) {
-        return projectRepository.findAll(pageable)
-                .map(this::convertToDto);
+        return findAll(pageable, false);
+    }
+    
+    /**
+     * Trouve les projets avec pagination, avec ou sans la liste des membres
+     */
+    public Page<ProjectDTO> findAll(Pageable pageable, boolean includeMembers) {
+        Page<Project> page = projectRepository.findAll(pageable);
+        List<ProjectDTO> dtos = convertToDtos(page.getContent(), includeMembers);
+        return new PageImpl<>(dtos, pageable, page.getTotalElements());
     }
     
     /**
      * Trouve les projets par nom (recherche partielle)
      */
     public List<ProjectDTO> findByNameContaining(String name) {
-        return projectRepository.findByNameContainingIgnoreCase(name).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return findByNameContaining(name, false);
+    }
+    
+    /**
+     * Trouve les projets par nom (recherche partielle), avec ou sans la liste des membres
+     */
+    public List<ProjectDTO> findByNameContaining(String name, boolean includeMembers) {
+        return convertToDtos(projectRepository.findByNameContainingIgnoreCase(name), includeMembers);
     }
     
     /**
      * Trouve les projets créés par un utilisateur
      */
     public List<ProjectDTO> findByCreatedBy(Long userId) {
+        return findByCreatedBy(userId, false);
+    }
+    
+    /**
+     * Trouve les projets créés par un utilisateur, avec ou sans la liste des membres
+     */
+    public List<ProjectDTO> findByCreatedBy(Long userId, boolean includeMembers) {
         User user = userService.findUserEntityById(userId);
-        return projectRepository.findByCreatedBy(user).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return convertToDtos(projectRepository.findByCreatedBy(user), includeMembers);
     }
     
     /**
      * Trouve les projets où un utilisateur est membre
      */
     public List<ProjectDTO> findProjectsByUserId(Long userId) {
-        return projectRepository.findProjectsByUserId(userId).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return findProjectsByUserId(userId, false);
+    }
+    
+    /**
+     * Trouve les projets où un utilisateur est membre, avec ou sans la liste des membres
+     */
+    public List<ProjectDTO> findProjectsByUserId(Long userId, boolean includeMembers) {
+        return convertToDtos(projectRepository.findProjectsByUserId(userId), includeMembers);
+    }
+    
+    /**
+     * Trouve les projets les plus récents où un utilisateur est membre, avec leurs compteurs (sans les membres)
+     */
+    public List<ProjectDTO> findRecentProjectsByUserId(Long userId, int limit) {
+        return convertToDtos(projectRepository.findRecentProjectsByUserId(userId, PageRequest.of(0, limit)), false);
+    }
+    
+    /**
+     * Compte les projets où un utilisateur est membre
+     */
+    public long countProjectsByUserId(Long userId) {
+        return projectRepository.countProjectsByUserId(userId);
     }
     
     /**
      * Trouve les projets où un utilisateur a un rôle spécifique
      */
     public List<ProjectDTO> findProjectsByUserIdAndRole(Long userId, String roleName) {
-        return projectRepository.findProjectsByUserIdAndRole(userId, roleName).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return findProjectsByUserIdAndRole(userId, roleName, false);
+    }
+    
+    /**
+     * Trouve les projets où un utilisateur a un rôle spécifique, avec ou sans la liste des membres
+     */
+    public List<ProjectDTO> findProjectsByUserIdAndRole(Long userId, String roleName, boolean includeMembers) {
+        return convertToDtos(projectRepository.findProjectsByUserIdAndRole(userId, roleName), includeMembers);
     }
     
     /**
      * Trouve les projets récents (créés dans les 30 derniers jours)
      */
     public List<ProjectDTO> findRecentProjects() {
+        return findRecentProjects(false);
+    }
+    
+    /**
+     * Trouve les projets récents (créés dans les 30 derniers jours), avec ou sans la liste des membres
+     */
+    public List<ProjectDTO> findRecentProjects(boolean includeMembers) {
         LocalDate thirtyDaysAgo = LocalDate.now().minusDays(30);
-        return projectRepository.findRecentProjects(thirtyDaysAgo).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return convertToDtos(projectRepository.findRecentProjects(thirtyDaysAgo), includeMembers);
     }
     
     /**
@@ -158,7 +221,7 @@ public class ProjectService {
         
         User user = userService.findUserEntityById(userId);
         
-        Role role = roleRepository.findByName(roleName)
+        Role role = referenceDataCache.findRoleByName(roleName)
                 .orElseThrow(() -> new RuntimeException("Rôle non trouvé: " + roleName));
         
         // Vérifier si l'utilisateur est déjà membre du projet
@@ -200,7 +263,7 @@ public class ProjectService {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new RuntimeException("Projet non trouvé avec l'ID: " + projectId));
         
-        Role newRole = roleRepository.findByName(newRoleName)
+        Role newRole = referenceDataCache.findRoleByName(newRoleName)
                 .orElseThrow(() -> new RuntimeException("Rôle non trouvé: " + newRoleName));
         
         ProjectMember member = project.getMembers().stream()
@@ -215,31 +278,72 @@ public class ProjectService {
     }
     
     /**
-     * Convertit une entité Project en DTO
+     * Convertit une entité Project en DTO (avec les membres)
      */
     private ProjectDTO convertToDto(Project project) {
-        ProjectDTO dto = new ProjectDTO(
-                project.getId(),
-                project.getName(),
-                project.getDescription(),
-                project.getStartDate(),
-                project.getCreatedBy().getId(),
-                project.getCreatedBy().getUsername(),
-                project.getCreatedAt(),
-                project.getUpdatedAt()
-        );
-        
-        // Ajouter les statistiques
-        dto.setTaskCount((long) project.getTasks().size());
-        dto.setMemberCount((long) project.getMembers().size());
+        return convertToDtos(List.of(project), true).get(0);
+    }
+    
+    /**
+     * Convertit une liste de projets en DTO.
+     * Les compteurs viennent de requêtes groupées (une pour les tâches, une pour les membres)
+     * au lieu d'initialiser les collections tasks/members de chaque projet.
+     */
+    private List<ProjectDTO> convertToDtos(List<Project> projects, boolean includeMembers) {
+        if (projects.isEmpty()) {
+            return new ArrayList<>();
+        }
         
-        // Ajouter les membres
-        List<ProjectMemberDTO> memberDtos = project.getMembers().stream()
-                .map(this::convertToMemberDto)
+        List<Long> projectIds = projects.stream()
+                .map(Project::getId)
                 .collect(Collectors.toList());
-        dto.setMembers(memberDtos);
         
-        return dto;
+        Map<Long, Long> taskCounts = toCountMap(projectRepository.countTasksByProjectIds(projectIds));
+        Map<Long, Long> memberCounts = toCountMap(projectRepository.countMembersByProjectIds(projectIds));
+        
+        Map<Long, List<ProjectMemberDTO>> membersByProject = Collections.emptyMap();
+        if (includeMembers) {
+            membersByProject = projectMemberRepository.findByProjectIdInWithRelations(projectIds).stream()
+                    .collect(Collectors.groupingBy(member -> member.getProject().getId(),
+                            Collectors.mapping(this::convertToMemberDto, Collectors.toList())));
+        }
+        
+        List<ProjectDTO> dtos = new ArrayList<>(projects.size());
+        for (Project project : projects) {
+            ProjectDTO dto = new ProjectDTO(
+                    project.getId(),
+                    project.getName(),
+                    project.getDescription(),
+                    project.getStartDate(),
+                    project.getCreatedBy().getId(),
+                    project.getCreatedBy().getUsername(),
+                    project.getCreatedAt(),
+                    project.getUpdatedAt()
+            );
+            
+            // Ajouter les statistiques
+            dto.setTaskCount(taskCounts.getOrDefault(project.getId(), 0L));
+            dto.setMemberCount(memberCounts.getOrDefault(project.getId(), 0L));
+            
+            // Ajouter les membres si demandé
+            if (includeMembers) {
+                dto.setMembers(membersByProject.getOrDefault(project.getId(), new ArrayList<>()));
+            }
+            
+            dtos.add(dto);
+        }
+        return dtos;
+    }
+    
+    /**
+     * Transforme les lignes [projectId, count] d'une requête groupée en map
+     */
+    private Map<Long, Long> toCountMap(List<Object[]> rows) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((Long) row[0], (Long) row[1]);
+        }
+        return counts;
     }
     
     /**
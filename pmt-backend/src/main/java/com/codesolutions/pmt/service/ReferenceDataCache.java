@@ -0,0 +1,226 @@
+package com.codesolutions.pmt.service;
+
+import com.codesolutions.pmt.entity.Role;
+import com.codesolutions.pmt.entity.TaskStatus;
+import com.codesolutions.pmt.entity.TaskStatusEnum;
+import com.codesolutions.pmt.repository.RoleRepository;
+import com.codesolutions.pmt.repository.TaskStatusRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache en mémoire des tables de référence (statuts de tâche, rôles).
+ * Les tables sont chargées en entier dans un instantané immuable, remplacé d'un bloc au rafraîchissement ;
+ * les entités renvoyées sont détachées et ne doivent pas être modifiées.
+ */
+@Component
+public class ReferenceDataCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceDataCache.class);
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    /**
+     * Durée de vie de l'instantané : couvre les lignes ajoutées hors application (script SQL, autre instance)
+     */
+    @Value("${pmt.reference-data.ttl:PT10M}")
+    private Duration ttl = Duration.ofMinutes(10);
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Incrémenté à chaque invalidation : un chargement concurrent ne doit pas réinstaller des données antérieures
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder loads = new LongAdder();
+
+    /**
+     * Précharger les tables au démarrage ; en cas d'échec, elles seront chargées au premier accès
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        try {
+            refresh();
+        } catch (DataAccessException e) {
+            logger.warn("Préchargement des tables de référence impossible : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Recharger les tables immédiatement
+     */
+    public synchronized void refresh() {
+        load();
+    }
+
+    private Snapshot load() {
+        long loadedGeneration = generation.get();
+        List<TaskStatus> statuses = taskStatusRepository.findAll();
+        List<Role> roles = roleRepository.findAll();
+        Snapshot loaded = new Snapshot(statuses, roles, System.nanoTime() + ttl.toNanos());
+        loads.increment();
+        if (generation.get() == loadedGeneration) {
+            snapshot = loaded;
+        }
+        return loaded;
+    }
+
+    /**
+     * Oublier l'instantané après le commit de la transaction courante ; il sera rechargé au prochain accès
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear();
+                }
+            });
+        } else {
+            clear();
+        }
+    }
+
+    private void clear() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    /**
+     * Trouver un statut par son nom
+     */
+    public Optional<TaskStatus> findTaskStatusByName(String name) {
+        return Optional.ofNullable(current().statusesByName.get(name));
+    }
+
+    /**
+     * Trouver un statut par son ID
+     */
+    public Optional<TaskStatus> findTaskStatusById(Integer id) {
+        return Optional.ofNullable(current().statusesById.get(id));
+    }
+
+    /**
+     * Trouver le statut correspondant à une valeur de TaskStatusEnum
+     */
+    public Optional<TaskStatus> findTaskStatus(TaskStatusEnum statusEnum) {
+        return Optional.ofNullable(current().statusesByEnum.get(statusEnum));
+    }
+
+    /**
+     * Récupérer tous les statuts
+     */
+    public List<TaskStatus> getTaskStatuses() {
+        return current().statuses;
+    }
+
+    /**
+     * Trouver un rôle par son nom
+     */
+    public Optional<Role> findRoleByName(String name) {
+        return Optional.ofNullable(current().rolesByName.get(name));
+    }
+
+    /**
+     * Trouver un rôle par son ID
+     */
+    public Optional<Role> findRoleById(Integer id) {
+        return Optional.ofNullable(current().rolesById.get(id));
+    }
+
+    /**
+     * Récupérer tous les rôles
+     */
+    public List<Role> getRoles() {
+        return current().roles;
+    }
+
+    /**
+     * Nombre de chargements depuis la base
+     */
+    public long getLoadCount() {
+        return loads.sum();
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null || current.isExpired(System.nanoTime())) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null || current.isExpired(System.nanoTime())) {
+                    current = load();
+                }
+            }
+        }
+        return current;
+    }
+
+    private static final class Snapshot {
+        private final List<TaskStatus> statuses;
+        private final Map<String, TaskStatus> statusesByName;
+        private final Map<Integer, TaskStatus> statusesById;
+        private final Map<TaskStatusEnum, TaskStatus> statusesByEnum;
+        private final List<Role> roles;
+        private final Map<String, Role> rolesByName;
+        private final Map<Integer, Role> rolesById;
+        private final long expiresAt;
+
+        private Snapshot(List<TaskStatus> statuses, List<Role> roles, long expiresAt) {
+            this.statuses = List.copyOf(statuses);
+            this.roles = List.copyOf(roles);
+            this.expiresAt = expiresAt;
+
+            Map<String, TaskStatus> byName = new HashMap<>();
+            Map<Integer, TaskStatus> byId = new HashMap<>();
+            Map<TaskStatusEnum, TaskStatus> byEnum = new EnumMap<>(TaskStatusEnum.class);
+            for (TaskStatus status : statuses) {
+                byName.put(status.getName(), status);
+                byId.put(status.getId(), status);
+                for (TaskStatusEnum value : TaskStatusEnum.values()) {
+                    if (value.name().equals(status.getName())) {
+                        byEnum.put(value, status);
+                    }
+                }
+            }
+            this.statusesByName = Map.copyOf(byName);
+            this.statusesById = Map.copyOf(byId);
+            this.statusesByEnum = Collections.unmodifiableMap(byEnum);
+
+            Map<String, Role> rolesByName = new HashMap<>();
+            Map<Integer, Role> rolesById = new HashMap<>();
+            for (Role role : roles) {
+                rolesByName.put(role.getName(), role);
+                rolesById.put(role.getId(), role);
+            }
+            this.rolesByName = Map.copyOf(rolesByName);
+            this.rolesById = Map.copyOf(rolesById);
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt > 0;
+        }
+    }
+}
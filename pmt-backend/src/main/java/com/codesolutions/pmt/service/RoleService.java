@@ -2,6 +2,8 @@ package com.codesolutions.pmt.service;
 
 import com.codesolutions.pmt.entity.Role;
 import com.codesolutions.pmt.repository.RoleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -11,6 +13,8 @@ import java.util.Optional;
 @Service
 public class RoleService {
 
+    private static final Logger logger = LoggerFactory.getLogger(RoleService.class);
+
     @Autowired
     private RoleRepository roleRepository;
 
@@ -19,8 +23,7 @@ public class RoleService {
      */
     public List<Role> getAllRoles() {
         List<Role> roles = roleRepository.findAll();
-        System.out.println("RoleService.getAllRoles() - Nombre de rôles trouvés: " + roles.size());
-        roles.forEach(role -> System.out.println("  - Rôle: " + role.getName() + " (ID: " + role.getId() + ")"));
+        logger.debug("{} rôle(s) trouvé(s)", roles.size());
         return roles;
     }
 
@@ -29,10 +32,8 @@ public class RoleService {
      */
     public Role getRoleById(Integer id) {
         Optional<Role> role = roleRepository.findById(id);
-        if (role.isPresent()) {
-            System.out.println("RoleService.getRoleById(" + id + ") - Rôle trouvé: " + role.get().getName());
-        } else {
-            System.out.println("RoleService.getRoleById(" + id + ") - Rôle non trouvé");
+        if (role.isEmpty()) {
+            logger.debug("Rôle non trouvé avec l'ID: {}", id);
         }
         return role.orElse(null);
     }
@@ -42,10 +43,8 @@ public class RoleService {
      */
     public Role getRoleByName(String name) {
         Optional<Role> role = roleRepository.findByName(name);
-        if (role.isPresent()) {
-            System.out.println("RoleService.getRoleByName(" + name + ") - Rôle trouvé: " + role.get().getName() + " (ID: " + role.get().getId() + ")");
-        } else {
-            System.out.println("RoleService.getRoleByName(" + name + ") - Rôle non trouvé");
+        if (role.isEmpty()) {
+            logger.debug("Rôle non trouvé avec le nom: {}", name);
         }
         return role.orElse(null);
     }
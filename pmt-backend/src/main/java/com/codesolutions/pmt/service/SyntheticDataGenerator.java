@@ -0,0 +1,460 @@
+package com.codesolutions.pmt.service;
+
+import com.codesolutions.pmt.entity.Task;
+import com.codesolutions.pmt.entity.TaskStatusEnum;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Générateur de données de charge : utilisateurs, projets, membres, tâches, historique et notifications
+ * à l'échelle demandée, avec une répartition réaliste (quelques très gros projets, assignés et utilisateurs
+ * actifs selon une loi de Zipf). Insertions multi-lignes par lots ; même graine, mêmes données.
+ * Les lignes s'ajoutent aux données existantes (noms préfixés par la graine).
+ */
+@Service
+public class SyntheticDataGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    /**
+     * Limite de paramètres d'une requête préparée MySQL
+     */
+    private static final int MAX_PARAMETERS = 65_535;
+
+    private static final String[] HISTORY_ACTIONS = {
+            "STATUS_CHANGED", "ASSIGNED", "PRIORITY_CHANGED", "DUE_DATE_CHANGED", "TITLE_CHANGED"};
+    private static final String[] NOTIFICATION_TYPES = {"TASK_ASSIGNED", "TASK_STATUS_CHANGED", "PROJECT_MEMBER_ADDED"};
+    // TODO, IN_PROGRESS, REVIEW, DONE, CANCELLED
+    private static final double[] STATUS_WEIGHTS = {0.30, 0.20, 0.10, 0.35, 0.05};
+    // LOW, MEDIUM, HIGH, URGENT
+    private static final double[] PRIORITY_WEIGHTS = {0.20, 0.50, 0.22, 0.08};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Value("${pmt.datagen.users:1000}")
+    private long users = 1000;
+
+    @Value("${pmt.datagen.projects:100}")
+    private long projects = 100;
+
+    @Value("${pmt.datagen.tasks:100000}")
+    private long tasks = 100_000;
+
+    @Value("${pmt.datagen.history:1000000}")
+    private long history = 1_000_000;
+
+    @Value("${pmt.datagen.notifications:100000}")
+    private long notifications = 100_000;
+
+    @Value("${pmt.datagen.seed:42}")
+    private long seed = 42;
+
+    @Value("${pmt.datagen.batch-size:1000}")
+    private int batchSize = 1000;
+
+    /**
+     * Exposant de la loi de Zipf : 0 répartition uniforme, au-delà de 1 quelques projets et utilisateurs concentrent l'activité
+     */
+    @Value("${pmt.datagen.zipf-exponent:1.1}")
+    private double zipfExponent = 1.1;
+
+    @Value("${pmt.datagen.max-members-per-project:500}")
+    private int maxMembersPerProject = 500;
+
+    /**
+     * Date de référence des dates générées (fixe pour que les données soient reproductibles)
+     */
+    @Value("${pmt.datagen.base-date:2025-01-01}")
+    private LocalDate baseDate = LocalDate.of(2025, 1, 1);
+
+    /**
+     * Mot de passe commun des utilisateurs générés (connexion des tests de charge)
+     */
+    @Value("${pmt.datagen.password:password123}")
+    private String password = "password123";
+
+    /**
+     * Générer les volumes configurés (pmt.datagen.*)
+     */
+    public GenerationReport generate() {
+        return generate(new Scale(users, projects, tasks, history, notifications, seed));
+    }
+
+    public GenerationReport generate(Scale scale) {
+        if (scale.users() < 1 || scale.projects() < 1 || scale.users() > Integer.MAX_VALUE || scale.projects() > Integer.MAX_VALUE
+                || scale.tasks() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Volumes invalides: " + scale);
+        }
+        String prefix = "load" + scale.seed();
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) > 0 FROM users WHERE username = ?", Boolean.class, prefix + "-u0"))) {
+            throw new RuntimeException("Données déjà générées avec la graine " + scale.seed());
+        }
+        long start = System.nanoTime();
+        logger.info("Génération de données (graine {}) : {}", scale.seed(), scale);
+
+        SplittableRandom random = new SplittableRandom(scale.seed());
+        Map<String, Long> statusIds = referenceIds("task_status", Arrays.stream(TaskStatusEnum.values()).map(Enum::name).toList());
+        Map<String, Long> roleIds = referenceIds("roles", List.of("ADMIN", "MEMBER", "OBSERVER"));
+        int userCount = (int) scale.users();
+        int projectCount = (int) scale.projects();
+        Zipf userPopularity = new Zipf(userCount, zipfExponent);
+        Zipf projectSize = new Zipf(projectCount, zipfExponent);
+
+        // Utilisateurs : un seul hachage BCrypt pour tous
+        String passwordHash = passwordEncoder.encode(password);
+        long firstUserId = insert("users", new String[]{"username", "email", "password", "created_at", "updated_at"}, userCount,
+                (i, row) -> {
+                    LocalDateTime createdAt = dateTime(random, 730);
+                    row[0] = prefix + "-u" + i;
+                    row[1] = prefix + "-u" + i + "@example.com";
+                    row[2] = passwordHash;
+                    row[3] = createdAt;
+                    row[4] = createdAt;
+                });
+
+        // Projets : le rang 0 est le plus gros ; créateur choisi parmi les utilisateurs les plus actifs
+        int[] creators = new int[projectCount];
+        long firstProjectId = insert("projects",
+                new String[]{"name", "description", "start_date", "created_by", "created_at", "updated_at"}, projectCount,
+                (i, row) -> {
+                    creators[(int) i] = userPopularity.sample(random);
+                    LocalDateTime createdAt = dateTime(random, 365);
+                    row[0] = prefix + " Projet " + i;
+                    row[1] = "Projet généré " + i + " (graine " + scale.seed() + ")";
+                    row[2] = createdAt.toLocalDate();
+                    row[3] = firstUserId + creators[(int) i];
+                    row[4] = createdAt;
+                    row[5] = createdAt;
+                });
+
+        // Membres : nombre croissant avec la taille attendue du projet, créateur administrateur
+        int[][] members = new int[projectCount][];
+        long membershipCount = 0;
+        for (int p = 0; p < projectCount; p++) {
+            double expectedTasks = scale.tasks() * projectSize.probability(p);
+            int size = (int) Math.min(Math.min(maxMembersPerProject, userCount), Math.max(2, Math.round(2 + Math.sqrt(expectedTasks))));
+            members[p] = pickMembers(creators[p], size, userCount, userPopularity, random);
+            membershipCount += members[p].length;
+        }
+        insert("project_members", new String[]{"project_id", "user_id", "role_id", "joined_at"}, membershipCount,
+                new RowWriter() {
+                    private int project;
+                    private int member;
+
+                    @Override
+                    public void write(long index, Object[] row) {
+                        while (member == members[project].length) {
+                            project++;
+                            member = 0;
+                        }
+                        row[0] = firstProjectId + project;
+                        row[1] = firstUserId + members[project][member];
+                        row[2] = member == 0 ? roleIds.get("ADMIN")
+                                : random.nextDouble() < 0.8 ? roleIds.get("MEMBER") : roleIds.get("OBSERVER");
+                        row[3] = dateTime(random, 365);
+                        member++;
+                    }
+                });
+
+        // Tâches : projet selon la loi de Zipf, assigné parmi les membres (les premiers reçoivent le plus de tâches)
+        int taskCount = (int) scale.tasks();
+        int[] taskProjects = new int[taskCount];
+        Map<Integer, Zipf> memberPopularity = new HashMap<>();
+        TaskStatusEnum[] statuses = TaskStatusEnum.values();
+        Task.Priority[] priorities = Task.Priority.values();
+        long firstTaskId = insert("tasks", new String[]{"title", "description", "status_id", "priority", "project_id",
+                        "assigned_to", "created_by", "due_date", "created_at", "updated_at"}, taskCount,
+                (i, row) -> {
+                    int project = projectSize.sample(random);
+                    taskProjects[(int) i] = project;
+                    int[] projectMembers = members[project];
+                    Zipf assignees = memberPopularity.computeIfAbsent(projectMembers.length, size -> new Zipf(size, zipfExponent));
+                    LocalDateTime createdAt = dateTime(random, 365);
+                    row[0] = "Tâche " + i;
+                    row[1] = random.nextDouble() < 0.5 ? null : "Description de la tâche " + i;
+                    row[2] = statusIds.get(statuses[weighted(random, STATUS_WEIGHTS)].name());
+                    row[3] = priorities[weighted(random, PRIORITY_WEIGHTS)].name();
+                    row[4] = firstProjectId + project;
+                    row[5] = random.nextDouble() < 0.1 ? null : firstUserId + projectMembers[assignees.sample(random)];
+                    row[6] = firstUserId + projectMembers[random.nextInt(projectMembers.length)];
+                    row[7] = random.nextDouble() < 0.2 ? null : baseDate.plusDays(random.nextInt(-90, 91));
+                    row[8] = createdAt;
+                    row[9] = createdAt.plusMinutes(random.nextInt(0, 30 * 24 * 60));
+                });
+
+        // Historique : réparti sur toutes les tâches (total exact), auteur parmi les membres du projet
+        long historyCount = taskCount == 0 ? 0 : scale.history();
+        insert("task_history", new String[]{"task_id", "user_id", "action", "old_value", "new_value", "created_at"}, historyCount,
+                new RowWriter() {
+                    private long task = -1;
+                    private long remaining;
+
+                    private long entriesFor(long taskIndex) {
+                        return (taskIndex + 1) * historyCount / taskCount - taskIndex * historyCount / taskCount;
+                    }
+
+                    @Override
+                    public void write(long index, Object[] row) {
+                        while (remaining == 0) {
+                            task++;
+                            remaining = entriesFor(task);
+                        }
+                        remaining--;
+                        int[] projectMembers = members[taskProjects[(int) task]];
+                        String action = HISTORY_ACTIONS[random.nextInt(HISTORY_ACTIONS.length)];
+                        row[0] = firstTaskId + task;
+                        row[1] = firstUserId + projectMembers[random.nextInt(projectMembers.length)];
+                        row[2] = action;
+                        if ("STATUS_CHANGED".equals(action)) {
+                            row[3] = statuses[random.nextInt(statuses.length)].name();
+                            row[4] = statuses[random.nextInt(statuses.length)].name();
+                        } else if ("PRIORITY_CHANGED".equals(action)) {
+                            row[3] = priorities[random.nextInt(priorities.length)].name();
+                            row[4] = priorities[random.nextInt(priorities.length)].name();
+                        } else {
+                            row[3] = null;
+                            row[4] = prefix + "-u" + projectMembers[random.nextInt(projectMembers.length)];
+                        }
+                        row[5] = dateTime(random, 365);
+                    }
+                });
+
+        // Notifications : destinataires selon la loi de Zipf, liées à une tâche ou un projet généré
+        long notificationCount = scale.notifications();
+        insert("notifications", new String[]{"user_id", "title", "message", "type", "is_read", "related_entity_type",
+                        "related_entity_id", "created_at"}, notificationCount,
+                (i, row) -> {
+                    String type = NOTIFICATION_TYPES[random.nextInt(NOTIFICATION_TYPES.length)];
+                    boolean project = "PROJECT_MEMBER_ADDED".equals(type) || taskCount == 0;
+                    row[0] = firstUserId + userPopularity.sample(random);
+                    row[1] = "Notification " + i;
+                    row[2] = "Notification générée " + i;
+                    row[3] = type;
+                    row[4] = random.nextDouble() < 0.7;
+                    row[5] = project ? "PROJECT" : "TASK";
+                    row[6] = project ? firstProjectId + projectSize.sample(random) : firstTaskId + random.nextInt(taskCount);
+                    row[7] = dateTime(random, 90);
+                });
+
+        Duration duration = Duration.ofNanos(System.nanoTime() - start);
+        GenerationReport report = new GenerationReport(firstUserId, userCount, firstProjectId, projectCount, membershipCount,
+                firstTaskId, taskCount, historyCount, notificationCount, duration);
+        logger.info("Génération terminée en {} s : {}", duration.toSeconds(), report);
+        return report;
+    }
+
+    /**
+     * Insérer rowCount lignes par requêtes multi-lignes sur une seule connexion ; renvoie l'ID de la première ligne.
+     * Les ID auto-incrémentés d'une insertion multi-lignes sont consécutifs, ce qui est vérifié à la fin.
+     */
+    private long insert(String table, String[] columns, long rowCount, RowWriter writer) {
+        Long maxIdBefore = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        if (rowCount == 0) {
+            return maxIdBefore + 1;
+        }
+        int rowsPerStatement = Math.max(1, Math.min(batchSize, MAX_PARAMETERS / columns.length));
+        long start = System.nanoTime();
+        long logEvery = Math.max(rowsPerStatement, rowCount / 10);
+        Object[][] rows = new Object[rowsPerStatement][columns.length];
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(true);
+            // MySQL : contrôles de clés étrangères et d'unicité suspendus pour la session, les lignes générées les respectant
+            boolean mysql = "MySQL".equals(connection.getMetaData().getDatabaseProductName());
+            if (mysql) {
+                sessionChecks(connection, false);
+            }
+            try (PreparedStatement fullBatch = connection.prepareStatement(insertSql(table, columns, rowsPerStatement))) {
+                long written = 0;
+                while (written < rowCount) {
+                    int count = (int) Math.min(rowsPerStatement, rowCount - written);
+                    for (int r = 0; r < count; r++) {
+                        writer.write(written + r, rows[r]);
+                    }
+                    if (count == rowsPerStatement) {
+                        execute(fullBatch, rows, count);
+                    } else {
+                        try (PreparedStatement lastBatch = connection.prepareStatement(insertSql(table, columns, count))) {
+                            execute(lastBatch, rows, count);
+                        }
+                    }
+                    if ((written + count) / logEvery != written / logEvery) {
+                        logger.info("{} : {}/{} lignes", table, written + count, rowCount);
+                    }
+                    written += count;
+                }
+            } finally {
+                if (mysql) {
+                    sessionChecks(connection, true);
+                }
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Erreur lors de l'insertion dans " + table, e);
+        }
+
+        Map<String, Object> range = jdbcTemplate.queryForMap(
+                "SELECT COUNT(*) AS n, MIN(id) AS first_id, MAX(id) AS last_id FROM " + table + " WHERE id > ?", maxIdBefore);
+        long firstId = ((Number) range.get("first_id")).longValue();
+        long lastId = ((Number) range.get("last_id")).longValue();
+        if (((Number) range.get("n")).longValue() != rowCount || lastId - firstId + 1 != rowCount) {
+            throw new RuntimeException("ID non consécutifs dans " + table + " (insertion concurrente ?)");
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        logger.info("{} : {} lignes en {} s ({} lignes/s)", table, rowCount, Math.round(seconds), Math.round(rowCount / seconds));
+        return firstId;
+    }
+
+    private static void sessionChecks(Connection connection, boolean enabled) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            int value = enabled ? 1 : 0;
+            statement.execute("SET foreign_key_checks = " + value + ", unique_checks = " + value);
+        }
+    }
+
+    private static void execute(PreparedStatement statement, Object[][] rows, int count) throws SQLException {
+        int parameter = 1;
+        for (int r = 0; r < count; r++) {
+            for (Object value : rows[r]) {
+                statement.setObject(parameter++, value);
+            }
+        }
+        statement.executeUpdate();
+    }
+
+    private static String insertSql(String table, String[] columns, int rowCount) {
+        String placeholders = "(" + String.join(", ", Collections.nCopies(columns.length, "?")) + ")";
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(table)
+                .append(" (").append(String.join(", ", columns)).append(") VALUES ");
+        for (int r = 0; r < rowCount; r++) {
+            sql.append(r == 0 ? "" : ", ").append(placeholders);
+        }
+        return sql.toString();
+    }
+
+    /**
+     * ID des données de référence par nom, créées si absentes (base vide générée par Hibernate)
+     */
+    private Map<String, Long> referenceIds(String table, List<String> names) {
+        Map<String, Long> ids = new HashMap<>();
+        for (String name : names) {
+            List<Long> existing = jdbcTemplate.queryForList("SELECT id FROM " + table + " WHERE name = ?", Long.class, name);
+            if (existing.isEmpty()) {
+                jdbcTemplate.update("INSERT INTO " + table + " (name) VALUES (?)", name);
+                existing = jdbcTemplate.queryForList("SELECT id FROM " + table + " WHERE name = ?", Long.class, name);
+            }
+            ids.put(name, existing.get(0));
+        }
+        return ids;
+    }
+
+    /**
+     * Membres distincts d'un projet, le créateur en premier ; les autres tirés parmi les utilisateurs actifs
+     */
+    private static int[] pickMembers(int creator, int size, int userCount, Zipf userPopularity, SplittableRandom random) {
+        Set<Integer> picked = new LinkedHashSet<>();
+        picked.add(creator);
+        int attempts = 0;
+        while (picked.size() < size && attempts++ < size * 20) {
+            picked.add(userPopularity.sample(random));
+        }
+        // Loi très concentrée : compléter avec des utilisateurs quelconques
+        while (picked.size() < size) {
+            picked.add(random.nextInt(userCount));
+        }
+        return picked.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private LocalDateTime dateTime(SplittableRandom random, int maxDaysAgo) {
+        return baseDate.atStartOfDay().minusDays(random.nextInt(maxDaysAgo + 1)).plusSeconds(random.nextInt(24 * 3600));
+    }
+
+    private static int weighted(SplittableRandom random, double[] weights) {
+        double value = random.nextDouble();
+        for (int i = 0; i < weights.length - 1; i++) {
+            value -= weights[i];
+            if (value < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    /**
+     * Valeurs d'une ligne à insérer (index : rang de la ligne dans la table, à partir de 0)
+     */
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(long index, Object[] row);
+    }
+
+    /**
+     * Loi de Zipf sur [0, n) : le rang k est tiré avec une probabilité proportionnelle à 1 / (k + 1)^exposant
+     */
+    static final class Zipf {
+
+        private final double[] cumulative;
+
+        Zipf(int n, double exponent) {
+            cumulative = new double[n];
+            double total = 0;
+            for (int k = 0; k < n; k++) {
+                total += 1 / Math.pow(k + 1, exponent);
+                cumulative[k] = total;
+            }
+            for (int k = 0; k < n; k++) {
+                cumulative[k] /= total;
+            }
+        }
+
+        int sample(SplittableRandom random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+        }
+
+        double probability(int k) {
+            return k == 0 ? cumulative[0] : cumulative[k] - cumulative[k - 1];
+        }
+    }
+
+    /**
+     * Volumes à générer
+     */
+    public record Scale(long users, long projects, long tasks, long history, long notifications, long seed) {}
+
+    /**
+     * Volumes générés et premier ID de chaque table principale (les ID générés sont consécutifs)
+     */
+    public record GenerationReport(long firstUserId, long users, long firstProjectId, long projects, long memberships,
+                                   long firstTaskId, long tasks, long history, long notifications, Duration duration) {}
+}
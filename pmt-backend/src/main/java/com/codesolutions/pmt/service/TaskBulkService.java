@@ -0,0 +1,267 @@
+package com.codesolutions.pmt.service;
+
+import com.codesolutions.pmt.dto.TaskBulkErrorDTO;
+import com.codesolutions.pmt.dto.TaskBulkResultDTO;
+import com.codesolutions.pmt.dto.TaskCreateDTO;
+import com.codesolutions.pmt.entity.Task;
+import com.codesolutions.pmt.entity.TaskStatusEnum;
+import com.codesolutions.pmt.repository.ProjectRepository;
+import com.codesolutions.pmt.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Création de tâches en masse (import depuis un autre outil).
+ * Les éléments sont traités par lots : projets, utilisateurs et statuts référencés sont vérifiés une fois par lot,
+ * puis les lignes valides sont insérées en un seul batch JDBC (l'ID IDENTITY empêche le batching Hibernate).
+ * Un élément invalide est signalé par son index sans faire échouer les autres.
+ */
+@Service
+public class TaskBulkService {
+
+    static final String INSERT_SQL = "INSERT INTO tasks (title, description, status_id, priority, project_id, " +
+            "assigned_to, created_by, due_date, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int MAX_TITLE_LENGTH = 200;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${pmt.tasks.bulk.batch-size:500}")
+    private int batchSize = 500;
+
+    /**
+     * Créer une liste de tâches
+     */
+    public TaskBulkResultDTO createTasks(List<TaskCreateDTO> tasks) {
+        TaskBulkResultDTO result = new TaskBulkResultDTO();
+        List<Item> chunk = new ArrayList<>(batchSize);
+        for (int i = 0; i < tasks.size(); i++) {
+            chunk.add(new Item(i, tasks.get(i), null));
+            if (chunk.size() == batchSize) {
+                processChunk(chunk, result);
+                chunk.clear();
+            }
+        }
+        processChunk(chunk, result);
+        return result;
+    }
+
+    /**
+     * Créer des tâches à partir d'un flux NDJSON (une tâche JSON par ligne), lu au fil de l'eau.
+     * L'index d'une erreur est celui de la ligne non vide dans le flux.
+     */
+    public TaskBulkResultDTO createTasksFromNdjson(BufferedReader reader) throws IOException {
+        TaskBulkResultDTO result = new TaskBulkResultDTO();
+        List<Item> chunk = new ArrayList<>(batchSize);
+        int index = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                chunk.add(new Item(index, objectMapper.readValue(line, TaskCreateDTO.class), null));
+            } catch (JsonProcessingException e) {
+                chunk.add(new Item(index, null, "Ligne JSON invalide: " + e.getOriginalMessage()));
+            }
+            index++;
+            if (chunk.size() == batchSize) {
+                processChunk(chunk, result);
+                chunk.clear();
+            }
+        }
+        processChunk(chunk, result);
+        return result;
+    }
+
+    private void processChunk(List<Item> chunk, TaskBulkResultDTO result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        result.setReceived(result.getReceived() + chunk.size());
+
+        // Références du lot vérifiées en deux requêtes, quel que soit le nombre d'éléments
+        Set<Long> projectIds = new HashSet<>();
+        Set<Long> userIds = new HashSet<>();
+        for (Item item : chunk) {
+            if (item.dto != null) {
+                addIfNotNull(projectIds, item.dto.getProjectId());
+                addIfNotNull(userIds, item.dto.getAssignedToId());
+                addIfNotNull(userIds, item.dto.getCreatedById());
+            }
+        }
+        Set<Long> existingProjects = projectIds.isEmpty() ? Set.of() : new HashSet<>(projectRepository.findIdsByIdIn(projectIds));
+        Set<Long> existingUsers = userIds.isEmpty() ? Set.of() : new HashSet<>(userRepository.findIdsByIdIn(userIds));
+        Map<TaskStatusEnum, Integer> statusIds = new EnumMap<>(TaskStatusEnum.class);
+
+        List<Row> rows = new ArrayList<>(chunk.size());
+        for (Item item : chunk) {
+            String error = item.error != null ? item.error : validate(item.dto, existingProjects, existingUsers);
+            if (error != null) {
+                reportError(result, item.index, error);
+                continue;
+            }
+            TaskStatusEnum status = item.dto.getStatus() != null ? item.dto.getStatus() : TaskStatusEnum.TODO;
+            Integer statusId = statusIds.computeIfAbsent(status, s -> taskService.getOrCreateStatus(s.name()).getId());
+            rows.add(new Row(item.index, item.dto, statusId));
+        }
+        insert(rows, result);
+    }
+
+    private String validate(TaskCreateDTO dto, Set<Long> existingProjects, Set<Long> existingUsers) {
+        if (dto == null) {
+            return "Élément vide";
+        }
+        if (dto.getTitle() == null || dto.getTitle().isBlank()) {
+            return "Le titre de la tâche est obligatoire";
+        }
+        if (dto.getTitle().length() > MAX_TITLE_LENGTH) {
+            return "Le titre ne peut pas dépasser 200 caractères";
+        }
+        if (dto.getProjectId() == null) {
+            return "Le projet est obligatoire";
+        }
+        if (!existingProjects.contains(dto.getProjectId())) {
+            return "Projet non trouvé avec l'ID: " + dto.getProjectId();
+        }
+        if (dto.getCreatedById() == null) {
+            return "Le créateur est obligatoire";
+        }
+        if (!existingUsers.contains(dto.getCreatedById())) {
+            return "Utilisateur non trouvé avec l'ID: " + dto.getCreatedById();
+        }
+        if (dto.getAssignedToId() != null && !existingUsers.contains(dto.getAssignedToId())) {
+            return "Utilisateur non trouvé avec l'ID: " + dto.getAssignedToId();
+        }
+        return null;
+    }
+
+    /**
+     * Insérer le lot en une transaction ; s'il échoue, il est annulé puis rejoué ligne par ligne pour isoler les erreurs
+     */
+    private void insert(List<Row> rows, TaskBulkResultDTO result) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            List<Long> ids = transactionTemplate.execute(status -> insertBatch(rows));
+            recordCreated(result, rows.size(), ids);
+        } catch (DataAccessException e) {
+            for (Row row : rows) {
+                try {
+                    List<Long> ids = transactionTemplate.execute(status -> insertBatch(List.of(row)));
+                    recordCreated(result, 1, ids);
+                } catch (DataAccessException rowError) {
+                    reportError(result, row.index, "Insertion impossible: " + rowError.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    private List<Long> insertBatch(List<Row> rows) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                for (Row row : rows) {
+                    bind(ps, row, now);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                List<Long> ids = new ArrayList<>(rows.size());
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                return ids;
+            }
+        });
+    }
+
+    private static void bind(PreparedStatement ps, Row row, Timestamp now) throws SQLException {
+        TaskCreateDTO dto = row.dto;
+        Task.Priority priority = dto.getPriority() != null ? Task.Priority.valueOf(dto.getPriority().name()) : Task.Priority.MEDIUM;
+        ps.setString(1, dto.getTitle());
+        ps.setString(2, dto.getDescription());
+        ps.setInt(3, row.statusId);
+        ps.setString(4, priority.name());
+        ps.setLong(5, dto.getProjectId());
+        if (dto.getAssignedToId() != null) {
+            ps.setLong(6, dto.getAssignedToId());
+        } else {
+            ps.setNull(6, Types.BIGINT);
+        }
+        ps.setLong(7, dto.getCreatedById());
+        if (dto.getDueDate() != null) {
+            ps.setDate(8, Date.valueOf(dto.getDueDate()));
+        } else {
+            ps.setNull(8, Types.DATE);
+        }
+        ps.setTimestamp(9, now);
+        ps.setTimestamp(10, now);
+    }
+
+    private static void recordCreated(TaskBulkResultDTO result, int count, List<Long> ids) {
+        result.setCreated(result.getCreated() + count);
+        // Certains pilotes ne renvoient pas les clés d'un batch : les IDs ne sont alors pas communiqués
+        if (ids != null && ids.size() == count) {
+            result.getCreatedIds().addAll(ids);
+        }
+    }
+
+    private static void reportError(TaskBulkResultDTO result, int index, String message) {
+        result.setFailed(result.getFailed() + 1);
+        result.getErrors().add(new TaskBulkErrorDTO(index, message));
+    }
+
+    private static void addIfNotNull(Set<Long> ids, Long id) {
+        if (id != null) {
+            ids.add(id);
+        }
+    }
+
+    private record Item(int index, TaskCreateDTO dto, String error) {}
+
+    private record Row(int index, TaskCreateDTO dto, Integer statusId) {}
+}
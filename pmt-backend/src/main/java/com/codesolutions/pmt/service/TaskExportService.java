@@ -0,0 +1,171 @@
+package com.codesolutions.pmt.service;
+
+import com.codesolutions.pmt.dto.TaskDTO;
+import com.codesolutions.pmt.repository.ProjectRepository;
+import com.codesolutions.pmt.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Export des tâches d'un projet en flux (NDJSON ou CSV).
+ * Les lignes sont lues au fil de l'eau (voir fetchSize) et écrites au fur et à mesure :
+ * la mémoire utilisée ne dépend pas du nombre de tâches.
+ */
+@Service
+public class TaskExportService {
+
+    /**
+     * Formats d'export disponibles
+     */
+    public enum Format {
+        NDJSON("application/x-ndjson"),
+        CSV("text/csv");
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        /**
+         * Retrouver un format à partir du paramètre de requête (insensible à la casse), null si inconnu
+         */
+        public static Format fromParameter(String value) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Nombre de lignes lues à chaque aller-retour hors MySQL
+     */
+    static final int EXPORT_FETCH_SIZE = 1000;
+
+    static final String EXPORT_QUERY = TaskRepository.TASK_DTO_SELECT + "WHERE p.id = :projectId ORDER BY t.id ASC";
+
+    static final String CSV_HEADER = "id,title,description,status,priority,dueDate,createdAt,updatedAt," +
+            "projectId,projectName,assignedToId,assignedToName,createdById,createdByName";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Vérifier l'existence du projet avant d'ouvrir le flux de réponse
+     */
+    @Transactional(readOnly = true)
+    public boolean projectExists(Long projectId) {
+        return projectRepository.existsById(projectId);
+    }
+
+    /**
+     * Écrire les tâches d'un projet dans out ; retourne le nombre de lignes exportées
+     */
+    @Transactional(readOnly = true)
+    public long exportProjectTasks(Long projectId, Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long count = 0;
+        // Requête de TaskRepository.findByProjectIdAsDto, lue en flux : le flux est consommé puis fermé dans la transaction
+        try (Stream<TaskDTO> tasks = entityManager.createQuery(EXPORT_QUERY, TaskDTO.class)
+                .setParameter("projectId", projectId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize(dialect()))
+                .setHint(HibernateHints.HINT_CACHEABLE, false)
+                .getResultStream()) {
+            if (format == Format.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+            // Le tampon n'est vidé qu'à la fin (ou quand il est plein), pas après chaque ligne
+            ObjectWriter jsonWriter = objectMapper.writer()
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            Iterator<TaskDTO> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                TaskDTO task = iterator.next();
+                if (format == Format.CSV) {
+                    writeCsvRow(writer, task);
+                } else {
+                    jsonWriter.writeValue(writer, task);
+                }
+                writer.write('\n');
+                count++;
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    /**
+     * MySQL : Integer.MIN_VALUE, le pilote lit le résultat ligne par ligne au lieu de le charger entièrement,
+     * sans curseur serveur (useCursorFetch) imposé à toutes les requêtes de l'application.
+     * Autres bases : paquets de EXPORT_FETCH_SIZE lignes.
+     */
+    static int fetchSize(Dialect dialect) {
+        return dialect instanceof MySQLDialect ? Integer.MIN_VALUE : EXPORT_FETCH_SIZE;
+    }
+
+    private Dialect dialect() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect();
+    }
+
+    private static void writeCsvRow(Writer writer, TaskDTO task) throws IOException {
+        Object[] values = {
+                task.getId(), task.getTitle(), task.getDescription(), task.getStatusName(), task.getPriority(),
+                task.getDueDate() != null ? task.getDueDate().toLocalDate() : null, task.getCreatedAt(), task.getUpdatedAt(),
+                task.getProjectId(), task.getProjectName(), task.getAssignedToId(), task.getAssignedToName(),
+                task.getCreatedById(), task.getCreatedByName()
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(escapeCsv(values[i].toString()));
+            }
+        }
+    }
+
+    /**
+     * Échappement RFC 4180 : champ entre guillemets s'il contient une virgule, un guillemet ou un saut de ligne
+     */
+    static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
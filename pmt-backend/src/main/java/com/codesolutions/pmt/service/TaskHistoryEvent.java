@@ -0,0 +1,64 @@
+package com.codesolutions.pmt.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entrée d'historique en attente d'écriture : uniquement des identifiants et des valeurs, aucune entité chargée
+ */
+public class TaskHistoryEvent {
+
+    private final Long taskId;
+    private final Long userId;
+    private final String action;
+    private final String oldValue;
+    private final String newValue;
+    private final LocalDateTime createdAt;
+    private final long enqueuedAtNanos;
+
+    public TaskHistoryEvent(Long taskId, Long userId, String action, String oldValue, String newValue) {
+        this.taskId = taskId;
+        this.userId = userId;
+        this.action = action;
+        this.oldValue = oldValue;
+        this.newValue = newValue;
+        this.createdAt = LocalDateTime.now();
+        this.enqueuedAtNanos = System.nanoTime();
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public String getOldValue() {
+        return oldValue;
+    }
+
+    public String getNewValue() {
+        return newValue;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getEnqueuedAtNanos() {
+        return enqueuedAtNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskHistoryEvent{" +
+                "taskId=" + taskId +
+                ", userId=" + userId +
+                ", action='" + action + '\'' +
+                '}';
+    }
+}
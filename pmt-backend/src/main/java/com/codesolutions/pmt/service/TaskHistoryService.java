@@ -8,6 +8,7 @@ import com.codesolutions.pmt.repository.TaskHistoryRepository;
 import com.codesolutions.pmt.repository.TaskRepository;
 import com.codesolutions.pmt.repository.UserRepository;
 import com.codesolutions.pmt.repository.ProjectRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,6 +17,7 @@ import java.util.List;
 
 @Service
 @Transactional
+@Timed(value = "pmt.service", histogram = true)
 public class TaskHistoryService {
 
     @Autowired
@@ -30,6 +32,9 @@ public class TaskHistoryService {
     @Autowired
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private TaskHistoryWriter taskHistoryWriter;
+
     /**
      * Récupérer tout l'historique des tâches
      */
@@ -104,6 +109,13 @@ public class TaskHistoryService {
         return taskHistoryRepository.save(history);
     }
 
+    /**
+     * Enregistrer un historique de façon asynchrone (écrit par lots après le commit de l'appelant)
+     */
+    public void recordTaskHistory(String action, String oldValue, String newValue, Long taskId, Long userId) {
+        taskHistoryWriter.enqueue(new TaskHistoryEvent(taskId, userId, action, oldValue, newValue));
+    }
+
     /**
      * Supprimer un historique
      */
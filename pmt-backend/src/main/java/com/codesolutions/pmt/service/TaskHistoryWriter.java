@@ -0,0 +1,248 @@
+package com.codesolutions.pmt.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Écriture asynchrone de l'historique des tâches.
+ * Les appelants déposent les TaskHistoryEvent d'une modification dans une file bornée après le commit de leur
+ * transaction ; un thread dédié la vide par lots JDBC, sans jamais répartir une modification sur deux lots.
+ * File pleine : l'appelant attend, puis écrit lui-même (pas de perte).
+ */
+@Component
+public class TaskHistoryWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskHistoryWriter.class);
+
+    static final String INSERT_SQL = "INSERT INTO task_history (task_id, user_id, action, old_value, new_value, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${pmt.task-history.writer.batch-size:200}")
+    private int batchSize;
+
+    @Value("${pmt.task-history.writer.offer-timeout-ms:50}")
+    private long offerTimeoutMillis;
+
+    @Value("${pmt.task-history.writer.poll-interval-ms:200}")
+    private long pollIntervalMillis;
+
+    // Une entrée par modification (ex. un événement par champ modifié), écrite d'un seul tenant
+    private final BlockingQueue<List<TaskHistoryEvent>> queue;
+    private final AtomicInteger pendingEvents = new AtomicInteger();
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+    private final AtomicLong lastWriteLagNanos = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public TaskHistoryWriter(@Value("${pmt.task-history.writer.queue-capacity:10000}") int queueCapacity) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        worker = new Thread(this::run, "task-history-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Arrêt : le thread termine son lot courant, puis le reste de la file est écrit avant la fermeture du pool
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        flush();
+    }
+
+    /**
+     * Déposer un événement ; dans une transaction, il n'est déposé qu'après le commit
+     */
+    public void enqueue(TaskHistoryEvent event) {
+        enqueueAll(List.of(event));
+    }
+
+    /**
+     * Déposer les événements d'une même modification (ex. un par champ modifié) : une seule synchronisation
+     * de transaction, une seule entrée dans la file, écrits dans le même lot
+     */
+    public void enqueueAll(List<TaskHistoryEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<TaskHistoryEvent> change = List.copyOf(events);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    offer(change);
+                }
+            });
+        } else {
+            offer(change);
+        }
+    }
+
+    /**
+     * Vider la file de façon synchrone
+     */
+    public void flush() {
+        List<TaskHistoryEvent> batch = new ArrayList<>(batchSize);
+        while (drainTo(batch) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void offer(List<TaskHistoryEvent> change) {
+        try {
+            if (running && queue.offer(change, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                pendingEvents.addAndGet(change.size());
+                enqueued.add(change.size());
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // File saturée (ou writer arrêté) : l'appelant paie l'écriture plutôt que de perdre la modification
+        callerRuns.add(change.size());
+        write(change);
+    }
+
+    /**
+     * Ajouter au lot des modifications entières tant qu'il reste de la place ; une modification plus grande
+     * que le lot forme un lot à elle seule. Renvoie le nombre d'événements ajoutés.
+     */
+    private int drainTo(List<TaskHistoryEvent> batch) {
+        int added = 0;
+        List<TaskHistoryEvent> change;
+        while (batch.size() < batchSize && (change = queue.poll()) != null) {
+            batch.addAll(change);
+            added += change.size();
+        }
+        pendingEvents.addAndGet(-added);
+        return added;
+    }
+
+    private void run() {
+        List<TaskHistoryEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                List<TaskHistoryEvent> first = queue.poll(pollIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.addAll(first);
+                pendingEvents.addAndGet(-first.size());
+                drainTo(batch);
+                write(batch);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    break;
+                }
+            } catch (RuntimeException e) {
+                logger.error("Échec d'écriture d'un lot d'historique ({} événements)", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<TaskHistoryEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, event) -> {
+                ps.setObject(1, event.getTaskId());
+                ps.setObject(2, event.getUserId());
+                ps.setString(3, event.getAction());
+                ps.setString(4, event.getOldValue());
+                ps.setString(5, event.getNewValue());
+                ps.setTimestamp(6, Timestamp.valueOf(event.getCreatedAt()));
+            });
+            written.add(batch.size());
+        } catch (DataAccessException e) {
+            if (batch.size() == 1) {
+                failed.increment();
+                logger.warn("Historique non enregistré pour {}: {}", batch.get(0), e.getMessage());
+                return;
+            }
+            // Une ligne invalide (ex. tâche supprimée entre-temps) ne doit pas faire perdre tout le lot
+            for (TaskHistoryEvent event : batch) {
+                write(List.of(event));
+            }
+            return;
+        }
+        lastWriteLagNanos.set(System.nanoTime() - batch.get(0).getEnqueuedAtNanos());
+    }
+
+    /**
+     * Nombre d'événements en attente
+     */
+    public int getQueueSize() {
+        return pendingEvents.get();
+    }
+
+    /**
+     * Âge du plus ancien événement en attente, en millisecondes
+     */
+    public long getLagMillis() {
+        List<TaskHistoryEvent> head = queue.peek();
+        return head != null ? TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - head.get(0).getEnqueuedAtNanos()) : 0;
+    }
+
+    /**
+     * Délai entre le dépôt et l'écriture du dernier lot, en millisecondes
+     */
+    public long getLastWriteLagMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(lastWriteLagNanos.get());
+    }
+
+    public long getEnqueuedCount() {
+        return enqueued.sum();
+    }
+
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    public long getCallerRunsCount() {
+        return callerRuns.sum();
+    }
+}
@@ -1,6 +1,8 @@
 package com.codesolutions.pmt.service;
 
 import com.codesolutions.pmt.dto.TaskCreateDTO;
+import com.codesolutions.pmt.dto.TaskDTO;
+import com.codesolutions.pmt.dto.TaskSearchCriteria;
 import com.codesolutions.pmt.dto.TaskUpdateDTO;
 import com.codesolutions.pmt.entity.Task;
 import com.codesolutions.pmt.entity.TaskStatus;
@@ -8,22 +10,46 @@ import com.codesolutions.pmt.entity.TaskStatusEnum;
 import com.codesolutions.pmt.entity.Project;
 import com.codesolutions.pmt.entity.User;
 import com.codesolutions.pmt.repository.TaskRepository;
+import com.codesolutions.pmt.repository.TaskSpecifications;
 import com.codesolutions.pmt.repository.TaskStatusRepository;
 import com.codesolutions.pmt.repository.ProjectRepository;
 import com.codesolutions.pmt.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
 @Transactional
+@Timed(value = "pmt.service", histogram = true)
 public class TaskService {
 
+    private static final Logger logger = LoggerFactory.getLogger(TaskService.class);
+
+    /**
+     * Taille de page par défaut et taille maximale imposée par le serveur
+     */
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
+    private static final String CURSOR_PREFIX = "id:";
+
     @Autowired
     private TaskRepository taskRepository;
 
@@ -36,6 +62,12 @@ public class TaskService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TaskHistoryWriter taskHistoryWriter;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
     /**
      * Récupérer toutes les tâches
      */
@@ -43,6 +75,102 @@ public class TaskService {
         return taskRepository.findAllWithRelations();
     }
 
+    /**
+     * Récupérer une page de tâches située après l'ID donné.
+     * Retourne au plus size + 1 tâches : la tâche supplémentaire signale l'existence d'une page suivante.
+     */
+    @Transactional(readOnly = true)
+    public List<TaskDTO> getTasksPage(Long afterId, int size) {
+        long startAfter = afterId != null ? afterId : 0L;
+        return taskRepository.findPageAfterIdAsDto(startAfter, PageRequest.of(0, size + 1));
+    }
+
+    /**
+     * Récupérer toutes les tâches sous forme de DTO (projection, sans entités gérées)
+     */
+    @Transactional(readOnly = true)
+    public List<TaskDTO> getAllTaskDTOs() {
+        return taskRepository.findAllAsDto();
+    }
+
+    /**
+     * Récupérer les tâches d'un projet sous forme de DTO (projection, sans entités gérées)
+     */
+    @Transactional(readOnly = true)
+    public List<TaskDTO> getTaskDTOsByProject(Long projectId) {
+        return taskRepository.findByProjectIdAsDto(projectId);
+    }
+
+    /**
+     * Récupérer les tâches d'un statut sous forme de DTO (projection, sans entités gérées)
+     */
+    @Transactional(readOnly = true)
+    public List<TaskDTO> getTaskDTOsByStatus(Integer statusId) {
+        return taskRepository.findByStatusIdAsDto(statusId);
+    }
+
+    /**
+     * Rechercher des tâches : filtres, tri et pagination appliqués en base
+     */
+    @Transactional(readOnly = true)
+    public Page<TaskDTO> searchTasks(TaskSearchCriteria criteria, String sortKey, Sort.Direction direction, int page, int size) {
+        Specification<Task> specification = TaskSpecifications.matching(criteria, LocalDate.now())
+                .and(TaskSpecifications.orderedBy(sortKey, direction));
+        return taskRepository.findAll(specification, PageRequest.of(page, size)).map(TaskService::toDTO);
+    }
+
+    /**
+     * Récupérer les tâches assignées à un utilisateur sous forme de DTO (projection, sans entités gérées)
+     */
+    @Transactional(readOnly = true)
+    public List<TaskDTO> getTaskDTOsAssignedToUser(Long userId) {
+        return taskRepository.findByAssignedToIdAsDto(userId);
+    }
+
+    /**
+     * Borner la taille de page demandée par le client
+     */
+    public static int normalizePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Encoder l'ID de la dernière tâche d'une page en curseur opaque
+     */
+    public static String encodeCursor(Long lastId) {
+        String raw = CURSOR_PREFIX + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Décoder un curseur opaque (null ou vide = première page)
+     */
+    public static Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Curseur invalide: " + cursor);
+        }
+        if (raw.startsWith(CURSOR_PREFIX)) {
+            try {
+                long id = Long.parseLong(raw.substring(CURSOR_PREFIX.length()));
+                if (id >= 0) {
+                    return id;
+                }
+            } catch (NumberFormatException e) {
+                // Curseur altéré : traité comme invalide ci-dessous
+            }
+        }
+        throw new IllegalArgumentException("Curseur invalide: " + cursor);
+    }
+
     /**
      * Récupérer une tâche par son ID
      */
@@ -123,73 +251,169 @@ public class TaskService {
      * Récupérer ou créer le statut par défaut
      */
     private TaskStatus getOrCreateDefaultStatus() {
-        // Essayer de trouver un statut "TODO" existant
-        Optional<TaskStatus> existingStatus = taskStatusRepository.findByName("TODO");
+        return getOrCreateStatus("TODO");
+    }
+
+    /**
+     * Récupérer un statut depuis le cache de référence, ou le créer s'il n'existe pas encore
+     */
+    public TaskStatus getOrCreateStatus(String statusName) {
+        Optional<TaskStatus> cachedStatus = referenceDataCache.findTaskStatusByName(statusName);
+        if (cachedStatus.isPresent()) {
+            return cachedStatus.get();
+        }
+
+        // Absent du cache : vérifier en base (ajout récent par une autre instance) avant de le créer
+        Optional<TaskStatus> existingStatus = taskStatusRepository.findByName(statusName);
         if (existingStatus.isPresent()) {
+            referenceDataCache.invalidate();
             return existingStatus.get();
         }
-        
-        // Si le statut n'existe pas, créer un nouveau
-        TaskStatus defaultStatus = new TaskStatus("TODO");
-        return taskStatusRepository.save(defaultStatus);
+        TaskStatus newStatus = taskStatusRepository.save(new TaskStatus(statusName));
+        referenceDataCache.invalidate();
+        return newStatus;
     }
 
     /**
-     * Mettre à jour une tâche
+     * Mettre à jour une tâche.
+     * Chaque champ modifié produit une entrée d'historique ; une mise à jour sans changement n'émet aucun UPDATE.
      */
     public Task updateTask(Long id, TaskUpdateDTO taskUpdateDTO) {
-        System.out.println("Mise à jour de la tâche " + id + " avec priorité: " + taskUpdateDTO.getPriority() + ", statut: " + taskUpdateDTO.getStatus());
+        logger.debug("Mise à jour de la tâche {} (priorité: {}, statut: {})", id, taskUpdateDTO.getPriority(), taskUpdateDTO.getStatus());
+        Long actorId = resolveActorId(taskUpdateDTO.getUpdatedById());
         Task task = taskRepository.findByIdWithRelations(id);
         if (task == null) {
             throw new RuntimeException("Tâche non trouvée avec l'ID: " + id);
         }
 
-        if (taskUpdateDTO.getTitle() != null) {
+        List<TaskHistoryEvent> changes = new ArrayList<>();
+
+        if (taskUpdateDTO.getTitle() != null && !taskUpdateDTO.getTitle().equals(task.getTitle())) {
+            changes.add(change(task, actorId, "TITLE_CHANGED", task.getTitle(), taskUpdateDTO.getTitle()));
             task.setTitle(taskUpdateDTO.getTitle());
         }
-        if (taskUpdateDTO.getDescription() != null) {
+        if (taskUpdateDTO.getDescription() != null && !taskUpdateDTO.getDescription().equals(task.getDescription())) {
+            changes.add(change(task, actorId, "DESCRIPTION_CHANGED", task.getDescription(), taskUpdateDTO.getDescription()));
             task.setDescription(taskUpdateDTO.getDescription());
         }
         if (taskUpdateDTO.getPriority() != null) {
             // Convertir TaskPriority vers Task.Priority
             Task.Priority priority = convertTaskPriority(taskUpdateDTO.getPriority());
-            System.out.println("Conversion de priorité: " + taskUpdateDTO.getPriority() + " -> " + priority);
-            task.setPriority(priority);
+            if (priority != task.getPriority()) {
+                changes.add(change(task, actorId, "PRIORITY_CHANGED", nameOf(task.getPriority()), priority.name()));
+                task.setPriority(priority);
+            }
         }
         if (taskUpdateDTO.getStatus() != null) {
             // Convertir la chaîne en TaskStatusEnum puis en TaskStatus
             TaskStatusEnum statusEnum = taskUpdateDTO.getStatusEnum();
             TaskStatus status = convertTaskStatus(statusEnum);
-            System.out.println("Conversion de statut: " + taskUpdateDTO.getStatus() + " -> " + statusEnum + " -> " + status.getName());
-            task.setStatus(status);
+            String oldStatus = task.getStatus() != null ? task.getStatus().getName() : null;
+            if (!status.getName().equals(oldStatus)) {
+                changes.add(change(task, actorId, "STATUS_CHANGED", oldStatus, status.getName()));
+                task.setStatus(status);
+            }
         }
-        if (taskUpdateDTO.getDueDate() != null) {
+        if (taskUpdateDTO.getDueDate() != null && !taskUpdateDTO.getDueDate().equals(task.getDueDate())) {
+            changes.add(change(task, actorId, "DUE_DATE_CHANGED", Objects.toString(task.getDueDate(), null), taskUpdateDTO.getDueDate().toString()));
             task.setDueDate(taskUpdateDTO.getDueDate());
         }
         
         // Gérer l'assignation
-        if (taskUpdateDTO.getAssignedToId() != null) {
-            User assignedTo = userRepository.findById(taskUpdateDTO.getAssignedToId())
-                    .orElseThrow(() -> new RuntimeException("Utilisateur non trouvé avec l'ID: " + taskUpdateDTO.getAssignedToId()));
-            task.setAssignedTo(assignedTo);
-            System.out.println("Tâche assignée à: " + assignedTo.getUsername());
-        } else {
-            task.setAssignedTo(null); // Désassigner la tâche
-            System.out.println("Tâche désassignée");
+        Long currentAssigneeId = task.getAssignedTo() != null ? task.getAssignedTo().getId() : null;
+        if (!Objects.equals(taskUpdateDTO.getAssignedToId(), currentAssigneeId)) {
+            String oldAssignee = task.getAssignedTo() != null ? task.getAssignedTo().getUsername() : null;
+            if (taskUpdateDTO.getAssignedToId() != null) {
+                User assignedTo = userRepository.findById(taskUpdateDTO.getAssignedToId())
+                        .orElseThrow(() -> new RuntimeException("Utilisateur non trouvé avec l'ID: " + taskUpdateDTO.getAssignedToId()));
+                task.setAssignedTo(assignedTo);
+                changes.add(change(task, actorId, "ASSIGNED", oldAssignee, assignedTo.getUsername()));
+            } else {
+                task.setAssignedTo(null); // Désassigner la tâche
+                changes.add(change(task, actorId, "ASSIGNED", oldAssignee, null));
+            }
+        }
+
+        if (changes.isEmpty()) {
+            // Rien n'a changé : l'entité n'est pas modifiée, Hibernate n'émet aucun UPDATE
+            return task;
         }
 
         // Mettre à jour la date de modification
         task.setUpdatedAt(LocalDateTime.now());
 
         Task savedTask = taskRepository.save(task);
-        System.out.println("Tâche sauvegardée avec priorité: " + savedTask.getPriority() + ", statut: " + savedTask.getStatus().getName());
+        if (actorId != null) {
+            taskHistoryWriter.enqueueAll(changes);
+        } else {
+            logger.warn("Tâche {} modifiée sans utilisateur authentifié : historique non enregistré", id);
+        }
+        logger.debug("Tâche {} mise à jour : {} modification(s)", id, changes.size());
         return savedTask;
     }
 
+    /**
+     * Convertir une tâche (relations chargées) en DTO
+     */
+    public static TaskDTO toDTO(Task task) {
+        return new TaskDTO(
+                task.getId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getStatus() != null ? task.getStatus().getName() : null,
+                task.getPriority(),
+                task.getDueDate(),
+                task.getCreatedAt(),
+                task.getUpdatedAt(),
+                task.getProject() != null ? task.getProject().getId() : null,
+                task.getProject() != null ? task.getProject().getName() : null,
+                task.getAssignedTo() != null ? task.getAssignedTo().getId() : null,
+                task.getAssignedTo() != null ? task.getAssignedTo().getUsername() : null,
+                task.getCreatedBy() != null ? task.getCreatedBy().getId() : null,
+                task.getCreatedBy() != null ? task.getCreatedBy().getUsername() : null
+        );
+    }
+
+    /**
+     * Auteur d'une modification : l'utilisateur du jeton. Un auteur différent indiqué par le client est refusé ;
+     * sans jeton (authentification non exigée), l'auteur indiqué est repris tel quel, null s'il est absent.
+     */
+    private Long resolveActorId(Long requestedActorId) {
+        Optional<TokenService.TokenClaims> claims = TokenService.currentClaims();
+        if (claims.isEmpty()) {
+            return requestedActorId;
+        }
+        Long authenticatedId = claims.get().userId();
+        if (requestedActorId != null && !requestedActorId.equals(authenticatedId)) {
+            throw new AccessDeniedException("L'auteur indiqué (" + requestedActorId
+                    + ") ne correspond pas à l'utilisateur authentifié (" + authenticatedId + ")");
+        }
+        return authenticatedId;
+    }
+
+    /**
+     * Entrée d'historique d'une modification isolée, omise quand l'auteur est inconnu
+     */
+    private void recordChange(Task task, Long actorId, String action, String oldValue, String newValue) {
+        if (actorId != null) {
+            taskHistoryWriter.enqueue(change(task, actorId, action, oldValue, newValue));
+        } else {
+            logger.warn("Tâche {} modifiée sans utilisateur authentifié : historique non enregistré", task.getId());
+        }
+    }
+
+    private TaskHistoryEvent change(Task task, Long actorId, String action, String oldValue, String newValue) {
+        return new TaskHistoryEvent(task.getId(), actorId, action, oldValue, newValue);
+    }
+
+    private static String nameOf(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+
     /**
      * Convertir TaskPriority vers Task.Priority
      */
-    private Task.Priority convertTaskPriority(com.codesolutions.pmt.entity.TaskPriority taskPriority) {
+    public static Task.Priority convertTaskPriority(com.codesolutions.pmt.entity.TaskPriority taskPriority) {
         switch (taskPriority) {
             case LOW:
                 return Task.Priority.LOW;
@@ -205,9 +429,9 @@ public class TaskService {
     }
 
     /**
-     * Convertir TaskStatusEnum vers TaskStatus
+     * Convertir TaskStatusEnum vers TaskStatus (statut de ReferenceDataCache, créé s'il n'existe pas encore)
      */
-    private TaskStatus convertTaskStatus(TaskStatusEnum statusEnum) {
+    public TaskStatus convertTaskStatus(TaskStatusEnum statusEnum) {
         String statusName;
         switch (statusEnum) {
             case TODO:
@@ -230,43 +454,66 @@ public class TaskService {
         }
         
         // Chercher le statut existant ou le créer
-        Optional<TaskStatus> existingStatus = taskStatusRepository.findByName(statusName);
-        if (existingStatus.isPresent()) {
-            return existingStatus.get();
-        } else {
-            TaskStatus newStatus = new TaskStatus(statusName);
-            return taskStatusRepository.save(newStatus);
-        }
+        return getOrCreateStatus(statusName);
     }
 
     /**
      * Assigner une tâche à un utilisateur
      */
     public Task assignTask(Long taskId, Long userId) {
+        return assignTask(taskId, userId, null);
+    }
+
+    /**
+     * Assigner une tâche à un utilisateur, en indiquant l'auteur de la modification
+     */
+    public Task assignTask(Long taskId, Long userId, Long actorId) {
+        Long resolvedActorId = resolveActorId(actorId);
         Task task = taskRepository.findByIdWithRelations(taskId);
         if (task == null) {
             throw new RuntimeException("Tâche non trouvée avec l'ID: " + taskId);
         }
+        if (task.getAssignedTo() != null && task.getAssignedTo().getId().equals(userId)) {
+            return task;
+        }
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("Utilisateur non trouvé avec l'ID: " + userId));
 
+        String oldAssignee = task.getAssignedTo() != null ? task.getAssignedTo().getUsername() : null;
         task.setAssignedTo(user);
         task.setUpdatedAt(LocalDateTime.now());
 
-        return taskRepository.save(task);
+        Task savedTask = taskRepository.save(task);
+        recordChange(task, resolvedActorId, "ASSIGNED", oldAssignee, user.getUsername());
+        return savedTask;
     }
 
     /**
      * Mettre à jour le statut d'une tâche
      */
     public Task updateTaskStatus(Long taskId, TaskStatus status) {
+        return updateTaskStatus(taskId, status, null);
+    }
+
+    /**
+     * Mettre à jour le statut d'une tâche, en indiquant l'auteur de la modification
+     */
+    public Task updateTaskStatus(Long taskId, TaskStatus status, Long actorId) {
+        Long resolvedActorId = resolveActorId(actorId);
         Task task = taskRepository.findByIdWithRelations(taskId);
         if (task == null) {
             throw new RuntimeException("Tâche non trouvée avec l'ID: " + taskId);
         }
+        String oldStatus = task.getStatus() != null ? task.getStatus().getName() : null;
+        String newStatus = status != null ? status.getName() : null;
+        if (Objects.equals(oldStatus, newStatus)) {
+            return task;
+        }
         task.setStatus(status);
 
-        return taskRepository.save(task);
+        Task savedTask = taskRepository.save(task);
+        recordChange(task, resolvedActorId, "STATUS_CHANGED", oldStatus, newStatus);
+        return savedTask;
     }
 
     /**
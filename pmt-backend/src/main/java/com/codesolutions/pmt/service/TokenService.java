@@ -0,0 +1,233 @@
+package com.codesolutions.pmt.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Jetons signés (format JWT, HMAC-SHA256) : vérifiés localement, sans base de données ni BCrypt.
+ * Jeton d'accès de courte durée envoyé à chaque requête, jeton de rafraîchissement à usage unique
+ * pour en obtenir un nouveau. Les jetons révoqués (déconnexion, rafraîchissement) sont gardés en mémoire
+ * jusqu'à leur expiration.
+ */
+@Service
+public class TokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenService.class);
+
+    public static final String ACCESS = "access";
+    public static final String REFRESH = "refresh";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder BASE64 = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64_DECODER = Base64.getUrlDecoder();
+    private static final String HEADER = BASE64.encodeToString(
+            "{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+    private static final TypeReference<Map<String, Object>> CLAIMS_TYPE = new TypeReference<>() {};
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${pmt.security.token.access-ttl:PT15M}")
+    private Duration accessTtl = Duration.ofMinutes(15);
+
+    @Value("${pmt.security.token.refresh-ttl:P7D}")
+    private Duration refreshTtl = Duration.ofDays(7);
+
+    private final SecretKeySpec key;
+
+    /**
+     * Identifiant du jeton révoqué -> date d'expiration (au-delà, le jeton est refusé de toute façon)
+     */
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+
+    private Clock clock = Clock.systemUTC();
+
+    public TokenService(@Value("${pmt.security.token.secret:}") String secret) {
+        byte[] keyBytes;
+        if (secret == null || secret.isBlank()) {
+            // Clé aléatoire : les jetons ne survivent pas à un redémarrage et ne sont pas partagés entre instances
+            logger.warn("pmt.security.token.secret non défini : clé de signature générée au démarrage");
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+        } else {
+            keyBytes = Base64.getDecoder().decode(secret);
+            if (keyBytes.length < 32) {
+                throw new IllegalStateException("pmt.security.token.secret doit contenir au moins 256 bits (Base64)");
+            }
+        }
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+    }
+
+    /**
+     * Émettre un jeton d'accès et un jeton de rafraîchissement pour un utilisateur authentifié
+     */
+    public TokenPair issue(Long userId, String username) {
+        Instant now = clock.instant();
+        String accessToken = sign(claims(userId, username, ACCESS, now, now.plus(accessTtl)));
+        String refreshToken = sign(claims(userId, username, REFRESH, now, now.plus(refreshTtl)));
+        return new TokenPair(accessToken, refreshToken, accessTtl.toSeconds());
+    }
+
+    /**
+     * Jeton d'accès valide (signature, type, expiration, non révoqué)
+     */
+    public Optional<TokenClaims> verifyAccessToken(String token) {
+        return verify(token, ACCESS);
+    }
+
+    /**
+     * Jeton de rafraîchissement valide (signature, type, expiration, non révoqué)
+     */
+    public Optional<TokenClaims> verifyRefreshToken(String token) {
+        return verify(token, REFRESH);
+    }
+
+    /**
+     * Révoquer un jeton jusqu'à son expiration
+     */
+    public void revoke(TokenClaims claims) {
+        revoked.put(claims.id(), claims.expiresAt());
+    }
+
+    /**
+     * Échanger un jeton de rafraîchissement contre une nouvelle paire ; l'ancien est révoqué (usage unique)
+     */
+    public Optional<TokenPair> refresh(String refreshToken, String currentUsername) {
+        return verifyRefreshToken(refreshToken).map(claims -> {
+            // Un même jeton présenté deux fois en même temps : un seul échange réussit
+            if (revoked.putIfAbsent(claims.id(), claims.expiresAt()) != null) {
+                return null;
+            }
+            return issue(claims.userId(), currentUsername);
+        });
+    }
+
+    /**
+     * Retirer les révocations de jetons expirés
+     */
+    @Scheduled(fixedDelayString = "${pmt.security.token.purge-interval-ms:60000}")
+    public void purgeExpiredRevocations() {
+        Instant now = clock.instant();
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+    }
+
+    public int getRevokedCount() {
+        return revoked.size();
+    }
+
+    void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    private Optional<TokenClaims> verify(String token, String expectedType) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        int firstDot = token.indexOf('.');
+        int lastDot = token.lastIndexOf('.');
+        if (firstDot <= 0 || lastDot == firstDot || !HEADER.equals(token.substring(0, firstDot))) {
+            return Optional.empty();
+        }
+        try {
+            byte[] expected = mac(token.substring(0, lastDot));
+            byte[] actual = BASE64_DECODER.decode(token.substring(lastDot + 1));
+            if (!MessageDigest.isEqual(expected, actual)) {
+                return Optional.empty();
+            }
+            Map<String, Object> claims = objectMapper.readValue(BASE64_DECODER.decode(token.substring(firstDot + 1, lastDot)), CLAIMS_TYPE);
+            TokenClaims parsed = new TokenClaims(
+                    (String) claims.get("jti"),
+                    Long.parseLong((String) claims.get("sub")),
+                    (String) claims.get("name"),
+                    (String) claims.get("typ"),
+                    Instant.ofEpochSecond(((Number) claims.get("exp")).longValue()));
+            if (!expectedType.equals(parsed.type()) || !parsed.expiresAt().isAfter(clock.instant())
+                    || revoked.containsKey(parsed.id())) {
+                return Optional.empty();
+            }
+            return Optional.of(parsed);
+        } catch (IllegalArgumentException | ClassCastException | NullPointerException | IOException e) {
+            // Jeton mal formé
+            return Optional.empty();
+        }
+    }
+
+    private Map<String, Object> claims(Long userId, String username, String type, Instant issuedAt, Instant expiresAt) {
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("jti", UUID.randomUUID().toString());
+        claims.put("sub", String.valueOf(userId));
+        claims.put("name", username);
+        claims.put("typ", type);
+        claims.put("iat", issuedAt.getEpochSecond());
+        claims.put("exp", expiresAt.getEpochSecond());
+        return claims;
+    }
+
+    private String sign(Map<String, Object> claims) {
+        try {
+            String unsigned = HEADER + "." + BASE64.encodeToString(objectMapper.writeValueAsBytes(claims));
+            return unsigned + "." + BASE64.encodeToString(mac(unsigned));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Erreur lors de la création du jeton", e);
+        }
+    }
+
+    private byte[] mac(String content) {
+        try {
+            // Instance par appel : Mac n'est pas thread-safe et les threads virtuels rendent un ThreadLocal inutile
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(content.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 indisponible", e);
+        }
+    }
+
+    /**
+     * Contenu vérifié d'un jeton
+     */
+    public record TokenClaims(String id, Long userId, String username, String type, Instant expiresAt) {}
+
+    /**
+     * Jeton de la requête en cours, placé dans le SecurityContext par TokenAuthenticationFilter ;
+     * vide pour une requête anonyme (authentification non exigée)
+     */
+    public static Optional<TokenClaims> currentClaims() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof TokenClaims claims) {
+            return Optional.of(claims);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Jetons émis à la connexion ou au rafraîchissement ; expiresIn : durée de vie du jeton d'accès en secondes
+     */
+    public record TokenPair(String accessToken, String refreshToken, long expiresIn) {}
+}
@@ -0,0 +1,193 @@
+package com.codesolutions.pmt.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache borné (LRU + TTL) du nombre de notifications non lues par utilisateur.
+ * Les écritures sont appliquées après le commit ; une entrée absente est reconstruite à la demande.
+ * Entre le commit en base et son application au cache, une reconstruction peut déjà lire la nouvelle valeur :
+ * chaque écriture incrémente la version de son segment dès l'appel, et un delta n'est appliqué après le commit
+ * qu'à une entrée chargée avant l'écriture, sans autre écriture entre-temps ; sinon l'entrée est évincée.
+ */
+@Component
+public class UnreadCountCache {
+
+    private static final int VERSION_STRIPES = 64;
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<Long, Entry> entries;
+
+    /**
+     * Version par segment d'utilisateurs : une reconstruction n'est mise en cache que si aucune
+     * écriture n'a touché le segment pendant la lecture en base ; l'entrée garde la version de son chargement
+     */
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public UnreadCountCache(@Value("${pmt.notifications.unread-cache.max-size:10000}") int maxSize,
+                            @Value("${pmt.notifications.unread-cache.ttl:PT10M}") Duration ttl) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() > UnreadCountCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Récupérer le compteur d'un utilisateur, en le reconstruisant via loader si absent ou expiré
+     */
+    public long get(Long userId, LongSupplier loader) {
+        synchronized (entries) {
+            Entry entry = entries.get(userId);
+            if (entry != null && !entry.isExpired(System.nanoTime())) {
+                hits.increment();
+                return entry.count;
+            }
+            if (entry != null) {
+                entries.remove(userId);
+            }
+        }
+        misses.increment();
+
+        long version = versions.get(stripe(userId));
+        long count = loader.getAsLong();
+        synchronized (entries) {
+            if (versions.get(stripe(userId)) == version) {
+                entries.put(userId, new Entry(count, System.nanoTime() + ttlNanos, version));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Ajouter delta au compteur d'un utilisateur (sans effet s'il n'est pas en cache).
+     * Hors transaction, l'écriture est déjà validée : l'entrée est évincée.
+     */
+    public void adjust(Long userId, long delta) {
+        int stripe = stripe(userId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(userId);
+            return;
+        }
+        // Avant le commit : toute reconstruction en cours ou à venir pendant la transaction est identifiable
+        long writeVersion = versions.incrementAndGet(stripe);
+        afterCommit(() -> {
+            synchronized (entries) {
+                Entry entry = entries.get(userId);
+                if (entry != null) {
+                    if (versions.get(stripe) == writeVersion && entry.version < writeVersion) {
+                        entry.count = Math.max(0, entry.count + delta);
+                    } else {
+                        // Chargée pendant la transaction (valeur avant ou après le commit) ou autre écriture concurrente
+                        entries.remove(userId);
+                    }
+                }
+                versions.incrementAndGet(stripe);
+            }
+        });
+    }
+
+    /**
+     * Fixer le compteur d'un utilisateur (ex. 0 après « tout marquer comme lu »)
+     */
+    public void set(Long userId, long count) {
+        int stripe = stripe(userId);
+        versions.incrementAndGet(stripe);
+        afterCommit(() -> {
+            synchronized (entries) {
+                long version = versions.incrementAndGet(stripe);
+                entries.put(userId, new Entry(count, System.nanoTime() + ttlNanos, version));
+            }
+        });
+    }
+
+    /**
+     * Oublier le compteur d'un utilisateur
+     */
+    public void invalidate(Long userId) {
+        versions.incrementAndGet(stripe(userId));
+        afterCommit(() -> evict(userId));
+    }
+
+    private void evict(Long userId) {
+        synchronized (entries) {
+            versions.incrementAndGet(stripe(userId));
+            entries.remove(userId);
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static int stripe(Long userId) {
+        return (int) Math.floorMod(userId, (long) VERSION_STRIPES);
+    }
+
+    /**
+     * Les transactions annulées ne doivent pas modifier le cache
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static final class Entry {
+        private long count;
+        private final long expiresAt;
+        private final long version;
+
+        private Entry(long count, long expiresAt, long version) {
+            this.count = count;
+            this.expiresAt = expiresAt;
+            this.version = version;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt > 0;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.codesolutions.pmt.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -168,16 +169,28 @@ public class UserService {
     }
     
     /**
-     * Vérifie les identifiants de connexion
+     * Vérifie les identifiants de connexion. Sans transaction : le hachage BCrypt (pool dédié, attente bornée)
+     * ne doit pas retenir de connexion à la base ; la lecture et la mise à jour éventuelle ont chacune la leur
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserDTO authenticate(String email, String password) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("Email ou mot de passe incorrect"));
+        String verifiedHash = user.getPassword();
         
-        if (!passwordEncoder.matches(password, user.getPassword())) {
+        if (!passwordEncoder.matches(password, verifiedHash)) {
             throw new RuntimeException("Email ou mot de passe incorrect");
         }
         
+        // Coût BCrypt augmenté depuis le dernier hachage : recalcul avec le mot de passe en clair disponible,
+        // sans écraser un changement de mot de passe intervenu pendant la vérification
+        if (passwordEncoder.upgradeEncoding(verifiedHash)) {
+            String newHash = passwordEncoder.encode(password);
+            if (userRepository.updatePasswordIfUnchanged(user.getId(), verifiedHash, newHash) == 1) {
+                user.setPassword(newHash);
+            }
+        }
+        
         return convertToDto(user);
     }
     
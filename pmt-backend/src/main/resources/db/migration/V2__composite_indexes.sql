@@ -0,0 +1,29 @@
+-- Index composites alignés sur les requêtes des repositories (MySQL 8)
+-- Chaque index est construit en ligne : les lectures et écritures restent possibles pendant la création.
+
+-- Le verrou de métadonnées n'est pris qu'un instant, mais s'il est attendu les requêtes suivantes s'empilent derrière :
+-- mieux vaut échouer vite que bloquer l'application
+SET SESSION lock_wait_timeout = 10;
+
+-- Tâches : projet + statut (listes et comptages par projet, filtres par statut)
+CREATE INDEX idx_tasks_project_status ON tasks(project_id, status_id) ALGORITHM=INPLACE LOCK=NONE;
+-- Tâches : assigné + échéance + statut (tâches d'un utilisateur, retards par utilisateur)
+CREATE INDEX idx_tasks_assigned_due_status ON tasks(assigned_to, due_date, status_id) ALGORITHM=INPLACE LOCK=NONE;
+-- Tâches : échéance + statut (retards et échéances proches)
+CREATE INDEX idx_tasks_due_status ON tasks(due_date, status_id) ALGORITHM=INPLACE LOCK=NONE;
+
+-- Historique : tâche + date (historique récent d'une tâche)
+CREATE INDEX idx_task_history_task_created ON task_history(task_id, created_at) ALGORITHM=INPLACE LOCK=NONE;
+
+-- Notifications : utilisateur + lu (non lues, compteur), utilisateur + date (récentes), entité liée
+CREATE INDEX idx_notifications_user_read ON notifications(user_id, is_read) ALGORITHM=INPLACE LOCK=NONE;
+CREATE INDEX idx_notifications_user_created ON notifications(user_id, created_at) ALGORITHM=INPLACE LOCK=NONE;
+CREATE INDEX idx_notifications_related ON notifications(related_entity_type, related_entity_id) ALGORITHM=INPLACE LOCK=NONE;
+
+-- Index mono-colonne devenus redondants (préfixes des composites ci-dessus, qui couvrent aussi les clés étrangères)
+DROP INDEX idx_tasks_project ON tasks ALGORITHM=INPLACE LOCK=NONE;
+DROP INDEX idx_tasks_assigned ON tasks ALGORITHM=INPLACE LOCK=NONE;
+DROP INDEX idx_task_history_task ON task_history ALGORITHM=INPLACE LOCK=NONE;
+DROP INDEX idx_notifications_user ON notifications ALGORITHM=INPLACE LOCK=NONE;
+-- is_read seul est trop peu sélectif pour servir une requête
+DROP INDEX idx_notifications_read ON notifications ALGORITHM=INPLACE LOCK=NONE;
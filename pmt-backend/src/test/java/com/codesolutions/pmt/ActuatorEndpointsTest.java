@@ -0,0 +1,54 @@
+package com.codesolutions.pmt;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        // Base dédiée (testdb est partagée avec PmtBackendApplicationTests), servie par le pool Hikari
+        "spring.datasource.url=jdbc:h2:mem:actuator;DB_CLOSE_DELAY=-1"
+})
+class ActuatorEndpointsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void health_IsUp() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"));
+    }
+
+    @Test
+    void prometheus_ExposesServiceRepositoryAndPoolMetrics() throws Exception {
+        // Given : une requête qui traverse contrôleur, service et repository
+        mockMvc.perform(get("/api/tasks/999999"));
+
+        // Then
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("pmt_service_seconds_bucket{")))
+                .andExpect(content().string(containsString("class=\"com.codesolutions.pmt.service.TaskService\"")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket{")))
+                .andExpect(content().string(containsString("pmt_http_sql_statements_count{")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")))
+                .andExpect(content().string(containsString("pmt_task_history_queue_size")))
+                .andExpect(content().string(containsString("cache_gets_total{")))
+                .andExpect(content().string(containsString("hibernate_sessions_open_total{")));
+    }
+}
@@ -0,0 +1,82 @@
+package com.codesolutions.pmt;
+
+import com.codesolutions.pmt.service.LoginRateLimiter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Adresse du client derrière le proxy nginx : passe par Tomcat (RemoteIpValve), donc par un vrai port HTTP
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.datasource.url=jdbc:h2:mem:loginclientaddress;DB_CLOSE_DELAY=-1"
+})
+class LoginClientAddressTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @MockBean
+    private LoginRateLimiter loginRateLimiter;
+
+    @Test
+    void login_FromTrustedProxy_RateLimitsForwardedClient() {
+        // When : le test se connecte depuis la boucle locale, comme nginx depuis le réseau Docker
+        ResponseEntity<String> response = login("203.0.113.7");
+
+        // Then
+        assertEquals(429, response.getStatusCode().value());
+        verify(loginRateLimiter).tryAcquire("eve@example.com", "203.0.113.7");
+    }
+
+    @Test
+    void login_SpoofedForwardedFor_KeepsAddressSeenByProxy() {
+        // When : le client ajoute sa propre valeur, nginx ajoute l'adresse réelle à la fin
+        ResponseEntity<String> response = login("198.51.100.1, 203.0.113.8");
+
+        // Then : seule l'entrée ajoutée par le proxy de confiance est retenue
+        assertEquals(429, response.getStatusCode().value());
+        verify(loginRateLimiter).tryAcquire("eve@example.com", "203.0.113.8");
+    }
+
+    @Test
+    void login_WithoutForwardedFor_UsesConnectionAddress() {
+        // When
+        login(null);
+
+        // Then
+        verify(loginRateLimiter).tryAcquire(eq("eve@example.com"), argThat(address -> address.startsWith("127.")
+                || address.equals("0:0:0:0:0:0:0:1")));
+    }
+
+    private ResponseEntity<String> login(String forwardedFor) {
+        // Limite atteinte : la réponse ne dépend que de l'adresse transmise au limiteur
+        when(loginRateLimiter.tryAcquire(anyString(), any())).thenReturn(Optional.of(Duration.ofSeconds(5)));
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (forwardedFor != null) {
+            headers.set("X-Forwarded-For", forwardedFor);
+        }
+        return restTemplate.postForEntity("/api/users/login",
+                new HttpEntity<>("{\"email\":\"eve@example.com\",\"password\":\"secret\"}", headers), String.class);
+    }
+}
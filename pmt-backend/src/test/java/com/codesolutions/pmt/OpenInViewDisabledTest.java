@@ -0,0 +1,182 @@
+package com.codesolutions.pmt;
+
+import com.codesolutions.pmt.entity.*;
+import com.codesolutions.pmt.repository.*;
+import com.codesolutions.pmt.service.ReferenceDataCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * spring.jpa.open-in-view=false : les contrôleurs convertissent les entités renvoyées par les services
+ * hors de toute session, les relations utilisées doivent donc être chargées par les services
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.datasource.url=jdbc:h2:mem:openinview;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false"
+})
+class OpenInViewDisabledTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private TaskHistoryRepository taskHistoryRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    private User user;
+    private User other;
+    private Role role;
+    private TaskStatus todo;
+    private Project project;
+    private ProjectMember member;
+    private Task task;
+    private TaskHistory history;
+    private Notification notification;
+    private final List<String> failures = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        int n = SEQUENCE.incrementAndGet();
+        user = userRepository.save(new User("oiv" + n, "oiv" + n + "@example.com", "password"));
+        other = userRepository.save(new User("oiv" + n + "b", "oiv" + n + "b@example.com", "password"));
+        // Le schéma généré par Hibernate démarre sans données de référence
+        role = roleRepository.findByName("MEMBER").orElseGet(() -> roleRepository.save(new Role("MEMBER")));
+        todo = taskStatusRepository.findByName("TODO").orElseGet(() -> taskStatusRepository.save(new TaskStatus("TODO")));
+        taskStatusRepository.findByName("IN_PROGRESS").orElseGet(() -> taskStatusRepository.save(new TaskStatus("IN_PROGRESS")));
+        project = projectRepository.save(new Project("Projet " + n, "Description", LocalDate.now(), user));
+        member = projectMemberRepository.save(new ProjectMember(project, user, role));
+        Task newTask = new Task("Tâche " + n, null, todo, project, user);
+        newTask.setAssignedTo(user);
+        task = taskRepository.save(newTask);
+        history = taskHistoryRepository.save(new TaskHistory(task, user, "CREATED"));
+        notification = notificationRepository.save(new Notification(user, "Titre", "Message", "TASK_ASSIGNED", "TASK", task.getId()));
+        // Le contexte est partagé entre classes de test : repartir des rôles et statuts créés ici
+        referenceDataCache.refresh();
+    }
+
+    @Test
+    void readEndpoints_ConvertEntitiesWithoutOpenSession() throws Exception {
+        for (String url : List.of(
+                "/api/notifications",
+                "/api/notifications/" + notification.getId(),
+                "/api/notifications/user/" + user.getId(),
+                "/api/notifications/user/" + user.getId() + "/unread",
+                "/api/notifications/project/" + project.getId(),
+                "/api/project-members",
+                "/api/project-members/" + member.getId(),
+                "/api/project-members/project/" + project.getId(),
+                "/api/project-members/user/" + user.getId(),
+                "/api/project-members/role/" + role.getId(),
+                "/api/project-members/check/" + project.getId() + "/" + user.getId(),
+                "/api/project-members/test/" + project.getId(),
+                "/api/roles",
+                "/api/roles/" + role.getId(),
+                "/api/tasks",
+                "/api/tasks/" + task.getId(),
+                "/api/tasks/project/" + project.getId(),
+                "/api/tasks/status/" + todo.getId(),
+                "/api/tasks/assigned/" + user.getId(),
+                "/api/tasks/assignee/" + user.getId(),
+                "/api/task-history",
+                "/api/task-history/" + history.getId(),
+                "/api/task-history/task/" + task.getId(),
+                "/api/task-history/project/" + project.getId(),
+                "/api/task-history/user/" + user.getId(),
+                "/api/task-history/action/CREATED",
+                "/api/task-history/task/" + task.getId() + "/recent",
+                "/api/projects",
+                "/api/projects/" + project.getId(),
+                "/api/projects/user/" + user.getId(),
+                "/api/projects/created-by/" + user.getId(),
+                "/api/users",
+                "/api/users/" + user.getId(),
+                "/api/users/project/" + project.getId(),
+                "/api/dashboard/" + user.getId())) {
+            expectOk(get(url));
+        }
+        assertTrue(failures.isEmpty(), String.join("\n", failures));
+    }
+
+    @Test
+    void writeEndpoints_ConvertEntitiesWithoutOpenSession() throws Exception {
+        expectOk(post("/api/notifications").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"T\",\"message\":\"M\",\"type\":\"INFO\",\"userId\":" + user.getId() + "}"));
+        expectOk(put("/api/notifications/" + notification.getId() + "/read"));
+
+        expectOk(post("/api/project-members").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"projectId\":" + project.getId() + ",\"userId\":" + other.getId() + ",\"roleId\":" + role.getId() + "}"));
+        expectOk(put("/api/project-members/" + member.getId() + "/role/" + role.getId()));
+
+        expectOk(post("/api/tasks").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"Nouvelle\",\"projectId\":" + project.getId() + ",\"createdById\":" + user.getId() + "}"));
+        expectOk(put("/api/tasks/" + task.getId()).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"Renommée\"}"));
+        expectOk(put("/api/tasks/" + task.getId() + "/assign/" + other.getId()));
+        expectOk(put("/api/tasks/" + task.getId() + "/status/" + todo.getId()));
+        assertTrue(failures.isEmpty(), String.join("\n", failures));
+    }
+
+    /**
+     * Toutes les requêtes sont exécutées, les échecs sont rapportés ensemble
+     */
+    private void expectOk(MockHttpServletRequestBuilder request) {
+        String description = request.buildRequest(new MockServletContext()).getMethod() + " "
+                + request.buildRequest(new MockServletContext()).getRequestURI();
+        try {
+            mockMvc.perform(request).andExpect(status().is2xxSuccessful());
+        } catch (Exception | AssertionError e) {
+            Throwable cause = e;
+            while (cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            failures.add(description + " : " + cause);
+        }
+    }
+}
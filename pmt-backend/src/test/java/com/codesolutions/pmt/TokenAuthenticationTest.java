@@ -0,0 +1,195 @@
+package com.codesolutions.pmt;
+
+import com.codesolutions.pmt.service.TokenService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.datasource.url=jdbc:h2:mem:tokenauth;DB_CLOSE_DELAY=-1",
+        "pmt.security.require-authentication=true",
+        "pmt.security.token.secret=" + TokenAuthenticationTest.SECRET,
+        "pmt.security.metrics-token=scrape-secret"
+})
+class TokenAuthenticationTest {
+
+    static final String SECRET = "MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY=";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void api_RequiresValidAccessToken() throws Exception {
+        // Given
+        JsonNode tokens = registerAndLogin("carol");
+        String accessToken = tokens.get("accessToken").asText();
+
+        // Then
+        mockMvc.perform(get("/api/roles"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/roles").header("Authorization", "Bearer " + accessToken + "x"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().exists("WWW-Authenticate"));
+        mockMvc.perform(get("/api/roles").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void refreshAndLogout_RotateAndRevokeTokens() throws Exception {
+        // Given
+        JsonNode tokens = registerAndLogin("dave");
+        String refreshToken = tokens.get("refreshToken").asText();
+
+        // When
+        JsonNode refreshed = objectMapper.readTree(mockMvc.perform(post("/api/users/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"" + refreshToken + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value("dave"))
+                .andReturn().getResponse().getContentAsString());
+
+        // Then : l'ancien jeton de rafraîchissement est consommé
+        assertNotEquals(refreshToken, refreshed.get("refreshToken").asText());
+        mockMvc.perform(post("/api/users/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"" + refreshToken + "\"}"))
+                .andExpect(status().isUnauthorized());
+
+        // When
+        String accessToken = refreshed.get("accessToken").asText();
+        mockMvc.perform(post("/api/users/logout")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"" + refreshed.get("refreshToken").asText() + "\"}"))
+                .andExpect(status().isNoContent());
+
+        // Then
+        mockMvc.perform(get("/api/roles").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void logout_WithExpiredAccessToken_RevokesRefreshToken() throws Exception {
+        // Given : jeton d'accès de même signature, expiré depuis une heure
+        JsonNode tokens = registerAndLogin("heidi");
+        TokenService expiredIssuer = new TokenService(SECRET);
+        ReflectionTestUtils.setField(expiredIssuer, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(expiredIssuer, "clock", Clock.offset(Clock.systemUTC(), Duration.ofHours(-1)));
+        String expiredAccessToken = expiredIssuer.issue(tokens.get("id").asLong(), "heidi").accessToken();
+        String refreshToken = tokens.get("refreshToken").asText();
+
+        // When
+        mockMvc.perform(post("/api/users/logout")
+                        .header("Authorization", "Bearer " + expiredAccessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"" + refreshToken + "\"}"))
+                .andExpect(status().isNoContent());
+
+        // Then
+        mockMvc.perform(post("/api/users/refresh")
+                        .header("Authorization", "Bearer " + expiredAccessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"" + refreshToken + "\"}"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void userScopedEndpoints_OnlyServeTheTokenUser() throws Exception {
+        // Given
+        JsonNode tokens = registerAndLogin("frank");
+        long userId = tokens.get("id").asLong();
+        long otherUserId = userId + 1000;
+        String bearer = "Bearer " + tokens.get("accessToken").asText();
+
+        // Then
+        mockMvc.perform(get("/api/dashboard/" + userId).header("Authorization", bearer))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/notifications/user/" + userId + "/unread").header("Authorization", bearer))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/dashboard/" + otherUserId).header("Authorization", bearer))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/notifications/user/" + otherUserId + "/unread").header("Authorization", bearer))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(put("/api/notifications/user/" + otherUserId + "/read-all").header("Authorization", bearer))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/tasks/assigned/" + otherUserId).header("Authorization", bearer))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/projects/user/" + otherUserId).header("Authorization", bearer))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/users/" + otherUserId).header("Authorization", bearer))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/dashboard/" + userId))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void metricsEndpoints_RequireScrapeToken() throws Exception {
+        // Given
+        JsonNode tokens = registerAndLogin("grace");
+        String userBearer = "Bearer " + tokens.get("accessToken").asText();
+
+        // Then
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus").header("Authorization", userBearer))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/metrics").header("Authorization", userBearer))
+                .andExpect(status().isForbidden());
+        // Export Prometheus désactivé en test : l'accès du collecteur est vérifié sur /actuator/metrics
+        mockMvc.perform(get("/actuator/metrics").header("Authorization", "Bearer scrape-secret"))
+                .andExpect(status().isOk());
+        // Le jeton de collecte ne donne pas accès à l'API
+        mockMvc.perform(get("/api/roles").header("Authorization", "Bearer scrape-secret"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void updateTask_ActorOtherThanTokenUser_IsForbidden() throws Exception {
+        // Given
+        JsonNode tokens = registerAndLogin("erin");
+        long otherUserId = tokens.get("id").asLong() + 1000;
+
+        // When & Then : l'auteur est vérifié avant toute lecture de la tâche
+        mockMvc.perform(put("/api/tasks/999999")
+                        .header("Authorization", "Bearer " + tokens.get("accessToken").asText())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Renommée\",\"updatedById\":" + otherUserId + "}"))
+                .andExpect(status().isForbidden());
+    }
+
+    private JsonNode registerAndLogin(String username) throws Exception {
+        mockMvc.perform(post("/api/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + username + "\",\"email\":\"" + username + "@example.com\",\"password\":\"password123\"}"))
+                .andExpect(status().isCreated());
+        return objectMapper.readTree(mockMvc.perform(post("/api/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + username + "@example.com\",\"password\":\"password123\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+}
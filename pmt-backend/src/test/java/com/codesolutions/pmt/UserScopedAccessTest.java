@@ -0,0 +1,64 @@
+package com.codesolutions.pmt;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Authentification non exigée : l'API reste ouverte aux requêtes anonymes, mais un jeton présenté
+ * ne donne pas accès aux données d'un autre utilisateur
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.datasource.url=jdbc:h2:mem:userscope;DB_CLOSE_DELAY=-1",
+        "pmt.security.require-authentication=false"
+})
+class UserScopedAccessTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void userScopedEndpoints_AnonymousAllowed_OtherTokenUserForbidden() throws Exception {
+        // Given
+        JsonNode tokens = registerAndLogin("heidi");
+        long userId = tokens.get("id").asLong();
+        String bearer = "Bearer " + tokens.get("accessToken").asText();
+
+        // Then
+        mockMvc.perform(get("/api/notifications/user/" + (userId + 1000)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/notifications/user/" + userId).header("Authorization", bearer))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/notifications/user/" + (userId + 1000)).header("Authorization", bearer))
+                .andExpect(status().isForbidden());
+    }
+
+    private JsonNode registerAndLogin(String username) throws Exception {
+        mockMvc.perform(post("/api/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + username + "\",\"email\":\"" + username + "@example.com\",\"password\":\"password123\"}"))
+                .andExpect(status().isCreated());
+        return objectMapper.readTree(mockMvc.perform(post("/api/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + username + "@example.com\",\"password\":\"password123\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+}
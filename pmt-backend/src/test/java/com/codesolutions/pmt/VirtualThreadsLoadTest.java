@@ -0,0 +1,169 @@
+package com.codesolutions.pmt;
+
+import com.codesolutions.pmt.config.ConnectionLimitingDataSource;
+import com.codesolutions.pmt.entity.Project;
+import com.codesolutions.pmt.entity.Task;
+import com.codesolutions.pmt.entity.TaskStatus;
+import com.codesolutions.pmt.entity.User;
+import com.codesolutions.pmt.repository.ProjectRepository;
+import com.codesolutions.pmt.repository.TaskRepository;
+import com.codesolutions.pmt.repository.TaskStatusRepository;
+import com.codesolutions.pmt.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Latence de GET /api/tasks/project/{id} sous 2000 clients simultanés, threads Tomcat classiques puis threads virtuels.
+ * Désactivé par défaut : mvn test -Dtest=VirtualThreadsLoadTest -Dbenchmark=true
+ * Base H2 en mémoire par défaut ; pour MySQL : -Dload.jdbc-url=... -Dload.username=... -Dload.password=...
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class VirtualThreadsLoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("load.clients", 2000);
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("load.requests", 10);
+    private static final int TASKS_PER_PROJECT = 50;
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        System.out.printf("%n=== GET /api/tasks/project/{id} : %d clients x %d requêtes ===%n", CLIENTS, REQUESTS_PER_CLIENT);
+        System.out.printf("Threads classiques : %s%n", platform);
+        System.out.printf("Threads virtuels   : %s%n", virtual);
+        System.out.printf("p99 : x%.2f%n", platform.p99Millis / virtual.p99Millis);
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = start(virtualThreads)) {
+            assertEquals(virtualThreads, context.getBean(DataSource.class) instanceof ConnectionLimitingDataSource);
+            Long projectId = seed(context);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/api/tasks/project/" + projectId);
+
+            try (HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .build()) {
+                load(client, uri, Math.min(CLIENTS, 200), 5);
+                return load(client, uri, CLIENTS, REQUESTS_PER_CLIENT);
+            }
+        }
+    }
+
+    private Result load(HttpClient client, URI uri, int clients, int requestsPerClient) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+        CountDownLatch ready = new CountDownLatch(1);
+        AtomicInteger errors = new AtomicInteger();
+        List<Future<long[]>> futures = new ArrayList<>(clients);
+        long start;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                futures.add(executor.submit(() -> {
+                    ready.await();
+                    long[] latencies = new long[requestsPerClient];
+                    for (int r = 0; r < requestsPerClient; r++) {
+                        long sent = System.nanoTime();
+                        try {
+                            if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[r] = System.nanoTime() - sent;
+                    }
+                    return latencies;
+                }));
+            }
+            start = System.nanoTime();
+            ready.countDown();
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        long[] all = new long[clients * requestsPerClient];
+        int i = 0;
+        for (Future<long[]> future : futures) {
+            for (long latency : future.get()) {
+                all[i++] = latency;
+            }
+        }
+        Arrays.sort(all);
+        return new Result(percentile(all, 0.50), percentile(all, 0.99), all.length / elapsedSeconds, errors.get());
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtualThreads) {
+        String mode = virtualThreads ? "virtual" : "platform";
+        // Arguments de ligne de commande : prioritaires sur application-test.properties
+        return new SpringApplicationBuilder(PmtBackendApplication.class)
+                .profiles("test")
+                .run(
+                        "--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.datasource.url=" + System.getProperty("load.jdbc-url", "jdbc:h2:mem:load-" + mode + ";DB_CLOSE_DELAY=-1"),
+                        "--spring.datasource.username=" + System.getProperty("load.username", "sa"),
+                        "--spring.datasource.password=" + System.getProperty("load.password", ""),
+                        "--spring.jpa.properties.hibernate.dialect=" + (System.getProperty("load.jdbc-url") == null
+                                ? "org.hibernate.dialect.H2Dialect" : "org.hibernate.dialect.MySQLDialect"),
+                        "--spring.datasource.hikari.maximum-pool-size=20",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.com.codesolutions.pmt=WARN",
+                        "--logging.level.org.springframework.security=WARN");
+    }
+
+    private static Long seed(ConfigurableApplicationContext context) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        ProjectRepository projectRepository = context.getBean(ProjectRepository.class);
+        TaskRepository taskRepository = context.getBean(TaskRepository.class);
+        TaskStatusRepository taskStatusRepository = context.getBean(TaskStatusRepository.class);
+        TaskStatus status = taskStatusRepository.findByName("TODO")
+                .orElseGet(() -> taskStatusRepository.save(new TaskStatus("TODO")));
+
+        long suffix = System.nanoTime();
+        User creator = userRepository.save(new User("load" + suffix, "load" + suffix + "@example.com", "password"));
+        Project project = projectRepository.save(new Project("Charge " + suffix, "Test de charge", LocalDate.now(), creator));
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS_PER_PROJECT; i++) {
+            Task task = new Task("Tâche " + i, "Description de la tâche " + i, status, project, creator);
+            task.setAssignedTo(creator);
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+        return project.getId();
+    }
+
+    private static double percentile(long[] sortedNanos, double quantile) {
+        int index = (int) Math.ceil(quantile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private record Result(double p50Millis, double p99Millis, double throughput, int errors) {
+        @Override
+        public String toString() {
+            return String.format("p50 %8.1f ms, p99 %8.1f ms, %8.0f req/s, %d erreurs", p50Millis, p99Millis, throughput, errors);
+        }
+    }
+}
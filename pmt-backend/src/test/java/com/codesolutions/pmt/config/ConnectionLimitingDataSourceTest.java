@@ -0,0 +1,82 @@
+package com.codesolutions.pmt.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionLimitingDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    @Test
+    void getConnection_ReleasesPermitOnceOnClose() throws Exception {
+        // Given
+        when(target.getConnection()).thenReturn(connection);
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 2, 100);
+
+        // When
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+
+        // Then
+        assertEquals(0, dataSource.getAvailablePermits());
+        first.close();
+        first.close();
+        assertEquals(1, dataSource.getAvailablePermits());
+        second.close();
+        assertEquals(2, dataSource.getAvailablePermits());
+        verify(connection, times(3)).close();
+    }
+
+    @Test
+    void getConnection_TimesOutWhenAllPermitsAreTaken() throws Exception {
+        // Given
+        when(target.getConnection()).thenReturn(connection);
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 1, 50);
+        dataSource.getConnection();
+
+        // When & Then
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        verify(target, times(1)).getConnection();
+    }
+
+    @Test
+    void getConnection_ReleasesPermitWhenPoolFails() throws Exception {
+        // Given
+        when(target.getConnection()).thenThrow(new SQLException("Pool indisponible"));
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 1, 50);
+
+        // When & Then
+        assertThrows(SQLException.class, dataSource::getConnection);
+        assertEquals(1, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    void connection_DelegatesOtherCalls() throws Exception {
+        // Given
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(false);
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 1, 50);
+
+        // When
+        Connection guarded = dataSource.getConnection();
+
+        // Then
+        assertFalse(guarded.getAutoCommit());
+        assertEquals(0, dataSource.getAvailablePermits());
+    }
+}
@@ -0,0 +1,50 @@
+package com.codesolutions.pmt.config;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CorrelationIdFilterTest {
+
+    private final CorrelationIdFilter filter = new CorrelationIdFilter();
+
+    @Test
+    void doFilter_ReusesIncomingRequestId() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/1");
+        request.addHeader(CorrelationIdFilter.HEADER, "frontend-42");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> seenInChain = new AtomicReference<>();
+
+        // When
+        filter.doFilter(request, response, (req, res) -> seenInChain.set(MDC.get(CorrelationIdFilter.MDC_KEY)));
+
+        // Then
+        assertEquals("frontend-42", seenInChain.get());
+        assertEquals("frontend-42", response.getHeader(CorrelationIdFilter.HEADER));
+        assertNull(MDC.get(CorrelationIdFilter.MDC_KEY));
+    }
+
+    @Test
+    void doFilter_GeneratesIdWhenMissingOrInvalid() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/1");
+        request.addHeader(CorrelationIdFilter.HEADER, "abc\nFAUSSE LIGNE");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, new MockFilterChain());
+
+        // Then
+        String requestId = response.getHeader(CorrelationIdFilter.HEADER);
+        assertNotNull(requestId);
+        assertEquals(36, requestId.length());
+        assertNull(MDC.get(CorrelationIdFilter.MDC_KEY));
+    }
+}
@@ -0,0 +1,69 @@
+package com.codesolutions.pmt.config;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.MigrationInfoService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FlywayConfigTest {
+
+    @Mock
+    private Flyway flyway;
+
+    @Mock
+    private MigrationInfoService migrationInfoService;
+
+    private FlywayConfig flywayConfig;
+
+    @BeforeEach
+    void setUp() {
+        flywayConfig = new FlywayConfig();
+    }
+
+    @Test
+    void verify_MigratesByDefault() {
+        // Given
+        when(flyway.info()).thenReturn(migrationInfoService);
+
+        // When
+        flywayConfig.flywayMigrationStrategy().migrate(flyway);
+
+        // Then
+        verify(flyway).migrate();
+        verify(flyway, never()).validate();
+    }
+
+    @Test
+    void verify_ValidatesOnlyWhenMigrationsRunAheadOfDeployment() {
+        // Given
+        ReflectionTestUtils.setField(flywayConfig, "migrateOnStartup", false);
+        when(flyway.info()).thenReturn(migrationInfoService);
+
+        // When
+        flywayConfig.flywayMigrationStrategy().migrate(flyway);
+
+        // Then
+        verify(flyway).validate();
+        verify(flyway, never()).migrate();
+    }
+
+    @Test
+    void verify_PendingMigrationFailsStartup() {
+        // Given
+        ReflectionTestUtils.setField(flywayConfig, "migrateOnStartup", false);
+        doThrow(new FlywayException("Migration en attente : 2")).when(flyway).validate();
+
+        // When / Then
+        assertThrows(FlywayException.class, () -> flywayConfig.flywayMigrationStrategy().migrate(flyway));
+        verify(flyway, never()).migrate();
+    }
+}
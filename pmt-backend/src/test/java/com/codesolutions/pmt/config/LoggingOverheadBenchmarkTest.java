@@ -0,0 +1,134 @@
+package com.codesolutions.pmt.config;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.function.IntConsumer;
+
+/**
+ * Coût des traces du chemin de mise à jour des tâches : ancien System.out (12 lignes synchrones par requête)
+ * comparé aux logs SLF4J paramétrés, désactivés (INFO) puis activés en synchrone et en asynchrone.
+ * Désactivé par défaut : mvn test -Dtest=LoggingOverheadBenchmarkTest -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class LoggingOverheadBenchmarkTest {
+
+    private static final int WARMUP_REQUESTS = 20_000;
+    private static final int MEASURED_REQUESTS = 100_000;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void compareConsoleAndSlf4jLogging() throws IOException {
+        double println;
+        try (PrintStream out = new PrintStream(new FileOutputStream(tempDir.resolve("stdout.log").toFile()), true,
+                StandardCharsets.UTF_8)) {
+            println = measure(i -> printlnRequest(out, i));
+        }
+
+        LoggerContext context = new LoggerContext();
+        try {
+            Logger disabled = logger(context, "disabled", Level.INFO, fileAppender(context, "disabled.log"));
+            Logger sync = logger(context, "sync", Level.DEBUG, fileAppender(context, "sync.log"));
+            Logger async = logger(context, "async", Level.DEBUG, asyncAppender(context, fileAppender(context, "async.log")));
+
+            double slf4jDisabled = measure(i -> slf4jRequest(disabled, i));
+            double slf4jSync = measure(i -> slf4jRequest(sync, i));
+            double slf4jAsync = measure(i -> slf4jRequest(async, i));
+
+            System.out.printf("%n=== Traces de la mise à jour d'une tâche (%d requêtes simulées) ===%n", MEASURED_REQUESTS);
+            System.out.printf("System.out (12 lignes, autoflush) : %,12.0f req/s%n", println);
+            System.out.printf("SLF4J DEBUG désactivé (INFO)      : %,12.0f req/s (x%.1f)%n", slf4jDisabled, slf4jDisabled / println);
+            System.out.printf("SLF4J DEBUG, fichier synchrone    : %,12.0f req/s (x%.1f)%n", slf4jSync, slf4jSync / println);
+            System.out.printf("SLF4J DEBUG, AsyncAppender        : %,12.0f req/s (x%.1f)%n", slf4jAsync, slf4jAsync / println);
+        } finally {
+            context.stop();
+        }
+    }
+
+    /**
+     * Reproduction des traces supprimées de TaskController et TaskService
+     */
+    private static void printlnRequest(PrintStream out, int i) {
+        long id = i;
+        out.println("=== MISE À JOUR TÂCHE " + id + " ===");
+        out.println("Titre: " + "Tâche " + i);
+        out.println("Description: " + "Description de la tâche " + i);
+        out.println("Priorité: " + "HIGH");
+        out.println("Statut: " + "IN_PROGRESS");
+        out.println("Assigné à: " + (i % 10));
+        out.println("Date d'échéance: " + "2030-01-01");
+        out.println("=====================================");
+        out.println("Mise à jour de la tâche " + id + " avec priorité: " + "HIGH" + ", statut: " + "IN_PROGRESS");
+        out.println("Conversion de priorité: " + "HIGH" + " -> " + "HIGH");
+        out.println("Conversion de statut: " + "IN_PROGRESS" + " -> " + "IN_PROGRESS" + " -> " + "IN_PROGRESS");
+        out.println("Tâche sauvegardée avec priorité: " + "HIGH" + ", statut: " + "IN_PROGRESS");
+    }
+
+    /**
+     * Équivalent actuel : deux messages paramétrés par mise à jour
+     */
+    private static void slf4jRequest(Logger logger, int i) {
+        logger.debug("Mise à jour de la tâche {} (priorité: {}, statut: {})", (long) i, "HIGH", "IN_PROGRESS");
+        logger.debug("Tâche {} mise à jour : {} modification(s)", (long) i, 3);
+    }
+
+    private static double measure(IntConsumer request) {
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            request.accept(i);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_REQUESTS; i++) {
+            request.accept(i);
+        }
+        return MEASURED_REQUESTS / ((System.nanoTime() - start) / 1_000_000_000.0);
+    }
+
+    private static Logger logger(LoggerContext context, String name, Level level, Appender<ILoggingEvent> appender) {
+        Logger logger = context.getLogger(name);
+        logger.setLevel(level);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+        return logger;
+    }
+
+    private FileAppender<ILoggingEvent> fileAppender(LoggerContext context, String fileName) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{ISO8601} %-5level [%thread] %logger{36} [%X{requestId:-}] %msg%n");
+        encoder.start();
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(context);
+        appender.setFile(tempDir.resolve(fileName).toString());
+        appender.setEncoder(encoder);
+        appender.start();
+        return appender;
+    }
+
+    private static AsyncAppender asyncAppender(LoggerContext context, Appender<ILoggingEvent> delegate) {
+        // Mêmes réglages que le profil prod de logback-spring.xml
+        AsyncAppender appender = new AsyncAppender();
+        appender.setContext(context);
+        appender.setQueueSize(8192);
+        appender.setDiscardingThreshold(1638);
+        appender.setNeverBlock(true);
+        appender.addAppender(delegate);
+        appender.start();
+        return appender;
+    }
+}
@@ -0,0 +1,83 @@
+package com.codesolutions.pmt.config;
+
+import com.codesolutions.pmt.service.NotificationStreamService;
+import com.codesolutions.pmt.service.ReferenceDataCache;
+import com.codesolutions.pmt.service.TaskHistoryWriter;
+import com.codesolutions.pmt.service.UnreadCountCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MetricsConfigTest {
+
+    @Mock
+    private TaskHistoryWriter taskHistoryWriter;
+
+    @Mock
+    private NotificationStreamService notificationStreamService;
+
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
+    private final MetricsConfig metricsConfig = new MetricsConfig();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void unreadCountCacheMetrics_FollowCacheCounters() {
+        // Given
+        UnreadCountCache cache = new UnreadCountCache(100, Duration.ofMinutes(10));
+        metricsConfig.unreadCountCacheMetrics(cache).bindTo(meterRegistry);
+
+        // When
+        cache.get(1L, () -> 3);
+        cache.get(1L, () -> 3);
+        cache.get(2L, () -> 0);
+
+        // Then
+        assertEquals(1, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(2, meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count());
+        assertEquals(2, meterRegistry.get("cache.size").tag("cache", "unreadCount").gauge().value());
+    }
+
+    @Test
+    void taskHistoryWriterMetrics_ExposeQueueAndCounters() {
+        // Given
+        when(taskHistoryWriter.getQueueSize()).thenReturn(12);
+        when(taskHistoryWriter.getWrittenCount()).thenReturn(340L);
+        when(taskHistoryWriter.getFailedCount()).thenReturn(2L);
+        metricsConfig.taskHistoryWriterMetrics(taskHistoryWriter).bindTo(meterRegistry);
+
+        // Then
+        assertEquals(12, meterRegistry.get("pmt.task_history.queue.size").gauge().value());
+        assertEquals(340, meterRegistry.get("pmt.task_history.events").tag("state", "written").functionCounter().count());
+        assertEquals(2, meterRegistry.get("pmt.task_history.events").tag("state", "failed").functionCounter().count());
+    }
+
+    @Test
+    void streamAndReferenceDataMetrics() {
+        // Given
+        when(notificationStreamService.getConnectionCount()).thenReturn(5);
+        when(referenceDataCache.getLoadCount()).thenReturn(3L);
+        metricsConfig.notificationStreamMetrics(notificationStreamService).bindTo(meterRegistry);
+        metricsConfig.referenceDataCacheMetrics(referenceDataCache).bindTo(meterRegistry);
+
+        // Then
+        assertEquals(5, meterRegistry.get("pmt.notifications.stream.connections").gauge().value());
+        assertEquals(3, meterRegistry.get("pmt.reference_data.loads").functionCounter().count());
+    }
+}
@@ -0,0 +1,89 @@
+package com.codesolutions.pmt.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Règles des scripts de migration : versions continues, et modifications de tables existantes faites en ligne
+ * (ALGORITHM=INPLACE ou INSTANT, LOCK=NONE) pour ne pas bloquer les écritures pendant la migration.
+ */
+class MigrationScriptsTest {
+
+    private static final Pattern FILE_NAME = Pattern.compile("V(\\d+)__\\w+\\.sql");
+
+    /**
+     * Instructions qui reconstruisent ou verrouillent une table existante si l'algorithme n'est pas précisé
+     */
+    private static final Pattern TABLE_CHANGE = Pattern.compile("^(CREATE (UNIQUE )?INDEX|DROP INDEX|ALTER TABLE)\\b");
+
+    private Map<Integer, String> scripts;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        scripts = new TreeMap<>();
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources("classpath:db/migration/*.sql")) {
+            Matcher matcher = FILE_NAME.matcher(resource.getFilename());
+            assertTrue(matcher.matches(), "Nom de migration invalide : " + resource.getFilename());
+            String previous = scripts.put(Integer.parseInt(matcher.group(1)), resource.getContentAsString(StandardCharsets.UTF_8));
+            assertNull(previous, "Version de migration en double : " + resource.getFilename());
+        }
+    }
+
+    @Test
+    void versions_StartAtBaselineWithoutGaps() {
+        assertFalse(scripts.isEmpty());
+        int expected = 1;
+        for (Integer version : scripts.keySet()) {
+            assertEquals(expected++, version, "Numérotation des migrations discontinue");
+        }
+    }
+
+    @Test
+    void changesAfterBaseline_AreOnline() {
+        scripts.forEach((version, script) -> {
+            if (version == 1) {
+                return;
+            }
+            for (String statement : statements(script)) {
+                if (!TABLE_CHANGE.matcher(statement).find()) {
+                    continue;
+                }
+                assertTrue(statement.matches("(?s).*\\bALGORITHM\\s*=\\s*(INPLACE|INSTANT)\\b.*"),
+                        "V" + version + " : ALGORITHM=INPLACE ou INSTANT manquant : " + statement);
+                if (!statement.matches("(?s).*\\bALGORITHM\\s*=\\s*INSTANT\\b.*")) {
+                    assertTrue(statement.matches("(?s).*\\bLOCK\\s*=\\s*NONE\\b.*"),
+                            "V" + version + " : LOCK=NONE manquant : " + statement);
+                }
+            }
+        });
+    }
+
+    private static List<String> statements(String script) {
+        List<String> statements = new ArrayList<>();
+        StringBuilder withoutComments = new StringBuilder();
+        for (String line : script.split("\n")) {
+            int comment = line.indexOf("--");
+            withoutComments.append(comment >= 0 ? line.substring(0, comment) : line).append('\n');
+        }
+        for (String statement : withoutComments.toString().split(";")) {
+            String normalized = statement.strip().replaceAll("\\s+", " ").toUpperCase(Locale.ROOT);
+            if (!normalized.isEmpty()) {
+                statements.add(normalized);
+            }
+        }
+        return statements;
+    }
+}
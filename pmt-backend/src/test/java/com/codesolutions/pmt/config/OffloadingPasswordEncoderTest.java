@@ -0,0 +1,118 @@
+package com.codesolutions.pmt.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffloadingPasswordEncoderTest {
+
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1), new CustomizableThreadFactory("pmt-password-"));
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void encodeAndMatches_RunOnDedicatedPool() {
+        // Given
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(4);
+        PasswordEncoder recording = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                threads.add(Thread.currentThread().getName());
+                return bcrypt.encode(rawPassword);
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                threads.add(Thread.currentThread().getName());
+                return bcrypt.matches(rawPassword, encodedPassword);
+            }
+        };
+        OffloadingPasswordEncoder encoder = new OffloadingPasswordEncoder(recording, executor, Duration.ofSeconds(5));
+
+        // When
+        String hash = encoder.encode("password123");
+
+        // Then
+        assertTrue(encoder.matches("password123", hash));
+        assertFalse(encoder.matches("wrongpassword", hash));
+        assertEquals(Set.of("pmt-password-1"), threads);
+    }
+
+    @Test
+    void upgradeEncoding_DetectsLowerCostFactor() {
+        // Given
+        String weakHash = new BCryptPasswordEncoder(4).encode("password123");
+        OffloadingPasswordEncoder encoder = new OffloadingPasswordEncoder(new BCryptPasswordEncoder(5), executor, Duration.ofSeconds(5));
+
+        // Then
+        assertTrue(encoder.upgradeEncoding(weakHash));
+        assertFalse(encoder.upgradeEncoding(encoder.encode("password123")));
+    }
+
+    @Test
+    void matches_PoolAndQueueFull_RejectedImmediately() throws Exception {
+        // Given : le seul thread est bloqué et la file (1 place) est occupée
+        CountDownLatch release = new CountDownLatch(1);
+        OffloadingPasswordEncoder encoder = new OffloadingPasswordEncoder(blockingEncoder(release), executor, Duration.ofSeconds(5));
+        executor.execute(() -> await(release));
+        executor.execute(() -> await(release));
+
+        // When & Then
+        long start = System.nanoTime();
+        assertThrows(OffloadingPasswordEncoder.PasswordHashingUnavailableException.class, () -> encoder.matches("a", "b"));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+        release.countDown();
+    }
+
+    @Test
+    void matches_Timeout_RaisesUnavailable() {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        OffloadingPasswordEncoder encoder = new OffloadingPasswordEncoder(blockingEncoder(release), executor, Duration.ofMillis(50));
+
+        // When & Then
+        assertThrows(OffloadingPasswordEncoder.PasswordHashingUnavailableException.class, () -> encoder.matches("a", "b"));
+        release.countDown();
+    }
+
+    private static PasswordEncoder blockingEncoder(CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                await(release);
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                await(release);
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
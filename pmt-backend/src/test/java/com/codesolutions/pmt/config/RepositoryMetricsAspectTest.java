@@ -0,0 +1,119 @@
+package com.codesolutions.pmt.config;
+
+import com.codesolutions.pmt.entity.Project;
+import com.codesolutions.pmt.entity.Task;
+import com.codesolutions.pmt.entity.TaskStatus;
+import com.codesolutions.pmt.entity.User;
+import com.codesolutions.pmt.repository.TaskRepository;
+import com.codesolutions.pmt.repository.TaskStatusRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(RepositoryMetricsAspectTest.MetricsTestConfig.class)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class RepositoryMetricsAspectTest {
+
+    @TestConfiguration
+    @EnableAspectJAutoProxy
+    static class MetricsTestConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        RepositoryMetricsAspect repositoryMetricsAspect(MeterRegistry meterRegistry) {
+            return new RepositoryMetricsAspect(meterRegistry);
+        }
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        User alice = entityManager.persist(new User("alice", "alice@example.com", "password"));
+        TaskStatus todo = taskStatusRepository.findByName("TODO")
+                .orElseGet(() -> entityManager.persist(new TaskStatus("TODO")));
+        project = entityManager.persist(new Project("Projet", "Description", LocalDate.now(), alice));
+        for (int i = 0; i < 3; i++) {
+            entityManager.persist(new Task("Tâche " + i, null, todo, project, alice));
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    void recordRows_DeclaredAndInheritedMethods() {
+        // When
+        taskRepository.findByProjectIdAsDto(project.getId());
+        taskRepository.findByProjectIdAsDto(999_999L);
+        taskRepository.findAll();
+
+        // Then
+        DistributionSummary byProject = rows("findByProjectIdAsDto");
+        assertEquals(2, byProject.count());
+        assertEquals(3, byProject.totalAmount());
+        assertEquals(3, rows("findAll").totalAmount());
+    }
+
+    @Test
+    void recordRows_IgnoresCounts() {
+        // When
+        taskRepository.count();
+
+        // Then
+        assertNull(meterRegistry.find("pmt.repository.rows").tag("method", "count").summary());
+    }
+
+    @Test
+    void rowCount_ByResultType() {
+        assertEquals(0, RepositoryMetricsAspect.rowCount(null));
+        assertEquals(2, RepositoryMetricsAspect.rowCount(List.of(1, 2)));
+        assertEquals(3, RepositoryMetricsAspect.rowCount(new PageImpl<>(List.of(1, 2, 3))));
+        assertEquals(0, RepositoryMetricsAspect.rowCount(Optional.empty()));
+        assertEquals(1, RepositoryMetricsAspect.rowCount(new Object()));
+        assertEquals(-1, RepositoryMetricsAspect.rowCount(42L));
+        assertEquals(-1, RepositoryMetricsAspect.rowCount(Stream.of(1)));
+    }
+
+    private DistributionSummary rows(String method) {
+        return meterRegistry.get("pmt.repository.rows")
+                .tag("repository", "TaskRepository")
+                .tag("method", method)
+                .summary();
+    }
+}
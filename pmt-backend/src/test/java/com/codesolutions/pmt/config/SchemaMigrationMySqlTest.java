@@ -0,0 +1,55 @@
+package com.codesolutions.pmt.config;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Migrations appliquées sur un vrai MySQL 8 (index en ligne, syntaxe MySQL), puis validation des entités par Hibernate
+ * (ddl-auto=validate de application.properties). Ignoré si Docker n'est pas disponible.
+ */
+@DataJpaTest
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SchemaMigrationMySqlTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void migrations_ReachLatestVersion() {
+        assertEquals(0, flyway.info().pending().length);
+        assertEquals(flyway.info().all()[flyway.info().all().length - 1].getVersion(), flyway.info().current().getVersion());
+        assertEquals(5, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_status", Integer.class));
+    }
+
+    @Test
+    void compositeIndexes_ReplaceSingleColumnIndexes() {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT DISTINCT index_name FROM information_schema.statistics WHERE table_schema = DATABASE()", String.class);
+
+        assertTrue(indexes.containsAll(List.of("idx_tasks_project_status", "idx_tasks_assigned_due_status",
+                "idx_tasks_due_status", "idx_task_history_task_created", "idx_notifications_user_read",
+                "idx_notifications_user_created", "idx_notifications_related")));
+        assertFalse(indexes.contains("idx_tasks_project"));
+        assertFalse(indexes.contains("idx_notifications_read"));
+    }
+}
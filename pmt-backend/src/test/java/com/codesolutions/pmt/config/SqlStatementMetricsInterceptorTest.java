@@ -0,0 +1,64 @@
+package com.codesolutions.pmt.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatementMetricsInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SqlStatementMetricsInterceptor interceptor;
+    private SqlStatementCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new SqlStatementMetricsInterceptor(meterRegistry);
+        counter = new SqlStatementCounter();
+    }
+
+    @Test
+    void afterCompletion_RecordsStatementsPerRoute() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/project/7");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/tasks/project/{projectId}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        interceptor.preHandle(request, response, null);
+        counter.inspect("select 1");
+        counter.inspect("select 2");
+        interceptor.afterCompletion(request, response, null, null);
+        counter.inspect("select 3");
+
+        // Then
+        DistributionSummary summary = meterRegistry.get("pmt.http.sql.statements")
+                .tag("method", "GET")
+                .tag("uri", "/api/tasks/project/{projectId}")
+                .summary();
+        assertEquals(1, summary.count());
+        assertEquals(2, summary.totalAmount());
+        assertEquals(-1, SqlStatementCounter.stop());
+    }
+
+    @Test
+    void asyncRequest_IsNotRecorded() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/project/7/export");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        interceptor.preHandle(request, response, null);
+        interceptor.afterConcurrentHandlingStarted(request, response, null);
+        interceptor.afterCompletion(request, response, null, null);
+
+        // Then
+        assertNull(meterRegistry.find("pmt.http.sql.statements").summary());
+    }
+}
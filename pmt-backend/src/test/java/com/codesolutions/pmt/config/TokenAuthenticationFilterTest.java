@@ -0,0 +1,113 @@
+package com.codesolutions.pmt.config;
+
+import com.codesolutions.pmt.service.TokenService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenAuthenticationFilterTest {
+
+    @Mock
+    private TokenService tokenService;
+
+    @Test
+    void doFilter_ValidToken_AuthenticatesRequest() throws Exception {
+        // Given
+        TokenService.TokenClaims claims = new TokenService.TokenClaims("jti", 42L, "alice", TokenService.ACCESS,
+                Instant.now().plusSeconds(60));
+        when(tokenService.verifyAccessToken("abc")).thenReturn(Optional.of(claims));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/1");
+        request.addHeader("Authorization", "Bearer abc");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<Authentication> seen = new AtomicReference<>();
+
+        // When
+        new TokenAuthenticationFilter(tokenService).doFilter(request, response,
+                (req, res) -> seen.set(SecurityContextHolder.getContext().getAuthentication()));
+
+        // Then
+        assertSame(claims, seen.get().getPrincipal());
+        assertTrue(seen.get().isAuthenticated());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void doFilter_InvalidToken_Returns401() throws Exception {
+        // Given
+        when(tokenService.verifyAccessToken("abc")).thenReturn(Optional.empty());
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/1");
+        request.addHeader("Authorization", "Bearer abc");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        new TokenAuthenticationFilter(tokenService).doFilter(request, response, chain);
+
+        // Then
+        assertEquals(401, response.getStatus());
+        assertNotNull(response.getHeader("WWW-Authenticate"));
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_Logout_SkipsExpiredToken() throws Exception {
+        // Given : jeton d'accès expiré envoyé avec la déconnexion
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/users/logout");
+        request.addHeader("Authorization", "Bearer expired");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        new TokenAuthenticationFilter(tokenService).doFilter(request, response, chain);
+
+        // Then : le contrôleur reçoit la requête et révoque ce qui peut l'être
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+        verifyNoInteractions(tokenService);
+    }
+
+    @Test
+    void doFilter_NoToken_ContinuesAnonymously() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/1");
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        new TokenAuthenticationFilter(tokenService).doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Then
+        assertNotNull(chain.getRequest());
+        verifyNoInteractions(tokenService);
+    }
+
+    @Test
+    void doFilter_MetricsToken_AuthenticatesScraper() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/prometheus");
+        request.addHeader("Authorization", "Bearer scrape-secret");
+        AtomicReference<Authentication> seen = new AtomicReference<>();
+
+        // When
+        new TokenAuthenticationFilter(tokenService, "scrape-secret").doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> seen.set(SecurityContextHolder.getContext().getAuthentication()));
+
+        // Then
+        assertEquals(TokenAuthenticationFilter.METRICS_PRINCIPAL, seen.get().getPrincipal());
+        assertEquals("ROLE_METRICS", seen.get().getAuthorities().iterator().next().getAuthority());
+        verifyNoInteractions(tokenService);
+    }
+}
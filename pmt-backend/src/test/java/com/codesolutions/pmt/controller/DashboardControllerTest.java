@@ -0,0 +1,63 @@
+package com.codesolutions.pmt.controller;
+
+import com.codesolutions.pmt.config.TestSecurityConfig;
+import com.codesolutions.pmt.dto.DashboardDTO;
+import com.codesolutions.pmt.dto.ProjectDTO;
+import com.codesolutions.pmt.service.DashboardService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(DashboardController.class)
+@Import(TestSecurityConfig.class)
+class DashboardControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private DashboardService dashboardService;
+
+    @Test
+    void getDashboard_ShouldReturnDashboard() throws Exception {
+        // Given
+        ProjectDTO project = new ProjectDTO();
+        project.setId(3L);
+        project.setName("Projet");
+        DashboardDTO dashboard = new DashboardDTO(1L, "alice");
+        dashboard.setProjects(List.of(project));
+        dashboard.setProjectCount(12);
+        dashboard.setOverdueTaskCount(2);
+        when(dashboardService.getDashboard(1L)).thenReturn(Optional.of(dashboard));
+
+        // When & Then
+        mockMvc.perform(get("/api/dashboard/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value("alice"))
+                .andExpect(jsonPath("$.projects[0].name").value("Projet"))
+                .andExpect(jsonPath("$.projectCount").value(12))
+                .andExpect(jsonPath("$.overdueTaskCount").value(2));
+
+        verify(dashboardService).getDashboard(1L);
+    }
+
+    @Test
+    void getDashboard_WhenUserNotFound_ShouldReturnNotFound() throws Exception {
+        // Given
+        when(dashboardService.getDashboard(99L)).thenReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(get("/api/dashboard/99"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,127 @@
+package com.codesolutions.pmt.controller;
+
+import com.codesolutions.pmt.dto.NotificationDTO;
+import com.codesolutions.pmt.entity.*;
+import com.codesolutions.pmt.repository.TaskStatusRepository;
+import com.codesolutions.pmt.service.NotificationService;
+import com.codesolutions.pmt.service.NotificationStreamService;
+import com.codesolutions.pmt.service.UnreadCountCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({NotificationController.class, NotificationService.class, NotificationStreamService.class, UnreadCountCache.class})
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class NotificationControllerQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private NotificationController notificationController;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(new User("alice", "alice@example.com", "password"));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void getNotificationsByUser_QueryCountIndependentOfSize() {
+        seedNotifications(5);
+        long small = countStatementsForUserNotifications(10);
+
+        seedNotifications(100);
+        long large = countStatementsForUserNotifications(210);
+
+        // notifications + utilisateur, projets (IN), tâches (IN)
+        assertEquals(3, small);
+        assertEquals(small, large);
+    }
+
+    @Test
+    void getNotificationsByUser_EnrichesProjectAndTask() {
+        Project project = entityManager.persist(new Project("Projet", "Description", LocalDate.now(), user));
+        Task task = entityManager.persist(new Task("Tâche", null, status(), project, user));
+        entityManager.persist(new Notification(user, "P", "Projet", "PROJECT_MEMBER_ADDED", "PROJECT", project.getId()));
+        entityManager.persist(new Notification(user, "T", "Tâche", "TASK_ASSIGNED", "TASK", task.getId()));
+        entityManager.persist(new Notification(user, "X", "Supprimée", "TASK_ASSIGNED", "TASK", 999_999L));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<NotificationDTO> dtos = notificationController.getNotificationsByUser(user.getId()).getBody();
+
+        assertNotNull(dtos);
+        NotificationDTO projectDto = dtos.stream().filter(d -> "P".equals(d.getTitle())).findFirst().orElseThrow();
+        assertEquals(project.getId(), projectDto.getProjectId());
+        assertEquals("Projet", projectDto.getProjectName());
+        assertNull(projectDto.getTaskId());
+        assertEquals("alice", projectDto.getUsername());
+
+        NotificationDTO taskDto = dtos.stream().filter(d -> "T".equals(d.getTitle())).findFirst().orElseThrow();
+        assertEquals(task.getId(), taskDto.getTaskId());
+        assertEquals("Tâche", taskDto.getTaskTitle());
+        assertEquals(project.getId(), taskDto.getProjectId());
+        assertEquals("Projet", taskDto.getProjectName());
+
+        NotificationDTO orphanDto = dtos.stream().filter(d -> "X".equals(d.getTitle())).findFirst().orElseThrow();
+        assertNull(orphanDto.getTaskId());
+        assertNull(orphanDto.getProjectId());
+    }
+
+    private long countStatementsForUserNotifications(int expectedSize) {
+        entityManager.clear();
+        statistics.clear();
+        List<NotificationDTO> dtos = notificationController.getNotificationsByUser(user.getId()).getBody();
+        assertNotNull(dtos);
+        assertEquals(expectedSize, dtos.size());
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * Crée, pour chaque projet, une notification de projet et une notification de tâche
+     */
+    private void seedNotifications(int count) {
+        TaskStatus todo = status();
+        for (int i = 0; i < count; i++) {
+            Project project = entityManager.persist(new Project("Projet " + i, "Description", LocalDate.now(), user));
+            Task task = entityManager.persist(new Task("Tâche " + i, null, todo, project, user));
+            entityManager.persist(new Notification(user, "Projet", "Ajouté au projet", "PROJECT_MEMBER_ADDED", "PROJECT", project.getId()));
+            entityManager.persist(new Notification(user, "Tâche", "Tâche assignée", "TASK_ASSIGNED", "TASK", task.getId()));
+        }
+        entityManager.flush();
+    }
+
+    private TaskStatus status() {
+        // Les statuts de base sont déjà insérés par schema-test.sql
+        return taskStatusRepository.findByName("TODO")
+                .orElseGet(() -> entityManager.persist(new TaskStatus("TODO")));
+    }
+}
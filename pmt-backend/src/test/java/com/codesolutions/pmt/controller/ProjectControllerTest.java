@@ -105,7 +105,7 @@ class ProjectControllerTest {
         project2.setName("Project 2");
 
         List<ProjectDTO> projects = Arrays.asList(testProjectDto, project2);
-        when(projectService.findAll()).thenReturn(projects);
+        when(projectService.findAll(false)).thenReturn(projects);
 
         // When & Then
         mockMvc.perform(get("/api/projects"))
@@ -116,7 +116,20 @@ class ProjectControllerTest {
                 .andExpect(jsonPath("$[1].id").value(2))
                 .andExpect(jsonPath("$[1].name").value("Project 2"));
 
-        verify(projectService).findAll();
+        verify(projectService).findAll(false);
+    }
+
+    @Test
+    void getAllProjects_WithMembers_PassesFlag() throws Exception {
+        // Given
+        when(projectService.findAll(true)).thenReturn(Arrays.asList(testProjectDto));
+
+        // When & Then
+        mockMvc.perform(get("/api/projects").param("includeMembers", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1));
+
+        verify(projectService).findAll(true);
     }
 
     @Test
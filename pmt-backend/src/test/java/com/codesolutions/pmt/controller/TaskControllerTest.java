@@ -1,11 +1,17 @@
 package com.codesolutions.pmt.controller;
 
 import com.codesolutions.pmt.config.TestSecurityConfig;
+import com.codesolutions.pmt.dto.TaskBulkErrorDTO;
+import com.codesolutions.pmt.dto.TaskBulkResultDTO;
 import com.codesolutions.pmt.dto.TaskCreateDTO;
+import com.codesolutions.pmt.dto.TaskDTO;
+import com.codesolutions.pmt.dto.TaskSearchCriteria;
 import com.codesolutions.pmt.dto.TaskUpdateDTO;
 import com.codesolutions.pmt.entity.Task;
 import com.codesolutions.pmt.entity.TaskPriority;
 import com.codesolutions.pmt.entity.TaskStatusEnum;
+import com.codesolutions.pmt.service.TaskBulkService;
+import com.codesolutions.pmt.service.TaskExportService;
 import com.codesolutions.pmt.service.TaskService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,8 +20,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -23,6 +33,8 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -39,10 +51,17 @@ class TaskControllerTest {
     @MockBean
     private TaskService taskService;
 
+    @MockBean
+    private TaskBulkService taskBulkService;
+
+    @MockBean
+    private TaskExportService taskExportService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
     private Task testTask;
+    private TaskDTO testTaskDto;
     private TaskCreateDTO testTaskCreateDto;
     private TaskUpdateDTO testTaskUpdateDto;
 
@@ -56,6 +75,8 @@ class TaskControllerTest {
         testTask.setCreatedAt(LocalDateTime.now());
         testTask.setUpdatedAt(LocalDateTime.now());
 
+        testTaskDto = taskDto(1L, "Test Task");
+
         testTaskCreateDto = new TaskCreateDTO();
         testTaskCreateDto.setTitle("Test Task");
         testTaskCreateDto.setDescription("Test Description");
@@ -118,12 +139,8 @@ class TaskControllerTest {
     @Test
     void getAllTasks_Success() throws Exception {
         // Given
-        Task task2 = new Task();
-        task2.setId(2L);
-        task2.setTitle("Task 2");
-
-        List<Task> tasks = Arrays.asList(testTask, task2);
-        when(taskService.getAllTasks()).thenReturn(tasks);
+        List<TaskDTO> tasks = Arrays.asList(testTaskDto, taskDto(2L, "Task 2"));
+        when(taskService.getAllTaskDTOs()).thenReturn(tasks);
 
         // When & Then
         mockMvc.perform(get("/api/tasks"))
@@ -134,7 +151,7 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$[1].id").value(2))
                 .andExpect(jsonPath("$[1].title").value("Task 2"));
 
-        verify(taskService).getAllTasks();
+        verify(taskService).getAllTaskDTOs();
     }
 
     @Test
@@ -168,12 +185,8 @@ class TaskControllerTest {
     @Test
     void getTasksByProject_Success() throws Exception {
         // Given
-        Task task2 = new Task();
-        task2.setId(2L);
-        task2.setTitle("Task 2");
-
-        List<Task> tasks = Arrays.asList(testTask, task2);
-        when(taskService.getTasksByProject(1L)).thenReturn(tasks);
+        List<TaskDTO> tasks = Arrays.asList(testTaskDto, taskDto(2L, "Task 2"));
+        when(taskService.getTaskDTOsByProject(1L)).thenReturn(tasks);
 
         // When & Then
         mockMvc.perform(get("/api/tasks/project/1"))
@@ -182,18 +195,14 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$[0].id").value(1))
                 .andExpect(jsonPath("$[1].id").value(2));
 
-        verify(taskService).getTasksByProject(1L);
+        verify(taskService).getTaskDTOsByProject(1L);
     }
 
     @Test
     void getTasksAssignedToUser_Success() throws Exception {
         // Given
-        Task task2 = new Task();
-        task2.setId(2L);
-        task2.setTitle("Task 2");
-
-        List<Task> tasks = Arrays.asList(testTask, task2);
-        when(taskService.getTasksAssignedToUser(1L)).thenReturn(tasks);
+        List<TaskDTO> tasks = Arrays.asList(testTaskDto, taskDto(2L, "Task 2"));
+        when(taskService.getTaskDTOsAssignedToUser(1L)).thenReturn(tasks);
 
         // When & Then
         mockMvc.perform(get("/api/tasks/assigned/1"))
@@ -202,7 +211,7 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$[0].id").value(1))
                 .andExpect(jsonPath("$[1].id").value(2));
 
-        verify(taskService).getTasksAssignedToUser(1L);
+        verify(taskService).getTaskDTOsAssignedToUser(1L);
     }
 
     @Test
@@ -217,4 +226,189 @@ class TaskControllerTest {
 
         verify(taskService).assignTask(1L, 2L);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void getTasksPage_FirstPage_ReturnsNextCursor() throws Exception {
+        // Given
+        when(taskService.getTasksPage(null, 2))
+                .thenReturn(Arrays.asList(testTaskDto, taskDto(2L, "Task 2"), taskDto(3L, "Task 3")));
+
+        // When & Then
+        mockMvc.perform(get("/api/tasks/page").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.items[1].id").value(2))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andExpect(jsonPath("$.size").value(2))
+                .andExpect(jsonPath("$.nextCursor").value(TaskService.encodeCursor(2L)));
+
+        verify(taskService).getTasksPage(null, 2);
+    }
+
+    @Test
+    void createTasksBulk_Json_ReturnsPerItemResult() throws Exception {
+        // Given
+        TaskBulkResultDTO result = new TaskBulkResultDTO();
+        result.setReceived(2);
+        result.setCreated(1);
+        result.setFailed(1);
+        result.setCreatedIds(List.of(10L));
+        result.setErrors(List.of(new TaskBulkErrorDTO(1, "Le titre de la tâche est obligatoire")));
+        when(taskBulkService.createTasks(anyList())).thenReturn(result);
+
+        // When & Then
+        mockMvc.perform(post("/api/tasks/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(testTaskCreateDto, new TaskCreateDTO()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.createdIds[0]").value(10))
+                .andExpect(jsonPath("$.errors[0].index").value(1));
+
+        verify(taskBulkService).createTasks(argThat(tasks -> tasks.size() == 2));
+    }
+
+    @Test
+    void createTasksBulk_Ndjson_UsesStreamingParser() throws Exception {
+        // Given
+        when(taskBulkService.createTasksFromNdjson(any())).thenReturn(new TaskBulkResultDTO());
+
+        // When & Then
+        mockMvc.perform(post("/api/tasks/bulk")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"title\":\"A\"}\n{\"title\":\"B\"}\n"))
+                .andExpect(status().isOk());
+
+        verify(taskBulkService).createTasksFromNdjson(any());
+        verify(taskBulkService, never()).createTasks(anyList());
+    }
+
+    @Test
+    void exportTasksByProject_Csv_StreamsAsAttachment() throws Exception {
+        // Given
+        when(taskExportService.projectExists(1L)).thenReturn(true);
+        when(taskExportService.exportProjectTasks(eq(1L), eq(TaskExportService.Format.CSV), any())).thenAnswer(invocation -> {
+            java.io.OutputStream out = invocation.getArgument(2);
+            out.write("id,title\n1,Test Task\n".getBytes(java.nio.charset.StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/tasks/project/1/export").param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"project-1-tasks.csv\""))
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(content().string("id,title\n1,Test Task\n"));
+    }
+
+    @Test
+    void exportTasksByProject_UnknownFormat_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/tasks/project/1/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+
+        verify(taskExportService, never()).projectExists(anyLong());
+    }
+
+    @Test
+    void exportTasksByProject_UnknownProject_ReturnsNotFound() throws Exception {
+        when(taskExportService.projectExists(99L)).thenReturn(false);
+
+        mockMvc.perform(get("/api/tasks/project/99/export"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void searchTasks_BindsFiltersAndSort() throws Exception {
+        // Given
+        when(taskService.searchTasks(any(TaskSearchCriteria.class), eq("dueDate"), eq(Sort.Direction.DESC), eq(1), eq(20)))
+                .thenReturn(new PageImpl<>(List.of(testTaskDto), PageRequest.of(1, 20), 21));
+
+        // When & Then
+        mockMvc.perform(get("/api/tasks/search")
+                .param("projectId", "1")
+                .param("status", "TODO", "IN_PROGRESS")
+                .param("priority", "HIGH")
+                .param("dueFrom", "2030-01-01")
+                .param("overdue", "true")
+                .param("sort", "dueDate")
+                .param("direction", "desc")
+                .param("page", "1")
+                .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].title").value("Test Task"))
+                .andExpect(jsonPath("$.page").value(1))
+                .andExpect(jsonPath("$.totalElements").value(21))
+                .andExpect(jsonPath("$.totalPages").value(2));
+
+        verify(taskService).searchTasks(argThat(criteria -> criteria.getProjectId().equals(1L)
+                        && criteria.getStatus().equals(List.of(TaskStatusEnum.TODO, TaskStatusEnum.IN_PROGRESS))
+                        && criteria.getPriority().equals(List.of(TaskPriority.HIGH))
+                        && criteria.getDueFrom().equals(LocalDate.of(2030, 1, 1))
+                        && Boolean.TRUE.equals(criteria.getOverdue())),
+                eq("dueDate"), eq(Sort.Direction.DESC), eq(1), eq(20));
+    }
+
+    @Test
+    void searchTasks_UnknownSortKey_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/tasks/search").param("sort", "password"))
+                .andExpect(status().isBadRequest());
+
+        verify(taskService, never()).searchTasks(any(), any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void getTasksByStatus_FiltersByStatus() throws Exception {
+        when(taskService.getTaskDTOsByStatus(2)).thenReturn(List.of(testTaskDto));
+
+        mockMvc.perform(get("/api/tasks/status/2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+
+        verify(taskService).getTaskDTOsByStatus(2);
+        verify(taskService, never()).getAllTaskDTOs();
+    }
+
+    @Test
+    void getTasksPage_LastPage_NoCursor() throws Exception {
+        // Given
+        when(taskService.getTasksPage(1L, TaskService.DEFAULT_PAGE_SIZE)).thenReturn(Arrays.asList(testTaskDto));
+
+        // When & Then
+        mockMvc.perform(get("/api/tasks/page").param("cursor", TaskService.encodeCursor(1L)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void getTasksPage_SizeAboveMaximum_IsCapped() throws Exception {
+        // Given
+        when(taskService.getTasksPage(null, TaskService.MAX_PAGE_SIZE)).thenReturn(Arrays.asList(testTaskDto));
+
+        // When & Then
+        mockMvc.perform(get("/api/tasks/page").param("size", "100000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(TaskService.MAX_PAGE_SIZE));
+
+        verify(taskService).getTasksPage(null, TaskService.MAX_PAGE_SIZE);
+    }
+
+    @Test
+    void getTasksPage_InvalidCursor_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/tasks/page").param("cursor", "pas-un-curseur"))
+                .andExpect(status().isBadRequest());
+
+        verify(taskService, never()).getTasksPage(any(), anyInt());
+    }
+
+    private TaskDTO taskDto(Long id, String title) {
+        return new TaskDTO(id, title, null, TaskStatusEnum.TODO, TaskPriority.MEDIUM);
+    }
+}
@@ -1,7 +1,10 @@
 package com.codesolutions.pmt.controller;
 
+import com.codesolutions.pmt.config.OffloadingPasswordEncoder;
 import com.codesolutions.pmt.config.TestSecurityConfig;
 import com.codesolutions.pmt.dto.UserDTO;
+import com.codesolutions.pmt.service.LoginRateLimiter;
+import com.codesolutions.pmt.service.TokenService;
 import com.codesolutions.pmt.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,13 +16,17 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -34,6 +41,12 @@ class UserControllerTest {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private TokenService tokenService;
+
+    @MockBean
+    private LoginRateLimiter loginRateLimiter;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -111,6 +124,7 @@ class UserControllerTest {
     void login_Success() throws Exception {
         // Given
         when(userService.authenticate("test@example.com", "password123")).thenReturn(testUserDto);
+        when(tokenService.issue(1L, "testuser")).thenReturn(new TokenService.TokenPair("access", "refresh", 900));
 
         // When & Then
         mockMvc.perform(post("/api/users/login")
@@ -119,9 +133,14 @@ class UserControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(1))
                 .andExpect(jsonPath("$.username").value("testuser"))
-                .andExpect(jsonPath("$.email").value("test@example.com"));
+                .andExpect(jsonPath("$.email").value("test@example.com"))
+                .andExpect(jsonPath("$.accessToken").value("access"))
+                .andExpect(jsonPath("$.refreshToken").value("refresh"))
+                .andExpect(jsonPath("$.tokenType").value("Bearer"))
+                .andExpect(jsonPath("$.expiresIn").value(900));
 
         verify(userService).authenticate("test@example.com", "password123");
+        verify(loginRateLimiter).onSuccess("test@example.com");
     }
 
     @Test
@@ -137,6 +156,91 @@ class UserControllerTest {
                 .andExpect(status().isUnauthorized());
 
         verify(userService).authenticate("test@example.com", "wrongpassword");
+        verify(loginRateLimiter, never()).onSuccess(anyString());
+    }
+
+    @Test
+    void login_TooManyAttempts_RejectedBeforePasswordCheck() throws Exception {
+        // Given
+        when(loginRateLimiter.tryAcquire(eq("test@example.com"), anyString())).thenReturn(Optional.of(Duration.ofSeconds(42)));
+
+        // When & Then
+        mockMvc.perform(post("/api/users/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"test@example.com\",\"password\":\"password123\"}"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "42"));
+
+        verify(userService, never()).authenticate(anyString(), anyString());
+    }
+
+    @Test
+    void login_HashingPoolSaturated_ReturnsServiceUnavailable() throws Exception {
+        // Given
+        when(userService.authenticate("test@example.com", "password123"))
+                .thenThrow(new OffloadingPasswordEncoder.PasswordHashingUnavailableException("File saturée", null));
+
+        // When & Then
+        mockMvc.perform(post("/api/users/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"test@example.com\",\"password\":\"password123\"}"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
+    @Test
+    void refresh_Success() throws Exception {
+        // Given
+        TokenService.TokenClaims claims = new TokenService.TokenClaims("jti", 1L, "testuser", TokenService.REFRESH,
+                Instant.now().plusSeconds(60));
+        when(tokenService.verifyRefreshToken("refresh")).thenReturn(Optional.of(claims));
+        when(userService.findById(1L)).thenReturn(testUserDto);
+        when(tokenService.refresh("refresh", "testuser"))
+                .thenReturn(Optional.of(new TokenService.TokenPair("access2", "refresh2", 900)));
+
+        // When & Then
+        mockMvc.perform(post("/api/users/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"refreshToken\":\"refresh\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.accessToken").value("access2"))
+                .andExpect(jsonPath("$.refreshToken").value("refresh2"));
+    }
+
+    @Test
+    void refresh_InvalidToken() throws Exception {
+        // Given
+        when(tokenService.verifyRefreshToken("expired")).thenReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(post("/api/users/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"refreshToken\":\"expired\"}"))
+                .andExpect(status().isUnauthorized());
+
+        verify(tokenService, never()).refresh(anyString(), anyString());
+    }
+
+    @Test
+    void logout_RevokesBothTokens() throws Exception {
+        // Given
+        TokenService.TokenClaims access = new TokenService.TokenClaims("a", 1L, "testuser", TokenService.ACCESS,
+                Instant.now().plusSeconds(60));
+        TokenService.TokenClaims refresh = new TokenService.TokenClaims("r", 1L, "testuser", TokenService.REFRESH,
+                Instant.now().plusSeconds(60));
+        when(tokenService.verifyAccessToken("access")).thenReturn(Optional.of(access));
+        when(tokenService.verifyRefreshToken("refresh")).thenReturn(Optional.of(refresh));
+
+        // When & Then
+        mockMvc.perform(post("/api/users/logout")
+                .header("Authorization", "Bearer access")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"refreshToken\":\"refresh\"}"))
+                .andExpect(status().isNoContent());
+
+        verify(tokenService).revoke(access);
+        verify(tokenService).revoke(refresh);
     }
 
     @Test
@@ -0,0 +1,76 @@
+package com.codesolutions.pmt.repository;
+
+import com.codesolutions.pmt.entity.Notification;
+import com.codesolutions.pmt.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class NotificationRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    private User alice;
+    private User bob;
+    private Notification aliceFirst;
+    private Notification aliceSecond;
+    private Notification bobFirst;
+
+    @BeforeEach
+    void setUp() {
+        alice = entityManager.persist(new User("alice", "alice@example.com", "password"));
+        bob = entityManager.persist(new User("bob", "bob@example.com", "password"));
+
+        aliceFirst = entityManager.persist(new Notification(alice, "A1", "Message", "INFO"));
+        aliceSecond = entityManager.persist(new Notification(alice, "A2", "Message", "INFO"));
+        Notification aliceRead = new Notification(alice, "A3", "Message", "INFO");
+        aliceRead.setIsRead(true);
+        entityManager.persist(aliceRead);
+        bobFirst = entityManager.persist(new Notification(bob, "B1", "Message", "INFO"));
+        entityManager.flush();
+    }
+
+    @Test
+    void markAllAsReadByUserId_UpdatesOnlyUnreadOfUser() {
+        int updated = notificationRepository.markAllAsReadByUserId(alice.getId());
+
+        assertEquals(2, updated);
+        assertEquals(0, notificationRepository.countByUserIdAndIsReadFalse(alice.getId()));
+        assertEquals(1, notificationRepository.countByUserIdAndIsReadFalse(bob.getId()));
+    }
+
+    @Test
+    void markAsReadByUserIdAndIds_IgnoresOtherUsersNotifications() {
+        int updated = notificationRepository.markAsReadByUserIdAndIds(alice.getId(),
+                Arrays.asList(aliceFirst.getId(), bobFirst.getId()));
+
+        assertEquals(1, updated);
+        assertTrue(notificationRepository.findById(aliceFirst.getId()).orElseThrow().getIsRead());
+        assertFalse(notificationRepository.findById(aliceSecond.getId()).orElseThrow().getIsRead());
+        assertFalse(notificationRepository.findById(bobFirst.getId()).orElseThrow().getIsRead());
+    }
+
+    @Test
+    void deleteAllByUserId_DeletesOnlyUserNotifications() {
+        int deleted = notificationRepository.deleteAllByUserId(alice.getId());
+
+        assertEquals(3, deleted);
+        assertTrue(notificationRepository.findByUserId(alice.getId()).isEmpty());
+        assertEquals(1, notificationRepository.findByUserId(bob.getId()).size());
+    }
+}
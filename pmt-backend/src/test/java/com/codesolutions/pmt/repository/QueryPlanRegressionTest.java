@@ -0,0 +1,367 @@
+package com.codesolutions.pmt.repository;
+
+import com.codesolutions.pmt.dto.TaskSearchCriteria;
+import com.codesolutions.pmt.entity.*;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Method;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Non-régression des plans d'exécution : chaque requête déclarée dans TaskRepository, NotificationRepository
+ * et TaskHistoryRepository est exécutée sur une base peuplée, le SQL généré par Hibernate est capturé puis
+ * passé à EXPLAIN. Le test échoue si une grosse table est parcourue intégralement (tableScan dans le plan H2).
+ * Les index viennent des annotations @Table(indexes = ...) des entités, identiques à database/init.sql.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.codesolutions.pmt.repository.QueryPlanRegressionTest$SqlRecorder",
+        "spring.jpa.show-sql=false",
+        "logging.level.com.codesolutions.pmt=INFO",
+        "logging.level.org.springframework.security=INFO"
+})
+class QueryPlanRegressionTest {
+
+    private static final List<Class<?>> REPOSITORIES = List.of(
+            TaskRepository.class, NotificationRepository.class, TaskHistoryRepository.class);
+
+    /**
+     * Tables de référence de quelques lignes : les parcourir est moins coûteux que passer par un index
+     */
+    private static final Set<String> REFERENCE_TABLES = Set.of("TASK_STATUS", "ROLES");
+
+    /**
+     * Requêtes qui parcourent volontairement toute la table, avec la raison
+     */
+    private static final Map<String, String> FULL_SCAN_EXEMPTIONS = Map.of(
+            "TaskRepository.findAllWithRelations()", "liste complète des tâches",
+            "TaskRepository.findAllAsDto()", "liste complète des tâches",
+            "TaskRepository.findByPriority(Priority)", "filtre global peu sélectif (4 valeurs), non utilisé par les services",
+            "TaskRepository.findByDueDateIsNotNull()", "renvoie la majorité des tâches, non utilisé par les services",
+            "TaskRepository.findByTitleContainingIgnoreCase(String)", "LIKE '%...%' ne peut pas utiliser d'index B-tree",
+            "NotificationRepository.findAll()", "liste complète des notifications",
+            "TaskHistoryRepository.findAll()", "historique complet",
+            "NotificationRepository.findByType(String)", "filtre global peu sélectif, non utilisé par les services",
+            "TaskHistoryRepository.findByAction(String)", "filtre global peu sélectif (quelques actions)");
+
+    private static final Pattern TABLE_SCAN = Pattern.compile("\"?PUBLIC\"?\\.\"?(\\w+)\"?\\.tableScan");
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 6, 15);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private TaskHistoryRepository taskHistoryRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    private Seed seed;
+
+    @TestFactory
+    Stream<DynamicTest> repositoryQueries_UseIndexes() {
+        seed = transactionTemplate.execute(status -> seedDatabase());
+        jdbcTemplate.execute("ANALYZE");
+
+        return queries().entrySet().stream()
+                .filter(entry -> !FULL_SCAN_EXEMPTIONS.containsKey(entry.getKey()))
+                .map(entry -> DynamicTest.dynamicTest(entry.getKey(), () -> assertNoFullScan(entry.getKey(), entry.getValue())));
+    }
+
+    @Test
+    void everyRepositoryQuery_IsCoveredOrExempted() {
+        Set<String> covered = queries().keySet();
+        List<String> missing = REPOSITORIES.stream()
+                .flatMap(repository -> Arrays.stream(repository.getDeclaredMethods())
+                        .filter(method -> !method.isDefault() && !method.isSynthetic()
+                                && !java.lang.reflect.Modifier.isStatic(method.getModifiers()))
+                        .map(method -> signature(repository, method)))
+                .filter(signature -> !covered.contains(signature))
+                .sorted()
+                .toList();
+
+        assertTrue(missing.isEmpty(), "Requêtes sans vérification de plan : " + missing);
+        assertTrue(covered.containsAll(FULL_SCAN_EXEMPTIONS.keySet()), "Exemption sur une requête inconnue");
+    }
+
+    private void assertNoFullScan(String query, Runnable invocation) {
+        SqlRecorder.start();
+        // Les requêtes de modification sont annulées pour ne pas altérer le jeu de données
+        transactionTemplate.executeWithoutResult(status -> {
+            invocation.run();
+            status.setRollbackOnly();
+        });
+        List<String> statements = SqlRecorder.stop();
+        assertFalse(statements.isEmpty(), query + " n'a exécuté aucune requête");
+
+        for (String sql : statements) {
+            String plan = explain(sql);
+            Matcher matcher = TABLE_SCAN.matcher(plan);
+            while (matcher.find()) {
+                assertTrue(REFERENCE_TABLES.contains(matcher.group(1)),
+                        query + " parcourt toute la table " + matcher.group(1) + " :\n" + plan);
+            }
+        }
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                // Le plan dépend des conditions, pas des valeurs : les paramètres sont liés à des valeurs neutres
+                ParameterMetaData parameters = statement.getParameterMetaData();
+                for (int i = 1; i <= parameters.getParameterCount(); i++) {
+                    statement.setNull(i, Types.NULL);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    StringBuilder plan = new StringBuilder();
+                    while (resultSet.next()) {
+                        plan.append(resultSet.getString(1)).append('\n');
+                    }
+                    return plan.toString();
+                }
+            }
+        });
+    }
+
+    /**
+     * Un appel représentatif par méthode déclarée, indexé par signature
+     */
+    private Map<String, Runnable> queries() {
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        PageRequest page = PageRequest.of(1, 10, Sort.by("id"));
+
+        // TaskRepository
+        queries.put("TaskRepository.findByProjectId(Long)", () -> taskRepository.findByProjectId(seed.projectId()));
+        queries.put("TaskRepository.findByProjectId(Long,Pageable)", () -> taskRepository.findByProjectId(seed.projectId(), page));
+        queries.put("TaskRepository.findByAssignedTo(User)", () -> taskRepository.findByAssignedTo(user()));
+        queries.put("TaskRepository.findByAssignedTo(User,Pageable)", () -> taskRepository.findByAssignedTo(user(), page));
+        queries.put("TaskRepository.findByCreatedBy(User)", () -> taskRepository.findByCreatedBy(user()));
+        queries.put("TaskRepository.findByStatus(TaskStatus)", () -> taskRepository.findByStatus(status()));
+        queries.put("TaskRepository.findByStatusAndProjectId(TaskStatus,Long)",
+                () -> taskRepository.findByStatusAndProjectId(status(), seed.projectId()));
+        queries.put("TaskRepository.findByPriority(Priority)", () -> taskRepository.findByPriority(Task.Priority.HIGH));
+        queries.put("TaskRepository.findByPriorityAndProjectId(Priority,Long)",
+                () -> taskRepository.findByPriorityAndProjectId(Task.Priority.HIGH, seed.projectId()));
+        queries.put("TaskRepository.findByDueDateIsNotNull()", () -> taskRepository.findByDueDateIsNotNull());
+        queries.put("TaskRepository.findByDueDateIsNotNullAndProjectId(Long)",
+                () -> taskRepository.findByDueDateIsNotNullAndProjectId(seed.projectId()));
+        queries.put("TaskRepository.findOverdueTasks(LocalDate)", () -> taskRepository.findOverdueTasks(TODAY));
+        queries.put("TaskRepository.findOverdueTasksByUser(LocalDate,Long)",
+                () -> taskRepository.findOverdueTasksByUser(TODAY, seed.userId()));
+        queries.put("TaskRepository.findByTitleContainingIgnoreCase(String)",
+                () -> taskRepository.findByTitleContainingIgnoreCase("tâche"));
+        queries.put("TaskRepository.findByTitleContainingIgnoreCaseAndProjectId(String,Long)",
+                () -> taskRepository.findByTitleContainingIgnoreCaseAndProjectId("tâche", seed.projectId()));
+        queries.put("TaskRepository.findByAssignedToAndProjectId(User,Long)",
+                () -> taskRepository.findByAssignedToAndProjectId(user(), seed.projectId()));
+        queries.put("TaskRepository.findByCreatedByAndProjectId(User,Long)",
+                () -> taskRepository.findByCreatedByAndProjectId(user(), seed.projectId()));
+        queries.put("TaskRepository.findByProjectIdAndStatus(Long,TaskStatus,Pageable)",
+                () -> taskRepository.findByProjectIdAndStatus(seed.projectId(), status(), page));
+        queries.put("TaskRepository.findByProjectIdAndPriority(Long,Priority,Pageable)",
+                () -> taskRepository.findByProjectIdAndPriority(seed.projectId(), Task.Priority.HIGH, page));
+        queries.put("TaskRepository.countTasksByStatusInProject(Long)",
+                () -> taskRepository.countTasksByStatusInProject(seed.projectId()));
+        queries.put("TaskRepository.countTasksByPriorityInProject(Long)",
+                () -> taskRepository.countTasksByPriorityInProject(seed.projectId()));
+        queries.put("TaskRepository.findTasksDueSoon(LocalDate,LocalDate)",
+                () -> taskRepository.findTasksDueSoon(TODAY, TODAY.plusDays(7)));
+        queries.put("TaskRepository.findByAssignedToId(Long)", () -> taskRepository.findByAssignedToId(seed.userId()));
+        queries.put("TaskRepository.findByCreatedById(Long)", () -> taskRepository.findByCreatedById(seed.userId()));
+        queries.put("TaskRepository.findByProjectIdAndStatus(Long,TaskStatus)",
+                () -> taskRepository.findByProjectIdAndStatus(seed.projectId(), status()));
+        queries.put("TaskRepository.findOverdueTasks()", () -> taskRepository.findOverdueTasks());
+        queries.put("TaskRepository.findAllWithRelations()", () -> taskRepository.findAllWithRelations());
+        queries.put("TaskRepository.findByIdWithRelations(Long)", () -> taskRepository.findByIdWithRelations(seed.taskId()));
+        queries.put("TaskRepository.findByProjectIdWithRelations(Long)",
+                () -> taskRepository.findByProjectIdWithRelations(seed.projectId()));
+        queries.put("TaskRepository.findAllAsDto()", () -> taskRepository.findAllAsDto());
+        queries.put("TaskRepository.findPageAfterIdAsDto(Long,Pageable)",
+                () -> taskRepository.findPageAfterIdAsDto(seed.taskId(), PageRequest.of(0, 10)));
+        queries.put("TaskRepository.findByProjectIdAsDto(Long)", () -> taskRepository.findByProjectIdAsDto(seed.projectId()));
+        queries.put("TaskRepository.findByStatusIdAsDto(Integer)", () -> taskRepository.findByStatusIdAsDto(seed.statusId()));
+        queries.put("TaskRepository.findAll(Specification,Pageable)", () -> {
+            TaskSearchCriteria criteria = new TaskSearchCriteria();
+            criteria.setProjectId(seed.projectId());
+            criteria.setStatus(List.of(TaskStatusEnum.TODO));
+            taskRepository.findAll(TaskSpecifications.matching(criteria, TODAY)
+                    .and(TaskSpecifications.orderedBy("dueDate", Sort.Direction.ASC)), PageRequest.of(0, 10));
+        });
+        queries.put("TaskRepository.findByAssignedToIdAsDto(Long)", () -> taskRepository.findByAssignedToIdAsDto(seed.userId()));
+        queries.put("TaskRepository.findSummariesByIdIn(Collection)",
+                () -> taskRepository.findSummariesByIdIn(List.of(seed.taskId(), seed.taskId() + 1)));
+        queries.put("TaskRepository.findOpenByAssignedToIdAsDto(Long,Pageable)",
+                () -> taskRepository.findOpenByAssignedToIdAsDto(seed.userId(), PageRequest.of(0, 10)));
+        queries.put("TaskRepository.findOverdueByAssignedToIdAsDto(Long,LocalDate,Pageable)",
+                () -> taskRepository.findOverdueByAssignedToIdAsDto(seed.userId(), TODAY, PageRequest.of(0, 10)));
+        queries.put("TaskRepository.findDueSoonByAssignedToIdAsDto(Long,LocalDate,LocalDate,Pageable)",
+                () -> taskRepository.findDueSoonByAssignedToIdAsDto(seed.userId(), TODAY, TODAY.plusDays(7), PageRequest.of(0, 10)));
+        queries.put("TaskRepository.countOpenTasksByAssignedToId(Long,LocalDate,LocalDate)",
+                () -> taskRepository.countOpenTasksByAssignedToId(seed.userId(), TODAY, TODAY.plusDays(7)));
+
+        // NotificationRepository
+        queries.put("NotificationRepository.findAll()", () -> notificationRepository.findAll());
+        queries.put("NotificationRepository.findById(Long)", () -> notificationRepository.findById(seed.taskId()));
+        queries.put("NotificationRepository.findByUserId(Long)", () -> notificationRepository.findByUserId(seed.userId()));
+        queries.put("NotificationRepository.findByUserIdAndIsReadFalse(Long)",
+                () -> notificationRepository.findByUserIdAndIsReadFalse(seed.userId()));
+        queries.put("NotificationRepository.findByRelatedEntityTypeAndRelatedEntityId(String,Long)",
+                () -> notificationRepository.findByRelatedEntityTypeAndRelatedEntityId("TASK", seed.taskId()));
+        queries.put("NotificationRepository.countByUserIdAndIsReadFalse(Long)",
+                () -> notificationRepository.countByUserIdAndIsReadFalse(seed.userId()));
+        queries.put("NotificationRepository.findByType(String)", () -> notificationRepository.findByType("TASK_ASSIGNED"));
+        queries.put("NotificationRepository.findByUserIdAndType(Long,String)",
+                () -> notificationRepository.findByUserIdAndType(seed.userId(), "TASK_ASSIGNED"));
+        queries.put("NotificationRepository.findRecentByUserId(Long)", () -> notificationRepository.findRecentByUserId(seed.userId()));
+        queries.put("NotificationRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(Long,Long,Pageable)",
+                () -> notificationRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(seed.userId(), 0L, PageRequest.of(0, 10)));
+        queries.put("NotificationRepository.findUnreadByUserIdAsDto(Long,Pageable)",
+                () -> notificationRepository.findUnreadByUserIdAsDto(seed.userId(), PageRequest.of(0, 10)));
+        queries.put("NotificationRepository.markAllAsReadByUserId(Long)",
+                () -> notificationRepository.markAllAsReadByUserId(seed.userId()));
+        queries.put("NotificationRepository.markAsReadByUserIdAndIds(Long,Collection)",
+                () -> notificationRepository.markAsReadByUserIdAndIds(seed.userId(), List.of(1L, 2L)));
+        queries.put("NotificationRepository.deleteAllByUserId(Long)", () -> notificationRepository.deleteAllByUserId(seed.userId()));
+
+        // TaskHistoryRepository
+        queries.put("TaskHistoryRepository.findAll()", () -> taskHistoryRepository.findAll());
+        queries.put("TaskHistoryRepository.findById(Long)", () -> taskHistoryRepository.findById(seed.taskId()));
+        queries.put("TaskHistoryRepository.findByTaskId(Long)", () -> taskHistoryRepository.findByTaskId(seed.taskId()));
+        queries.put("TaskHistoryRepository.findByProjectId(Long)", () -> taskHistoryRepository.findByProjectId(seed.projectId()));
+        queries.put("TaskHistoryRepository.findByUserId(Long)", () -> taskHistoryRepository.findByUserId(seed.userId()));
+        queries.put("TaskHistoryRepository.findByAction(String)", () -> taskHistoryRepository.findByAction("UPDATED"));
+        queries.put("TaskHistoryRepository.findRecentByTaskId(Long)", () -> taskHistoryRepository.findRecentByTaskId(seed.taskId()));
+        queries.put("TaskHistoryRepository.findByTaskIdAndAction(Long,String)",
+                () -> taskHistoryRepository.findByTaskIdAndAction(seed.taskId(), "UPDATED"));
+        queries.put("TaskHistoryRepository.findByProjectIdAndAction(Long,String)",
+                () -> taskHistoryRepository.findByProjectIdAndAction(seed.projectId(), "UPDATED"));
+        return queries;
+    }
+
+    private static String signature(Class<?> repository, Method method) {
+        return repository.getSimpleName() + "." + method.getName() + Arrays.stream(method.getParameterTypes())
+                .map(Class::getSimpleName)
+                .collect(Collectors.joining(",", "(", ")"));
+    }
+
+    private User user() {
+        return entityManager.getEntityManager().getReference(User.class, seed.userId());
+    }
+
+    private TaskStatus status() {
+        return entityManager.getEntityManager().getReference(TaskStatus.class, seed.statusId());
+    }
+
+    /**
+     * Volume suffisant pour que l'optimiseur préfère les index : 20 utilisateurs, 10 projets,
+     * 2000 tâches, 2000 entrées d'historique et 2000 notifications
+     */
+    private Seed seedDatabase() {
+        List<TaskStatus> statuses = Stream.of(TaskStatusEnum.values())
+                .map(status -> taskStatusRepository.findByName(status.name())
+                        .orElseGet(() -> entityManager.persist(new TaskStatus(status.name()))))
+                .toList();
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            users.add(entityManager.persist(new User("user" + i, "user" + i + "@example.com", "password")));
+        }
+        List<Project> projects = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            projects.add(entityManager.persist(new Project("Projet " + i, null, TODAY, users.get(i))));
+        }
+        Task firstTask = null;
+        for (int i = 0; i < 2000; i++) {
+            User user = users.get(i % users.size());
+            Task task = new Task("Tâche " + i, null, statuses.get(i % statuses.size()), projects.get(i % projects.size()),
+                    users.get((i + 1) % users.size()));
+            task.setAssignedTo(i % 5 == 0 ? null : user);
+            task.setPriority(Task.Priority.values()[i % Task.Priority.values().length]);
+            task.setDueDate(i % 3 == 0 ? null : TODAY.plusDays(i % 400 - 200));
+            entityManager.persist(task);
+            firstTask = firstTask == null ? task : firstTask;
+            entityManager.persist(new TaskHistory(task, user, i % 2 == 0 ? "CREATED" : "UPDATED"));
+            Notification notification = new Notification(user, "Notification " + i, "Message", "TASK_ASSIGNED",
+                    "TASK", task.getId());
+            notification.setIsRead(i % 4 == 0);
+            entityManager.persist(notification);
+            if (i % 200 == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        return new Seed(users.get(3).getId(), projects.get(2).getId(), firstTask.getId(), statuses.get(0).getId());
+    }
+
+    private record Seed(Long userId, Long projectId, Long taskId, Integer statusId) {}
+
+    /**
+     * Enregistre le SQL préparé par Hibernate pendant une vérification (déclaré par statement_inspector)
+     */
+    public static class SqlRecorder implements StatementInspector {
+
+        private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+        static void start() {
+            STATEMENTS.set(new ArrayList<>());
+        }
+
+        static List<String> stop() {
+            List<String> statements = STATEMENTS.get();
+            STATEMENTS.remove();
+            return statements;
+        }
+
+        @Override
+        public String inspect(String sql) {
+            List<String> statements = STATEMENTS.get();
+            if (statements != null) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.codesolutions.pmt.repository;
+
+import com.codesolutions.pmt.entity.*;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Cache de second niveau : chaque lecture se fait dans sa propre transaction (donc sa propre session),
+ * seul le cache partagé peut éviter la requête.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class SecondLevelCacheTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User alice;
+    private Project project;
+    private Role member;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        int n = SEQUENCE.incrementAndGet();
+        inTransaction(() -> {
+            alice = userRepository.save(new User("alice" + n, "alice" + n + "@example.com", "password"));
+            project = projectRepository.save(new Project("Projet " + n, "Description", LocalDate.now(), alice));
+            member = roleRepository.findByName("MEMBER").orElseGet(() -> roleRepository.save(new Role("MEMBER")));
+            return null;
+        });
+    }
+
+    @Test
+    void findById_SecondReadIsServedFromCache() {
+        // Given
+        inTransaction(() -> userRepository.findById(alice.getId()));
+        statistics.clear();
+
+        // When
+        User cached = inTransaction(() -> userRepository.findById(alice.getId()).orElseThrow());
+
+        // Then
+        assertEquals(alice.getUsername(), cached.getUsername());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("pmt-users").getHitCount());
+    }
+
+    @Test
+    void taskRelations_AreResolvedFromCache() {
+        // Given
+        TaskStatus todo = inTransaction(() -> taskStatusRepository.findByName("TODO")
+                .orElseGet(() -> taskStatusRepository.save(new TaskStatus("TODO"))));
+        Long taskId = inTransaction(() -> taskRepository.save(new Task("Tâche", null, todo, project, alice)).getId());
+        readTaskLabels(taskId);
+        statistics.clear();
+
+        // When
+        String labels = readTaskLabels(taskId);
+
+        // Then : seule la tâche est lue, projet, créateur et statut viennent du cache
+        assertEquals(project.getName() + "/" + alice.getUsername() + "/TODO", labels);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findByName_UsesQueryCacheUntilTableChanges() {
+        // Given
+        String name = "STATUT_" + SEQUENCE.incrementAndGet();
+        inTransaction(() -> taskStatusRepository.save(new TaskStatus(name)));
+        inTransaction(() -> taskStatusRepository.findByName(name));
+        statistics.clear();
+
+        // When
+        TaskStatus cached = inTransaction(() -> taskStatusRepository.findByName(name).orElseThrow());
+
+        // Then
+        assertEquals(name, cached.getName());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryRegionStatistics("pmt-reference-queries").getHitCount());
+
+        // When : une écriture dans la table invalide les résultats en cache
+        inTransaction(() -> taskStatusRepository.save(new TaskStatus(name + "_BIS")));
+        statistics.clear();
+        inTransaction(() -> taskStatusRepository.findByName(name));
+
+        // Then
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void projectMembers_CollectionIsEvictedWhenAMemberIsAdded() {
+        // Given
+        assertEquals(0, memberCount(project.getId()));
+        User bob = inTransaction(() -> userRepository.save(
+                new User("bob" + SEQUENCE.incrementAndGet(), "bob" + SEQUENCE.get() + "@example.com", "password")));
+
+        // When
+        inTransaction(() -> projectMemberRepository.save(new ProjectMember(
+                projectRepository.getReferenceById(project.getId()), bob, member)));
+
+        // Then
+        assertEquals(1, memberCount(project.getId()));
+        statistics.clear();
+        assertEquals(1, memberCount(project.getId()));
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void update_RefreshesCachedEntity() {
+        // Given
+        inTransaction(() -> userRepository.findById(alice.getId()));
+
+        // When
+        inTransaction(() -> {
+            userRepository.findById(alice.getId()).orElseThrow().setEmail("nouvelle@example.com");
+            return null;
+        });
+
+        // Then
+        statistics.clear();
+        assertEquals("nouvelle@example.com", inTransaction(() -> userRepository.findById(alice.getId()).orElseThrow().getEmail()));
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    private String readTaskLabels(Long taskId) {
+        return inTransaction(() -> {
+            Task task = taskRepository.findById(taskId).orElseThrow();
+            return task.getProject().getName() + "/" + task.getCreatedBy().getUsername() + "/" + task.getStatus().getName();
+        });
+    }
+
+    private int memberCount(Long projectId) {
+        return inTransaction(() -> projectRepository.findById(projectId).orElseThrow().getMembers().size());
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return transactionTemplate.execute(status -> action.get());
+    }
+}
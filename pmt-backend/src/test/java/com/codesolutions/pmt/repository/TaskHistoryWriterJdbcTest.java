@@ -0,0 +1,74 @@
+package com.codesolutions.pmt.repository;
+
+import com.codesolutions.pmt.entity.*;
+import com.codesolutions.pmt.service.TaskHistoryEvent;
+import com.codesolutions.pmt.service.TaskHistoryWriter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Vérifie la requête d'insertion par lots du TaskHistoryWriter contre le schéma réel
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class TaskHistoryWriterJdbcTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private TaskHistoryRepository taskHistoryRepository;
+
+    @Test
+    void flush_InsertsRowsReadableThroughJpa() {
+        User user = entityManager.persist(new User("alice", "alice@example.com", "password"));
+        Project project = entityManager.persist(new Project("Projet", "Description", LocalDate.now(), user));
+        TaskStatus todo = taskStatusRepository.findByName("TODO")
+                .orElseGet(() -> entityManager.persist(new TaskStatus("TODO")));
+        Task task = entityManager.persist(new Task("Tâche", null, todo, project, user));
+        entityManager.flush();
+
+        // Writer non démarré : flush() écrit dans la transaction du test
+        TaskHistoryWriter writer = new TaskHistoryWriter(10);
+        ReflectionTestUtils.setField(writer, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(writer, "batchSize", 10);
+        ReflectionTestUtils.setField(writer, "running", true);
+        ReflectionTestUtils.setField(writer, "offerTimeoutMillis", 1L);
+
+        // Une modification de deux champs, déposée directement (enqueueAll attendrait le commit du test)
+        @SuppressWarnings("unchecked")
+        java.util.concurrent.BlockingQueue<List<TaskHistoryEvent>> queue =
+                (java.util.concurrent.BlockingQueue<List<TaskHistoryEvent>>) ReflectionTestUtils.getField(writer, "queue");
+        queue.add(List.of(
+                new TaskHistoryEvent(task.getId(), user.getId(), "STATUS_CHANGED", "TODO", "DONE"),
+                new TaskHistoryEvent(task.getId(), user.getId(), "PRIORITY_CHANGED", "LOW", "HIGH")));
+        writer.flush();
+        entityManager.clear();
+
+        List<TaskHistory> history = taskHistoryRepository.findByTaskId(task.getId());
+        assertEquals(2, history.size());
+        assertEquals(2, writer.getWrittenCount());
+        TaskHistory statusChange = history.stream().filter(h -> "STATUS_CHANGED".equals(h.getAction())).findFirst().orElseThrow();
+        assertEquals("TODO", statusChange.getOldValue());
+        assertEquals("DONE", statusChange.getNewValue());
+        assertNotNull(statusChange.getCreatedAt());
+    }
+}
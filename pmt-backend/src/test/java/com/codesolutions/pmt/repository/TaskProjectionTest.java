@@ -0,0 +1,137 @@
+package com.codesolutions.pmt.repository;
+
+import com.codesolutions.pmt.dto.TaskDTO;
+import com.codesolutions.pmt.entity.*;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class TaskProjectionTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Project project;
+    private User alice;
+    private User bob;
+
+    @BeforeEach
+    void setUp() {
+        alice = entityManager.persist(new User("alice", "alice@example.com", "password"));
+        bob = entityManager.persist(new User("bob", "bob@example.com", "password"));
+        TaskStatus todo = status("TODO");
+        TaskStatus inProgress = status("IN_PROGRESS");
+
+        project = entityManager.persist(new Project("Projet", "Description", LocalDate.of(2024, 1, 1), alice));
+
+        Task assigned = new Task("Tâche assignée", "Avec échéance", inProgress, project, alice);
+        assigned.setPriority(Task.Priority.URGENT);
+        assigned.setAssignedTo(bob);
+        assigned.setDueDate(LocalDate.of(2024, 3, 1));
+        entityManager.persist(assigned);
+
+        entityManager.persist(new Task("Tâche libre", null, todo, project, alice));
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void projection_MatchesEntityConversion() {
+        List<TaskDTO> projected = taskRepository.findByProjectIdAsDto(project.getId());
+        List<Task> entities = taskRepository.findByProjectIdWithRelations(project.getId());
+
+        assertEquals(2, projected.size());
+        assertEquals(entities.size(), projected.size());
+
+        TaskDTO dto = projected.get(0);
+        Task task = entities.stream().filter(t -> t.getId().equals(dto.getId())).findFirst().orElseThrow();
+        assertEquals(task.getTitle(), dto.getTitle());
+        assertEquals(task.getDescription(), dto.getDescription());
+        assertEquals(TaskStatusEnum.IN_PROGRESS, dto.getStatus());
+        assertEquals("IN_PROGRESS", dto.getStatusName());
+        assertEquals(TaskPriority.URGENT, dto.getPriority());
+        assertEquals(task.getDueDate().atStartOfDay(), dto.getDueDate());
+        assertEquals(project.getId(), dto.getProjectId());
+        assertEquals("Projet", dto.getProjectName());
+        assertEquals(bob.getId(), dto.getAssignedToId());
+        assertEquals("bob", dto.getAssignedToName());
+        assertEquals(alice.getId(), dto.getCreatedById());
+        assertEquals("alice", dto.getCreatedByName());
+
+        TaskDTO unassigned = projected.get(1);
+        assertNull(unassigned.getAssignedToId());
+        assertNull(unassigned.getAssignedToName());
+        assertNull(unassigned.getDueDate());
+    }
+
+    @Test
+    void projection_LoadsNoEntities() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        taskRepository.findByProjectIdAsDto(project.getId());
+        taskRepository.findByAssignedToIdAsDto(bob.getId());
+        taskRepository.findAllAsDto();
+
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findByAssignedToIdAsDto_FiltersOnAssignee() {
+        List<TaskDTO> result = taskRepository.findByAssignedToIdAsDto(bob.getId());
+
+        assertEquals(1, result.size());
+        assertEquals("Tâche assignée", result.get(0).getTitle());
+        assertTrue(taskRepository.findByAssignedToIdAsDto(alice.getId()).isEmpty());
+    }
+
+    @Test
+    void findPageAfterIdAsDto_ReturnsRowsAfterCursorInIdOrder() {
+        List<TaskDTO> all = taskRepository.findAllAsDto();
+        Long firstId = all.get(0).getId();
+
+        List<TaskDTO> firstPage = taskRepository.findPageAfterIdAsDto(0L, PageRequest.of(0, 1));
+        List<TaskDTO> nextPage = taskRepository.findPageAfterIdAsDto(firstId, PageRequest.of(0, 10));
+
+        assertEquals(1, firstPage.size());
+        assertEquals(firstId, firstPage.get(0).getId());
+        assertEquals(1, nextPage.size());
+        assertEquals(all.get(1).getId(), nextPage.get(0).getId());
+    }
+
+    private TaskStatus status(String name) {
+        // Les statuts de base sont déjà insérés par schema-test.sql
+        return taskStatusRepository.findByName(name)
+                .orElseGet(() -> entityManager.persist(new TaskStatus(name)));
+    }
+}
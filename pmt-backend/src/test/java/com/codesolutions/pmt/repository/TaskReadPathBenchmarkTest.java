@@ -0,0 +1,137 @@
+package com.codesolutions.pmt.repository;
+
+import com.codesolutions.pmt.dto.TaskDTO;
+import com.codesolutions.pmt.entity.Project;
+import com.codesolutions.pmt.entity.Task;
+import com.codesolutions.pmt.entity.TaskStatus;
+import com.codesolutions.pmt.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Comparaison chemin entité (fetch join + conversion) / chemin projection pour la liste des tâches d'un projet.
+ * Désactivé par défaut : mvn test -Dtest=TaskReadPathBenchmarkTest -Dbenchmark=true
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.com.codesolutions.pmt=INFO",
+        "logging.level.org.springframework.security=INFO"
+})
+class TaskReadPathBenchmarkTest {
+
+    private static final int TASK_COUNT = 20_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void compareEntityAndProjectionPaths() {
+        Long projectId = seed();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Supplier<List<TaskDTO>> entityPath = () -> taskRepository.findByProjectIdWithRelations(projectId).stream()
+                .map(TaskReadPathBenchmarkTest::toDto)
+                .collect(Collectors.toList());
+        Supplier<List<TaskDTO>> projectionPath = () -> taskRepository.findByProjectIdAsDto(projectId);
+
+        Result entity = measure(entityPath, statistics);
+        Result projection = measure(projectionPath, statistics);
+
+        assertEquals(TASK_COUNT, entity.rows);
+        assertEquals(TASK_COUNT, projection.rows);
+
+        System.out.printf("%n=== Liste des tâches d'un projet (%d tâches, moyenne sur %d tours) ===%n", TASK_COUNT, MEASURED_ROUNDS);
+        System.out.printf("Entités    : %8.2f ms/tour, %d entités chargées/tour%n", entity.avgMillis, entity.entitiesLoaded);
+        System.out.printf("Projection : %8.2f ms/tour, %d entités chargées/tour%n", projection.avgMillis, projection.entitiesLoaded);
+        System.out.printf("Gain       : x%.2f%n", entity.avgMillis / projection.avgMillis);
+    }
+
+    private Result measure(Supplier<List<TaskDTO>> path, Statistics statistics) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            path.get();
+            entityManager.clear();
+        }
+        statistics.clear();
+        long total = 0;
+        int rows = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            rows = path.get().size();
+            total += System.nanoTime() - start;
+            entityManager.clear();
+        }
+        return new Result(total / 1_000_000.0 / MEASURED_ROUNDS, statistics.getEntityLoadCount() / MEASURED_ROUNDS, rows);
+    }
+
+    private Long seed() {
+        User creator = entityManager.persist(new User("creator", "creator@example.com", "password"));
+        User assignee = entityManager.persist(new User("assignee", "assignee@example.com", "password"));
+        TaskStatus status = status("TODO");
+        Project project = entityManager.persist(new Project("Benchmark", "Projet volumineux", LocalDate.now(), creator));
+
+        for (int i = 0; i < TASK_COUNT; i++) {
+            Task task = new Task("Tâche " + i, "Description de la tâche " + i, status, project, creator);
+            task.setAssignedTo(assignee);
+            task.setDueDate(LocalDate.now().plusDays(i % 30));
+            entityManager.persist(task);
+            if (i % 500 == 0) {
+                entityManager.flush();
+                entityManager.clear();
+                creator = entityManager.find(User.class, creator.getId());
+                assignee = entityManager.find(User.class, assignee.getId());
+                status = entityManager.find(TaskStatus.class, status.getId());
+                project = entityManager.find(Project.class, project.getId());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return project.getId();
+    }
+
+    private static TaskDTO toDto(Task task) {
+        return new TaskDTO(task.getId(), task.getTitle(), task.getDescription(), task.getStatus().getName(),
+                task.getPriority(), task.getDueDate(), task.getCreatedAt(), task.getUpdatedAt(),
+                task.getProject().getId(), task.getProject().getName(),
+                task.getAssignedTo().getId(), task.getAssignedTo().getUsername(),
+                task.getCreatedBy().getId(), task.getCreatedBy().getUsername());
+    }
+
+    private record Result(double avgMillis, long entitiesLoaded, int rows) {}
+
+    private TaskStatus status(String name) {
+        // Les statuts de base sont déjà insérés par schema-test.sql
+        return taskStatusRepository.findByName(name)
+                .orElseGet(() -> entityManager.persist(new TaskStatus(name)));
+    }
+}
@@ -0,0 +1,160 @@
+package com.codesolutions.pmt.repository;
+
+import com.codesolutions.pmt.dto.TaskSearchCriteria;
+import com.codesolutions.pmt.entity.*;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class TaskSpecificationsTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 6, 15);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User alice;
+    private User bob;
+    private Project project;
+    private Project otherProject;
+
+    @BeforeEach
+    void setUp() {
+        alice = entityManager.persist(new User("alice", "alice@example.com", "password"));
+        bob = entityManager.persist(new User("bob", "bob@example.com", "password"));
+        project = entityManager.persist(new Project("Projet", "Description", LocalDate.now(), alice));
+        otherProject = entityManager.persist(new Project("Autre", "Description", LocalDate.now(), bob));
+
+        task("Urgente en retard", project, "TODO", Task.Priority.URGENT, bob, alice, TODAY.minusDays(3));
+        task("Terminée en retard", project, "DONE", Task.Priority.HIGH, bob, alice, TODAY.minusDays(10));
+        task("Basse à venir", project, "IN_PROGRESS", Task.Priority.LOW, alice, bob, TODAY.plusDays(5));
+        task("Moyenne sans échéance", project, "TODO", Task.Priority.MEDIUM, null, alice, null);
+        task("Autre projet", otherProject, "TODO", Task.Priority.URGENT, bob, bob, TODAY.minusDays(1));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void matching_CombinesFilters() {
+        TaskSearchCriteria criteria = new TaskSearchCriteria();
+        criteria.setProjectId(project.getId());
+        criteria.setAssignedToId(bob.getId());
+        criteria.setPriority(List.of(TaskPriority.URGENT, TaskPriority.HIGH));
+
+        assertEquals(List.of("Urgente en retard", "Terminée en retard"), titles(criteria, "id", Sort.Direction.ASC));
+
+        criteria.setStatus(List.of(TaskStatusEnum.DONE));
+        assertEquals(List.of("Terminée en retard"), titles(criteria, "id", Sort.Direction.ASC));
+    }
+
+    @Test
+    void matching_OverdueExcludesClosedTasks() {
+        TaskSearchCriteria criteria = new TaskSearchCriteria();
+        criteria.setOverdue(true);
+
+        assertEquals(List.of("Urgente en retard", "Autre projet"), titles(criteria, "id", Sort.Direction.ASC));
+    }
+
+    @Test
+    void matching_DueDateRangeAndCreator() {
+        TaskSearchCriteria criteria = new TaskSearchCriteria();
+        criteria.setDueFrom(TODAY.minusDays(5));
+        criteria.setDueTo(TODAY.plusDays(5));
+        assertEquals(List.of("Urgente en retard", "Basse à venir", "Autre projet"), titles(criteria, "id", Sort.Direction.ASC));
+
+        criteria.setCreatedById(bob.getId());
+        assertEquals(List.of("Basse à venir", "Autre projet"), titles(criteria, "id", Sort.Direction.ASC));
+    }
+
+    @Test
+    void orderedBy_PriorityFollowsBusinessOrder() {
+        TaskSearchCriteria criteria = new TaskSearchCriteria();
+        criteria.setProjectId(project.getId());
+
+        assertEquals(List.of("Urgente en retard", "Terminée en retard", "Moyenne sans échéance", "Basse à venir"),
+                titles(criteria, "priority", Sort.Direction.DESC));
+        assertEquals(List.of("Moyenne sans échéance", "Basse à venir", "Urgente en retard", "Terminée en retard"),
+                titles(criteria, "assignee", Sort.Direction.ASC));
+    }
+
+    @Test
+    void findAll_PaginatesWithRelationsInOneQueryPlusCount() {
+        TaskSearchCriteria criteria = new TaskSearchCriteria();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<Task> page = taskRepository.findAll(spec(criteria, "dueDate", Sort.Direction.ASC), PageRequest.of(1, 2));
+        page.getContent().forEach(task -> {
+            task.getStatus().getName();
+            task.getProject().getName();
+            task.getCreatedBy().getUsername();
+        });
+
+        assertEquals(5, page.getTotalElements());
+        assertEquals(3, page.getTotalPages());
+        assertEquals(2, page.getContent().size());
+        // Page + comptage ; les relations sont chargées par la requête de la page
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void orderedBy_UnknownKey_IsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> TaskSpecifications.orderedBy("password", Sort.Direction.ASC));
+    }
+
+    private List<String> titles(TaskSearchCriteria criteria, String sortKey, Sort.Direction direction) {
+        return taskRepository.findAll(spec(criteria, sortKey, direction), PageRequest.of(0, 50)).getContent().stream()
+                .map(Task::getTitle)
+                .toList();
+    }
+
+    private static org.springframework.data.jpa.domain.Specification<Task> spec(TaskSearchCriteria criteria, String sortKey,
+                                                                               Sort.Direction direction) {
+        return TaskSpecifications.matching(criteria, TODAY).and(TaskSpecifications.orderedBy(sortKey, direction));
+    }
+
+    private void task(String title, Project project, String status, Task.Priority priority, User assignee, User creator,
+                      LocalDate dueDate) {
+        Task task = new Task(title, null, status(status), project, creator);
+        task.setPriority(priority);
+        task.setAssignedTo(assignee);
+        task.setDueDate(dueDate);
+        entityManager.persist(task);
+    }
+
+    private TaskStatus status(String name) {
+        // Les statuts de base sont déjà insérés par schema-test.sql
+        return taskStatusRepository.findByName(name)
+                .orElseGet(() -> entityManager.persist(new TaskStatus(name)));
+    }
+}
@@ -0,0 +1,303 @@
+package com.codesolutions.pmt.service;
+
+import com.codesolutions.pmt.config.SqlStatementCounter;
+import com.codesolutions.pmt.dto.DashboardDTO;
+import com.codesolutions.pmt.dto.NotificationDTO;
+import com.codesolutions.pmt.dto.TaskDTO;
+import com.codesolutions.pmt.entity.*;
+import com.codesolutions.pmt.repository.*;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Sections chargées en parallèle : les données doivent être validées (pas de transaction de test),
+ * chaque test crée donc ses propres utilisateurs.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.datasource.url=jdbc:h2:mem:dashboard;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "pmt.dashboard.projects-limit=2",
+        "pmt.dashboard.tasks-limit=2",
+        "pmt.dashboard.notifications-limit=2",
+        "pmt.dashboard.due-soon-days=7",
+        // Petit pool : 2 tableaux de bord en parallèle au plus (8 connexions), les autres en séquentiel
+        "spring.datasource.hikari.maximum-pool-size=10",
+        "spring.datasource.hikari.minimum-idle=10",
+        "spring.datasource.hikari.connection-timeout=3000",
+        "pmt.dashboard.max-parallel-requests=2"
+})
+class DashboardServiceTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private LocalDate today;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        today = LocalDate.now();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void getDashboard_ReturnsLimitedSectionsWithTotals() {
+        // Given
+        User alice = user();
+        User bob = user();
+        Project first = project("Premier", alice);
+        Project second = project("Deuxième", alice);
+        Project third = project("Troisième", bob);
+        project("Étranger", bob);
+        member(third, alice);
+
+        task("En retard 1", first, alice, "TODO", today.minusDays(3));
+        task("En retard 2", second, alice, "IN_PROGRESS", today.minusDays(1));
+        Task dueSoon = task("Bientôt", first, alice, "TODO", today.plusDays(3));
+        task("Plus tard", first, alice, "TODO", today.plusDays(30));
+        task("Sans échéance", first, alice, "TODO", null);
+        task("Terminée", first, alice, "DONE", today.minusDays(5));
+        task("Annulée", first, alice, "CANCELLED", today.plusDays(1));
+        task("Autre assigné", first, bob, "TODO", today.minusDays(2));
+
+        notificationRepository.save(new Notification(alice, "Ancienne", "Lue", "INFO"));
+        Notification read = new Notification(alice, "Lue", "Lue", "INFO");
+        read.setIsRead(true);
+        notificationRepository.save(read);
+        notificationRepository.save(new Notification(alice, "Projet", "Ajout", "PROJECT_MEMBER_ADDED", "PROJECT", second.getId()));
+        notificationRepository.save(new Notification(alice, "Tâche", "Assignée", "TASK_ASSIGNED", "TASK", dueSoon.getId()));
+
+        // When
+        DashboardDTO dashboard = dashboardService.getDashboard(alice.getId()).orElseThrow();
+
+        // Then
+        assertEquals(alice.getUsername(), dashboard.getUsername());
+
+        assertEquals(3, dashboard.getProjectCount());
+        assertEquals(2, dashboard.getProjects().size());
+
+        assertEquals(5, dashboard.getAssignedTaskCount());
+        assertEquals(2, dashboard.getAssignedTasks().size());
+
+        assertEquals(2, dashboard.getOverdueTaskCount());
+        assertEquals(List.of("En retard 1", "En retard 2"), titles(dashboard.getOverdueTasks()));
+
+        assertEquals(1, dashboard.getDueSoonTaskCount());
+        assertEquals(List.of("Bientôt"), titles(dashboard.getDueSoonTasks()));
+        assertEquals("Premier", dashboard.getDueSoonTasks().get(0).getProjectName());
+
+        // Les plus récentes d'abord, enrichies du projet et de la tâche
+        assertEquals(3, dashboard.getUnreadNotificationCount());
+        List<NotificationDTO> notifications = dashboard.getUnreadNotifications();
+        assertEquals(List.of("Tâche", "Projet"), notifications.stream().map(NotificationDTO::getTitle).toList());
+        assertEquals(dueSoon.getId(), notifications.get(0).getTaskId());
+        assertEquals("Bientôt", notifications.get(0).getTaskTitle());
+        assertEquals("Premier", notifications.get(0).getProjectName());
+        assertEquals(second.getId(), notifications.get(1).getProjectId());
+        assertEquals("Deuxième", notifications.get(1).getProjectName());
+    }
+
+    @Test
+    void getDashboard_UnknownUser_ReturnsEmpty() {
+        assertTrue(dashboardService.getDashboard(999_999L).isEmpty());
+    }
+
+    @Test
+    void getDashboard_QueryCountIndependentOfVolume() {
+        // Given
+        User small = seedUser(1, 1, 1);
+        User large = seedUser(12, 40, 30);
+
+        // When
+        long smallCount = countStatements(small);
+        long largeCount = countStatements(large);
+
+        // Then : utilisateur, projets (liste, tâches et membres par projet, total), tâches (4), notifications (liste + total)
+        assertEquals(11, smallCount);
+        assertEquals(smallCount, largeCount);
+    }
+
+    @Test
+    void getDashboard_CountsSectionStatementsForTheRequest() {
+        // Given
+        User user = seedUser(3, 5, 5);
+        statistics.clear();
+        SqlStatementCounter.start();
+
+        // When
+        dashboardService.getDashboard(user.getId());
+
+        // Then : les requêtes des threads de section sont comptées pour le thread appelant
+        assertEquals(statistics.getPrepareStatementCount(), SqlStatementCounter.stop());
+    }
+
+    @Test
+    void getDashboard_SequentialModeReturnsSameContent() {
+        // Given
+        User user = seedUser(3, 6, 4);
+        DashboardService target = AopTestUtils.getUltimateTargetObject(dashboardService);
+        DashboardDTO parallel = dashboardService.getDashboard(user.getId()).orElseThrow();
+
+        // When
+        ReflectionTestUtils.setField(target, "parallel", false);
+        DashboardDTO sequential;
+        try {
+            sequential = dashboardService.getDashboard(user.getId()).orElseThrow();
+        } finally {
+            ReflectionTestUtils.setField(target, "parallel", true);
+        }
+
+        // Then
+        assertEquals(parallel.getProjectCount(), sequential.getProjectCount());
+        assertEquals(parallel.getAssignedTaskCount(), sequential.getAssignedTaskCount());
+        assertEquals(parallel.getOverdueTaskCount(), sequential.getOverdueTaskCount());
+        assertEquals(parallel.getDueSoonTaskCount(), sequential.getDueSoonTaskCount());
+        assertEquals(parallel.getUnreadNotificationCount(), sequential.getUnreadNotificationCount());
+        assertEquals(titles(parallel.getAssignedTasks()), titles(sequential.getAssignedTasks()));
+    }
+
+    @Test
+    void getDashboard_ConcurrentCallsDoNotExhaustSmallPool() throws Exception {
+        // Given
+        User user = seedUser(3, 10, 5);
+        int calls = 30;
+        ExecutorService clients = Executors.newFixedThreadPool(calls);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        // When : plus de requêtes HTTP simultanées que de connexions
+        try {
+            for (int i = 0; i < calls; i++) {
+                results.add(clients.submit(() -> {
+                    start.await();
+                    return mockMvc.perform(get("/api/dashboard/" + user.getId())).andReturn().getResponse().getStatus();
+                }));
+            }
+            start.countDown();
+
+            // Then : aucune requête n'attend une connexion jusqu'au délai
+            for (Future<Integer> result : results) {
+                assertEquals(200, result.get(60, TimeUnit.SECONDS));
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private long countStatements(User user) {
+        statistics.clear();
+        dashboardService.getDashboard(user.getId()).orElseThrow();
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * Utilisateur membre de projects projets, avec tasks tâches assignées (en retard, à échéance proche ou sans échéance)
+     * et notifications notifications non lues
+     */
+    private User seedUser(int projects, int tasks, int notifications) {
+        User user = user();
+        Project project = null;
+        for (int i = 0; i < projects; i++) {
+            project = project("Projet " + i, user);
+        }
+        for (int i = 0; i < tasks; i++) {
+            LocalDate dueDate = switch (i % 3) {
+                case 0 -> today.minusDays(1 + i % 5);
+                case 1 -> today.plusDays(1 + i % 5);
+                default -> null;
+            };
+            task("Tâche " + i, project, user, "TODO", dueDate);
+        }
+        for (int i = 0; i < notifications; i++) {
+            notificationRepository.save(new Notification(user, "Notification " + i, "Message", "INFO", "PROJECT", project.getId()));
+        }
+        return user;
+    }
+
+    private User user() {
+        int n = SEQUENCE.incrementAndGet();
+        return userRepository.save(new User("dashboard" + n, "dashboard" + n + "@example.com", "password"));
+    }
+
+    private Project project(String name, User owner) {
+        Project project = projectRepository.save(new Project(name, "Description", today, owner));
+        member(project, owner);
+        return project;
+    }
+
+    private void member(Project project, User user) {
+        // Le schéma généré par Hibernate démarre sans données de référence
+        Role role = roleRepository.findByName("MEMBER").orElseGet(() -> roleRepository.save(new Role("MEMBER")));
+        projectMemberRepository.save(new ProjectMember(project, user, role));
+    }
+
+    private Task task(String title, Project project, User assignee, String status, LocalDate dueDate) {
+        Task task = new Task(title, null, taskStatusRepository.findByName(status)
+                .orElseGet(() -> taskStatusRepository.save(new TaskStatus(status))), project, assignee);
+        task.setAssignedTo(assignee);
+        task.setDueDate(dueDate);
+        return taskRepository.save(task);
+    }
+
+    private static List<String> titles(List<TaskDTO> tasks) {
+        return tasks.stream().map(TaskDTO::getTitle).sorted().toList();
+    }
+}
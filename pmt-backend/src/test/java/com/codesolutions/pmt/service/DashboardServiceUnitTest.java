@@ -0,0 +1,236 @@
+package com.codesolutions.pmt.service;
+
+import com.codesolutions.pmt.config.CorrelationIdFilter;
+import com.codesolutions.pmt.config.SqlStatementCounter;
+import com.codesolutions.pmt.dto.DashboardDTO;
+import com.codesolutions.pmt.entity.User;
+import com.codesolutions.pmt.repository.NotificationRepository;
+import com.codesolutions.pmt.repository.TaskRepository;
+import com.codesolutions.pmt.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.slf4j.MDC;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceUnitTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ProjectService projectService;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private DashboardService dashboardService;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("alice");
+        lenient().when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    }
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+        SqlStatementCounter.stop();
+    }
+
+    @Test
+    void getDashboard_SectionsRunOnVirtualThreadsWithRequestContext() {
+        // Given
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        List<String> requestIds = Collections.synchronizedList(new ArrayList<>());
+        Answer<Object> record = invocation -> {
+            threads.add(Thread.currentThread().getName());
+            requestIds.add(MDC.get(CorrelationIdFilter.MDC_KEY));
+            // Une requête SQL par appel, comptée pour la requête HTTP
+            SqlStatementCounter.current().incrementAndGet();
+            return invocation.getMethod().getReturnType() == long.class ? 0L : List.of();
+        };
+        when(projectService.findRecentProjectsByUserId(1L, 10)).thenAnswer(record);
+        when(projectService.countProjectsByUserId(1L)).thenAnswer(record);
+        when(taskRepository.findOpenByAssignedToIdAsDto(eq(1L), any())).thenAnswer(record);
+        when(taskRepository.countOpenTasksByAssignedToId(eq(1L), any(), any())).thenAnswer(invocation -> {
+            record.answer(invocation);
+            return List.<Object[]>of(new Object[]{5L, 2L, 1L});
+        });
+        when(taskRepository.findOverdueByAssignedToIdAsDto(eq(1L), any(), any())).thenAnswer(record);
+        when(taskRepository.findDueSoonByAssignedToIdAsDto(eq(1L), any(), any(), any())).thenAnswer(record);
+        when(notificationRepository.findUnreadByUserIdAsDto(eq(1L), any())).thenAnswer(record);
+        when(notificationService.getUnreadCount(1L)).thenAnswer(record);
+        MDC.put(CorrelationIdFilter.MDC_KEY, "req-42");
+        SqlStatementCounter.start();
+
+        // When
+        DashboardDTO dashboard = dashboardService.getDashboard(1L).orElseThrow();
+
+        // Then
+        assertEquals("alice", dashboard.getUsername());
+        assertEquals(5, dashboard.getAssignedTaskCount());
+        assertEquals(2, dashboard.getOverdueTaskCount());
+        assertEquals(1, dashboard.getDueSoonTaskCount());
+        assertEquals(8, threads.size());
+        assertTrue(threads.stream().allMatch(name -> name.startsWith("pmt-dashboard-")), threads.toString());
+        assertTrue(requestIds.stream().allMatch("req-42"::equals), requestIds.toString());
+        assertEquals(8, SqlStatementCounter.stop());
+        // Une transaction en lecture seule par section
+        verify(transactionManager, times(4)).getTransaction(any());
+        verify(transactionManager, times(4)).commit(any());
+    }
+
+    @Test
+    void getDashboard_FailingSectionCancelsOthers() {
+        // Given
+        AtomicBoolean interrupted = new AtomicBoolean();
+        when(projectService.findRecentProjectsByUserId(1L, 10)).thenThrow(new RuntimeException("Base indisponible"));
+        lenient().when(taskRepository.findOpenByAssignedToIdAsDto(eq(1L), any())).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(30_000);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+                throw e;
+            }
+            return List.of();
+        });
+        lenient().when(taskRepository.findOverdueByAssignedToIdAsDto(eq(1L), any(), any())).thenReturn(List.of());
+        lenient().when(taskRepository.findDueSoonByAssignedToIdAsDto(eq(1L), any(), any(), any())).thenReturn(List.of());
+        lenient().when(notificationRepository.findUnreadByUserIdAsDto(eq(1L), any())).thenReturn(List.of());
+
+        // When
+        RuntimeException exception = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> assertThrows(RuntimeException.class, () -> dashboardService.getDashboard(1L)));
+
+        // Then : l'erreur d'origine est remontée, la section bloquée (si elle a démarré) a été interrompue
+        assertEquals("Base indisponible", exception.getMessage());
+        verify(projectService, never()).countProjectsByUserId(any());
+        if (mockingDetails(taskRepository).getInvocations().stream()
+                .anyMatch(invocation -> invocation.getMethod().getName().equals("findOpenByAssignedToIdAsDto"))) {
+            assertTrue(interrupted.get());
+        }
+    }
+
+    @Test
+    void getDashboard_TimeoutCancelsSlowSections() {
+        // Given
+        ReflectionTestUtils.setField(dashboardService, "timeout", Duration.ofMillis(200));
+        AtomicInteger interrupted = new AtomicInteger();
+        when(projectService.findRecentProjectsByUserId(1L, 10)).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(30_000);
+            } catch (InterruptedException e) {
+                interrupted.incrementAndGet();
+                throw e;
+            }
+            return List.of();
+        });
+        lenient().when(taskRepository.findOpenByAssignedToIdAsDto(eq(1L), any())).thenReturn(List.of());
+        lenient().when(taskRepository.countOpenTasksByAssignedToId(eq(1L), any(), any()))
+                .thenReturn(List.<Object[]>of(new Object[]{0L, 0L, 0L}));
+        lenient().when(taskRepository.findOverdueByAssignedToIdAsDto(eq(1L), any(), any())).thenReturn(List.of());
+        lenient().when(taskRepository.findDueSoonByAssignedToIdAsDto(eq(1L), any(), any(), any())).thenReturn(List.of());
+        lenient().when(notificationRepository.findUnreadByUserIdAsDto(eq(1L), any())).thenReturn(List.of());
+
+        // When
+        RuntimeException exception = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> assertThrows(RuntimeException.class, () -> dashboardService.getDashboard(1L)));
+
+        // Then
+        assertTrue(exception.getMessage().startsWith("Délai de chargement du tableau de bord dépassé"), exception.getMessage());
+        assertEquals(1, interrupted.get());
+    }
+
+    @Test
+    void getDashboard_SequentialModeRunsOnCallerThread() {
+        // Given
+        ReflectionTestUtils.setField(dashboardService, "parallel", false);
+        ReflectionTestUtils.setField(dashboardService, "projectsLimit", 3);
+        String caller = Thread.currentThread().getName();
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        when(projectService.findRecentProjectsByUserId(eq(1L), anyInt())).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            return List.of();
+        });
+        when(taskRepository.countOpenTasksByAssignedToId(eq(1L), any(), any()))
+                .thenReturn(List.<Object[]>of(new Object[]{0L, 0L, 0L}));
+
+        // When
+        DashboardDTO dashboard = dashboardService.getDashboard(1L).orElseThrow();
+
+        // Then
+        assertEquals(List.of(caller), threads);
+        verify(projectService).findRecentProjectsByUserId(1L, 3);
+        assertEquals(0, dashboard.getAssignedTaskCount());
+        verify(transactionManager, times(4)).getTransaction(any());
+    }
+
+    @Test
+    void getDashboard_WithoutParallelPermit_RunsOnCallerThread() {
+        // Given : autant de tableaux de bord déjà chargés en parallèle que permis
+        dashboardService.setMaxParallelRequests(0);
+        String caller = Thread.currentThread().getName();
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        when(projectService.findRecentProjectsByUserId(1L, 10)).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            return List.of();
+        });
+        when(taskRepository.countOpenTasksByAssignedToId(eq(1L), any(), any()))
+                .thenReturn(List.<Object[]>of(new Object[]{0L, 0L, 0L}));
+
+        // When
+        Optional<DashboardDTO> dashboard = dashboardService.getDashboard(1L);
+
+        // Then
+        assertTrue(dashboard.isPresent());
+        assertEquals(List.of(caller), threads);
+    }
+
+    @Test
+    void getDashboard_UnknownUser_ReturnsEmpty() {
+        // Given : la lecture de l'utilisateur fait partie de la section des projets
+        when(taskRepository.countOpenTasksByAssignedToId(eq(99L), any(), any()))
+                .thenReturn(List.<Object[]>of(new Object[]{0L, 0L, 0L}));
+
+        // When
+        Optional<DashboardDTO> dashboard = dashboardService.getDashboard(99L);
+
+        // Then
+        assertTrue(dashboard.isEmpty());
+        verifyNoInteractions(projectService);
+    }
+}
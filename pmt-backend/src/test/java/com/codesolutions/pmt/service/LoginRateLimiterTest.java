@@ -0,0 +1,107 @@
+package com.codesolutions.pmt.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginRateLimiterTest {
+
+    private static final Instant NOW = Instant.parse("2030-01-01T10:00:00Z");
+
+    private LoginRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new LoginRateLimiter();
+        at(NOW);
+    }
+
+    @Test
+    void tryAcquire_EmailLimitReached_ReturnsDelayUntilOldestAttemptLeavesWindow() {
+        // Given : 5 tentatives espacées d'une minute
+        for (int i = 0; i < 5; i++) {
+            at(NOW.plusSeconds(60L * i));
+            assertTrue(limiter.tryAcquire("alice@example.com", "10.0.0." + i).isEmpty());
+        }
+
+        // When
+        Optional<Duration> retryAfter = limiter.tryAcquire("Alice@Example.com ", "10.0.0.9");
+
+        // Then : la première tentative sort de la fenêtre de 5 minutes une minute plus tard
+        assertEquals(Optional.of(Duration.ofMinutes(1)), retryAfter);
+        assertTrue(limiter.tryAcquire("bob@example.com", "10.0.0.9").isEmpty());
+
+        at(NOW.plus(Duration.ofMinutes(5)));
+        assertTrue(limiter.tryAcquire("alice@example.com", "10.0.0.9").isEmpty());
+    }
+
+    @Test
+    void tryAcquire_IpLimitReached_AcrossDifferentEmails() {
+        // Given
+        for (int i = 0; i < 20; i++) {
+            assertTrue(limiter.tryAcquire("user" + i + "@example.com", "10.0.0.1").isEmpty());
+        }
+
+        // Then
+        assertTrue(limiter.tryAcquire("other@example.com", "10.0.0.1").isPresent());
+        assertTrue(limiter.tryAcquire("other@example.com", "10.0.0.2").isEmpty());
+    }
+
+    @Test
+    void tryAcquire_RejectedAttemptsDoNotExtendLockout() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("alice@example.com", "10.0.0.1");
+        }
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire("alice@example.com", "10.0.0.1").isPresent());
+        }
+
+        // When
+        at(NOW.plus(Duration.ofMinutes(5)));
+
+        // Then
+        assertTrue(limiter.tryAcquire("alice@example.com", "10.0.0.1").isEmpty());
+    }
+
+    @Test
+    void onSuccess_ResetsEmailCounter() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("alice@example.com", "10.0.0.1");
+        }
+
+        // When
+        limiter.onSuccess("alice@example.com");
+
+        // Then
+        assertTrue(limiter.tryAcquire("alice@example.com", "10.0.0.1").isEmpty());
+    }
+
+    @Test
+    void purgeExpiredAttempts_RemovesIdleKeys() {
+        // Given
+        limiter.tryAcquire("alice@example.com", "10.0.0.1");
+        at(NOW.plus(Duration.ofMinutes(4)));
+        limiter.tryAcquire("bob@example.com", "10.0.0.2");
+        assertEquals(4, limiter.getTrackedKeyCount());
+
+        // When
+        at(NOW.plus(Duration.ofMinutes(6)));
+        limiter.purgeExpiredAttempts();
+
+        // Then
+        assertEquals(2, limiter.getTrackedKeyCount());
+    }
+
+    private void at(Instant instant) {
+        limiter.setClock(Clock.fixed(instant, ZoneOffset.UTC));
+    }
+}
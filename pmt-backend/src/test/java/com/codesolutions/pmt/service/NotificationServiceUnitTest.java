@@ -10,8 +10,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -30,6 +33,12 @@ class NotificationServiceUnitTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private UnreadCountCache unreadCountCache = new UnreadCountCache(100, Duration.ofMinutes(5));
+
     @InjectMocks
     private NotificationService notificationService;
 
@@ -176,6 +185,7 @@ class NotificationServiceUnitTest {
         assertNotNull(result);
         verify(userRepository).findById(1L);
         verify(notificationRepository).save(any(Notification.class));
+        verify(eventPublisher).publishEvent(any(NotificationCreatedEvent.class));
     }
 
     @Test
@@ -226,16 +236,44 @@ class NotificationServiceUnitTest {
     @Test
     void testMarkAllAsRead() {
         // Given
-        List<Notification> unreadNotifications = Arrays.asList(testNotification);
-        when(notificationRepository.findByUserIdAndIsReadFalse(1L)).thenReturn(unreadNotifications);
-        when(notificationRepository.saveAll(any())).thenReturn(unreadNotifications);
+        when(notificationRepository.markAllAsReadByUserId(1L)).thenReturn(3);
 
         // When
-        notificationService.markAllAsRead(1L);
+        int updated = notificationService.markAllAsRead(1L);
 
         // Then
-        verify(notificationRepository).findByUserIdAndIsReadFalse(1L);
-        verify(notificationRepository).saveAll(any());
+        assertEquals(3, updated);
+        verify(notificationRepository).markAllAsReadByUserId(1L);
+        verify(notificationRepository, never()).findByUserIdAndIsReadFalse(1L);
+        verify(notificationRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void testMarkAsReadByIds() {
+        // Given
+        List<Long> ids = Arrays.asList(1L, 2L, 3L);
+        when(notificationRepository.countByUserIdAndIsReadFalse(1L)).thenReturn(5L);
+        when(notificationRepository.markAsReadByUserIdAndIds(1L, ids)).thenReturn(2);
+        notificationService.getUnreadCount(1L);
+
+        // When
+        int[] updated = new int[1];
+        UnreadCountCacheTest.commit(() -> updated[0] = notificationService.markAsRead(1L, ids));
+
+        // Then
+        assertEquals(2, updated[0]);
+        assertEquals(3L, notificationService.getUnreadCount(1L));
+        verify(notificationRepository).markAsReadByUserIdAndIds(1L, ids);
+    }
+
+    @Test
+    void testMarkAsReadByIds_EmptySelection() {
+        // When
+        int updated = notificationService.markAsRead(1L, Arrays.asList());
+
+        // Then
+        assertEquals(0, updated);
+        verifyNoInteractions(notificationRepository);
     }
 
     @Test
@@ -254,15 +292,15 @@ class NotificationServiceUnitTest {
     @Test
     void testDeleteAllNotificationsByUser() {
         // Given
-        List<Notification> notifications = Arrays.asList(testNotification);
-        when(notificationRepository.findByUserId(1L)).thenReturn(notifications);
+        when(notificationRepository.deleteAllByUserId(1L)).thenReturn(4);
 
         // When
-        notificationService.deleteAllNotificationsByUser(1L);
+        int deleted = notificationService.deleteAllNotificationsByUser(1L);
 
         // Then
-        verify(notificationRepository).findByUserId(1L);
-        verify(notificationRepository).deleteAll(notifications);
+        assertEquals(4, deleted);
+        verify(notificationRepository).deleteAllByUserId(1L);
+        verify(notificationRepository, never()).deleteAll(any());
     }
 
     @Test
@@ -277,4 +315,52 @@ class NotificationServiceUnitTest {
         assertEquals(5L, count);
         verify(notificationRepository).countByUserIdAndIsReadFalse(1L);
     }
+
+    @Test
+    void testGetUnreadCount_ServedFromCacheAfterFirstCall() {
+        // Given
+        when(notificationRepository.countByUserIdAndIsReadFalse(1L)).thenReturn(5L);
+
+        // When
+        notificationService.getUnreadCount(1L);
+        long count = notificationService.getUnreadCount(1L);
+
+        // Then
+        assertEquals(5L, count);
+        verify(notificationRepository, times(1)).countByUserIdAndIsReadFalse(1L);
+        assertEquals(1, unreadCountCache.getHitCount());
+        assertEquals(1, unreadCountCache.getMissCount());
+    }
+
+    @Test
+    void testUnreadCount_MaintainedByWrites() {
+        // Given
+        when(notificationRepository.countByUserIdAndIsReadFalse(1L)).thenReturn(2L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(notificationRepository.save(any(Notification.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(notificationRepository.findById(1L)).thenReturn(Optional.of(testNotification));
+        notificationService.getUnreadCount(1L);
+
+        NotificationCreateDTO createDTO = new NotificationCreateDTO();
+        createDTO.setUserId(1L);
+        createDTO.setTitle("New Notification");
+        createDTO.setMessage("New message");
+        createDTO.setType("INFO");
+
+        // When & Then : chaque écriture dans sa transaction, appliquée au cache après le commit
+        UnreadCountCacheTest.commit(() -> notificationService.createNotification(createDTO));
+        assertEquals(3L, notificationService.getUnreadCount(1L));
+
+        UnreadCountCacheTest.commit(() -> notificationService.markAsRead(1L));
+        assertEquals(2L, notificationService.getUnreadCount(1L));
+
+        // Déjà lue : le compteur ne bouge pas
+        UnreadCountCacheTest.commit(() -> notificationService.markAsRead(1L));
+        assertEquals(2L, notificationService.getUnreadCount(1L));
+
+        UnreadCountCacheTest.commit(() -> notificationService.markAllAsRead(1L));
+        assertEquals(0L, notificationService.getUnreadCount(1L));
+
+        verify(notificationRepository, times(1)).countByUserIdAndIsReadFalse(1L);
+    }
 }
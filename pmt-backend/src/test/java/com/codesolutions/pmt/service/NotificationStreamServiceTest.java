@@ -0,0 +1,251 @@
+package com.codesolutions.pmt.service;
+
+import com.codesolutions.pmt.entity.Notification;
+import com.codesolutions.pmt.entity.User;
+import com.codesolutions.pmt.repository.NotificationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationStreamServiceTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @InjectMocks
+    private NotificationStreamService notificationStreamService;
+
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(notificationStreamService, "timeoutMillis", 60_000L);
+        ReflectionTestUtils.setField(notificationStreamService, "maxReplay", 100);
+        // Envois sur le thread appelant : résultats vérifiables dès le retour
+        notificationStreamService.setSender(Runnable::run);
+
+        testUser = new User();
+        testUser.setId(1L);
+        testUser.setUsername("testuser");
+    }
+
+    @AfterEach
+    void tearDown() {
+        sender.shutdownNow();
+    }
+
+    @Test
+    void subscribe_RegistersEmitterPerUser() {
+        SseEmitter first = notificationStreamService.subscribe(1L, null);
+        SseEmitter second = notificationStreamService.subscribe(1L, null);
+        notificationStreamService.subscribe(2L, null);
+
+        assertNotNull(first);
+        assertNotSame(first, second);
+        assertEquals(2, notificationStreamService.getConnectionCount(1L));
+        assertEquals(3, notificationStreamService.getConnectionCount());
+        verify(notificationRepository, never()).findByUserIdAndIdGreaterThanOrderByIdAsc(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void subscribe_WithLastEventId_ReplaysMissedNotifications() {
+        when(notificationRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(1L, 41L, PageRequest.of(0, 100)))
+                .thenReturn(Arrays.asList(notification(42L), notification(43L)));
+
+        SseEmitter emitter = notificationStreamService.subscribe(1L, "41");
+
+        assertNotNull(emitter);
+        verify(notificationRepository).findByUserIdAndIdGreaterThanOrderByIdAsc(1L, 41L, PageRequest.of(0, 100));
+    }
+
+    @Test
+    void subscribe_WithInvalidLastEventId_SkipsReplay() {
+        notificationStreamService.subscribe(1L, "abc");
+
+        verify(notificationRepository, never()).findByUserIdAndIdGreaterThanOrderByIdAsc(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void onNotificationCreated_SendsOnlyToRecipient() {
+        notificationStreamService.subscribe(1L, null);
+
+        assertDoesNotThrow(() -> notificationStreamService.onNotificationCreated(new NotificationCreatedEvent(notification(5L))));
+        assertEquals(1, notificationStreamService.getConnectionCount(1L));
+    }
+
+    @Test
+    void send_ToCompletedEmitter_UnregistersIt() {
+        SseEmitter emitter = notificationStreamService.subscribe(1L, null);
+        emitter.complete();
+
+        notificationStreamService.onNotificationCreated(new NotificationCreatedEvent(notification(6L)));
+
+        assertEquals(0, notificationStreamService.getConnectionCount(1L));
+    }
+
+    @Test
+    void heartbeat_WithoutConnections_DoesNothing() {
+        assertDoesNotThrow(() -> notificationStreamService.heartbeat());
+        assertEquals(0, notificationStreamService.getConnectionCount());
+    }
+
+    @Test
+    void onNotificationCreated_SlowClient_DelaysOnlyItsOwnConnection() throws Exception {
+        // Given : deux connexions du même utilisateur, la première bloquée en écriture
+        CountDownLatch unblock = new CountDownLatch(1);
+        BlockingQueue<String> delivered = new LinkedBlockingQueue<>();
+        NotificationStreamService service = streamService(
+                emitter(event -> await(unblock)),
+                emitter(delivered::add));
+        service.subscribe(1L, null);
+        service.subscribe(1L, null);
+
+        // When : ni la requête à l'origine de la notification, ni le planificateur n'attendent le client lent
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+            service.onNotificationCreated(new NotificationCreatedEvent(notification(7L)));
+            service.heartbeat();
+        });
+
+        // Then
+        String event = delivered.poll(5, TimeUnit.SECONDS);
+        assertNotNull(event);
+        assertTrue(event.contains("id:7"), event);
+        unblock.countDown();
+    }
+
+    @Test
+    void heartbeat_StalledClient_DoesNotQueueMoreWrites() throws Exception {
+        // Given : un client qui ne lit plus, bloqué sur le premier battement de cœur
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch unblock = new CountDownLatch(1);
+        AtomicInteger sends = new AtomicInteger();
+        NotificationStreamService service = streamService(emitter(event -> {
+            sends.incrementAndGet();
+            started.countDown();
+            await(unblock);
+        }));
+        service.subscribe(1L, null);
+        service.heartbeat();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            service.heartbeat();
+        }
+        unblock.countDown();
+
+        // Then : aucun battement en attente derrière l'écriture bloquée
+        sender.shutdown();
+        assertTrue(sender.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(1, sends.get());
+        assertEquals(1, service.getConnectionCount(1L));
+    }
+
+    @Test
+    void onNotificationCreated_KeepsOrderPerConnection() throws Exception {
+        // Given
+        List<String> delivered = new ArrayList<>();
+        NotificationStreamService service = streamService(emitter(event -> {
+            synchronized (delivered) {
+                delivered.add(event);
+            }
+        }));
+        service.subscribe(1L, null);
+
+        // When
+        for (long id = 1; id <= 50; id++) {
+            service.onNotificationCreated(new NotificationCreatedEvent(notification(id)));
+        }
+
+        // Then
+        sender.shutdown();
+        assertTrue(sender.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(50, delivered.size());
+        for (int i = 0; i < 50; i++) {
+            assertTrue(delivered.get(i).startsWith("id:" + (i + 1) + "\n"), delivered.get(i));
+        }
+    }
+
+    /**
+     * Service dont les connexions utilisent les émetteurs donnés, dans l'ordre, et dont les envois partent sur des threads virtuels
+     */
+    private NotificationStreamService streamService(SseEmitter... emitters) {
+        Deque<SseEmitter> next = new ArrayDeque<>(Arrays.asList(emitters));
+        NotificationStreamService service = new NotificationStreamService() {
+            @Override
+            SseEmitter newEmitter() {
+                return next.removeFirst();
+            }
+        };
+        ReflectionTestUtils.setField(service, "maxReplay", 100);
+        service.setSender(sender);
+        return service;
+    }
+
+    /**
+     * Émetteur sans requête HTTP : chaque événement, réduit à sa partie texte, est remis au client simulé
+     */
+    private static SseEmitter emitter(Client client) {
+        return new SseEmitter(60_000L) {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                StringBuilder text = new StringBuilder();
+                builder.build().forEach(data -> {
+                    if (data.getData() instanceof String part) {
+                        text.append(part);
+                    }
+                });
+                client.receive(text.toString());
+            }
+        };
+    }
+
+    private static void await(CountDownLatch latch) throws IOException {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+
+    private interface Client {
+        void receive(String event) throws IOException;
+    }
+
+    private Notification notification(Long id) {
+        Notification notification = new Notification(testUser, "Titre", "Message", "INFO", "TASK", 7L);
+        notification.setId(id);
+        return notification;
+    }
+}
@@ -7,7 +7,6 @@ import com.codesolutions.pmt.entity.Role;
 import com.codesolutions.pmt.entity.User;
 import com.codesolutions.pmt.repository.ProjectMemberRepository;
 import com.codesolutions.pmt.repository.ProjectRepository;
-import com.codesolutions.pmt.repository.RoleRepository;
 import com.codesolutions.pmt.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -38,7 +37,7 @@ class ProjectMemberServiceUnitTest {
     private UserRepository userRepository;
 
     @Mock
-    private RoleRepository roleRepository;
+    private ReferenceDataCache referenceDataCache;
 
     @InjectMocks
     private ProjectMemberService projectMemberService;
@@ -171,7 +170,7 @@ class ProjectMemberServiceUnitTest {
         when(projectMemberRepository.findByProjectIdAndUserId(1L, 1L)).thenReturn(Optional.empty());
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
         when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(roleRepository.findById(1)).thenReturn(Optional.of(testRole));
+        when(referenceDataCache.findRoleById(1)).thenReturn(Optional.of(testRole));
         when(projectMemberRepository.save(any(ProjectMember.class))).thenReturn(testProjectMember);
 
         // When
@@ -183,7 +182,7 @@ class ProjectMemberServiceUnitTest {
         verify(projectMemberRepository).findByProjectIdAndUserId(1L, 1L);
         verify(projectRepository).findById(1L);
         verify(userRepository).findById(1L);
-        verify(roleRepository).findById(1);
+        verify(referenceDataCache).findRoleById(1);
         verify(projectMemberRepository).save(any(ProjectMember.class));
     }
 
@@ -255,7 +254,7 @@ class ProjectMemberServiceUnitTest {
         when(projectMemberRepository.findByProjectIdAndUserId(1L, 1L)).thenReturn(Optional.empty());
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
         when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(roleRepository.findById(999)).thenReturn(Optional.empty());
+        when(referenceDataCache.findRoleById(999)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(RuntimeException.class, () -> {
@@ -264,7 +263,7 @@ class ProjectMemberServiceUnitTest {
         verify(projectMemberRepository).findByProjectIdAndUserId(1L, 1L);
         verify(projectRepository).findById(1L);
         verify(userRepository).findById(1L);
-        verify(roleRepository).findById(999);
+        verify(referenceDataCache).findRoleById(999);
     }
 
     @Test
@@ -275,7 +274,7 @@ class ProjectMemberServiceUnitTest {
         newRole.setName("ADMIN");
 
         when(projectMemberRepository.findById(1L)).thenReturn(Optional.of(testProjectMember));
-        when(roleRepository.findById(2)).thenReturn(Optional.of(newRole));
+        when(referenceDataCache.findRoleById(2)).thenReturn(Optional.of(newRole));
         when(projectMemberRepository.save(any(ProjectMember.class))).thenReturn(testProjectMember);
 
         // When
@@ -284,7 +283,7 @@ class ProjectMemberServiceUnitTest {
         // Then
         assertNotNull(result);
         verify(projectMemberRepository).findById(1L);
-        verify(roleRepository).findById(2);
+        verify(referenceDataCache).findRoleById(2);
         verify(projectMemberRepository).save(any(ProjectMember.class));
     }
 
@@ -292,14 +291,14 @@ class ProjectMemberServiceUnitTest {
     void testUpdateMemberRole_RoleNotFound() {
         // Given
         when(projectMemberRepository.findById(1L)).thenReturn(Optional.of(testProjectMember));
-        when(roleRepository.findById(999)).thenReturn(Optional.empty());
+        when(referenceDataCache.findRoleById(999)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(RuntimeException.class, () -> {
             projectMemberService.updateMemberRole(1L, 999);
         });
         verify(projectMemberRepository).findById(1L);
-        verify(roleRepository).findById(999);
+        verify(referenceDataCache).findRoleById(999);
     }
 
     @Test
@@ -2,11 +2,12 @@ package com.codesolutions.pmt.service;
 
 import com.codesolutions.pmt.dto.ProjectDTO;
 import com.codesolutions.pmt.entity.Project;
+import com.codesolutions.pmt.entity.ProjectMember;
 import com.codesolutions.pmt.entity.User;
 import com.codesolutions.pmt.entity.Role;
+import com.codesolutions.pmt.repository.ProjectMemberRepository;
 import com.codesolutions.pmt.repository.ProjectRepository;
 import com.codesolutions.pmt.repository.UserRepository;
-import com.codesolutions.pmt.repository.RoleRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,6 +18,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,7 +40,10 @@ class ProjectServiceTest {
     private UserService userService;
 
     @Mock
-    private RoleRepository roleRepository;
+    private ReferenceDataCache referenceDataCache;
+
+    @Mock
+    private ProjectMemberRepository projectMemberRepository;
 
     @InjectMocks
     private ProjectService projectService;
@@ -79,7 +84,7 @@ class ProjectServiceTest {
         when(userService.findUserEntityById(1L)).thenReturn(testUser);
         when(projectRepository.save(any(Project.class))).thenReturn(testProject);
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
-        when(roleRepository.findByName("ADMIN")).thenReturn(Optional.of(adminRole));
+        when(referenceDataCache.findRoleByName("ADMIN")).thenReturn(Optional.of(adminRole));
 
         // When
         ProjectDTO result = projectService.createProject(testProjectDto, 1L);
@@ -91,7 +96,7 @@ class ProjectServiceTest {
         verify(userService, times(2)).findUserEntityById(1L);
         verify(projectRepository, times(2)).save(any(Project.class));
         verify(projectRepository).findById(1L);
-        verify(roleRepository).findByName("ADMIN");
+        verify(referenceDataCache).findRoleByName("ADMIN");
     }
 
     @Test
@@ -235,4 +240,58 @@ class ProjectServiceTest {
         assertEquals(project2.getName(), result.get(1).getName());
         verify(projectRepository).findProjectsByUserId(1L);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void findAll_CountsFromAggregateQueries_WithoutLoadingCollections() {
+        // Given
+        Project project2 = new Project();
+        project2.setId(2L);
+        project2.setName("Project 2");
+        project2.setCreatedBy(testUser);
+        // Collections non initialisées : y accéder ferait échouer le test
+        testProject.setTasks(null);
+        testProject.setMembers(null);
+        project2.setTasks(null);
+        project2.setMembers(null);
+
+        when(projectRepository.findAll()).thenReturn(Arrays.asList(testProject, project2));
+        when(projectRepository.countTasksByProjectIds(Arrays.asList(1L, 2L)))
+                .thenReturn(Collections.singletonList(new Object[]{1L, 12000L}));
+        when(projectRepository.countMembersByProjectIds(Arrays.asList(1L, 2L)))
+                .thenReturn(Arrays.asList(new Object[]{1L, 3L}, new Object[]{2L, 1L}));
+
+        // When
+        List<ProjectDTO> result = projectService.findAll(false);
+
+        // Then
+        assertEquals(12000L, result.get(0).getTaskCount());
+        assertEquals(3L, result.get(0).getMemberCount());
+        assertEquals(0L, result.get(1).getTaskCount());
+        assertEquals(1L, result.get(1).getMemberCount());
+        assertNull(result.get(0).getMembers());
+        verify(projectMemberRepository, never()).findByProjectIdInWithRelations(any());
+    }
+
+    @Test
+    void findAll_WithMembers_LoadsMembersInOneQuery() {
+        // Given
+        Role adminRole = new Role();
+        adminRole.setId(1);
+        adminRole.setName("ADMIN");
+        ProjectMember member = new ProjectMember(testProject, testUser, adminRole);
+        member.setId(10L);
+
+        when(projectRepository.findAll()).thenReturn(Collections.singletonList(testProject));
+        when(projectMemberRepository.findByProjectIdInWithRelations(Collections.singletonList(1L)))
+                .thenReturn(Collections.singletonList(member));
+
+        // When
+        List<ProjectDTO> result = projectService.findAll(true);
+
+        // Then
+        assertEquals(1, result.get(0).getMembers().size());
+        assertEquals("testuser", result.get(0).getMembers().get(0).getUsername());
+        assertEquals("ADMIN", result.get(0).getMembers().get(0).getRoleName());
+        verify(projectMemberRepository).findByProjectIdInWithRelations(Collections.singletonList(1L));
+    }
+}
@@ -0,0 +1,133 @@
+package com.codesolutions.pmt.service;
+
+import com.codesolutions.pmt.entity.Role;
+import com.codesolutions.pmt.entity.TaskStatus;
+import com.codesolutions.pmt.entity.TaskStatusEnum;
+import com.codesolutions.pmt.repository.RoleRepository;
+import com.codesolutions.pmt.repository.TaskStatusRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataCacheTest {
+
+    @Mock
+    private TaskStatusRepository taskStatusRepository;
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @InjectMocks
+    private ReferenceDataCache referenceDataCache;
+
+    private TaskStatus todo;
+    private TaskStatus inProgress;
+    private Role admin;
+    private Role member;
+
+    @BeforeEach
+    void setUp() {
+        todo = status(1, "TODO");
+        inProgress = status(2, "IN_PROGRESS");
+        admin = role(1, "ADMIN");
+        member = role(2, "MEMBER");
+    }
+
+    @Test
+    void lookups_LoadTablesOnce() {
+        // Given
+        when(taskStatusRepository.findAll()).thenReturn(List.of(todo, inProgress));
+        when(roleRepository.findAll()).thenReturn(List.of(admin, member));
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            referenceDataCache.findTaskStatusByName("TODO");
+            referenceDataCache.findRoleByName("MEMBER");
+        }
+
+        // Then
+        assertSame(todo, referenceDataCache.findTaskStatusByName("TODO").orElseThrow());
+        assertSame(inProgress, referenceDataCache.findTaskStatusById(2).orElseThrow());
+        assertSame(inProgress, referenceDataCache.findTaskStatus(TaskStatusEnum.IN_PROGRESS).orElseThrow());
+        assertTrue(referenceDataCache.findTaskStatus(TaskStatusEnum.REVIEW).isEmpty());
+        assertSame(admin, referenceDataCache.findRoleById(1).orElseThrow());
+        assertSame(member, referenceDataCache.findRoleByName("MEMBER").orElseThrow());
+        assertTrue(referenceDataCache.findRoleByName("OWNER").isEmpty());
+        assertEquals(2, referenceDataCache.getRoles().size());
+        verify(taskStatusRepository, times(1)).findAll();
+        verify(roleRepository, times(1)).findAll();
+        assertEquals(1, referenceDataCache.getLoadCount());
+    }
+
+    @Test
+    void invalidate_ReloadsOnNextAccess() {
+        // Given
+        TaskStatus review = status(3, "REVIEW");
+        when(taskStatusRepository.findAll())
+                .thenReturn(List.of(todo))
+                .thenReturn(List.of(todo, review));
+        when(roleRepository.findAll()).thenReturn(List.of(admin));
+        assertTrue(referenceDataCache.findTaskStatusByName("REVIEW").isEmpty());
+
+        // When
+        referenceDataCache.invalidate();
+
+        // Then
+        assertSame(review, referenceDataCache.findTaskStatus(TaskStatusEnum.REVIEW).orElseThrow());
+        assertEquals(2, referenceDataCache.getLoadCount());
+    }
+
+    @Test
+    void invalidateDuringLoad_DoesNotKeepStaleSnapshot() {
+        // Given : une invalidation survient pendant la lecture en base
+        when(taskStatusRepository.findAll()).thenAnswer(invocation -> {
+            referenceDataCache.invalidate();
+            return List.of(todo);
+        }).thenReturn(List.of(todo, inProgress));
+        when(roleRepository.findAll()).thenReturn(List.of(admin));
+
+        // When
+        assertTrue(referenceDataCache.findTaskStatusByName("IN_PROGRESS").isEmpty());
+
+        // Then : le chargement suivant relit la base
+        assertTrue(referenceDataCache.findTaskStatusByName("IN_PROGRESS").isPresent());
+        assertEquals(2, referenceDataCache.getLoadCount());
+    }
+
+    @Test
+    void preload_DatabaseUnavailable_DefersLoading() {
+        // Given
+        when(taskStatusRepository.findAll())
+                .thenThrow(new DataAccessResourceFailureException("indisponible"))
+                .thenReturn(List.of(todo));
+        when(roleRepository.findAll()).thenReturn(List.of(admin));
+
+        // When
+        referenceDataCache.preload();
+
+        // Then
+        assertSame(todo, referenceDataCache.findTaskStatusByName("TODO").orElseThrow());
+    }
+
+    private static TaskStatus status(int id, String name) {
+        TaskStatus status = new TaskStatus(name);
+        status.setId(id);
+        return status;
+    }
+
+    private static Role role(int id, String name) {
+        Role role = new Role(name);
+        role.setId(id);
+        return role;
+    }
+}
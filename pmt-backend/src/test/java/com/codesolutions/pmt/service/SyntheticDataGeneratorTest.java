@@ -0,0 +1,130 @@
+package com.codesolutions.pmt.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.datasource.url=jdbc:h2:mem:datagen;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "pmt.datagen.batch-size=250"
+})
+class SyntheticDataGeneratorTest {
+
+    private static final SyntheticDataGenerator.Scale SCALE = new SyntheticDataGenerator.Scale(200, 20, 5000, 20000, 2000, 7);
+
+    @Autowired
+    private SyntheticDataGenerator generator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void generate_InsertsRequestedVolumesWithSkew() {
+        // When
+        SyntheticDataGenerator.GenerationReport report = generator.generate(
+                new SyntheticDataGenerator.Scale(200, 20, 5000, 20000, 2000, 3));
+
+        // Then
+        assertEquals(200, count("users", "id", report.firstUserId()));
+        assertEquals(20, count("projects", "id", report.firstProjectId()));
+        assertEquals(report.memberships(), count("project_members", "project_id", report.firstProjectId()));
+        assertEquals(5000, count("tasks", "id", report.firstTaskId()));
+        assertEquals(20000, count("task_history", "task_id", report.firstTaskId()));
+        assertEquals(2000, count("notifications", "user_id", report.firstUserId()));
+
+        // Quelques très gros projets : le plus gros a bien plus de tâches que le projet médian
+        List<Long> tasksPerProject = jdbcTemplate.queryForList(
+                "SELECT COUNT(*) FROM tasks WHERE id >= ? GROUP BY project_id ORDER BY COUNT(*) DESC", Long.class, report.firstTaskId());
+        assertTrue(tasksPerProject.get(0) > 5 * tasksPerProject.get(tasksPerProject.size() / 2), tasksPerProject.toString());
+
+        // Assignés concentrés : dans le plus gros projet, l'assigné principal dépasse largement une part uniforme
+        Long biggestProject = jdbcTemplate.queryForObject("SELECT project_id FROM tasks WHERE id >= ? GROUP BY project_id "
+                + "ORDER BY COUNT(*) DESC LIMIT 1", Long.class, report.firstTaskId());
+        List<Long> tasksPerAssignee = jdbcTemplate.queryForList("SELECT COUNT(*) FROM tasks WHERE project_id = ? "
+                + "AND assigned_to IS NOT NULL GROUP BY assigned_to ORDER BY COUNT(*) DESC", Long.class, biggestProject);
+        long assigned = tasksPerAssignee.stream().mapToLong(Long::longValue).sum();
+        assertTrue(tasksPerAssignee.get(0) > 3 * assigned / tasksPerAssignee.size(), tasksPerAssignee.toString());
+
+        // Les utilisateurs générés peuvent se connecter
+        String hash = jdbcTemplate.queryForObject("SELECT password FROM users WHERE username = 'load3-u0'", String.class);
+        assertTrue(passwordEncoder.matches("password123", hash));
+    }
+
+    @Test
+    void generate_SameSeed_ProducesSameData() {
+        // Given
+        SyntheticDataGenerator.GenerationReport first = generator.generate(SCALE);
+        List<String> firstFingerprint = fingerprint(first);
+        delete(first);
+
+        // When
+        SyntheticDataGenerator.GenerationReport second = generator.generate(SCALE);
+
+        // Then : mêmes lignes à l'ID près
+        assertNotEquals(first.firstTaskId(), second.firstTaskId());
+        assertEquals(firstFingerprint, fingerprint(second));
+        assertThrows(RuntimeException.class, () -> generator.generate(SCALE));
+        delete(second);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void generate_Throughput() {
+        // When
+        SyntheticDataGenerator.GenerationReport report = generator.generate(
+                new SyntheticDataGenerator.Scale(20_000, 2_000, 250_000, 1_000_000, 100_000, 11));
+
+        // Then
+        long rows = report.users() + report.projects() + report.memberships() + report.tasks() + report.history()
+                + report.notifications();
+        System.out.printf("Génération H2 : %d lignes en %d s (%d lignes/s)%n", rows, report.duration().toSeconds(),
+                rows * 1000 / Math.max(1, report.duration().toMillis()));
+        delete(report);
+    }
+
+    private long count(String table, String column, long firstId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE " + column + " >= ?", Long.class, firstId);
+    }
+
+    /**
+     * Tâches et historique avec des ID relatifs au premier ID généré
+     */
+    private List<String> fingerprint(SyntheticDataGenerator.GenerationReport report) {
+        List<String> rows = new ArrayList<>(jdbcTemplate.queryForList(
+                "SELECT CONCAT(id - ?, ':', project_id - ?, ':', COALESCE(assigned_to - ?, -1), ':', created_by - ?, ':', "
+                        + "status_id, ':', priority, ':', COALESCE(CAST(due_date AS VARCHAR), '-')) FROM tasks WHERE id >= ? ORDER BY id",
+                String.class, report.firstTaskId(), report.firstProjectId(), report.firstUserId(), report.firstUserId(),
+                report.firstTaskId()));
+        rows.addAll(jdbcTemplate.queryForList(
+                "SELECT CONCAT(task_id - ?, ':', user_id - ?, ':', action, ':', CAST(created_at AS VARCHAR)) FROM task_history "
+                        + "WHERE task_id >= ? ORDER BY id",
+                String.class, report.firstTaskId(), report.firstUserId(), report.firstTaskId()));
+        return rows;
+    }
+
+    private void delete(SyntheticDataGenerator.GenerationReport report) {
+        jdbcTemplate.update("DELETE FROM notifications WHERE user_id >= ?", report.firstUserId());
+        jdbcTemplate.update("DELETE FROM task_history WHERE task_id >= ?", report.firstTaskId());
+        jdbcTemplate.update("DELETE FROM tasks WHERE id >= ?", report.firstTaskId());
+        jdbcTemplate.update("DELETE FROM project_members WHERE project_id >= ?", report.firstProjectId());
+        jdbcTemplate.update("DELETE FROM projects WHERE id >= ?", report.firstProjectId());
+        jdbcTemplate.update("DELETE FROM users WHERE id >= ?", report.firstUserId());
+    }
+}
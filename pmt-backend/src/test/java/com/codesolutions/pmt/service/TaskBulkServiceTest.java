@@ -0,0 +1,172 @@
+package com.codesolutions.pmt.service;
+
+import com.codesolutions.pmt.dto.TaskBulkErrorDTO;
+import com.codesolutions.pmt.dto.TaskBulkResultDTO;
+import com.codesolutions.pmt.dto.TaskCreateDTO;
+import com.codesolutions.pmt.entity.*;
+import com.codesolutions.pmt.repository.TaskRepository;
+import com.codesolutions.pmt.repository.TaskStatusRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureJson
+@Import({TaskBulkService.class, TaskService.class, TaskHistoryWriter.class, ReferenceDataCache.class})
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "pmt.tasks.bulk.batch-size=50"
+})
+class TaskBulkServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskBulkService taskBulkService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User alice;
+    private User bob;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        alice = entityManager.persist(new User("alice", "alice@example.com", "password"));
+        bob = entityManager.persist(new User("bob", "bob@example.com", "password"));
+        project = entityManager.persist(new Project("Import", "Projet importé", LocalDate.now(), alice));
+        status("TODO");
+        status("IN_PROGRESS");
+        entityManager.flush();
+        // Le contexte est partagé entre classes de test : repartir des statuts visibles dans cette transaction
+        referenceDataCache.refresh();
+    }
+
+    @Test
+    void createTasks_InsertsValidItemsAndReportsInvalidOnes() {
+        // Given
+        TaskCreateDTO valid = task("Tâche valide");
+        valid.setAssignedToId(bob.getId());
+        valid.setStatus(TaskStatusEnum.IN_PROGRESS);
+        valid.setPriority(TaskPriority.URGENT);
+        valid.setDueDate(LocalDate.of(2030, 1, 15));
+        TaskCreateDTO noTitle = task(" ");
+        TaskCreateDTO unknownProject = task("Projet inconnu");
+        unknownProject.setProjectId(999_999L);
+        TaskCreateDTO unknownAssignee = task("Assigné inconnu");
+        unknownAssignee.setAssignedToId(999_999L);
+        TaskCreateDTO defaults = task("Valeurs par défaut");
+
+        // When
+        TaskBulkResultDTO result = taskBulkService.createTasks(List.of(valid, noTitle, unknownProject, unknownAssignee, defaults));
+
+        // Then
+        assertEquals(5, result.getReceived());
+        assertEquals(2, result.getCreated());
+        assertEquals(3, result.getFailed());
+        assertEquals(List.of(1, 2, 3), result.getErrors().stream().map(TaskBulkErrorDTO::getIndex).toList());
+        assertEquals("Projet non trouvé avec l'ID: 999999", result.getErrors().get(1).getMessage());
+        assertEquals(2, result.getCreatedIds().size());
+
+        entityManager.clear();
+        Task created = taskRepository.findByIdWithRelations(result.getCreatedIds().get(0));
+        assertEquals("Tâche valide", created.getTitle());
+        assertEquals("IN_PROGRESS", created.getStatus().getName());
+        assertEquals(Task.Priority.URGENT, created.getPriority());
+        assertEquals(bob.getId(), created.getAssignedTo().getId());
+        assertEquals(alice.getId(), created.getCreatedBy().getId());
+        assertEquals(LocalDate.of(2030, 1, 15), created.getDueDate());
+        assertNotNull(created.getCreatedAt());
+
+        Task withDefaults = taskRepository.findByIdWithRelations(result.getCreatedIds().get(1));
+        assertEquals("TODO", withDefaults.getStatus().getName());
+        assertEquals(Task.Priority.MEDIUM, withDefaults.getPriority());
+        assertNull(withDefaults.getAssignedTo());
+    }
+
+    @Test
+    void createTasks_ReferenceLookupsArePerBatchNotPerItem() {
+        // Given : 200 tâches, lots de 50
+        List<TaskCreateDTO> tasks = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            TaskCreateDTO dto = task("Tâche " + i);
+            dto.setAssignedToId(i % 2 == 0 ? alice.getId() : bob.getId());
+            tasks.add(dto);
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        TaskBulkResultDTO result = taskBulkService.createTasks(tasks);
+
+        // Then : projets + utilisateurs par lot, aucune requête JPA par tâche
+        assertEquals(200, result.getCreated());
+        assertEquals(200, result.getCreatedIds().size());
+        assertEquals(4 * 2, statistics.getPrepareStatementCount());
+        assertEquals(200, taskRepository.findByProjectIdAsDto(project.getId()).size());
+    }
+
+    @Test
+    void createTasksFromNdjson_ReportsMalformedLines() throws Exception {
+        // Given
+        String ndjson = "{\"title\":\"Première\",\"projectId\":" + project.getId() + ",\"createdById\":" + alice.getId() + "}\n"
+                + "\n"
+                + "{pas du json}\n"
+                + "{\"title\":\"Troisième\",\"projectId\":" + project.getId() + ",\"createdById\":" + alice.getId()
+                + ",\"dueDate\":\"2030-02-01\"}\n";
+
+        // When
+        TaskBulkResultDTO result = taskBulkService.createTasksFromNdjson(new BufferedReader(new StringReader(ndjson)));
+
+        // Then
+        assertEquals(3, result.getReceived());
+        assertEquals(2, result.getCreated());
+        assertEquals(1, result.getFailed());
+        assertEquals(1, result.getErrors().get(0).getIndex());
+        assertTrue(result.getErrors().get(0).getMessage().startsWith("Ligne JSON invalide"));
+    }
+
+    private TaskStatus status(String name) {
+        // Les statuts de base sont déjà insérés par schema-test.sql
+        return taskStatusRepository.findByName(name)
+                .orElseGet(() -> entityManager.persist(new TaskStatus(name)));
+    }
+
+    private TaskCreateDTO task(String title) {
+        TaskCreateDTO dto = new TaskCreateDTO();
+        dto.setTitle(title);
+        dto.setProjectId(project.getId());
+        dto.setCreatedById(alice.getId());
+        return dto;
+    }
+}
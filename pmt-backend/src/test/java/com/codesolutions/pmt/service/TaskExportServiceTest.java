@@ -0,0 +1,127 @@
+package com.codesolutions.pmt.service;
+
+import com.codesolutions.pmt.entity.*;
+import com.codesolutions.pmt.repository.TaskStatusRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.MariaDBDialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureJson
+@Import(TaskExportService.class)
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class TaskExportServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private TaskExportService taskExportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        User alice = entityManager.persist(new User("alice", "alice@example.com", "password"));
+        TaskStatus todo = taskStatusRepository.findByName("TODO")
+                .orElseGet(() -> entityManager.persist(new TaskStatus("TODO")));
+        project = entityManager.persist(new Project("Export", "Projet exporté", LocalDate.now(), alice));
+        Project other = entityManager.persist(new Project("Autre", "Autre projet", LocalDate.now(), alice));
+
+        Task tricky = new Task("Titre, avec \"guillemets\"", "Ligne 1\nLigne 2", todo, project, alice);
+        tricky.setDueDate(LocalDate.of(2030, 3, 1));
+        entityManager.persist(tricky);
+        for (int i = 0; i < 25; i++) {
+            entityManager.persist(new Task("Tâche " + i, null, todo, project, alice));
+        }
+        entityManager.persist(new Task("Hors projet", null, todo, other, alice));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void exportProjectTasks_Ndjson_OneObjectPerLine() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = taskExportService.exportProjectTasks(project.getId(), TaskExportService.Format.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(26, count);
+        assertEquals(26, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("Titre, avec \"guillemets\"", first.get("title").asText());
+        assertEquals("Ligne 1\nLigne 2", first.get("description").asText());
+        assertEquals("Export", first.get("projectName").asText());
+        assertEquals("alice", first.get("createdByName").asText());
+        // Projection DTO : aucune entité chargée dans le contexte de persistance
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void exportProjectTasks_Csv_EscapesFields() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = taskExportService.exportProjectTasks(project.getId(), TaskExportService.Format.CSV, out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertEquals(26, count);
+        assertTrue(csv.startsWith(TaskExportService.CSV_HEADER + "\n"));
+        assertTrue(csv.contains(",\"Titre, avec \"\"guillemets\"\"\",\"Ligne 1\nLigne 2\",TODO,MEDIUM,2030-03-01,"));
+        assertFalse(csv.contains("Hors projet"));
+    }
+
+    @Test
+    void escapeCsv_LeavesPlainValuesUntouched() {
+        assertEquals("simple", TaskExportService.escapeCsv("simple"));
+        assertEquals("\"a,b\"", TaskExportService.escapeCsv("a,b"));
+        assertEquals("\"dit \"\"oui\"\"\"", TaskExportService.escapeCsv("dit \"oui\""));
+    }
+
+    @Test
+    void fetchSize_StreamsRowByRowOnMySqlOnly() {
+        assertEquals(Integer.MIN_VALUE, TaskExportService.fetchSize(new MySQLDialect()));
+        assertEquals(Integer.MIN_VALUE, TaskExportService.fetchSize(new MariaDBDialect()));
+        assertEquals(TaskExportService.EXPORT_FETCH_SIZE, TaskExportService.fetchSize(new H2Dialect()));
+    }
+
+    @Test
+    void projectExists_UnknownProject() {
+        assertTrue(taskExportService.projectExists(project.getId()));
+        assertFalse(taskExportService.projectExists(999_999L));
+    }
+}
@@ -34,6 +34,9 @@ class TaskHistoryServiceUnitTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private TaskHistoryWriter taskHistoryWriter;
+
     @InjectMocks
     private TaskHistoryService taskHistoryService;
 
@@ -360,4 +363,18 @@ class TaskHistoryServiceUnitTest {
         verify(userRepository).findById(1L);
         verify(taskHistoryRepository).save(any(TaskHistory.class));
     }
+
+    @Test
+    void testRecordTaskHistory_EnqueuesWithoutLoadingEntities() {
+        // When
+        taskHistoryService.recordTaskHistory("STATUS_CHANGED", "TODO", "DONE", 1L, 2L);
+
+        // Then
+        verify(taskHistoryWriter).enqueue(argThat(event -> event.getTaskId().equals(1L)
+                && event.getUserId().equals(2L)
+                && "STATUS_CHANGED".equals(event.getAction())
+                && "TODO".equals(event.getOldValue())
+                && "DONE".equals(event.getNewValue())));
+        verifyNoInteractions(taskRepository, userRepository, taskHistoryRepository);
+    }
 }
@@ -0,0 +1,204 @@
+package com.codesolutions.pmt.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskHistoryWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private TaskHistoryWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = writer(100, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void enqueue_OutsideTransaction_QueuesUntilFlush() {
+        ReflectionTestUtils.setField(writer, "running", true);
+
+        writer.enqueueAll(Arrays.asList(event("A"), event("B"), event("C")));
+
+        assertEquals(3, writer.getQueueSize());
+        verifyNoInteractions(jdbcTemplate);
+
+        writer.flush();
+
+        assertEquals(0, writer.getQueueSize());
+        assertEquals(3, writer.getWrittenCount());
+        // Un seul lot de 3 lignes
+        verify(jdbcTemplate).batchUpdate(eq(TaskHistoryWriter.INSERT_SQL), anyCollection(), eq(3),
+                any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    void flush_SplitsIntoBatches() {
+        writer = writer(100, 2);
+        ReflectionTestUtils.setField(writer, "running", true);
+
+        for (int i = 0; i < 5; i++) {
+            writer.enqueue(event("A" + i));
+        }
+        writer.flush();
+
+        verify(jdbcTemplate, times(3)).batchUpdate(eq(TaskHistoryWriter.INSERT_SQL), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(5, writer.getWrittenCount());
+    }
+
+    @Test
+    void enqueue_InTransaction_WaitsForCommit() {
+        ReflectionTestUtils.setField(writer, "running", true);
+        TransactionSynchronizationManager.initSynchronization();
+
+        writer.enqueue(event("A"));
+        assertEquals(0, writer.getQueueSize());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, writer.getQueueSize());
+    }
+
+    @Test
+    void enqueueAll_InTransaction_RegistersOneSynchronizationAndWritesOneBatch() {
+        ReflectionTestUtils.setField(writer, "running", true);
+        TransactionSynchronizationManager.initSynchronization();
+
+        writer.enqueueAll(List.of(event("A"), event("B"), event("C")));
+        assertEquals(1, TransactionSynchronizationManager.getSynchronizations().size());
+        assertEquals(0, writer.getQueueSize());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(3, writer.getQueueSize());
+
+        writer.flush();
+        verify(jdbcTemplate).batchUpdate(eq(TaskHistoryWriter.INSERT_SQL), anyCollection(), eq(3),
+                any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    void flush_NeverSplitsAChangeAcrossBatches() {
+        writer = writer(100, 2);
+        ReflectionTestUtils.setField(writer, "running", true);
+
+        writer.enqueue(event("A"));
+        writer.enqueueAll(List.of(event("B1"), event("B2"), event("B3")));
+        writer.enqueue(event("C"));
+        writer.flush();
+
+        // A + B (4 lignes, le lot est complété par la modification entière), puis C
+        verify(jdbcTemplate).batchUpdate(eq(TaskHistoryWriter.INSERT_SQL), anyCollection(), eq(4),
+                any(ParameterizedPreparedStatementSetter.class));
+        verify(jdbcTemplate).batchUpdate(eq(TaskHistoryWriter.INSERT_SQL), anyCollection(), eq(1),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(5, writer.getWrittenCount());
+        assertEquals(0, writer.getQueueSize());
+    }
+
+    @Test
+    void enqueueAll_QueueFull_CallerWritesTheChangeInOneBatch() {
+        writer = writer(1, 10);
+        ReflectionTestUtils.setField(writer, "running", true);
+
+        writer.enqueue(event("A"));
+        writer.enqueueAll(List.of(event("B1"), event("B2")));
+
+        assertEquals(1, writer.getQueueSize());
+        assertEquals(2, writer.getCallerRunsCount());
+        verify(jdbcTemplate).batchUpdate(eq(TaskHistoryWriter.INSERT_SQL), anyCollection(), eq(2),
+                any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    void enqueue_QueueFull_CallerWritesSynchronously() {
+        writer = writer(1, 10);
+        ReflectionTestUtils.setField(writer, "running", true);
+
+        writer.enqueue(event("A"));
+        writer.enqueue(event("B"));
+
+        assertEquals(1, writer.getQueueSize());
+        assertEquals(1, writer.getCallerRunsCount());
+        assertEquals(1, writer.getWrittenCount());
+    }
+
+    @Test
+    void failingBatch_RetriesRowByRow() {
+        ReflectionTestUtils.setField(writer, "running", true);
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    Collection<TaskHistoryEvent> batch = invocation.getArgument(1);
+                    if (batch.size() > 1 || batch.iterator().next().getAction().equals("BAD")) {
+                        throw new DataIntegrityViolationException("FK");
+                    }
+                    return new int[][]{{1}};
+                });
+
+        writer.enqueueAll(Arrays.asList(event("A"), event("BAD"), event("C")));
+        writer.flush();
+
+        assertEquals(2, writer.getWrittenCount());
+        assertEquals(1, writer.getFailedCount());
+    }
+
+    @Test
+    void backgroundWorker_DrainsQueue_AndStopFlushesRemainder() throws Exception {
+        writer.start();
+        try {
+            writer.enqueueAll(List.of(event("A"), event("B")));
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (writer.getWrittenCount() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(2, writer.getWrittenCount());
+            assertEquals(0, writer.getQueueSize());
+        } finally {
+            writer.stop();
+        }
+
+        // Après l'arrêt, les événements sont écrits directement par l'appelant
+        writer.enqueue(event("C"));
+        assertEquals(3, writer.getWrittenCount());
+    }
+
+    private TaskHistoryWriter writer(int capacity, int batchSize) {
+        TaskHistoryWriter taskHistoryWriter = new TaskHistoryWriter(capacity);
+        ReflectionTestUtils.setField(taskHistoryWriter, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(taskHistoryWriter, "batchSize", batchSize);
+        ReflectionTestUtils.setField(taskHistoryWriter, "offerTimeoutMillis", 1L);
+        ReflectionTestUtils.setField(taskHistoryWriter, "pollIntervalMillis", 20L);
+        return taskHistoryWriter;
+    }
+
+    private static TaskHistoryEvent event(String action) {
+        return new TaskHistoryEvent(1L, 1L, action, "old", "new");
+    }
+}
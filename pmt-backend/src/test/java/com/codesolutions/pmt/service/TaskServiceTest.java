@@ -1,19 +1,28 @@
 package com.codesolutions.pmt.service;
 
 import com.codesolutions.pmt.dto.TaskCreateDTO;
+import com.codesolutions.pmt.dto.TaskDTO;
 import com.codesolutions.pmt.dto.TaskUpdateDTO;
 import com.codesolutions.pmt.entity.*;
 import com.codesolutions.pmt.repository.ProjectRepository;
 import com.codesolutions.pmt.repository.TaskRepository;
 import com.codesolutions.pmt.repository.TaskStatusRepository;
 import com.codesolutions.pmt.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -23,6 +32,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,6 +50,12 @@ class TaskServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private TaskHistoryWriter taskHistoryWriter;
+
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -50,6 +66,11 @@ class TaskServiceTest {
     private User testUser;
     private TaskStatus testTaskStatus;
 
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
     @BeforeEach
     void setUp() {
         testUser = new User();
@@ -99,7 +120,7 @@ class TaskServiceTest {
         // Given
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
         when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(taskStatusRepository.findByName("TODO")).thenReturn(Optional.of(testTaskStatus));
+        when(referenceDataCache.findTaskStatusByName("TODO")).thenReturn(Optional.of(testTaskStatus));
         when(taskRepository.save(any(Task.class))).thenReturn(testTask);
 
         // When
@@ -205,7 +226,7 @@ class TaskServiceTest {
         inProgressStatus.setName("IN_PROGRESS");
         
         when(taskRepository.findByIdWithRelations(1L)).thenReturn(testTask);
-        when(taskStatusRepository.findByName("IN_PROGRESS")).thenReturn(Optional.of(inProgressStatus));
+        when(referenceDataCache.findTaskStatusByName("IN_PROGRESS")).thenReturn(Optional.of(inProgressStatus));
         when(taskRepository.save(any(Task.class))).thenReturn(testTask);
 
         // When
@@ -215,7 +236,7 @@ class TaskServiceTest {
         assertNotNull(result);
         assertEquals(testTask.getTitle(), result.getTitle());
         verify(taskRepository).findByIdWithRelations(1L);
-        verify(taskStatusRepository).findByName("IN_PROGRESS");
+        verify(referenceDataCache).findTaskStatusByName("IN_PROGRESS");
         verify(taskRepository).save(any(Task.class));
     }
 
@@ -233,6 +254,200 @@ class TaskServiceTest {
         verify(taskRepository, never()).save(any(Task.class));
     }
 
+    @Test
+    void updateTask_RecordsOneHistoryEntryPerChangedField() {
+        // Given
+        TaskStatus inProgressStatus = new TaskStatus();
+        inProgressStatus.setId(2);
+        inProgressStatus.setName("IN_PROGRESS");
+        testTaskUpdateDto.setAssignedToId(1L);
+        testTaskUpdateDto.setUpdatedById(7L);
+
+        when(taskRepository.findByIdWithRelations(1L)).thenReturn(testTask);
+        when(referenceDataCache.findTaskStatusByName("IN_PROGRESS")).thenReturn(Optional.of(inProgressStatus));
+        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+
+        // When
+        taskService.updateTask(1L, testTaskUpdateDto);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TaskHistoryEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(taskHistoryWriter).enqueueAll(captor.capture());
+        List<TaskHistoryEvent> events = captor.getValue();
+        assertEquals(List.of("TITLE_CHANGED", "DESCRIPTION_CHANGED", "PRIORITY_CHANGED", "STATUS_CHANGED"),
+                events.stream().map(TaskHistoryEvent::getAction).toList());
+        TaskHistoryEvent status = events.get(3);
+        assertEquals("TODO", status.getOldValue());
+        assertEquals("IN_PROGRESS", status.getNewValue());
+        assertTrue(events.stream().allMatch(e -> e.getTaskId().equals(1L) && e.getUserId().equals(7L)));
+        verify(userRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void updateTask_NoChanges_SkipsSaveAndHistory() {
+        // Given
+        TaskUpdateDTO unchanged = new TaskUpdateDTO();
+        unchanged.setTitle("Test Task");
+        unchanged.setDescription("Test Description");
+        unchanged.setStatus("TODO");
+        unchanged.setPriority(TaskPriority.MEDIUM);
+        unchanged.setAssignedToId(1L);
+        LocalDateTime updatedAt = testTask.getUpdatedAt();
+
+        when(taskRepository.findByIdWithRelations(1L)).thenReturn(testTask);
+        when(referenceDataCache.findTaskStatusByName("TODO")).thenReturn(Optional.of(testTaskStatus));
+
+        // When
+        Task result = taskService.updateTask(1L, unchanged);
+
+        // Then
+        assertSame(testTask, result);
+        assertEquals(updatedAt, result.getUpdatedAt());
+        verify(taskRepository, never()).save(any(Task.class));
+        verifyNoInteractions(taskHistoryWriter);
+    }
+
+    @Test
+    void updateTask_Unassign_RecordsPreviousAssigneeWithAuthenticatedActor() {
+        // Given
+        authenticateAs(9L);
+        TaskUpdateDTO unassign = new TaskUpdateDTO();
+        when(taskRepository.findByIdWithRelations(1L)).thenReturn(testTask);
+        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+
+        // When
+        taskService.updateTask(1L, unassign);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TaskHistoryEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(taskHistoryWriter).enqueueAll(captor.capture());
+        TaskHistoryEvent event = captor.getValue().get(0);
+        assertEquals(1, captor.getValue().size());
+        assertEquals("ASSIGNED", event.getAction());
+        assertEquals("testuser", event.getOldValue());
+        assertNull(event.getNewValue());
+        assertEquals(9L, event.getUserId());
+        assertNull(testTask.getAssignedTo());
+    }
+
+    @Test
+    void updateTask_ActorDifferentFromToken_IsRejected() {
+        // Given
+        authenticateAs(9L);
+        testTaskUpdateDto.setUpdatedById(7L);
+
+        // When & Then
+        assertThrows(AccessDeniedException.class, () -> taskService.updateTask(1L, testTaskUpdateDto));
+        verify(taskRepository, never()).save(any(Task.class));
+        verifyNoInteractions(taskHistoryWriter);
+    }
+
+    @Test
+    void updateTask_ActorMatchingToken_IsAccepted() {
+        // Given
+        authenticateAs(7L);
+        TaskUpdateDTO rename = new TaskUpdateDTO();
+        rename.setTitle("Renommée");
+        rename.setUpdatedById(7L);
+        when(taskRepository.findByIdWithRelations(1L)).thenReturn(testTask);
+        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+
+        // When
+        taskService.updateTask(1L, rename);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TaskHistoryEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(taskHistoryWriter).enqueueAll(captor.capture());
+        assertEquals(7L, captor.getValue().get(0).getUserId());
+    }
+
+    @Test
+    void updateTask_WithoutTokenOrActor_SavesWithoutHistory() {
+        // Given : requête anonyme, pas de repli sur le créateur de la tâche
+        TaskUpdateDTO unassign = new TaskUpdateDTO();
+        when(taskRepository.findByIdWithRelations(1L)).thenReturn(testTask);
+        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+
+        // When
+        taskService.updateTask(1L, unassign);
+
+        // Then
+        verify(taskRepository).save(testTask);
+        verifyNoInteractions(taskHistoryWriter);
+    }
+
+    @Test
+    void assignTask_UsesAuthenticatedActor() {
+        // Given
+        authenticateAs(9L);
+        User other = new User();
+        other.setId(2L);
+        other.setUsername("other");
+        when(taskRepository.findByIdWithRelations(1L)).thenReturn(testTask);
+        when(userRepository.findById(2L)).thenReturn(Optional.of(other));
+        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+
+        // When
+        taskService.assignTask(1L, 2L);
+
+        // Then
+        ArgumentCaptor<TaskHistoryEvent> captor = ArgumentCaptor.forClass(TaskHistoryEvent.class);
+        verify(taskHistoryWriter).enqueue(captor.capture());
+        assertEquals(9L, captor.getValue().getUserId());
+        assertEquals("other", captor.getValue().getNewValue());
+    }
+
+    @Test
+    void assignTask_SameAssignee_IsNoOp() {
+        // Given
+        when(taskRepository.findByIdWithRelations(1L)).thenReturn(testTask);
+
+        // When
+        taskService.assignTask(1L, 1L);
+
+        // Then
+        verify(userRepository, never()).findById(anyLong());
+        verify(taskRepository, never()).save(any(Task.class));
+        verifyNoInteractions(taskHistoryWriter);
+    }
+
+    @Test
+    void updateTaskStatus_RecordsStatusChange() {
+        // Given
+        TaskStatus done = new TaskStatus();
+        done.setId(3);
+        done.setName("DONE");
+        when(taskRepository.findByIdWithRelations(1L)).thenReturn(testTask);
+        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+
+        // When
+        taskService.updateTaskStatus(1L, done, 5L);
+
+        // Then
+        ArgumentCaptor<TaskHistoryEvent> captor = ArgumentCaptor.forClass(TaskHistoryEvent.class);
+        verify(taskHistoryWriter).enqueue(captor.capture());
+        assertEquals("STATUS_CHANGED", captor.getValue().getAction());
+        assertEquals("TODO", captor.getValue().getOldValue());
+        assertEquals("DONE", captor.getValue().getNewValue());
+        assertEquals(5L, captor.getValue().getUserId());
+    }
+
+    @Test
+    void updateTaskStatus_SameStatus_IsNoOp() {
+        // Given
+        when(taskRepository.findByIdWithRelations(1L)).thenReturn(testTask);
+
+        // When
+        taskService.updateTaskStatus(1L, testTaskStatus);
+
+        // Then
+        verify(taskRepository, never()).save(any(Task.class));
+        verifyNoInteractions(taskHistoryWriter);
+    }
+
     @Test
     void deleteTask_Success() {
         // Given
@@ -287,4 +502,98 @@ class TaskServiceTest {
         assertEquals(task2.getTitle(), result.get(1).getTitle());
         verify(taskRepository).findByAssignedToId(1L);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void getTasksPage_RequestsOneExtraRowAfterCursor() {
+        // Given
+        when(taskRepository.findPageAfterIdAsDto(eq(10L), any(Pageable.class)))
+                .thenReturn(Arrays.asList(new TaskDTO()));
+
+        // When
+        List<TaskDTO> result = taskService.getTasksPage(10L, 25);
+
+        // Then
+        assertEquals(1, result.size());
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(taskRepository).findPageAfterIdAsDto(eq(10L), captor.capture());
+        assertEquals(0, captor.getValue().getPageNumber());
+        assertEquals(26, captor.getValue().getPageSize());
+    }
+
+    @Test
+    void getTasksPage_NullCursor_StartsFromBeginning() {
+        // Given
+        when(taskRepository.findPageAfterIdAsDto(eq(0L), any(Pageable.class)))
+                .thenReturn(Arrays.asList(new TaskDTO()));
+
+        // When
+        taskService.getTasksPage(null, 10);
+
+        // Then
+        verify(taskRepository).findPageAfterIdAsDto(eq(0L), any(Pageable.class));
+    }
+
+    @Test
+    void getTaskDTOsByProject_UsesProjection() {
+        // Given
+        TaskDTO dto = new TaskDTO(1L, "Test Task", null, "IN_PROGRESS", Task.Priority.HIGH,
+                LocalDate.of(2024, 2, 1), null, null, 1L, "Test Project", 1L, "testuser", 1L, "testuser");
+        when(taskRepository.findByProjectIdAsDto(1L)).thenReturn(Arrays.asList(dto));
+
+        // When
+        List<TaskDTO> result = taskService.getTaskDTOsByProject(1L);
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals(TaskStatusEnum.IN_PROGRESS, result.get(0).getStatus());
+        assertEquals(TaskPriority.HIGH, result.get(0).getPriority());
+        assertEquals(LocalDate.of(2024, 2, 1).atStartOfDay(), result.get(0).getDueDate());
+        verify(taskRepository).findByProjectIdAsDto(1L);
+        verify(taskRepository, never()).findByProjectIdWithRelations(anyLong());
+    }
+
+    @Test
+    void getTaskDTOsAssignedToUser_UsesProjection() {
+        // Given
+        when(taskRepository.findByAssignedToIdAsDto(1L)).thenReturn(Arrays.asList(new TaskDTO()));
+
+        // When
+        List<TaskDTO> result = taskService.getTaskDTOsAssignedToUser(1L);
+
+        // Then
+        assertEquals(1, result.size());
+        verify(taskRepository).findByAssignedToIdAsDto(1L);
+        verify(taskRepository, never()).findByAssignedToId(anyLong());
+    }
+
+    @Test
+    void cursor_RoundTrip() {
+        String cursor = TaskService.encodeCursor(42L);
+
+        assertEquals(42L, TaskService.decodeCursor(cursor));
+        assertNull(TaskService.decodeCursor(null));
+        assertNull(TaskService.decodeCursor(""));
+    }
+
+    @Test
+    void decodeCursor_Invalid_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> TaskService.decodeCursor("%%%"));
+        assertThrows(IllegalArgumentException.class, () -> TaskService.decodeCursor("aWQ6YWJj")); // "id:abc"
+        assertThrows(IllegalArgumentException.class, () -> TaskService.decodeCursor("Zm9vOjE")); // "foo:1"
+    }
+
+    @Test
+    void normalizePageSize_AppliesDefaultAndMaximum() {
+        assertEquals(TaskService.DEFAULT_PAGE_SIZE, TaskService.normalizePageSize(null));
+        assertEquals(TaskService.DEFAULT_PAGE_SIZE, TaskService.normalizePageSize(0));
+        assertEquals(20, TaskService.normalizePageSize(20));
+        assertEquals(TaskService.MAX_PAGE_SIZE, TaskService.normalizePageSize(TaskService.MAX_PAGE_SIZE + 1));
+    }
+
+    private static void authenticateAs(Long userId) {
+        TokenService.TokenClaims claims = new TokenService.TokenClaims("jti", userId, "user" + userId,
+                TokenService.ACCESS, Instant.now().plusSeconds(60));
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                claims, null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+    }
+}
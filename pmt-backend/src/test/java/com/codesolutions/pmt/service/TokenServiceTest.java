@@ -0,0 +1,119 @@
+package com.codesolutions.pmt.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenServiceTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes());
+    private static final Instant NOW = Instant.parse("2030-01-01T10:00:00Z");
+
+    private TokenService tokenService;
+
+    @BeforeEach
+    void setUp() {
+        tokenService = newService(SECRET);
+        tokenService.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void issue_AccessTokenIsVerifiedLocally() {
+        // When
+        TokenService.TokenPair tokens = tokenService.issue(42L, "alice");
+
+        // Then
+        TokenService.TokenClaims claims = tokenService.verifyAccessToken(tokens.accessToken()).orElseThrow();
+        assertEquals(42L, claims.userId());
+        assertEquals("alice", claims.username());
+        assertEquals(NOW.plus(Duration.ofMinutes(15)), claims.expiresAt());
+        assertEquals(900, tokens.expiresIn());
+        assertEquals(3, tokens.accessToken().split("\\.").length);
+    }
+
+    @Test
+    void verify_RejectsWrongTypeTamperingAndOtherKeys() {
+        // Given
+        TokenService.TokenPair tokens = tokenService.issue(42L, "alice");
+        String[] parts = tokens.accessToken().split("\\.");
+        String forgedPayload = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                "{\"jti\":\"x\",\"sub\":\"1\",\"name\":\"admin\",\"typ\":\"access\",\"exp\":4102444800}".getBytes());
+
+        // Then
+        assertTrue(tokenService.verifyAccessToken(tokens.refreshToken()).isEmpty());
+        assertTrue(tokenService.verifyRefreshToken(tokens.accessToken()).isEmpty());
+        assertTrue(tokenService.verifyAccessToken(parts[0] + "." + forgedPayload + "." + parts[2]).isEmpty());
+        assertTrue(tokenService.verifyAccessToken("pas.un.jeton").isEmpty());
+        assertTrue(tokenService.verifyAccessToken("").isEmpty());
+        assertTrue(newService(null).verifyAccessToken(tokens.accessToken()).isEmpty());
+    }
+
+    @Test
+    void verify_RejectsExpiredToken() {
+        // Given
+        String accessToken = tokenService.issue(42L, "alice").accessToken();
+
+        // When
+        tokenService.setClock(Clock.fixed(NOW.plus(Duration.ofMinutes(15)), ZoneOffset.UTC));
+
+        // Then
+        assertTrue(tokenService.verifyAccessToken(accessToken).isEmpty());
+    }
+
+    @Test
+    void refresh_IsSingleUse() {
+        // Given
+        String refreshToken = tokenService.issue(42L, "alice").refreshToken();
+
+        // When
+        Optional<TokenService.TokenPair> first = tokenService.refresh(refreshToken, "alice.renamed");
+        Optional<TokenService.TokenPair> second = tokenService.refresh(refreshToken, "alice.renamed");
+
+        // Then
+        assertTrue(first.isPresent());
+        assertEquals("alice.renamed", tokenService.verifyAccessToken(first.get().accessToken()).orElseThrow().username());
+        assertTrue(second.isEmpty());
+    }
+
+    @Test
+    void revoke_KeepsTokenRejectedUntilExpiry() {
+        // Given
+        String accessToken = tokenService.issue(42L, "alice").accessToken();
+        tokenService.revoke(tokenService.verifyAccessToken(accessToken).orElseThrow());
+
+        // When
+        tokenService.purgeExpiredRevocations();
+
+        // Then
+        assertTrue(tokenService.verifyAccessToken(accessToken).isEmpty());
+        assertEquals(1, tokenService.getRevokedCount());
+
+        // When : le jeton a expiré, sa révocation est retirée
+        tokenService.setClock(Clock.fixed(NOW.plus(Duration.ofHours(1)), ZoneOffset.UTC));
+        tokenService.purgeExpiredRevocations();
+
+        // Then
+        assertEquals(0, tokenService.getRevokedCount());
+    }
+
+    @Test
+    void constructor_RejectsShortSecret() {
+        assertThrows(IllegalStateException.class, () -> new TokenService(Base64.getEncoder().encodeToString("court".getBytes())));
+    }
+
+    private static TokenService newService(String secret) {
+        TokenService service = new TokenService(secret);
+        ReflectionTestUtils.setField(service, "objectMapper", new ObjectMapper());
+        return service;
+    }
+}
@@ -0,0 +1,166 @@
+package com.codesolutions.pmt.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnreadCountCacheTest {
+
+    @Test
+    void get_MissThenHit() {
+        UnreadCountCache cache = new UnreadCountCache(10, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(4L, cache.get(1L, () -> { loads.incrementAndGet(); return 4L; }));
+        assertEquals(4L, cache.get(1L, () -> { loads.incrementAndGet(); return 99L; }));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void adjust_UpdatesCachedValueOnly() {
+        UnreadCountCache cache = new UnreadCountCache(10, Duration.ofMinutes(1));
+        cache.get(1L, () -> 3L);
+
+        commit(() -> cache.adjust(1L, 2));
+        commit(() -> cache.adjust(2L, 5));
+        commit(() -> cache.adjust(1L, -10));
+
+        assertEquals(0L, cache.get(1L, () -> 99L));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void adjust_EntryLoadedDuringTransaction_IsEvictedInsteadOfCountedTwice() {
+        UnreadCountCache cache = new UnreadCountCache(10, Duration.ofMinutes(1));
+
+        commit(() -> {
+            cache.adjust(1L, 1);
+            // Reconstruction entre le commit en base et l'application au cache : elle voit déjà la notification
+            cache.get(1L, () -> 4L);
+        });
+
+        assertEquals(0, cache.size());
+        assertEquals(4L, cache.get(1L, () -> 4L));
+    }
+
+    @Test
+    void adjust_OtherWriteOnSameStripeBeforeCommit_Evicts() {
+        UnreadCountCache cache = new UnreadCountCache(10, Duration.ofMinutes(1));
+        cache.get(1L, () -> 3L);
+
+        commit(() -> {
+            cache.adjust(1L, 1);
+            // Utilisateur du même segment modifié par une autre transaction, validée avant celle-ci
+            cache.invalidate(65L);
+        });
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void adjust_RolledBack_LeavesCachedValue() {
+        UnreadCountCache cache = new UnreadCountCache(10, Duration.ofMinutes(1));
+        cache.get(1L, () -> 3L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.adjust(1L, 1);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(3L, cache.get(1L, () -> 99L));
+    }
+
+    @Test
+    void adjust_OutsideTransaction_Evicts() {
+        UnreadCountCache cache = new UnreadCountCache(10, Duration.ofMinutes(1));
+        cache.get(1L, () -> 3L);
+
+        // Écriture déjà validée : une reconstruction concurrente a pu lire la nouvelle valeur
+        cache.adjust(1L, 1);
+
+        assertEquals(0, cache.size());
+        assertEquals(4L, cache.get(1L, () -> 4L));
+    }
+
+    @Test
+    void lruEviction_RespectsMaxSize() {
+        UnreadCountCache cache = new UnreadCountCache(2, Duration.ofMinutes(1));
+        cache.get(1L, () -> 1L);
+        cache.get(2L, () -> 2L);
+        cache.get(1L, () -> 0L);   // 1 devient le plus récent
+        cache.get(3L, () -> 3L);   // évince 2
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(1L, cache.get(1L, () -> 0L));
+        assertEquals(3L, cache.get(3L, () -> 0L));
+        assertEquals(20L, cache.get(2L, () -> 20L));
+    }
+
+    @Test
+    void expiredEntry_IsReloaded() {
+        UnreadCountCache cache = new UnreadCountCache(10, Duration.ZERO);
+        cache.get(1L, () -> 1L);
+
+        assertEquals(7L, cache.get(1L, () -> 7L));
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void writeDuringLoad_IsNotOverwrittenByStaleValue() {
+        UnreadCountCache cache = new UnreadCountCache(10, Duration.ofMinutes(1));
+
+        long loaded = cache.get(1L, () -> {
+            // Une écriture concurrente est validée pendant la lecture en base
+            cache.invalidate(1L);
+            return 5L;
+        });
+
+        assertEquals(5L, loaded);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void set_StoresValue() {
+        UnreadCountCache cache = new UnreadCountCache(10, Duration.ofMinutes(1));
+        cache.set(1L, 0);
+
+        assertEquals(0L, cache.get(1L, () -> 42L));
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void set_OverridesValueLoadedDuringTransaction() {
+        UnreadCountCache cache = new UnreadCountCache(10, Duration.ofMinutes(1));
+
+        commit(() -> {
+            cache.set(1L, 0);
+            cache.get(1L, () -> 5L);
+        });
+
+        assertEquals(0L, cache.get(1L, () -> 42L));
+    }
+
+    /**
+     * Transaction simulée : les synchronisations enregistrées par action sont exécutées comme après un commit
+     */
+    static void commit(Runnable action) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            action.run();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
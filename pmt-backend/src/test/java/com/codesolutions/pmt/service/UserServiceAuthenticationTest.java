@@ -0,0 +1,98 @@
+package com.codesolutions.pmt.service;
+
+import com.codesolutions.pmt.config.OffloadingPasswordEncoder;
+import com.codesolutions.pmt.entity.User;
+import com.codesolutions.pmt.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Connexion : aucune connexion à la base n'est retenue pendant le hachage BCrypt
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.datasource.url=jdbc:h2:mem:userauthentication;DB_CLOSE_DELAY=-1",
+        "pmt.security.password.bcrypt-strength=6"
+})
+class UserServiceAuthenticationTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @SpyBean
+    private OffloadingPasswordEncoder passwordEncoder;
+
+    @Test
+    void authenticate_HashesOutsideAnyTransaction() {
+        // Given : hachage d'un coût inférieur à la configuration, donc recalculé à la connexion
+        User user = user(new BCryptPasswordEncoder(4).encode("password123"));
+        List<String> transactional = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                transactional.add("matches");
+            }
+            return invocation.callRealMethod();
+        }).when(passwordEncoder).matches(any(), anyString());
+        doAnswer(invocation -> {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                transactional.add("encode");
+            }
+            return invocation.callRealMethod();
+        }).when(passwordEncoder).encode(any());
+
+        // When
+        userService.authenticate(user.getEmail(), "password123");
+
+        // Then
+        assertEquals(List.of(), transactional);
+        String stored = userRepository.findById(user.getId()).orElseThrow().getPassword();
+        assertTrue(stored.startsWith("$2a$06$"), stored);
+        assertTrue(passwordEncoder.matches("password123", stored));
+    }
+
+    @Test
+    void authenticate_PasswordChangedDuringCheck_IsNotOverwritten() {
+        // Given : le mot de passe change pendant la vérification de l'ancien
+        User user = user(new BCryptPasswordEncoder(4).encode("password123"));
+        String changed = new BCryptPasswordEncoder(6).encode("nouveauMotDePasse");
+        doAnswer(invocation -> {
+            User current = userRepository.findById(user.getId()).orElseThrow();
+            current.setPassword(changed);
+            userRepository.save(current);
+            return invocation.callRealMethod();
+        }).when(passwordEncoder).matches(any(), anyString());
+
+        // When
+        userService.authenticate(user.getEmail(), "password123");
+
+        // Then
+        assertEquals(changed, userRepository.findById(user.getId()).orElseThrow().getPassword());
+    }
+
+    private User user(String passwordHash) {
+        int n = SEQUENCE.incrementAndGet();
+        return userRepository.save(new User("auth" + n, "auth" + n + "@example.com", passwordHash));
+    }
+}
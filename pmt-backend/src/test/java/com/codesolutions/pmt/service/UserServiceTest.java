@@ -213,4 +213,51 @@ class UserServiceTest {
         verify(userRepository).findByEmail("test@example.com");
         verify(passwordEncoder).matches("wrongpassword", "encodedPassword");
     }
-} 
\ No newline at end of file
+
+    @Test
+    void authenticate_CostFactorIncreased_RehashesPassword() {
+        // Given
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches("password123", "encodedPassword")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("encodedPassword")).thenReturn(true);
+        when(passwordEncoder.encode("password123")).thenReturn("rehashedPassword");
+        when(userRepository.updatePasswordIfUnchanged(1L, "encodedPassword", "rehashedPassword")).thenReturn(1);
+
+        // When
+        userService.authenticate("test@example.com", "password123");
+
+        // Then : mise à jour conditionnée au hachage vérifié
+        assertEquals("rehashedPassword", testUser.getPassword());
+        verify(userRepository).updatePasswordIfUnchanged(1L, "encodedPassword", "rehashedPassword");
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    void authenticate_PasswordChangedDuringCheck_KeepsNewPassword() {
+        // Given : le hachage vérifié a été remplacé avant la mise à jour
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches("password123", "encodedPassword")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("encodedPassword")).thenReturn(true);
+        when(passwordEncoder.encode("password123")).thenReturn("rehashedPassword");
+        when(userRepository.updatePasswordIfUnchanged(1L, "encodedPassword", "rehashedPassword")).thenReturn(0);
+
+        // When
+        UserDTO result = userService.authenticate("test@example.com", "password123");
+
+        // Then : connexion acceptée, sans reprendre le hachage non enregistré
+        assertEquals(testUser.getUsername(), result.getUsername());
+        assertEquals("encodedPassword", testUser.getPassword());
+    }
+
+    @Test
+    void authenticate_InvalidPassword_DoesNotRehash() {
+        // Given
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches("wrongpassword", "encodedPassword")).thenReturn(false);
+
+        // When & Then
+        assertThrows(RuntimeException.class, () -> userService.authenticate("test@example.com", "wrongpassword"));
+        verify(passwordEncoder, never()).upgradeEncoding(anyString());
+        verify(userRepository, never()).updatePasswordIfUnchanged(any(), any(), any());
+    }
+}
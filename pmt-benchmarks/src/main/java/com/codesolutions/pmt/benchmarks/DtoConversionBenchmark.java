@@ -0,0 +1,74 @@
+package com.codesolutions.pmt.benchmarks;
+
+import com.codesolutions.pmt.dto.TaskDTO;
+import com.codesolutions.pmt.entity.Task;
+import com.codesolutions.pmt.entity.TaskPriority;
+import com.codesolutions.pmt.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversions sans accès à la base : TaskService.toDTO (utilisée par TaskController) et le switch
+ * TaskPriority -> Task.Priority de TaskService.convertTaskPriority.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DtoConversionBenchmark {
+
+    @Param({"1", "100", "1000"})
+    private int size;
+
+    private List<Task> tasks;
+    private TaskPriority[] priorities;
+
+    @Setup
+    public void setUp() {
+        tasks = Fixtures.tasks(size);
+        priorities = new TaskPriority[size];
+        for (int i = 0; i < size; i++) {
+            priorities[i] = TaskPriority.values()[i % TaskPriority.values().length];
+        }
+    }
+
+    @Benchmark
+    public List<TaskDTO> taskToDto() {
+        List<TaskDTO> dtos = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            dtos.add(TaskService.toDTO(task));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public void priorityConversion(Blackhole blackhole) {
+        for (TaskPriority priority : priorities) {
+            blackhole.consume(TaskService.convertTaskPriority(priority));
+        }
+    }
+
+    @Benchmark
+    public void priorityConversionByName(Blackhole blackhole) {
+        // Référence : conversion par nom, comme TaskSpecifications.toEntityPriority
+        for (TaskPriority priority : priorities) {
+            blackhole.consume(Task.Priority.valueOf(priority.name()));
+        }
+    }
+}
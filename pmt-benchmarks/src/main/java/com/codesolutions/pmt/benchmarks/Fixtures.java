@@ -0,0 +1,89 @@
+package com.codesolutions.pmt.benchmarks;
+
+import com.codesolutions.pmt.dto.ProjectDTO;
+import com.codesolutions.pmt.dto.ProjectMemberDTO;
+import com.codesolutions.pmt.dto.TaskDTO;
+import com.codesolutions.pmt.entity.Project;
+import com.codesolutions.pmt.entity.Task;
+import com.codesolutions.pmt.entity.TaskStatus;
+import com.codesolutions.pmt.entity.TaskStatusEnum;
+import com.codesolutions.pmt.entity.User;
+import com.codesolutions.pmt.service.TaskService;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entités et DTO construits en mémoire, sans base de données, pour les benchmarks de conversion et de sérialisation
+ */
+final class Fixtures {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2030, 1, 1, 9, 30);
+
+    private Fixtures() {}
+
+    /**
+     * Tâches complètes (statut, projet, assigné, créateur) réparties sur 10 projets et 20 utilisateurs
+     */
+    static List<Task> tasks(int count) {
+        List<User> users = new ArrayList<>();
+        for (long i = 1; i <= 20; i++) {
+            User user = new User("user" + i, "user" + i + "@example.com", "password");
+            user.setId(i);
+            users.add(user);
+        }
+        List<Project> projects = new ArrayList<>();
+        for (long i = 1; i <= 10; i++) {
+            Project project = new Project("Projet " + i, "Description du projet " + i, LocalDate.of(2030, 1, 1), users.get(0));
+            project.setId(i);
+            projects.add(project);
+        }
+        List<TaskStatus> statuses = new ArrayList<>();
+        for (TaskStatusEnum statusEnum : TaskStatusEnum.values()) {
+            TaskStatus status = new TaskStatus(statusEnum.name());
+            status.setId(statusEnum.ordinal() + 1);
+            statuses.add(status);
+        }
+
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task task = new Task("Tâche " + i, "Description détaillée de la tâche " + i,
+                    statuses.get(i % statuses.size()), projects.get(i % projects.size()), users.get(i % users.size()));
+            task.setId((long) i + 1);
+            task.setPriority(Task.Priority.values()[i % Task.Priority.values().length]);
+            task.setAssignedTo(i % 4 == 0 ? null : users.get((i + 1) % users.size()));
+            task.setDueDate(LocalDate.of(2030, 1, 1).plusDays(i % 60));
+            task.setCreatedAt(CREATED_AT);
+            task.setUpdatedAt(CREATED_AT.plusHours(i % 24));
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    static List<TaskDTO> taskDtos(int count) {
+        return tasks(count).stream().map(TaskService::toDTO).toList();
+    }
+
+    /**
+     * Projets avec compteurs et 5 membres chacun, comme renvoyés par GET /api/projects/{id}
+     */
+    static List<ProjectDTO> projectDtos(int count) {
+        List<ProjectDTO> projects = new ArrayList<>(count);
+        for (long i = 1; i <= count; i++) {
+            ProjectDTO project = new ProjectDTO(i, "Projet " + i, "Description du projet " + i, LocalDate.of(2030, 1, 1),
+                    1L, "user1", CREATED_AT, CREATED_AT);
+            project.setTaskCount(100L);
+            project.setMemberCount(5L);
+            List<ProjectMemberDTO> members = new ArrayList<>();
+            for (long m = 1; m <= 5; m++) {
+                members.add(new ProjectMemberDTO(i * 10 + m, i, "Projet " + i, m, "user" + m, "user" + m + "@example.com",
+                        2, "MEMBER", CREATED_AT));
+            }
+            project.setMembers(members);
+            projects.add(project);
+        }
+        return projects;
+    }
+}
@@ -0,0 +1,69 @@
+package com.codesolutions.pmt.benchmarks;
+
+import com.codesolutions.pmt.dto.ProjectDTO;
+import com.codesolutions.pmt.dto.TaskDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sérialisation Jackson des listes renvoyées par l'API, avec la configuration par défaut de Spring Boot
+ * (modules java.time, dates ISO-8601)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter taskListWriter;
+    private List<TaskDTO> tasks;
+    private List<ProjectDTO> projects;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        taskListWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, TaskDTO.class));
+        tasks = Fixtures.taskDtos(size);
+        projects = Fixtures.projectDtos(size);
+    }
+
+    @Benchmark
+    public byte[] taskList() throws Exception {
+        return objectMapper.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] taskListTypedWriter() throws Exception {
+        // Writer préparé pour le type de la liste : pas de résolution du sérialiseur à chaque appel
+        return taskListWriter.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] projectList() throws Exception {
+        return objectMapper.writeValueAsBytes(projects);
+    }
+}
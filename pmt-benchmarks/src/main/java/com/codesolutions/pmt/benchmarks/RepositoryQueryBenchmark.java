@@ -0,0 +1,93 @@
+package com.codesolutions.pmt.benchmarks;
+
+import com.codesolutions.pmt.dto.TaskDTO;
+import com.codesolutions.pmt.dto.TaskSearchCriteria;
+import com.codesolutions.pmt.entity.Task;
+import com.codesolutions.pmt.entity.TaskStatusEnum;
+import com.codesolutions.pmt.repository.NotificationRepository;
+import com.codesolutions.pmt.repository.ProjectRepository;
+import com.codesolutions.pmt.repository.TaskRepository;
+import com.codesolutions.pmt.repository.TaskSpecifications;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Requêtes des repositories sur une base H2 embarquée de 10k, 100k et 1M tâches (SeededDatabase).
+ * Les temps incluent la requête SQL et le chargement des entités ou projections par Hibernate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RepositoryQueryBenchmark {
+
+    private TaskRepository taskRepository;
+    private ProjectRepository projectRepository;
+    private NotificationRepository notificationRepository;
+    private long projectId;
+    private long userId;
+    private TaskSearchCriteria searchCriteria;
+    private LocalDate today;
+
+    @Setup
+    public void setUp(SeededDatabase database) {
+        taskRepository = database.context.getBean(TaskRepository.class);
+        projectRepository = database.context.getBean(ProjectRepository.class);
+        notificationRepository = database.context.getBean(NotificationRepository.class);
+        projectId = database.projectCount / 2;
+        userId = database.userCount / 2;
+        today = LocalDate.now();
+        searchCriteria = new TaskSearchCriteria();
+        searchCriteria.setProjectId(projectId);
+        searchCriteria.setStatus(List.of(TaskStatusEnum.TODO, TaskStatusEnum.IN_PROGRESS));
+    }
+
+    @Benchmark
+    public Page<Task> searchTasksPage() {
+        // GET /api/tasks/search : filtres combinés, tri par échéance, première page de 20
+        return taskRepository.findAll(TaskSpecifications.matching(searchCriteria, today)
+                .and(TaskSpecifications.orderedBy("dueDate", Sort.Direction.ASC)), PageRequest.of(0, 20));
+    }
+
+    @Benchmark
+    public List<TaskDTO> tasksByProjectAsDto() {
+        return taskRepository.findByProjectIdAsDto(projectId);
+    }
+
+    @Benchmark
+    public List<Task> overdueTasksByUser() {
+        return taskRepository.findOverdueTasksByUser(today, userId);
+    }
+
+    @Benchmark
+    public List<Object[]> countTasksByStatusInProject() {
+        return taskRepository.countTasksByStatusInProject(projectId);
+    }
+
+    @Benchmark
+    public List<Object[]> countTasksByProjectIds() {
+        return projectRepository.countTasksByProjectIds(List.of(projectId, projectId + 1, projectId + 2));
+    }
+
+    @Benchmark
+    public long unreadNotificationCount() {
+        return notificationRepository.countByUserIdAndIsReadFalse(userId);
+    }
+}
@@ -0,0 +1,93 @@
+package com.codesolutions.pmt.benchmarks;
+
+import com.codesolutions.pmt.PmtBackendApplication;
+import com.codesolutions.pmt.service.ReferenceDataCache;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Backend démarré sur une base H2 embarquée, remplie de rows tâches et rows notifications
+ * (utilisateurs : rows / 100, projets : rows / 1000, 5 membres par projet).
+ * Remplissage par INSERT ... SELECT sur SYSTEM_RANGE : une requête par table, même à 1M de lignes.
+ */
+@State(Scope.Benchmark)
+public class SeededDatabase {
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    public int userCount;
+    public int projectCount;
+    public ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() {
+        userCount = Math.max(100, rows / 100);
+        projectCount = Math.max(10, rows / 1000);
+        context = new SpringApplicationBuilder(PmtBackendApplication.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:pmt-benchmarks;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        // Les migrations Flyway ciblent MySQL : schéma généré par Hibernate
+                        "--spring.flyway.enabled=false",
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.codesolutions.pmt=WARN");
+        seed(context.getBean(JdbcTemplate.class));
+        // Statuts et rôles insérés après le préchargement du cache au démarrage
+        context.getBean(ReferenceDataCache.class).refresh();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    /**
+     * Bean cible, sans le proxy transactionnel ou de métriques, pour appeler ses méthodes privées
+     */
+    public Object target(Class<?> type) {
+        Object bean = context.getBean(type);
+        Object target = AopProxyUtils.getSingletonTarget(bean);
+        return target != null ? target : bean;
+    }
+
+    private void seed(JdbcTemplate jdbc) {
+        jdbc.update("INSERT INTO task_status (name) VALUES ('TODO'), ('IN_PROGRESS'), ('REVIEW'), ('DONE'), ('CANCELLED')");
+        jdbc.update("INSERT INTO roles (name) VALUES ('ADMIN'), ('MEMBER'), ('OBSERVER')");
+        jdbc.update("INSERT INTO users (username, email, password, created_at, updated_at) "
+                + "SELECT 'user' || X, 'user' || X || '@example.com', 'password', NOW(), NOW() FROM SYSTEM_RANGE(1, ?)", userCount);
+        jdbc.update("INSERT INTO projects (name, description, start_date, created_by, created_at, updated_at) "
+                + "SELECT 'Projet ' || X, 'Description du projet ' || X, CURRENT_DATE, MOD(X - 1, ?) + 1, NOW(), NOW() "
+                + "FROM SYSTEM_RANGE(1, ?)", userCount, projectCount);
+        jdbc.update("INSERT INTO project_members (project_id, user_id, role_id, joined_at) "
+                + "SELECT (X - 1) / 5 + 1, MOD(X - 1, ?) + 1, CASE WHEN MOD(X - 1, 5) = 0 THEN 1 ELSE 2 END, NOW() "
+                + "FROM SYSTEM_RANGE(1, ?)", userCount, projectCount * 5);
+        jdbc.update("INSERT INTO tasks (title, description, status_id, priority, project_id, assigned_to, created_by, "
+                + "due_date, created_at, updated_at) "
+                + "SELECT 'Tâche ' || X, 'Description de la tâche ' || X, MOD(X, 5) + 1, "
+                + "CASE MOD(X, 4) WHEN 0 THEN 'LOW' WHEN 1 THEN 'MEDIUM' WHEN 2 THEN 'HIGH' ELSE 'URGENT' END, "
+                + "MOD(X - 1, ?) + 1, CASE WHEN MOD(X, 4) = 0 THEN NULL ELSE MOD(X - 1, ?) + 1 END, MOD(X, ?) + 1, "
+                + "DATEADD('DAY', MOD(X, 60) - 30, CURRENT_DATE), NOW(), NOW() FROM SYSTEM_RANGE(1, ?)",
+                projectCount, userCount, userCount, rows);
+        jdbc.update("INSERT INTO notifications (user_id, title, message, type, is_read, related_entity_type, "
+                + "related_entity_id, created_at) "
+                + "SELECT MOD(X - 1, ?) + 1, 'Notification ' || X, 'Message de la notification ' || X, 'TASK_ASSIGNED', "
+                + "MOD(X, 3) = 0, CASE WHEN MOD(X, 2) = 0 THEN 'TASK' ELSE 'PROJECT' END, "
+                + "CASE WHEN MOD(X, 2) = 0 THEN MOD(X - 1, ?) + 1 ELSE MOD(X - 1, ?) + 1 END, NOW() "
+                + "FROM SYSTEM_RANGE(1, ?)", userCount, rows, projectCount, rows);
+        jdbc.execute("ANALYZE");
+    }
+}
@@ -0,0 +1,80 @@
+package com.codesolutions.pmt.benchmarks;
+
+import com.codesolutions.pmt.controller.NotificationController;
+import com.codesolutions.pmt.dto.NotificationDTO;
+import com.codesolutions.pmt.dto.ProjectDTO;
+import com.codesolutions.pmt.entity.TaskStatusEnum;
+import com.codesolutions.pmt.repository.NotificationRepository;
+import com.codesolutions.pmt.service.ProjectService;
+import com.codesolutions.pmt.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversions qui interrogent la base, mesurées par les méthodes publiques qui les utilisent (lecture de l'entité incluse) :
+ * ProjectService.findById (compteurs et membres), NotificationController.getNotificationById et getNotificationsByUser
+ * (projets et tâches liés) et le switch TaskStatusEnum -> TaskStatus de TaskService.convertTaskStatus
+ * (statuts servis par ReferenceDataCache).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ServiceConversionBenchmark {
+
+    private ProjectService projectService;
+    private NotificationController notificationController;
+    private TaskService taskService;
+    private long projectId;
+    private long userId;
+    private long notificationId;
+
+    @Setup
+    public void setUp(SeededDatabase database) {
+        // Beans de l'application : transactions et chargement des relations comme pour une requête HTTP
+        projectService = database.context.getBean(ProjectService.class);
+        notificationController = database.context.getBean(NotificationController.class);
+        taskService = (TaskService) database.target(TaskService.class);
+
+        projectId = database.projectCount / 2;
+        userId = database.userCount / 2;
+        notificationId = database.context.getBean(NotificationRepository.class).findByUserId(userId).get(0).getId();
+    }
+
+    @Benchmark
+    public ProjectDTO projectServiceFindById() {
+        return projectService.findById(projectId);
+    }
+
+    @Benchmark
+    public NotificationDTO notificationControllerGetById() {
+        return notificationController.getNotificationById(notificationId).getBody();
+    }
+
+    @Benchmark
+    public List<NotificationDTO> notificationControllerGetByUser() {
+        // Notifications d'un utilisateur (rows / userCount) : une requête IN par type d'entité liée
+        return notificationController.getNotificationsByUser(userId).getBody();
+    }
+
+    @Benchmark
+    public void statusConversion(Blackhole blackhole) {
+        for (TaskStatusEnum statusEnum : TaskStatusEnum.values()) {
+            blackhole.consume(taskService.convertTaskStatus(statusEnum));
+        }
+    }
+}
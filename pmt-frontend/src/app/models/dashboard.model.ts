@@ -0,0 +1,32 @@
+import { Project } from './project.model';
+import { Task } from './task.model';
+
+export interface DashboardNotification {
+  id: number;
+  title: string;
+  message: string;
+  type: string;
+  read: boolean;
+  createdAt?: string;
+  userId: number;
+  projectId?: number;
+  projectName?: string;
+  taskId?: number;
+  taskTitle?: string;
+}
+
+// Réponse de GET /api/dashboard/{userId} : chaque liste est limitée, le compteur associé donne le total
+export interface Dashboard {
+  userId: number;
+  username: string;
+  projects: Project[];
+  projectCount: number;
+  assignedTasks: Task[];
+  assignedTaskCount: number;
+  overdueTasks: Task[];
+  overdueTaskCount: number;
+  dueSoonTasks: Task[];
+  dueSoonTaskCount: number;
+  unreadNotifications: DashboardNotification[];
+  unreadNotificationCount: number;
+}
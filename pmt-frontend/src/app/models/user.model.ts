@@ -15,4 +15,12 @@ export interface LoginRequest {
 export interface LoginResponse {
   user: User;
   token?: string;
-} 
\ No newline at end of file
+} 
+
+// Réponse de /users/login et /users/refresh : champs de l'utilisateur et jetons
+export interface AuthResponse extends User {
+  accessToken: string;
+  refreshToken: string;
+  tokenType: string;
+  expiresIn: number;
+}
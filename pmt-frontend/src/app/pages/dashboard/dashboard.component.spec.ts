@@ -1,17 +1,17 @@
 import { DashboardComponent } from './dashboard.component';
 import { AuthService } from '../../services/auth.service';
-import { NotificationService } from '../../services/notification.service';
+import { DashboardService } from '../../services/dashboard.service';
 import { Router } from '@angular/router';
 import { ChangeDetectorRef } from '@angular/core';
-import { of } from 'rxjs';
+import { of, throwError } from 'rxjs';
 import { User } from '../../models/user.model';
-import { Notification } from '../../models/notification.model';
+import { Dashboard } from '../../models/dashboard.model';
 import { TestBed } from '@angular/core/testing';
 
 describe('DashboardComponent', () => {
   let component: DashboardComponent;
   let authService: jasmine.SpyObj<AuthService>;
-  let notificationService: jasmine.SpyObj<NotificationService>;
+  let dashboardService: jasmine.SpyObj<DashboardService>;
   let router: any;
   let cdr: jasmine.SpyObj<ChangeDetectorRef>;
   let drawer: any;
@@ -22,30 +22,34 @@ describe('DashboardComponent', () => {
     email: 'test@example.com'
   };
 
-  const mockNotifications: Notification[] = [
-    {
-      id: 1,
-      title: 'Test notification 1',
-      message: 'Test notification 1',
-      type: 'info',
-      isRead: false,
-      createdAt: '2024-01-01T00:00:00Z',
-      userId: 1
-    },
-    {
-      id: 2,
-      title: 'Test notification 2',
-      message: 'Test notification 2',
-      type: 'info',
-      isRead: true,
-      createdAt: '2024-01-01T00:00:00Z',
-      userId: 1
-    }
-  ];
+  const mockDashboard: Dashboard = {
+    userId: 1,
+    username: 'testuser',
+    projects: [],
+    projectCount: 0,
+    assignedTasks: [],
+    assignedTaskCount: 0,
+    overdueTasks: [],
+    overdueTaskCount: 0,
+    dueSoonTasks: [],
+    dueSoonTaskCount: 0,
+    unreadNotifications: [
+      {
+        id: 1,
+        title: 'Test notification 1',
+        message: 'Test notification 1',
+        type: 'info',
+        read: false,
+        createdAt: '2024-01-01T00:00:00Z',
+        userId: 1
+      }
+    ],
+    unreadNotificationCount: 12
+  };
 
   beforeEach(() => {
     authService = jasmine.createSpyObj('AuthService', ['getCurrentUser', 'logout']);
-    notificationService = jasmine.createSpyObj('NotificationService', ['getUnreadNotifications']);
+    dashboardService = jasmine.createSpyObj('DashboardService', ['getDashboard']);
     router = { navigate: jasmine.createSpy('navigate'), url: '/dashboard' };
     cdr = jasmine.createSpyObj('ChangeDetectorRef', ['detectChanges']);
     drawer = { close: jasmine.createSpy('close'), toggle: jasmine.createSpy('toggle') };
@@ -58,7 +62,7 @@ describe('DashboardComponent', () => {
 
     component = new DashboardComponent(
       authService,
-      notificationService,
+      dashboardService,
       router,
       cdr
     );
@@ -78,25 +82,42 @@ describe('DashboardComponent', () => {
   });
 
   describe('ngOnInit', () => {
-    it('should load current user and unread notifications on init', () => {
+    it('should load current user and the aggregated dashboard on init', () => {
       authService.getCurrentUser.and.returnValue(mockUser);
-      notificationService.getUnreadNotifications.and.returnValue(of(mockNotifications.filter(n => !n.isRead)));
+      dashboardService.getDashboard.and.returnValue(of(mockDashboard));
 
       component.ngOnInit();
 
       expect(authService.getCurrentUser).toHaveBeenCalled();
-      expect(notificationService.getUnreadNotifications).toHaveBeenCalled();
+      expect(dashboardService.getDashboard).toHaveBeenCalledOnceWith(1);
       expect(component.currentUser).toEqual(mockUser);
+      expect(component.dashboard).toEqual(mockDashboard);
+      // Total renvoyé par le serveur, pas la taille de la liste limitée
+      expect(component.unreadCount).toBe(12);
+      expect(cdr.detectChanges).toHaveBeenCalled();
+    });
+
+    it('should keep default values when the dashboard fails to load', () => {
+      authService.getCurrentUser.and.returnValue(mockUser);
+      dashboardService.getDashboard.and.returnValue(throwError(() => new Error('Erreur serveur')));
+      spyOn(console, 'error');
+
+      component.ngOnInit();
+
+      expect(component.dashboard).toBeNull();
+      expect(component.unreadCount).toBe(0);
+      expect(console.error).toHaveBeenCalled();
     });
 
     it('should handle null current user', () => {
       authService.getCurrentUser.and.returnValue(null);
-      notificationService.getUnreadNotifications.and.returnValue(of([]));
 
       component.ngOnInit();
 
       expect(component.currentUser).toBeNull();
       expect(component.unreadCount).toBe(0);
+      expect(dashboardService.getDashboard).not.toHaveBeenCalled();
+      expect(router.navigate).toHaveBeenCalledWith(['/login']);
     });
   });
 
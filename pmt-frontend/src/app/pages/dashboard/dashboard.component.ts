@@ -11,9 +11,9 @@ import { MatMenuModule } from '@angular/material/menu';
 import { MatDividerModule } from '@angular/material/divider';
 
 import { AuthService } from '../../services/auth.service';
-import { NotificationService } from '../../services/notification.service';
+import { DashboardService } from '../../services/dashboard.service';
 import { User } from '../../models/user.model';
-import { Notification } from '../../models/notification.model';
+import { Dashboard } from '../../models/dashboard.model';
 
 @Component({
   selector: 'app-dashboard',
@@ -205,11 +205,12 @@ export class DashboardComponent implements OnInit {
   @ViewChild('drawer') drawer: any;
   
   currentUser: User | null = null;
+  dashboard: Dashboard | null = null;
   unreadCount = 0;
 
   constructor(
     private authService: AuthService,
-    private notificationService: NotificationService,
+    private dashboardService: DashboardService,
     private router: Router,
     private cdr: ChangeDetectorRef
   ) {}
@@ -222,7 +223,7 @@ export class DashboardComponent implements OnInit {
       return;
     }
 
-    this.loadUnreadNotifications();
+    this.loadDashboard();
   }
 
   logout(): void {
@@ -242,15 +243,17 @@ export class DashboardComponent implements OnInit {
     }
   }
 
-  private loadUnreadNotifications(): void {
+  // Un seul appel agrégé au chargement : le serveur renvoie déjà le nombre total de notifications non lues
+  private loadDashboard(): void {
     if (this.currentUser?.id) {
-      this.notificationService.getUnreadNotifications(this.currentUser.id).subscribe({
-        next: (notifications) => {
-          this.unreadCount = notifications.length;
+      this.dashboardService.getDashboard(this.currentUser.id).subscribe({
+        next: (dashboard) => {
+          this.dashboard = dashboard;
+          this.unreadCount = dashboard.unreadNotificationCount;
           this.cdr.detectChanges();
         },
         error: (error) => {
-          console.error('Erreur lors du chargement des notifications:', error);
+          console.error('Erreur lors du chargement du tableau de bord:', error);
         }
       });
     }
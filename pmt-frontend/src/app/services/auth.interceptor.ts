@@ -0,0 +1,38 @@
+import { inject } from '@angular/core';
+import { HttpErrorResponse, HttpInterceptorFn, HttpRequest } from '@angular/common/http';
+import { catchError, switchMap, throwError } from 'rxjs';
+import { AuthService } from './auth.service';
+
+// Requêtes d'authentification : jamais de jeton d'accès ni de nouvelle tentative
+const AUTH_ENDPOINTS = ['/users/login', '/users/refresh', '/users/logout'];
+
+function withToken(request: HttpRequest<unknown>, token: string | null): HttpRequest<unknown> {
+  return token ? request.clone({ setHeaders: { Authorization: `Bearer ${token}` } }) : request;
+}
+
+/**
+ * Ajoute le jeton d'accès aux appels de l'API ; sur 401 (jeton expiré), rafraîchit les jetons
+ * et rejoue la requête une fois, sinon termine la session
+ */
+export const authInterceptor: HttpInterceptorFn = (request, next) => {
+  if (AUTH_ENDPOINTS.some(endpoint => request.url.endsWith(endpoint))) {
+    return next(request);
+  }
+  const authService = inject(AuthService);
+  const token = authService.getAccessToken();
+
+  return next(withToken(request, token)).pipe(
+    catchError((error: unknown) => {
+      if (!(error instanceof HttpErrorResponse) || error.status !== 401 || !token) {
+        return throwError(() => error);
+      }
+      return authService.refreshToken().pipe(
+        switchMap(newToken => next(withToken(request, newToken))),
+        catchError(refreshError => {
+          authService.clearSession();
+          return throwError(() => refreshError);
+        })
+      );
+    })
+  );
+};
@@ -1,7 +1,7 @@
 import { Injectable } from '@angular/core';
 import { HttpClient } from '@angular/common/http';
-import { BehaviorSubject, Observable, tap } from 'rxjs';
-import { User, LoginRequest } from '../models/user.model';
+import { BehaviorSubject, Observable, map, shareReplay, tap, finalize } from 'rxjs';
+import { User, LoginRequest, AuthResponse } from '../models/user.model';
 import { StorageService } from './storage.service';
 
 @Injectable({
@@ -11,6 +11,8 @@ export class AuthService {
   private apiUrl = 'http://localhost:8080/api';
   private currentUserSubject = new BehaviorSubject<User | null>(null);
   public currentUser$ = this.currentUserSubject.asObservable();
+  // Rafraîchissement en cours, partagé par les requêtes refusées en même temps
+  private refreshInProgress: Observable<string> | null = null;
 
   constructor(
     private http: HttpClient,
@@ -24,18 +26,47 @@ export class AuthService {
   }
 
   login(loginRequest: LoginRequest): Observable<User> {
-    return this.http.post<User>(`${this.apiUrl}/users/login`, loginRequest)
+    return this.http.post<AuthResponse>(`${this.apiUrl}/users/login`, loginRequest)
       .pipe(
-        tap(user => {
-          // Sauvegarder l'utilisateur en session
-          this.storageService.setItem('currentUser', JSON.stringify(user));
-          this.currentUserSubject.next(user);
-        })
+        map(response => this.saveSession(response))
       );
   }
 
+  /**
+   * Nouvelle paire de jetons à partir du jeton de rafraîchissement ; renvoie le nouveau jeton d'accès
+   */
+  refreshToken(): Observable<string> {
+    if (!this.refreshInProgress) {
+      this.refreshInProgress = this.http.post<AuthResponse>(`${this.apiUrl}/users/refresh`,
+          { refreshToken: this.storageService.getItem('refreshToken') })
+        .pipe(
+          map(response => {
+            this.saveSession(response);
+            return response.accessToken;
+          }),
+          finalize(() => this.refreshInProgress = null),
+          shareReplay(1)
+        );
+    }
+    return this.refreshInProgress;
+  }
+
   logout(): void {
+    const accessToken = this.getAccessToken();
+    const refreshToken = this.storageService.getItem('refreshToken');
+    if (accessToken || refreshToken) {
+      // Révocation côté serveur ; la session locale est supprimée quelle que soit la réponse
+      this.http.post(`${this.apiUrl}/users/logout`, { refreshToken }, {
+        headers: accessToken ? { Authorization: `Bearer ${accessToken}` } : {}
+      }).subscribe({ error: () => {} });
+    }
+    this.clearSession();
+  }
+
+  clearSession(): void {
     this.storageService.removeItem('currentUser');
+    this.storageService.removeItem('accessToken');
+    this.storageService.removeItem('refreshToken');
     this.currentUserSubject.next(null);
   }
 
@@ -43,6 +74,10 @@ export class AuthService {
     return this.currentUserSubject.value;
   }
 
+  getAccessToken(): string | null {
+    return this.storageService.getItem('accessToken');
+  }
+
   isLoggedIn(): boolean {
     return this.getCurrentUser() !== null;
   }
@@ -50,4 +85,14 @@ export class AuthService {
   register(user: User): Observable<User> {
     return this.http.post<User>(`${this.apiUrl}/users`, user);
   }
-} 
\ No newline at end of file
+
+  private saveSession(response: AuthResponse): User {
+    const { accessToken, refreshToken, tokenType, expiresIn, ...user } = response;
+    // Sauvegarder l'utilisateur et les jetons en session
+    this.storageService.setItem('currentUser', JSON.stringify(user));
+    this.storageService.setItem('accessToken', accessToken);
+    this.storageService.setItem('refreshToken', refreshToken);
+    this.currentUserSubject.next(user);
+    return user;
+  }
+}
@@ -0,0 +1,44 @@
+import { DashboardService } from './dashboard.service';
+import { HttpClient } from '@angular/common/http';
+import { of } from 'rxjs';
+import { Dashboard } from '../models/dashboard.model';
+
+describe('DashboardService', () => {
+  let service: DashboardService;
+  let httpClient: jasmine.SpyObj<HttpClient>;
+
+  const mockDashboard: Dashboard = {
+    userId: 1,
+    username: 'testuser',
+    projects: [],
+    projectCount: 0,
+    assignedTasks: [],
+    assignedTaskCount: 0,
+    overdueTasks: [],
+    overdueTaskCount: 0,
+    dueSoonTasks: [],
+    dueSoonTaskCount: 0,
+    unreadNotifications: [],
+    unreadNotificationCount: 3
+  };
+
+  beforeEach(() => {
+    httpClient = jasmine.createSpyObj('HttpClient', ['get']);
+    service = new DashboardService(httpClient);
+  });
+
+  it('should be created', () => {
+    expect(service).toBeTruthy();
+  });
+
+  it('should get the dashboard of a user in a single request', () => {
+    httpClient.get.and.returnValue(of(mockDashboard));
+
+    service.getDashboard(1).subscribe(result => {
+      expect(result).toEqual(mockDashboard);
+    });
+
+    expect(httpClient.get).toHaveBeenCalledTimes(1);
+    expect(httpClient.get).toHaveBeenCalledWith('http://localhost:8080/api/dashboard/1');
+  });
+});
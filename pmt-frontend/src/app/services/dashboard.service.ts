@@ -0,0 +1,17 @@
+import { Injectable } from '@angular/core';
+import { HttpClient } from '@angular/common/http';
+import { Observable } from 'rxjs';
+import { Dashboard } from '../models/dashboard.model';
+
+@Injectable({
+  providedIn: 'root'
+})
+export class DashboardService {
+  private apiUrl = 'http://localhost:8080/api';
+
+  constructor(private http: HttpClient) { }
+
+  getDashboard(userId: number): Observable<Dashboard> {
+    return this.http.get<Dashboard>(`${this.apiUrl}/dashboard/${userId}`);
+  }
+}
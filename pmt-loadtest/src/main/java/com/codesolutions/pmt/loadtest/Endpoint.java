@@ -0,0 +1,30 @@
+package com.codesolutions.pmt.loadtest;
+
+/**
+ * Requêtes envoyées par l'application Angular et rejouées par le test de charge ;
+ * la clé sert dans le rapport et dans le fichier de seuils
+ */
+public enum Endpoint {
+    DASHBOARD("dashboard", "GET /api/dashboard/{id}"),
+    PROJECTS_BY_USER("projects-by-user", "GET /api/projects/user/{id}"),
+    TASKS_ASSIGNED("tasks-assigned", "GET /api/tasks/assigned/{id}"),
+    NOTIFICATIONS_UNREAD("notifications-unread", "GET /api/notifications/user/{id}/unread"),
+    TASK_UPDATE("task-update", "PUT /api/tasks/{id}"),
+    NOTIFICATION_READ("notification-read", "PUT /api/notifications/{id}/read");
+
+    private final String key;
+    private final String label;
+
+    Endpoint(String key, String label) {
+        this.key = key;
+        this.label = label;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
@@ -0,0 +1,59 @@
+package com.codesolutions.pmt.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latences et erreurs mesurées pour un endpoint ; toutes les latences sont conservées
+ * pour des percentiles exacts (quelques centaines de milliers de valeurs au plus)
+ */
+public class EndpointStats {
+
+    private final Endpoint endpoint;
+    private long[] latencies = new long[1024];
+    private int count;
+    private long errors;
+
+    public EndpointStats(Endpoint endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Enregistrer une requête ; error : réponse hors 2xx ou échec de connexion
+     */
+    public synchronized void record(long latencyNanos, boolean error) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        if (error) {
+            errors++;
+        }
+    }
+
+    /**
+     * Résumé sur la durée de mesure
+     */
+    public synchronized Summary summarize(double elapsedSeconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return new Summary(endpoint.getKey(), endpoint.getLabel(), count, errors,
+                elapsedSeconds > 0 ? count / elapsedSeconds : 0,
+                count > 0 ? (double) errors / count : 0,
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                count > 0 ? sorted[count - 1] / 1_000_000.0 : 0);
+    }
+
+    static double percentile(long[] sortedNanos, double quantile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    /**
+     * Résultat d'un endpoint : débit en requêtes/s, latences en millisecondes
+     */
+    public record Summary(String key, String endpoint, long requests, long errors, double throughput, double errorRate,
+                          double p50Millis, double p95Millis, double p99Millis, double maxMillis) {}
+}
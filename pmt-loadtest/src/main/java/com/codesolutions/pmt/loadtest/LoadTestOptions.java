@@ -0,0 +1,69 @@
+package com.codesolutions.pmt.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Options du test de charge, en arguments « --nom=valeur »
+ *
+ * @param baseUrl          backend déjà démarré (données générées au préalable avec le profil datagen) ;
+ *                         absent : backend démarré dans ce processus et rempli par SyntheticDataGenerator
+ * @param jdbcUrl          base du backend démarré dans ce processus (MySQL en conteneur par exemple) ; absent : H2 en mémoire
+ * @param virtualUsers     utilisateurs simultanés, chacun connecté avec son propre compte
+ * @param thinkTime        pause moyenne entre deux actions d'un utilisateur
+ * @param legacyDashboard  tableau de bord chargé comme avant GET /api/dashboard/{id} : projets, tâches assignées
+ *                         et notifications non lues en trois requêtes parallèles
+ * @param seed             graine des données : comptes load&lt;graine&gt;-u&lt;n&gt;@example.com
+ */
+public record LoadTestOptions(String baseUrl, String jdbcUrl, String dbUsername, String dbPassword,
+                              int virtualUsers, Duration duration, Duration warmup, Duration thinkTime,
+                              int dashboardWeight, int kanbanWeight, int notificationsWeight, boolean legacyDashboard,
+                              long seed, long users, long projects, long tasks, long history, long notifications,
+                              String password, String thresholds, String report) {
+
+    private static final Set<String> NAMES = Set.of("base-url", "jdbc-url", "db-username", "db-password",
+            "virtual-users", "duration", "warmup", "think-time",
+            "dashboard-weight", "kanban-weight", "notifications-weight", "legacy-dashboard",
+            "seed", "users", "projects", "tasks", "history", "notifications",
+            "password", "thresholds", "report");
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0 || !NAMES.contains(arg.substring(2, equals))) {
+                throw new IllegalArgumentException("Option inconnue: " + arg + " (options: " + NAMES + ")");
+            }
+            values.put(arg.substring(2, equals), arg.substring(equals + 1));
+        }
+        LoadTestOptions options = new LoadTestOptions(
+                values.get("base-url"),
+                values.get("jdbc-url"),
+                values.getOrDefault("db-username", "sa"),
+                values.getOrDefault("db-password", ""),
+                Integer.parseInt(values.getOrDefault("virtual-users", "20")),
+                Duration.parse(values.getOrDefault("duration", "PT1M")),
+                Duration.parse(values.getOrDefault("warmup", "PT15S")),
+                Duration.parse(values.getOrDefault("think-time", "PT1S")),
+                // Répartition proche de l'usage observé : tableau de bord, déplacements kanban, lecture des notifications
+                Integer.parseInt(values.getOrDefault("dashboard-weight", "50")),
+                Integer.parseInt(values.getOrDefault("kanban-weight", "30")),
+                Integer.parseInt(values.getOrDefault("notifications-weight", "20")),
+                Boolean.parseBoolean(values.getOrDefault("legacy-dashboard", "false")),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Long.parseLong(values.getOrDefault("users", "2000")),
+                Long.parseLong(values.getOrDefault("projects", "200")),
+                Long.parseLong(values.getOrDefault("tasks", "50000")),
+                Long.parseLong(values.getOrDefault("history", "200000")),
+                Long.parseLong(values.getOrDefault("notifications", "50000")),
+                values.getOrDefault("password", "password123"),
+                values.get("thresholds"),
+                values.getOrDefault("report", "target/load-test-report.json"));
+        if (options.virtualUsers() < 1 || options.dashboardWeight() + options.kanbanWeight() + options.notificationsWeight() <= 0) {
+            throw new IllegalArgumentException("Au moins un utilisateur virtuel et une action de poids positif sont nécessaires");
+        }
+        return options;
+    }
+}
@@ -0,0 +1,205 @@
+package com.codesolutions.pmt.loadtest;
+
+import com.codesolutions.pmt.PmtBackendApplication;
+import com.codesolutions.pmt.service.ReferenceDataCache;
+import com.codesolutions.pmt.service.SyntheticDataGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point d'entrée du test de charge : rejoue le trafic de l'application Angular pendant la durée demandée,
+ * affiche débit, p50/p95/p99 et taux d'erreur par endpoint, écrit le rapport JSON
+ * (target/load-test-report.json par défaut) et se termine en erreur si un seuil est dépassé.
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        Thresholds thresholds = Thresholds.load(options.thresholds());
+        if (options.virtualUsers() > options.users()) {
+            throw new IllegalArgumentException("Plus d'utilisateurs virtuels (" + options.virtualUsers()
+                    + ") que de comptes générés (" + options.users() + ")");
+        }
+
+        ConfigurableApplicationContext context = null;
+        Report report;
+        try {
+            URI baseUri;
+            if (options.baseUrl() == null) {
+                context = startBackend(options);
+                seed(context, options);
+                baseUri = URI.create("http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort() + "/");
+            } else {
+                baseUri = URI.create(options.baseUrl().endsWith("/") ? options.baseUrl() : options.baseUrl() + "/");
+            }
+            report = run(options, baseUri, thresholds);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+
+        print(report);
+        Path file = Path.of(options.report());
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file.toFile(), report);
+        System.out.printf("Rapport : %s%n", file.toAbsolutePath());
+        // Threads non démons du client HTTP et du backend : arrêt explicite, code de sortie lu par Maven
+        System.exit(report.violations().isEmpty() ? 0 : 1);
+    }
+
+    static Report run(LoadTestOptions options, URI baseUri, Thresholds thresholds) throws InterruptedException {
+        Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats(endpoint));
+        }
+        ObjectMapper objectMapper = new ObjectMapper();
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long stopAt = measureFrom + options.duration().toNanos();
+        System.out.printf("%d utilisateurs virtuels sur %s : préchauffage %s, mesure %s%n",
+                options.virtualUsers(), baseUri, options.warmup(), options.duration());
+
+        List<String> failures = new ArrayList<>();
+        try (HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> users = new ArrayList<>(options.virtualUsers());
+            for (int i = 0; i < options.virtualUsers(); i++) {
+                // Comptes répartis sur toute la population : utilisateurs très actifs et peu actifs (loi de Zipf)
+                long account = (long) i * options.users() / options.virtualUsers();
+                String email = "load" + options.seed() + "-u" + account + "@example.com";
+                // Montée en charge : arrivées étalées sur la première moitié du préchauffage
+                long arrival = options.warmup().toNanos() / 2 * i / options.virtualUsers();
+                VirtualUser user = new VirtualUser(client, baseUri, objectMapper, options, stats, email,
+                        measureFrom, stopAt, options.seed() * 31 + i);
+                users.add(executor.submit(() -> {
+                    TimeUnit.NANOSECONDS.sleep(arrival);
+                    user.run();
+                    return null;
+                }));
+            }
+            for (Future<?> user : users) {
+                try {
+                    user.get();
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause().getMessage());
+                }
+            }
+        }
+
+        double seconds = options.duration().toNanos() / 1_000_000_000.0;
+        List<EndpointStats.Summary> summaries = new ArrayList<>();
+        long requests = 0;
+        Set<Endpoint> expected = VirtualUser.endpoints(options);
+        for (Map.Entry<Endpoint, EndpointStats> entry : stats.entrySet()) {
+            EndpointStats.Summary summary = entry.getValue().summarize(seconds);
+            // Endpoints hors de la répartition choisie : absents du rapport s'ils n'ont pas été appelés
+            if (summary.requests() > 0 || expected.contains(entry.getKey())) {
+                summaries.add(summary);
+                requests += summary.requests();
+            }
+        }
+        double throughput = requests / seconds;
+        List<String> violations = new ArrayList<>(thresholds.check(summaries, throughput));
+        if (!failures.isEmpty()) {
+            violations.add(failures.size() + " utilisateur(s) virtuel(s) interrompu(s), par exemple : " + failures.get(0));
+        }
+        return new Report(baseUri.toString(), options.virtualUsers(), seconds, requests, throughput, summaries, violations);
+    }
+
+    /**
+     * Backend dans ce processus, sur un port libre ; H2 en mémoire sauf si --jdbc-url est indiqué
+     */
+    private static ConfigurableApplicationContext startBackend(LoadTestOptions options) {
+        boolean h2 = options.jdbcUrl() == null;
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=" + (h2 ? "jdbc:h2:mem:pmt-loadtest;DB_CLOSE_DELAY=-1" : options.jdbcUrl()),
+                "--spring.datasource.username=" + options.dbUsername(),
+                "--spring.datasource.password=" + options.dbPassword(),
+                // Jetons exigés, comme le client Angular les envoie désormais à chaque requête
+                "--pmt.security.require-authentication=true",
+                // Tous les utilisateurs virtuels se connectent depuis la même adresse
+                "--pmt.security.login.max-attempts-per-ip=" + Integer.MAX_VALUE,
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.codesolutions.pmt=WARN"));
+        if (h2) {
+            args.addAll(List.of(
+                    "--spring.datasource.driver-class-name=org.h2.Driver",
+                    "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                    // Les migrations Flyway ciblent MySQL : schéma généré par Hibernate
+                    "--spring.flyway.enabled=false",
+                    "--spring.jpa.hibernate.ddl-auto=create"));
+        }
+        return new SpringApplicationBuilder(PmtBackendApplication.class).run(args.toArray(String[]::new));
+    }
+
+    /**
+     * Données de charge générées une seule fois par graine : une base MySQL conservée est réutilisée
+     */
+    private static void seed(ConfigurableApplicationContext context, LoadTestOptions options) {
+        Boolean seeded = context.getBean(JdbcTemplate.class).queryForObject(
+                "SELECT COUNT(*) > 0 FROM users WHERE username = ?", Boolean.class, "load" + options.seed() + "-u0");
+        if (Boolean.TRUE.equals(seeded)) {
+            System.out.printf("Données de la graine %d déjà présentes%n", options.seed());
+            return;
+        }
+        SyntheticDataGenerator.GenerationReport generated = context.getBean(SyntheticDataGenerator.class).generate(
+                new SyntheticDataGenerator.Scale(options.users(), options.projects(), options.tasks(),
+                        options.history(), options.notifications(), options.seed()));
+        // Statuts et rôles insérés après le préchargement du cache au démarrage
+        context.getBean(ReferenceDataCache.class).refresh();
+        System.out.printf("Données générées en %d s : %d utilisateurs, %d projets, %d tâches, %d notifications%n",
+                generated.duration().toSeconds(), generated.users(), generated.projects(), generated.tasks(), generated.notifications());
+    }
+
+    private static void print(Report report) {
+        System.out.printf("%n=== %d utilisateurs virtuels, %.0f s de mesure : %d requêtes, %.1f req/s ===%n",
+                report.virtualUsers(), report.durationSeconds(), report.requests(), report.throughput());
+        System.out.printf("%-42s %9s %9s %9s %9s %9s %9s%n", "Endpoint", "Requêtes", "req/s", "p50 ms", "p95 ms", "p99 ms", "Erreurs");
+        for (EndpointStats.Summary summary : report.endpoints()) {
+            System.out.printf("%-42s %9d %9.1f %9.1f %9.1f %9.1f %8.2f%%%n", summary.endpoint(), summary.requests(),
+                    summary.throughput(), summary.p50Millis(), summary.p95Millis(), summary.p99Millis(), summary.errorRate() * 100);
+        }
+        if (report.violations().isEmpty()) {
+            System.out.printf("Seuils respectés%n");
+        } else {
+            System.out.printf("%nSeuils dépassés :%n");
+            report.violations().forEach(violation -> System.out.printf("  - %s%n", violation));
+        }
+    }
+
+    /**
+     * Rapport JSON : comparable d'une version à l'autre
+     */
+    public record Report(String target, int virtualUsers, double durationSeconds, long requests, double throughput,
+                         List<EndpointStats.Summary> endpoints, List<String> violations) {}
+}
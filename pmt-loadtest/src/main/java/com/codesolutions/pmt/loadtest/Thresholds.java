@@ -0,0 +1,89 @@
+package com.codesolutions.pmt.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Seuils de non-régression : par endpoint (clé de Endpoint) ou par défaut (préfixe « default. »),
+ * p95-ms, p99-ms, max-error-rate et min-throughput ; min-throughput sans préfixe porte sur le débit total.
+ * Une valeur absente n'est pas vérifiée.
+ */
+public class Thresholds {
+
+    static final String DEFAULT_RESOURCE = "/thresholds.properties";
+
+    private final Properties properties;
+
+    public Thresholds(Properties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Seuils du fichier indiqué, ou ceux livrés avec le module
+     */
+    public static Thresholds load(String file) throws IOException {
+        Properties properties = new Properties();
+        if (file == null || file.isBlank()) {
+            try (InputStream input = Thresholds.class.getResourceAsStream(DEFAULT_RESOURCE)) {
+                if (input == null) {
+                    throw new IllegalStateException("Fichier de seuils introuvable: " + DEFAULT_RESOURCE);
+                }
+                properties.load(input);
+            }
+        } else {
+            try (Reader reader = Files.newBufferedReader(Path.of(file))) {
+                properties.load(reader);
+            }
+        }
+        return new Thresholds(properties);
+    }
+
+    /**
+     * Seuils dépassés ; liste vide si le test est réussi
+     */
+    public List<String> check(List<EndpointStats.Summary> summaries, double totalThroughput) {
+        List<String> violations = new ArrayList<>();
+        for (EndpointStats.Summary summary : summaries) {
+            if (summary.requests() == 0) {
+                violations.add(summary.endpoint() + " : aucune requête mesurée");
+                continue;
+            }
+            atMost(violations, summary, "p95-ms", summary.p95Millis(), " ms");
+            atMost(violations, summary, "p99-ms", summary.p99Millis(), " ms");
+            atMost(violations, summary, "max-error-rate", summary.errorRate(), "");
+            Double minThroughput = value(summary.key(), "min-throughput");
+            if (minThroughput != null && summary.throughput() < minThroughput) {
+                violations.add(String.format(Locale.ROOT, "%s : débit %.1f req/s < %.1f req/s",
+                        summary.endpoint(), summary.throughput(), minThroughput));
+            }
+        }
+        String total = properties.getProperty("min-throughput");
+        if (total != null && totalThroughput < Double.parseDouble(total.trim())) {
+            violations.add(String.format(Locale.ROOT, "Débit total %.1f req/s < %s req/s", totalThroughput, total.trim()));
+        }
+        return violations;
+    }
+
+    private void atMost(List<String> violations, EndpointStats.Summary summary, String name, double measured, String unit) {
+        Double limit = value(summary.key(), name);
+        if (limit != null && measured > limit) {
+            violations.add(String.format(Locale.ROOT, "%s : %s %.3f%s > %s%s",
+                    summary.endpoint(), name, measured, unit, limit, unit));
+        }
+    }
+
+    /**
+     * Seuil propre à l'endpoint, sinon seuil par défaut
+     */
+    private Double value(String key, String name) {
+        String value = properties.getProperty(key + "." + name, properties.getProperty("default." + name));
+        return value == null || value.isBlank() ? null : Double.valueOf(value.trim());
+    }
+}
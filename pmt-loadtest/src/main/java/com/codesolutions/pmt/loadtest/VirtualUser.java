@@ -0,0 +1,312 @@
+package com.codesolutions.pmt.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Un utilisateur de l'application Angular : connexion, puis actions tirées au hasard (tableau de bord,
+ * déplacement d'une tâche sur le kanban, lecture d'une notification) séparées d'un temps de réflexion.
+ * Comme l'intercepteur Angular, un 401 déclenche un rafraîchissement du jeton puis une seconde tentative ;
+ * les requêtes parallèles refusées attendent le même rafraîchissement (le jeton de rafraîchissement est à usage unique).
+ */
+class VirtualUser implements Runnable {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int LOGIN_ATTEMPTS = 10;
+    private static final List<String> KANBAN_COLUMNS = List.of("TODO", "IN_PROGRESS", "REVIEW", "DONE");
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final ObjectMapper objectMapper;
+    private final LoadTestOptions options;
+    private final Map<Endpoint, EndpointStats> stats;
+    private final String email;
+    private final long measureFrom;
+    private final long stopAt;
+    private final SplittableRandom random;
+
+    private Long userId;
+    private volatile String accessToken;
+    private String refreshToken;
+    private CompletableFuture<Boolean> refreshing;
+    private List<JsonNode> assignedTasks = List.of();
+
+    VirtualUser(HttpClient client, URI baseUri, ObjectMapper objectMapper, LoadTestOptions options,
+                Map<Endpoint, EndpointStats> stats, String email, long measureFrom, long stopAt, long seed) {
+        this.client = client;
+        this.baseUri = baseUri;
+        this.objectMapper = objectMapper;
+        this.options = options;
+        this.stats = stats;
+        this.email = email;
+        this.measureFrom = measureFrom;
+        this.stopAt = stopAt;
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public void run() {
+        try {
+            login();
+            int totalWeight = options.dashboardWeight() + options.kanbanWeight() + options.notificationsWeight();
+            while (System.nanoTime() < stopAt) {
+                int draw = random.nextInt(totalWeight);
+                if (draw < options.dashboardWeight()) {
+                    openDashboard();
+                } else if (draw < options.dashboardWeight() + options.kanbanWeight()) {
+                    moveTask();
+                } else {
+                    readNotification();
+                }
+                think();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            throw new RuntimeException("Connexion impossible pour " + email, e);
+        }
+    }
+
+    /**
+     * Endpoints appelés à coup sûr par la répartition d'actions choisie ; les autres ne le sont qu'occasionnellement
+     * (tâches assignées relues par le kanban quand le tableau de bord n'en a fourni aucune)
+     */
+    static Set<Endpoint> endpoints(LoadTestOptions options) {
+        Set<Endpoint> endpoints = EnumSet.noneOf(Endpoint.class);
+        if (options.dashboardWeight() > 0) {
+            if (options.legacyDashboard()) {
+                endpoints.addAll(List.of(Endpoint.PROJECTS_BY_USER, Endpoint.TASKS_ASSIGNED, Endpoint.NOTIFICATIONS_UNREAD));
+            } else {
+                endpoints.add(Endpoint.DASHBOARD);
+            }
+        }
+        if (options.kanbanWeight() > 0) {
+            endpoints.add(Endpoint.TASK_UPDATE);
+        }
+        if (options.notificationsWeight() > 0) {
+            endpoints.addAll(List.of(Endpoint.NOTIFICATIONS_UNREAD, Endpoint.NOTIFICATION_READ));
+        }
+        return endpoints;
+    }
+
+    /**
+     * Tableau de bord : une requête, comme DashboardComponent ; les tâches assignées affichées servent au kanban
+     */
+    private void openDashboard() throws InterruptedException {
+        if (options.legacyDashboard()) {
+            openLegacyDashboard();
+            return;
+        }
+        HttpResponse<byte[]> response = send(Endpoint.DASHBOARD, get("/api/dashboard/" + userId));
+        if (response != null && response.statusCode() == 200) {
+            List<JsonNode> tasks = new ArrayList<>();
+            readTree(response.body()).path("assignedTasks").forEach(tasks::add);
+            assignedTasks = tasks;
+        }
+    }
+
+    /**
+     * Ancien tableau de bord : les trois requêtes partent en même temps, comme les souscriptions du composant
+     */
+    private void openLegacyDashboard() throws InterruptedException {
+        CompletableFuture<HttpResponse<byte[]>> projects = sendAsync(Endpoint.PROJECTS_BY_USER, get("/api/projects/user/" + userId));
+        CompletableFuture<HttpResponse<byte[]>> tasks = sendAsync(Endpoint.TASKS_ASSIGNED, get("/api/tasks/assigned/" + userId));
+        CompletableFuture<HttpResponse<byte[]>> unread = sendAsync(Endpoint.NOTIFICATIONS_UNREAD, get("/api/notifications/user/" + userId + "/unread"));
+        CompletableFuture.allOf(projects, tasks, unread).exceptionally(e -> null).join();
+        HttpResponse<byte[]> response = tasks.exceptionally(e -> null).join();
+        if (response != null && response.statusCode() == 200) {
+            assignedTasks = list(response.body());
+        }
+    }
+
+    /**
+     * Kanban : une tâche assignée passe à la colonne suivante ; corps identique à TaskService.updateTask côté Angular
+     */
+    private void moveTask() throws InterruptedException {
+        if (assignedTasks.isEmpty()) {
+            HttpResponse<byte[]> response = send(Endpoint.TASKS_ASSIGNED, get("/api/tasks/assigned/" + userId));
+            if (response == null || response.statusCode() != 200) {
+                return;
+            }
+            assignedTasks = list(response.body());
+            if (assignedTasks.isEmpty()) {
+                return;
+            }
+        }
+        JsonNode task = assignedTasks.get(random.nextInt(assignedTasks.size()));
+        int column = KANBAN_COLUMNS.indexOf(task.path("status").asText());
+        ObjectNode body = objectMapper.createObjectNode()
+                .put("title", task.path("title").asText())
+                .put("description", task.path("description").asText(null))
+                .put("priority", task.path("priority").asText(null))
+                .put("status", KANBAN_COLUMNS.get((column + 1) % KANBAN_COLUMNS.size()))
+                .put("assignedToId", userId);
+        HttpResponse<byte[]> response = send(Endpoint.TASK_UPDATE, put("/api/tasks/" + task.path("id").asLong(), body.toString()));
+        if (response != null && response.statusCode() == 200) {
+            // Carte déplacée : la réponse remplace la tâche dans le tableau local
+            List<JsonNode> updated = new ArrayList<>(assignedTasks);
+            updated.set(updated.indexOf(task), readTree(response.body()));
+            assignedTasks = updated;
+        }
+    }
+
+    /**
+     * Page des notifications : liste des non lues puis lecture de la première
+     */
+    private void readNotification() throws InterruptedException {
+        HttpResponse<byte[]> response = send(Endpoint.NOTIFICATIONS_UNREAD, get("/api/notifications/user/" + userId + "/unread"));
+        if (response == null || response.statusCode() != 200) {
+            return;
+        }
+        List<JsonNode> unread = list(response.body());
+        if (!unread.isEmpty()) {
+            send(Endpoint.NOTIFICATION_READ, put("/api/notifications/" + unread.get(0).path("id").asLong() + "/read", "{}"));
+        }
+    }
+
+    private void login() throws IOException, InterruptedException {
+        String body = objectMapper.createObjectNode().put("email", email).put("password", options.password()).toString();
+        HttpResponse<byte[]> response = client.send(post("/api/users/login", body), HttpResponse.BodyHandlers.ofByteArray());
+        // Pool de hachage saturé (503) ou limite de tentatives (429) : attendre le délai indiqué par Retry-After
+        for (int attempt = 1; attempt < LOGIN_ATTEMPTS && (response.statusCode() == 503 || response.statusCode() == 429); attempt++) {
+            TimeUnit.SECONDS.sleep(response.headers().firstValueAsLong("Retry-After").orElse(1));
+            response = client.send(post("/api/users/login", body), HttpResponse.BodyHandlers.ofByteArray());
+        }
+        if (response.statusCode() != 200) {
+            throw new IOException("POST /api/users/login : statut " + response.statusCode());
+        }
+        JsonNode auth = readTree(response.body());
+        userId = auth.path("id").asLong();
+        accessToken = auth.path("accessToken").asText();
+        refreshToken = auth.path("refreshToken").asText();
+    }
+
+    /**
+     * Rafraîchit le jeton refusé ; true si un nouveau jeton est disponible. Un seul rafraîchissement à la fois :
+     * les requêtes refusées avec le même jeton l'attendent, celles refusées avec un jeton déjà remplacé sont rejouées
+     */
+    private synchronized CompletableFuture<Boolean> refreshTokens(String rejectedToken) {
+        if (!rejectedToken.equals(accessToken)) {
+            return CompletableFuture.completedFuture(true);
+        }
+        if (refreshing == null || refreshing.isDone()) {
+            String body = objectMapper.createObjectNode().put("refreshToken", refreshToken).toString();
+            refreshing = client.sendAsync(post("/api/users/refresh", body), HttpResponse.BodyHandlers.ofByteArray())
+                    .handle((response, error) -> {
+                        if (error != null || response.statusCode() != 200) {
+                            // Nouvelle tentative au prochain 401
+                            return false;
+                        }
+                        JsonNode auth = readTree(response.body());
+                        synchronized (this) {
+                            accessToken = auth.path("accessToken").asText();
+                            refreshToken = auth.path("refreshToken").asText();
+                        }
+                        return true;
+                    });
+        }
+        return refreshing;
+    }
+
+    /**
+     * Requête synchrone ; null si la connexion a échoué (comptée en erreur)
+     */
+    private HttpResponse<byte[]> send(Endpoint endpoint, HttpRequest.Builder request) throws InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response = null;
+        try {
+            String token = accessToken;
+            response = client.send(authorized(request, token), HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() == 401 && refreshTokens(token).join()) {
+                response = client.send(authorized(request, accessToken), HttpResponse.BodyHandlers.ofByteArray());
+            }
+        } catch (IOException e) {
+            // Échec réseau ou délai dépassé : compté en erreur
+        }
+        record(endpoint, start, response);
+        return response;
+    }
+
+    /**
+     * Requête asynchrone, avec le même rafraîchissement puis seconde tentative que send
+     */
+    private CompletableFuture<HttpResponse<byte[]>> sendAsync(Endpoint endpoint, HttpRequest.Builder request) {
+        long start = System.nanoTime();
+        String token = accessToken;
+        return client.sendAsync(authorized(request, token), HttpResponse.BodyHandlers.ofByteArray())
+                .thenCompose(response -> response.statusCode() != 401 ? CompletableFuture.completedFuture(response)
+                        : refreshTokens(token).thenCompose(refreshed -> refreshed
+                                ? client.sendAsync(authorized(request, accessToken), HttpResponse.BodyHandlers.ofByteArray())
+                                : CompletableFuture.completedFuture(response)))
+                .whenComplete((response, error) -> record(endpoint, start, error == null ? response : null));
+    }
+
+    private void record(Endpoint endpoint, long start, HttpResponse<byte[]> response) {
+        // Requêtes lancées pendant la montée en charge : non mesurées
+        if (start >= measureFrom && start < stopAt) {
+            boolean error = response == null || response.statusCode() < 200 || response.statusCode() >= 300;
+            stats.get(endpoint).record(System.nanoTime() - start, error);
+        }
+    }
+
+    private HttpRequest authorized(HttpRequest.Builder request, String token) {
+        return request.copy().header("Authorization", "Bearer " + token).build();
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).timeout(REQUEST_TIMEOUT).GET();
+    }
+
+    private HttpRequest.Builder put(String path, String json) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private List<JsonNode> list(byte[] body) {
+        List<JsonNode> items = new ArrayList<>();
+        readTree(body).forEach(items::add);
+        return items;
+    }
+
+    private JsonNode readTree(byte[] body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new RuntimeException("Réponse JSON invalide", e);
+        }
+    }
+
+    /**
+     * Temps de réflexion tiré entre 0,5 et 1,5 fois la moyenne, pour ne pas synchroniser les utilisateurs
+     */
+    private void think() throws InterruptedException {
+        long mean = options.thinkTime().toMillis();
+        if (mean > 0) {
+            TimeUnit.MILLISECONDS.sleep(mean / 2 + random.nextLong(mean + 1));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.codesolutions.pmt.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EndpointStatsTest {
+
+    @Test
+    void summarize_ShouldComputePercentilesThroughputAndErrorRate() {
+        // Given : 1 à 100 ms, dont 5 erreurs
+        EndpointStats stats = new EndpointStats(Endpoint.TASK_UPDATE);
+        for (int i = 1; i <= 100; i++) {
+            stats.record(i * 1_000_000L, i % 20 == 0);
+        }
+
+        // When
+        EndpointStats.Summary summary = stats.summarize(10);
+
+        // Then
+        assertEquals("task-update", summary.key());
+        assertEquals("PUT /api/tasks/{id}", summary.endpoint());
+        assertEquals(100, summary.requests());
+        assertEquals(5, summary.errors());
+        assertEquals(10.0, summary.throughput(), 1e-9);
+        assertEquals(0.05, summary.errorRate(), 1e-9);
+        assertEquals(50.0, summary.p50Millis(), 1e-9);
+        assertEquals(95.0, summary.p95Millis(), 1e-9);
+        assertEquals(99.0, summary.p99Millis(), 1e-9);
+        assertEquals(100.0, summary.maxMillis(), 1e-9);
+    }
+
+    @Test
+    void summarize_WithoutRequests_ShouldReturnZeros() {
+        // Given
+        EndpointStats stats = new EndpointStats(Endpoint.NOTIFICATION_READ);
+
+        // When
+        EndpointStats.Summary summary = stats.summarize(10);
+
+        // Then
+        assertEquals(0, summary.requests());
+        assertEquals(0.0, summary.errorRate());
+        assertEquals(0.0, summary.p99Millis());
+    }
+}
@@ -0,0 +1,75 @@
+package com.codesolutions.pmt.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ThresholdsTest {
+
+    @Test
+    void check_WithinThresholds_ShouldReturnNoViolation() {
+        // Given
+        Thresholds thresholds = new Thresholds(properties("default.p95-ms", "100", "default.max-error-rate", "0.01", "min-throughput", "50"));
+
+        // When
+        List<String> violations = thresholds.check(List.of(summary("tasks-assigned", 80, 0.0)), 60);
+
+        // Then
+        assertTrue(violations.isEmpty());
+    }
+
+    @Test
+    void check_ShouldPreferEndpointThresholdOverDefault() {
+        // Given : 150 ms accepté pour task-update seulement
+        Thresholds thresholds = new Thresholds(properties("default.p95-ms", "100", "task-update.p95-ms", "200"));
+
+        // When
+        List<String> violations = thresholds.check(
+                List.of(summary("task-update", 150, 0.0), summary("tasks-assigned", 150, 0.0)), 60);
+
+        // Then
+        assertEquals(1, violations.size());
+        assertTrue(violations.get(0).startsWith("tasks-assigned : p95-ms 150.000 ms"));
+    }
+
+    @Test
+    void check_ShouldReportErrorRateThroughputAndMissingEndpoint() {
+        // Given
+        Thresholds thresholds = new Thresholds(properties("default.max-error-rate", "0.001", "min-throughput", "100"));
+
+        // When
+        List<String> violations = thresholds.check(
+                List.of(summary("task-update", 10, 0.02), new EndpointStats(Endpoint.NOTIFICATION_READ).summarize(10)), 60);
+
+        // Then
+        assertEquals(3, violations.size());
+        assertTrue(violations.get(0).contains("max-error-rate"));
+        assertTrue(violations.get(1).contains("aucune requête"));
+        assertTrue(violations.get(2).startsWith("Débit total 60.0 req/s"));
+    }
+
+    @Test
+    void load_ShouldReadBundledThresholds() throws Exception {
+        // When
+        Thresholds thresholds = Thresholds.load(null);
+
+        // Then : une latence de 10 s dépasse forcément les seuils livrés
+        assertFalse(thresholds.check(List.of(summary("tasks-assigned", 10_000, 0.0)), 1_000).isEmpty());
+    }
+
+    private static EndpointStats.Summary summary(String key, double p95Millis, double errorRate) {
+        return new EndpointStats.Summary(key, key, 1000, Math.round(errorRate * 1000), 100, errorRate,
+                p95Millis / 2, p95Millis, p95Millis, p95Millis);
+    }
+
+    private static Properties properties(String... keyValues) {
+        Properties properties = new Properties();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            properties.setProperty(keyValues[i], keyValues[i + 1]);
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,126 @@
+package com.codesolutions.pmt.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualUserTest {
+
+    private HttpServer server;
+    private final AtomicInteger refreshes = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // Backend simulé : jeton d'accès expiré dès la connexion, jeton de rafraîchissement à usage unique
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/api/users/login", exchange -> respond(exchange, 200,
+                "{\"id\":1,\"accessToken\":\"expired\",\"refreshToken\":\"r1\"}"));
+        server.createContext("/api/users/refresh", exchange -> {
+            refreshes.incrementAndGet();
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            if (body.contains("\"r1\"")) {
+                respond(exchange, 200, "{\"accessToken\":\"fresh\",\"refreshToken\":\"r2\"}");
+            } else {
+                respond(exchange, 401, "{}");
+            }
+        });
+        server.createContext("/api/dashboard/", exchange -> {
+            boolean authorized = "Bearer fresh".equals(exchange.getRequestHeaders().getFirst("Authorization"));
+            respond(exchange, authorized ? 200 : 401, authorized ? "{\"userId\":1,\"assignedTasks\":[]}" : "{}");
+        });
+        server.createContext("/api/", exchange -> {
+            boolean authorized = "Bearer fresh".equals(exchange.getRequestHeaders().getFirst("Authorization"));
+            respond(exchange, authorized ? 200 : 401, authorized ? "[]" : "{}");
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void openDashboard_RequestsDashboardEndpointOnly() {
+        // When : tableau de bord uniquement
+        Map<Endpoint, EndpointStats> stats = run(options(false));
+
+        // Then : GET /api/dashboard/{id}, comme DashboardComponent
+        EndpointStats.Summary dashboard = stats.get(Endpoint.DASHBOARD).summarize(1);
+        assertTrue(dashboard.requests() > 0);
+        assertEquals(0, dashboard.errors());
+        assertEquals(1, refreshes.get());
+        for (Endpoint endpoint : new Endpoint[]{Endpoint.PROJECTS_BY_USER, Endpoint.TASKS_ASSIGNED, Endpoint.NOTIFICATIONS_UNREAD}) {
+            assertEquals(0, stats.get(endpoint).summarize(1).requests(), endpoint.getKey());
+        }
+    }
+
+    @Test
+    void openLegacyDashboard_ExpiredTokenRefreshedOnceAndRequestsReplayed() {
+        // When : ancien tableau de bord, trois requêtes parallèles refusées avec le même jeton
+        Map<Endpoint, EndpointStats> stats = run(options(true));
+
+        // Then : un seul rafraîchissement, toutes les requêtes rejouées avec succès
+        assertEquals(1, refreshes.get());
+        for (Endpoint endpoint : new Endpoint[]{Endpoint.PROJECTS_BY_USER, Endpoint.TASKS_ASSIGNED, Endpoint.NOTIFICATIONS_UNREAD}) {
+            EndpointStats.Summary summary = stats.get(endpoint).summarize(1);
+            assertTrue(summary.requests() > 0, endpoint.getKey());
+            assertEquals(0, summary.errors(), endpoint.getKey());
+        }
+        assertEquals(0, stats.get(Endpoint.DASHBOARD).summarize(1).requests());
+    }
+
+    @Test
+    void endpoints_FollowDashboardMode() {
+        assertEquals(Set.of(Endpoint.DASHBOARD), VirtualUser.endpoints(options(false)));
+        assertEquals(Set.of(Endpoint.PROJECTS_BY_USER, Endpoint.TASKS_ASSIGNED, Endpoint.NOTIFICATIONS_UNREAD),
+                VirtualUser.endpoints(options(true)));
+        assertEquals(Set.of(Endpoint.DASHBOARD, Endpoint.TASK_UPDATE, Endpoint.NOTIFICATIONS_UNREAD, Endpoint.NOTIFICATION_READ),
+                VirtualUser.endpoints(LoadTestOptions.parse(new String[0])));
+    }
+
+    /**
+     * Un utilisateur virtuel qui n'ouvre que le tableau de bord pendant 2 s (connexion du client HTTP comprise)
+     */
+    private Map<Endpoint, EndpointStats> run(LoadTestOptions options) {
+        Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats(endpoint));
+        }
+        long start = System.nanoTime();
+        new VirtualUser(HttpClient.newHttpClient(), URI.create("http://localhost:" + server.getAddress().getPort()),
+                new ObjectMapper(), options, stats, "u1@example.com", start, start + Duration.ofSeconds(2).toNanos(), 1).run();
+        return stats;
+    }
+
+    private static LoadTestOptions options(boolean legacyDashboard) {
+        return new LoadTestOptions(null, null, "sa", "", 1, Duration.ofSeconds(1), Duration.ZERO,
+                Duration.ofMillis(20), 1, 0, 0, legacyDashboard, 42, 0, 0, 0, 0, 0, "password123", null, "unused.json");
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+}